@@ -0,0 +1,169 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.apache.flink.runtime.util.DataInputDeserializer;
+import org.apache.flink.runtime.util.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro benchmarks for {@link GradoopId} creation, comparison and serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdBenchmark {
+  /**
+   * First id to compare.
+   */
+  private GradoopId first;
+  /**
+   * Second id to compare.
+   */
+  private GradoopId second;
+  /**
+   * Target segment for normalized keys.
+   */
+  private MemorySegment segment;
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+  /**
+   * Serialized form of {@link #first}.
+   */
+  private byte[] serialized;
+  /**
+   * Reused deserialization target.
+   */
+  private GradoopId reuse;
+
+  /**
+   * Creates the benchmark input.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    first = GradoopId.get();
+    second = GradoopId.get();
+    segment = MemorySegmentFactory.allocateUnpooledSegment(GradoopId.ID_SIZE);
+    output = new DataOutputSerializer(GradoopId.ID_SIZE);
+    input = new DataInputDeserializer();
+    first.write(output);
+    serialized = output.getCopyOfBuffer();
+    reuse = new GradoopId();
+  }
+
+  /**
+   * Creates a new id.
+   *
+   * @return new id
+   */
+  @Benchmark
+  public GradoopId get() {
+    return GradoopId.get();
+  }
+
+  /**
+   * Compares two ids.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return first.compareTo(second);
+  }
+
+  /**
+   * Checks two ids for equality.
+   *
+   * @return true, if equal
+   */
+  @Benchmark
+  public boolean isEqual() {
+    return first.equals(second);
+  }
+
+  /**
+   * Computes the hash code of an id.
+   *
+   * @return hash code
+   */
+  @Benchmark
+  public int hash() {
+    return first.hashCode();
+  }
+
+  /**
+   * Writes the normalized key of an id into a memory segment.
+   *
+   * @return target segment
+   */
+  @Benchmark
+  public MemorySegment copyNormalizedKey() {
+    first.copyNormalizedKey(segment, 0, GradoopId.ID_SIZE);
+    return segment;
+  }
+
+  /**
+   * Serializes an id.
+   *
+   * @return number of written bytes
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    first.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes an id into a reused instance.
+   *
+   * @return deserialized id
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public GradoopId read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    reuse.read(input);
+    return reuse;
+  }
+}
@@ -0,0 +1,222 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.runtime.util.DataInputDeserializer;
+import org.apache.flink.runtime.util.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro benchmarks for {@link GradoopIdSet} operations. The sets mimic graph containment
+ * sets of vertices and edges which usually contain only a few ids.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdSetBenchmark {
+  /**
+   * Number of ids in each set.
+   */
+  @Param({"1", "4", "32"})
+  private int size;
+  /**
+   * Ids contained in {@link #set}.
+   */
+  private List<GradoopId> ids;
+  /**
+   * Set under test.
+   */
+  private GradoopIdSet set;
+  /**
+   * Set sharing its last id with {@link #set}.
+   */
+  private GradoopIdSet overlapping;
+  /**
+   * Subset of {@link #set}.
+   */
+  private GradoopIdSet subset;
+  /**
+   * Id which is not contained in {@link #set}.
+   */
+  private GradoopId missing;
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+  /**
+   * Serialized form of {@link #set}.
+   */
+  private byte[] serialized;
+  /**
+   * Reused deserialization target.
+   */
+  private GradoopIdSet reuse;
+
+  /**
+   * Creates the benchmark input.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    ids = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ids.add(GradoopId.get());
+    }
+    set = GradoopIdSet.fromExisting(ids);
+    subset = GradoopIdSet.fromExisting(ids.subList(0, (size + 1) / 2));
+
+    overlapping = new GradoopIdSet();
+    for (int i = 1; i < size; i++) {
+      overlapping.add(GradoopId.get());
+    }
+    overlapping.add(ids.get(size - 1));
+
+    missing = GradoopId.get();
+
+    output = new DataOutputSerializer(Integer.BYTES + size * GradoopId.ID_SIZE);
+    input = new DataInputDeserializer();
+    set.write(output);
+    serialized = output.getCopyOfBuffer();
+    reuse = new GradoopIdSet();
+  }
+
+  /**
+   * Builds a set by adding ids one by one.
+   *
+   * @return new set
+   */
+  @Benchmark
+  public GradoopIdSet add() {
+    GradoopIdSet result = new GradoopIdSet();
+    for (GradoopId id : ids) {
+      result.add(id);
+    }
+    return result;
+  }
+
+  /**
+   * Builds a set from a collection of ids.
+   *
+   * @return new set
+   */
+  @Benchmark
+  public GradoopIdSet fromExisting() {
+    return GradoopIdSet.fromExisting(ids);
+  }
+
+  /**
+   * Looks up an id which is contained in the set.
+   *
+   * @return true, if contained
+   */
+  @Benchmark
+  public boolean containsHit() {
+    return set.contains(ids.get(size - 1));
+  }
+
+  /**
+   * Looks up an id which is not contained in the set.
+   *
+   * @return true, if contained
+   */
+  @Benchmark
+  public boolean containsMiss() {
+    return set.contains(missing);
+  }
+
+  /**
+   * Checks if a subset is contained in the set.
+   *
+   * @return true, if all ids are contained
+   */
+  @Benchmark
+  public boolean containsAll() {
+    return set.containsAll(subset);
+  }
+
+  /**
+   * Checks if two sets share an id.
+   *
+   * @return true, if any id is contained
+   */
+  @Benchmark
+  public boolean containsAny() {
+    return set.containsAny(overlapping);
+  }
+
+  /**
+   * Merges two sets.
+   *
+   * @return merged set
+   */
+  @Benchmark
+  public GradoopIdSet addAll() {
+    GradoopIdSet result = GradoopIdSet.fromExisting(ids);
+    result.addAll(overlapping);
+    return result;
+  }
+
+  /**
+   * Serializes the set.
+   *
+   * @return number of written bytes
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    set.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the set into a reused instance.
+   *
+   * @return deserialized set
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public GradoopIdSet read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    reuse.read(input);
+    return reuse;
+  }
+}
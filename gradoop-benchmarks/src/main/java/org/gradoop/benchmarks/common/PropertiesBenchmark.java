@@ -0,0 +1,203 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.runtime.util.DataInputDeserializer;
+import org.apache.flink.runtime.util.DataOutputSerializer;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro benchmarks for {@link Properties} access and serialization, with and without a
+ * {@link PropertyKeyDictionary}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesBenchmark {
+  /**
+   * Number of properties.
+   */
+  @Param({"2", "8", "32"})
+  private int size;
+  /**
+   * Property keys.
+   */
+  private List<String> keys;
+  /**
+   * Property values.
+   */
+  private List<PropertyValue> values;
+  /**
+   * Properties under test.
+   */
+  private Properties properties;
+  /**
+   * Dictionary containing all keys.
+   */
+  private PropertyKeyDictionary dictionary;
+  /**
+   * Key of the last property.
+   */
+  private String lastKey;
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+  /**
+   * Properties serialized without dictionary.
+   */
+  private byte[] serialized;
+  /**
+   * Properties serialized with dictionary.
+   */
+  private byte[] serializedWithDictionary;
+  /**
+   * Reused deserialization target.
+   */
+  private Properties reuse;
+
+  /**
+   * Creates the benchmark input.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    keys = new ArrayList<>(size);
+    values = new ArrayList<>(size);
+    properties = Properties.createWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      String key = "property_" + i;
+      PropertyValue value = i % 2 == 0 ?
+        PropertyValue.create((long) i) : PropertyValue.create("value_" + i);
+      keys.add(key);
+      values.add(value);
+      properties.set(key, value);
+    }
+    lastKey = keys.get(size - 1);
+    dictionary = PropertyKeyDictionary.fromKeys(keys);
+
+    output = new DataOutputSerializer(64);
+    input = new DataInputDeserializer();
+    properties.write(output);
+    serialized = output.getCopyOfBuffer();
+    output.clear();
+    properties.write(output, dictionary);
+    serializedWithDictionary = output.getCopyOfBuffer();
+    reuse = Properties.create();
+  }
+
+  /**
+   * Sets all properties on a new instance.
+   *
+   * @return new properties
+   */
+  @Benchmark
+  public Properties set() {
+    Properties result = Properties.createWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      result.set(keys.get(i), values.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Looks up the last property.
+   *
+   * @return property value
+   */
+  @Benchmark
+  public PropertyValue get() {
+    return properties.get(lastKey);
+  }
+
+  /**
+   * Serializes the properties.
+   *
+   * @return number of written bytes
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    properties.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the properties into a reused instance.
+   *
+   * @return deserialized properties
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public Properties read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    reuse.read(input);
+    return reuse;
+  }
+
+  /**
+   * Serializes the properties using the key dictionary.
+   *
+   * @return number of written bytes
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public int writeWithDictionary() throws IOException {
+    output.clear();
+    properties.write(output, dictionary);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the properties using the key dictionary.
+   *
+   * @return deserialized properties
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public Properties readWithDictionary() throws IOException {
+    input.setBuffer(serializedWithDictionary, 0, serializedWithDictionary.length);
+    reuse.read(input, dictionary);
+    return reuse;
+  }
+}
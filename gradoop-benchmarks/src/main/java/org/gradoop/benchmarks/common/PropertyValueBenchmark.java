@@ -0,0 +1,193 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.runtime.util.DataInputDeserializer;
+import org.apache.flink.runtime.util.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro benchmarks for {@link PropertyValue} creation, comparison and serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyValueBenchmark {
+  /**
+   * Type of the benchmarked values.
+   */
+  @Param({"int", "long", "double", "string", "bigdecimal", "gradoopid", "datetime"})
+  private String type;
+  /**
+   * Java object wrapped by {@link #first}.
+   */
+  private Object object;
+  /**
+   * First value to compare.
+   */
+  private PropertyValue first;
+  /**
+   * Second value to compare, created from a different object of the same type.
+   */
+  private PropertyValue second;
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+  /**
+   * Serialized form of {@link #first}.
+   */
+  private byte[] serialized;
+  /**
+   * Reused deserialization target.
+   */
+  private PropertyValue reuse;
+
+  /**
+   * Creates the benchmark input.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    object = createObject(type, 0);
+    first = PropertyValue.create(object);
+    second = PropertyValue.create(createObject(type, 1));
+    output = new DataOutputSerializer(64);
+    input = new DataInputDeserializer();
+    first.write(output);
+    serialized = output.getCopyOfBuffer();
+    reuse = new PropertyValue();
+  }
+
+  /**
+   * Creates a java object of the given type.
+   *
+   * @param typeName type name
+   * @param seed value offset to create different objects
+   * @return java object
+   */
+  private static Object createObject(String typeName, int seed) {
+    switch (typeName) {
+    case "int":
+      return 42 + seed;
+    case "long":
+      return 42L + seed;
+    case "double":
+      return 42.0 + seed;
+    case "string":
+      return "Lorem ipsum dolor sit amet " + seed;
+    case "bigdecimal":
+      return new BigDecimal("1234567890.0987654321").add(BigDecimal.valueOf(seed));
+    case "gradoopid":
+      return GradoopId.get();
+    case "datetime":
+      return LocalDateTime.of(2018, 1, 1, 12, 0).plusDays(seed);
+    default:
+      throw new IllegalArgumentException("Unsupported type: " + typeName);
+    }
+  }
+
+  /**
+   * Wraps a java object.
+   *
+   * @return new property value
+   */
+  @Benchmark
+  public PropertyValue create() {
+    return PropertyValue.create(object);
+  }
+
+  /**
+   * Unwraps the java object.
+   *
+   * @return java object
+   */
+  @Benchmark
+  public Object getObject() {
+    return first.getObject();
+  }
+
+  /**
+   * Compares two values of the same type.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return first.compareTo(second);
+  }
+
+  /**
+   * Checks two values for equality.
+   *
+   * @return true, if equal
+   */
+  @Benchmark
+  public boolean isEqual() {
+    return first.equals(second);
+  }
+
+  /**
+   * Serializes a value.
+   *
+   * @return number of written bytes
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    first.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes a value into a reused instance.
+   *
+   * @return deserialized value
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public PropertyValue read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    reuse.read(input);
+    return reuse;
+  }
+}
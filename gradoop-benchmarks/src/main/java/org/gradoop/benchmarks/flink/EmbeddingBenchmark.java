@@ -0,0 +1,207 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.flink;
+
+import org.apache.flink.runtime.util.DataInputDeserializer;
+import org.apache.flink.runtime.util.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro benchmarks for the byte layout of the cypher {@link Embedding}. The embedding
+ * resembles a path pattern where each column holds an id and a single property.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmbeddingBenchmark {
+  /**
+   * Number of id entries in the embedding.
+   */
+  @Param({"2", "8", "16"})
+  private int size;
+  /**
+   * Ids of the embedding entries.
+   */
+  private GradoopId[] ids;
+  /**
+   * Property values of the embedding entries.
+   */
+  private PropertyValue[] properties;
+  /**
+   * Embedding under test.
+   */
+  private Embedding embedding;
+  /**
+   * Property columns kept by {@link #project()}.
+   */
+  private List<Integer> projection;
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+  /**
+   * Serialized form of {@link #embedding}.
+   */
+  private byte[] serialized;
+  /**
+   * Reused deserialization target.
+   */
+  private Embedding reuse;
+
+  /**
+   * Creates the benchmark input.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    ids = new GradoopId[size];
+    properties = new PropertyValue[size];
+    projection = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      ids[i] = GradoopId.get();
+      properties[i] = i % 2 == 0 ?
+        PropertyValue.create((long) i) : PropertyValue.create("value_" + i);
+      if (i % 2 == 0) {
+        projection.add(i);
+      }
+    }
+    embedding = new Embedding();
+    embedding.addAll(ids);
+    embedding.addPropertyValues(properties);
+
+    output = new DataOutputSerializer(embedding.getBinaryLength());
+    input = new DataInputDeserializer();
+    embedding.write(output);
+    serialized = output.getCopyOfBuffer();
+    reuse = new Embedding();
+  }
+
+  /**
+   * Builds an embedding column by column.
+   *
+   * @return new embedding
+   */
+  @Benchmark
+  public Embedding add() {
+    Embedding result = new Embedding();
+    for (int i = 0; i < size; i++) {
+      result.add(ids[i], properties[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Reads the id of the last column.
+   *
+   * @return id
+   */
+  @Benchmark
+  public GradoopId getId() {
+    return embedding.getId(size - 1);
+  }
+
+  /**
+   * Reads the last property.
+   *
+   * @return property value
+   */
+  @Benchmark
+  public PropertyValue getProperty() {
+    return embedding.getProperty(size - 1);
+  }
+
+  /**
+   * Reads all properties.
+   *
+   * @return property values
+   */
+  @Benchmark
+  public List<PropertyValue> getProperties() {
+    return embedding.getProperties();
+  }
+
+  /**
+   * Projects every second property.
+   *
+   * @return projected embedding
+   */
+  @Benchmark
+  public Embedding project() {
+    return embedding.project(projection);
+  }
+
+  /**
+   * Reverses the column order.
+   *
+   * @return reversed embedding
+   */
+  @Benchmark
+  public Embedding reverse() {
+    return embedding.reverse();
+  }
+
+  /**
+   * Serializes the embedding.
+   *
+   * @return number of written bytes
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    embedding.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the embedding into a reused instance.
+   *
+   * @return deserialized embedding
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public Embedding read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    reuse.read(input);
+    return reuse;
+  }
+}
@@ -23,16 +23,16 @@ import org.apache.flink.types.NormalizableKey;
 import org.bson.types.ObjectId;
 import org.gradoop.common.model.api.entities.EPGMIdentifiable;
 
-import edu.umd.cs.findbugs.annotations.SuppressWarnings;
-
 import java.io.IOException;
 
 /**
  * Primary key for an EPGM element.
  *
- * This implementation uses a BSON {@link ObjectId} to guarantee uniqueness. Performance critical
- * methods, e.g. {@link GradoopId#equals(Object)} and {@link GradoopId#hashCode()} contain code
- * copied from {@link ObjectId} to avoid unnecessary object instantiations.
+ * This implementation uses a BSON {@link ObjectId} to guarantee uniqueness. The 12 bytes of the
+ * id are held in two primitive fields, so that performance critical methods, e.g.
+ * {@link GradoopId#equals(Object)}, {@link GradoopId#compareTo(GradoopId)} and
+ * {@link GradoopId#copyNormalizedKey(MemorySegment, int, int)} do not need to access a heap array.
+ * The binary representation is the byte representation of the {@link ObjectId}.
  *
  * @see EPGMIdentifiable
  */
@@ -69,15 +69,21 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
       '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
 
   /**
-   * Internal byte representation
+   * Bytes 0 to 7 of the binary representation (big-endian), i.e. timestamp, machine identifier
+   * and the first byte of the process identifier.
    */
-  private byte[] bytes;
+  private long high;
+
+  /**
+   * Bytes 8 to 11 of the binary representation (big-endian), i.e. the second byte of the
+   * process identifier and the counter.
+   */
+  private int low;
 
   /**
    * Required default constructor for instantiation by serialization logic.
    */
   public GradoopId() {
-    bytes = new byte[ID_SIZE];
   }
 
   /**
@@ -86,16 +92,29 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @param objectId ObjectId
    */
   GradoopId(ObjectId objectId) {
-    this.bytes = objectId.toByteArray();
+    this(objectId.toByteArray(), 0);
   }
 
   /**
    * Creates a GradoopId from a given byte representation
    *
-   * @param bytes the GradoopId represented by the byte array
+   * @param bytes byte array containing the GradoopId
+   * @param offset index of the first byte of the GradoopId
+   */
+  private GradoopId(byte[] bytes, int offset) {
+    this.high = readLong(bytes, offset);
+    this.low = readInt(bytes, offset + Long.BYTES);
+  }
+
+  /**
+   * Creates a GradoopId from its two components.
+   *
+   * @param high bytes 0 to 7
+   * @param low bytes 8 to 11
    */
-  private GradoopId(byte[] bytes) {
-    this.bytes = bytes;
+  private GradoopId(long high, int low) {
+    this.high = high;
+    this.low = low;
   }
 
   /**
@@ -126,7 +145,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     for (int i = 0; i < b.length; i++) {
       b[i] = (byte) Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16);
     }
-    return new GradoopId(b);
+    return new GradoopId(b, 0);
   }
 
   /**
@@ -136,7 +155,19 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return Gradoop ID
    */
   public static GradoopId fromByteArray(byte[] bytes) {
-    return new GradoopId(bytes);
+    return fromByteArray(bytes, 0);
+  }
+
+  /**
+   * Returns the Gradoop ID represented by the {@link #ID_SIZE} bytes starting at the given offset
+   * of the byte array.
+   *
+   * @param bytes byte array containing the byte representation
+   * @param offset index of the first byte of the id
+   * @return Gradoop ID
+   */
+  public static GradoopId fromByteArray(byte[] bytes, int offset) {
+    return new GradoopId(bytes, offset);
   }
 
   /**
@@ -144,11 +175,24 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    *
    * @return Byte representation
    */
-  @SuppressWarnings(value = "EI_EXPOSE_REP", justification = "never mutated")
   public byte[] toByteArray() {
+    byte[] bytes = new byte[ID_SIZE];
+    toByteArray(bytes, 0);
     return bytes;
   }
 
+  /**
+   * Writes the byte representation of a GradoopId into the target array starting at the given
+   * offset.
+   *
+   * @param target target byte array
+   * @param offset index in the target array to write the first byte to
+   */
+  public void toByteArray(byte[] target, int offset) {
+    writeLong(high, target, offset);
+    writeInt(low, target, offset + Long.BYTES);
+  }
+
   /**
    * Checks if the specified object is equal to the current id.
    *
@@ -163,8 +207,8 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     if (o == null || getClass() != o.getClass()) {
       return false;
     }
-
-    return equals(bytes, ((GradoopId) o).bytes, 0, 0);
+    GradoopId that = (GradoopId) o;
+    return low == that.low && high == that.high;
   }
 
   /**
@@ -176,11 +220,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int hashCode() {
-    int result = getTimeStamp();
-    result = 31 * result + getMachineIdentifier();
-    result = 31 * result + (int) getProcessIdentifier();
-    result = 31 * result + getCounter();
-    return result;
+    return hashCode(high, low);
   }
 
   /**
@@ -192,7 +232,19 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int compareTo(GradoopId o) {
-    return compare(this.bytes, o.bytes);
+    return compare(high, low, o.high, o.low);
+  }
+
+  /**
+   * Compares this id with the id stored at the given offset of the byte array.
+   *
+   * @param bytes byte array containing the other id
+   * @param offset index of the first byte of the other id
+   * @return  a negative integer, zero, or a positive integer as this id is less than, equal to,
+   *          or greater than the id stored in the array.
+   */
+  int compareTo(byte[] bytes, int offset) {
+    return compare(high, low, readLong(bytes, offset), readInt(bytes, offset + Long.BYTES));
   }
 
   /**
@@ -206,9 +258,11 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   public String toString() {
     char[] chars = new char[24];
     int i = 0;
-    for (byte b : bytes) {
-      chars[i++] = HEX_CHARS[b >> 4 & 0xF];
-      chars[i++] = HEX_CHARS[b & 0xF];
+    for (int shift = Long.SIZE - 4; shift >= 0; shift -= 4) {
+      chars[i++] = HEX_CHARS[(int) (high >>> shift) & 0xF];
+    }
+    for (int shift = Integer.SIZE - 4; shift >= 0; shift -= 4) {
+      chars[i++] = HEX_CHARS[(low >>> shift) & 0xF];
     }
     return new String(chars);
   }
@@ -224,17 +278,26 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyNormalizedKey(MemorySegment target, int offset, int len) {
-    target.put(offset, bytes, 0, len);
+    if (len >= ID_SIZE) {
+      target.putLongBigEndian(offset, high);
+      target.putIntBigEndian(offset + Long.BYTES, low);
+    } else {
+      for (int i = 0; i < len; i++) {
+        target.put(offset + i, getByte(i));
+      }
+    }
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    out.write(bytes);
+    out.writeLong(high);
+    out.writeInt(low);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
-    in.readFully(bytes);
+    high = in.readLong();
+    low = in.readInt();
   }
 
   //------------------------------------------------------------------------------------------------
@@ -248,12 +311,13 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyTo(GradoopId target) {
-    target.bytes = this.bytes;
+    target.high = this.high;
+    target.low = this.low;
   }
 
   @Override
   public GradoopId copy() {
-    return new GradoopId(this.bytes);
+    return new GradoopId(this.high, this.low);
   }
 
   @Override
@@ -266,165 +330,146 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   //------------------------------------------------------------------------------------------------
 
   /**
-   * Returns the timestamp component of the id.
+   * Returns the byte at the given position of the binary representation.
    *
-   * @return the timestamp
+   * @param index position in the binary representation
+   * @return byte at the given position
    */
-  private int getTimeStamp() {
-    return makeInt(bytes[0], bytes[1], bytes[2], bytes[3]);
+  private byte getByte(int index) {
+    return index < Long.BYTES ?
+      (byte) (high >> (Long.SIZE - Byte.SIZE * (index + 1))) :
+      (byte) (low >> (Integer.SIZE - Byte.SIZE * (index - Long.BYTES + 1)));
   }
 
+  //------------------------------------------------------------------------------------------------
+  // static helper functions
+  //------------------------------------------------------------------------------------------------
+
   /**
-   * Returns the machine identifier component of the id.
+   * Compares the given GradoopIds and returns the smaller one. It both are equal, the first
+   * argument is returned.
    *
-   * @return the machine identifier
+   * @param first first GradoopId
+   * @param second second GradoopId
+   * @return smaller GradoopId or first if equal
    */
-  private int getMachineIdentifier() {
-    return makeInt((byte) 0, bytes[4], bytes[5], bytes[6]);
+  public static GradoopId min(GradoopId first, GradoopId second) {
+    return first.compareTo(second) <= 0 ? first : second;
   }
 
   /**
-   * Returns the process identifier component of the id.
+   * Compares the ids stored at the given offsets of the byte arrays without instantiating them.
    *
-   * @return the process identifier
+   * @param first byte array containing the first id
+   * @param firstOffset index of the first byte of the first id
+   * @param second byte array containing the second id
+   * @param secondOffset index of the first byte of the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   *         to, or greater than the second id.
    */
-  private short getProcessIdentifier() {
-    return (short) makeInt((byte) 0, (byte) 0, bytes[7], bytes[8]);
+  static int compare(byte[] first, int firstOffset, byte[] second, int secondOffset) {
+    return compare(readLong(first, firstOffset), readInt(first, firstOffset + Long.BYTES),
+      readLong(second, secondOffset), readInt(second, secondOffset + Long.BYTES));
   }
 
   /**
-   * Returns the counter component of the id.
+   * Returns the hash code of the id stored at the given offset of the byte array, which is equal
+   * to {@link #hashCode()} of the corresponding GradoopId.
    *
-   * @return the counter
+   * @param bytes byte array containing the id
+   * @param offset index of the first byte of the id
+   * @return hash code
    */
-  private int getCounter() {
-    return makeInt((byte) 0, bytes[9], bytes[10], bytes[11]);
+  static int hashCode(byte[] bytes, int offset) {
+    return hashCode(readLong(bytes, offset), readInt(bytes, offset + Long.BYTES));
   }
 
-
-  //------------------------------------------------------------------------------------------------
-  // static helper functions
-  //------------------------------------------------------------------------------------------------
-
   /**
-   * Compares the given GradoopIds and returns the smaller one. It both are equal, the first
-   * argument is returned.
+   * Compares two ids given by their components, which corresponds to a byte-wise comparison of
+   * their binary representations.
    *
-   * @param first first GradoopId
-   * @param second second GradoopId
-   * @return smaller GradoopId or first if equal
+   * @param firstHigh bytes 0 to 7 of the first id
+   * @param firstLow bytes 8 to 11 of the first id
+   * @param secondHigh bytes 0 to 7 of the second id
+   * @param secondLow bytes 8 to 11 of the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   *         to, or greater than the second id.
    */
-  public static GradoopId min(GradoopId first, GradoopId second) {
-    int comparison = first.compareTo(second);
-    return comparison == 0 ? first : (comparison == -1 ? first : second);
+  private static int compare(long firstHigh, int firstLow, long secondHigh, int secondLow) {
+    int result = Long.compareUnsigned(firstHigh, secondHigh);
+    return result != 0 ? result : Integer.compareUnsigned(firstLow, secondLow);
   }
 
   /**
-   * Checks if the Gradoop ids stored at the specified positions are equal.
-   *
-   * Note: The order in which the id components are compared is taken from
-   * {@link ObjectId#equals(Object)}. However, we compare the values of the byte arrays directly.
+   * Returns the hash code of an id given by its components.
    *
-   * @param first first gradoop id
-   * @param second second gradoop id
-   * @param firstPos start index in the first byte array
-   * @param secondPos start index in the second byte array
+   * Note: Implementation is taken from {@link ObjectId#hashCode()}, i.e. the hash code is
+   * computed from timestamp, machine identifier, process identifier and counter.
    *
-   * @return true, iff first is equal to second
+   * @param high bytes 0 to 7 of the id
+   * @param low bytes 8 to 11 of the id
+   * @return hash code
    */
-  static boolean equals(byte[] first, byte[] second, int firstPos, int secondPos) {
-    // compare counter (byte 9 to 11)
-    if (!equalsInRange(first, second, firstPos + 9, secondPos + 9, 3)) {
-      return false;
-    }
-    // compare machine identifier (byte 4 to 6)
-    if (!equalsInRange(first, second, firstPos + 4, secondPos + 4, 2)) {
-      return false;
-    }
-    // compare process identifier (byte 7 to 8)
-    if (!equalsInRange(first, second, firstPos + 7, secondPos + 7, 1)) {
-      return false;
-    }
-    // compare timestamp (byte 0 to 3)
-    if (!equalsInRange(first, second, firstPos, secondPos, 3)) {
-      return false;
-    }
-
-    return true;
+  private static int hashCode(long high, int low) {
+    int result = (int) (high >>> 32);
+    result = 31 * result + ((int) (high >>> 8) & 0xFFFFFF);
+    result = 31 * result + (short) (((int) high & 0xFF) << 8 | (low >>> 24));
+    result = 31 * result + (low & 0xFFFFFF);
+    return result;
   }
 
   /**
-   * Compares the specified GradoopIds based on their byte representation
-   * (to avoid object instantiation).
-   *
-   * Note: Implementation is taken from {@link ObjectId#compareTo(Object)} to avoid object
-   * instantiation.
+   * Returns a primitive long represented by the 8 bytes (big-endian) starting at the given offset.
    *
-   * @param first first GradoopId
-   * @param second second GradoopId
-   * @return a negative integer, zero, or a positive integer as this object is less than, equal to,
-   *         or greater than the specified object.
+   * @param bytes byte array
+   * @param offset index of the first byte
+   * @return long value
    */
-  private static int compare(byte[] first, byte[] second) {
-    return compare(first, second, 0, 0, GradoopId.ID_SIZE);
+  private static long readLong(byte[] bytes, int offset) {
+    long result = 0;
+    for (int i = offset; i < offset + Long.BYTES; i++) {
+      result = (result << Byte.SIZE) | (bytes[i] & 0xFF);
+    }
+    return result;
   }
 
   /**
-   * Compares multiple GradoopIds represented a byte arrays at the specified ranges.
+   * Returns a primitive int represented by the 4 bytes (big-endian) starting at the given offset.
    *
-   * @param first first byte representation of multiple gradoop ids
-   * @param second second byte representation of multiple gradoop ids
-   * @param firstPos start index in the first array
-   * @param secondPos start index in the second array
-   * @param length length of the range
-   *
-   * @return a negative integer, zero, or a positive integer as this object is less than, equal to,
-   *         or greater than the specified object.
+   * @param bytes byte array
+   * @param offset index of the first byte
+   * @return int value
    */
-  private static int compare(byte[] first, byte[] second, int firstPos, int secondPos, int length) {
-    for (int i = 0; i < length; i++) {
-      if (first[firstPos + i] != second[secondPos + i]) {
-        return ((first[firstPos + i] & 0xff) < (second[secondPos + i] & 0xff)) ? -1 : 1;
-      }
-    }
-    return 0;
+  private static int readInt(byte[] bytes, int offset) {
+    return (bytes[offset] << 24) | ((bytes[offset + 1] & 0xff) << 16) |
+      ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
   }
 
   /**
-   * Checks if the given byte arrays contain equal elements in specified given range.
-   *
-   * @param first first array
-   * @param second second array
-   * @param firstPos start index in the first array
-   * @param secondPos start index in the second array
-   * @param length number of bytes to compare for equality
+   * Writes the given long (big-endian) into the target array starting at the given offset.
    *
-   * @return true, iff both arrays have equal values in the specified range
-   */
-  private static boolean equalsInRange(byte[] first, byte[] second, int firstPos, int secondPos,
-    int length) {
-    int upperBound = firstPos + length;
-    while (firstPos < upperBound) {
-      if (first[firstPos] != second[secondPos]) {
-        return false;
-      }
-      ++firstPos;
-      ++secondPos;
+   * @param value long value
+   * @param target target byte array
+   * @param offset index of the first byte
+   */
+  private static void writeLong(long value, byte[] target, int offset) {
+    for (int i = offset + Long.BYTES - 1; i >= offset; i--) {
+      target[i] = (byte) value;
+      value >>>= Byte.SIZE;
     }
-    return true;
   }
 
   /**
-   * Returns a primitive int represented by the given 4 bytes.
+   * Writes the given int (big-endian) into the target array starting at the given offset.
    *
-   * @param b3 byte 3
-   * @param b2 byte 2
-   * @param b1 byte 1
-   * @param b0 byte 0
-   *
-   * @return int value
+   * @param value int value
+   * @param target target byte array
+   * @param offset index of the first byte
    */
-  private static int makeInt(final byte b3, final byte b2, final byte b1, final byte b0) {
-    return (b3 << 24) | ((b2 & 0xff) << 16) | ((b1 & 0xff) << 8) | ((b0 & 0xff));
+  private static void writeInt(int value, byte[] target, int offset) {
+    target[offset] = (byte) (value >> 24);
+    target[offset + 1] = (byte) (value >> 16);
+    target[offset + 2] = (byte) (value >> 8);
+    target[offset + 3] = (byte) value;
   }
 }
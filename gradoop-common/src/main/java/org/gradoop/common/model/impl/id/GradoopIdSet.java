@@ -23,38 +23,59 @@ import java.io.IOException;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * Represents a set of {@link GradoopId} instances, ignoring any duplicates.
  *
- * Note that by implementing {@link java.util.List} Flink uses the Kryo serializer for
- * (de-)serializing the list.
+ * The ids are stored in their binary representation in a single sorted byte array. Membership
+ * tests use binary search, set operations between two instances merge the sorted arrays and
+ * (de-)serialization copies the array as a whole without instantiating any {@link GradoopId}.
+ * This makes the set compact for the common case of graph elements that are contained in only a
+ * few graphs. Adding single ids is linear in the size of the set, bulk operations like
+ * {@link #addAll(Collection)} or {@link #fromExisting(Collection)} sort only once.
+ *
+ * Note that by implementing {@link Value} Flink uses its value serializer which writes the
+ * number of ids followed by the valid part of the byte array instead of falling back to Kryo.
  *
  * @see GradoopId
  */
 public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
   /**
-   * Contains the set of gradoop ids.
+   * Shared array for empty sets.
+   */
+  private static final byte[] EMPTY = new byte[0];
+
+  /**
+   * Contains the binary representation of the ids in ascending order. The array may be larger
+   * than needed, only the first {@code size * GradoopId.ID_SIZE} bytes are valid.
+   */
+  private byte[] bytes;
+
+  /**
+   * Number of ids in the set.
    */
-  private Set<GradoopId> ids;
+  private int size;
 
   /**
    * Required default constructor for instantiation by serialization logic.
    */
   public GradoopIdSet() {
-    this.ids = new HashSet<>();
+    this.bytes = EMPTY;
   }
 
   /**
    * Initializes the set with the given byte array.
    *
-   * @param bytes bytes representing multiple gradoop ids
+   * @param bytes bytes representing multiple gradoop ids, the array is not modified
    */
   private GradoopIdSet(byte[] bytes) {
-    this.ids = readIds(bytes);
+    this.bytes = Arrays.copyOf(bytes, bytes.length);
+    this.size = bytes.length / GradoopId.ID_SIZE;
+    normalize();
   }
 
   /**
@@ -63,39 +84,8 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param ids a collection of {@link GradoopId}s
    */
   private GradoopIdSet(Collection<GradoopId> ids) {
-    this.ids = new HashSet<>(ids);
-  }
-
-  /**
-   * Since we will need to do operations on individual ids we need
-   * to reconstruct the {@link GradoopId} instances.
-   * @param bytes serialized sequence of {@link GradoopId}s
-   * @return a set representation
-   */
-  private Set<GradoopId> readIds(byte[] bytes) {
-    ids = new HashSet<>();
-    for (int i = 0; i < bytes.length / GradoopId.ID_SIZE; i++) {
-      byte[] idBytes = new byte[GradoopId.ID_SIZE];
-      System.arraycopy(bytes, i * GradoopId.ID_SIZE, idBytes, 0, GradoopId.ID_SIZE);
-      ids.add(GradoopId.fromByteArray(idBytes));
-    }
-    return ids;
-  }
-
-  /**
-   * Serialize all ids into a byte array.
-   * @param ids sequence of {@link GradoopId}s
-   * @return a binary representation
-   */
-  private byte[] writeIds(Set<GradoopId> ids) {
-    byte[] bytes = new byte[ids.size() * GradoopId.ID_SIZE];
-
-    int i = 0;
-    for (GradoopId id : ids) {
-      System.arraycopy(id.toByteArray(), 0, bytes, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
-      i++;
-    }
-    return bytes;
+    this.bytes = EMPTY;
+    addAll(ids);
   }
 
   /**
@@ -135,7 +125,18 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean add(GradoopId id) {
-    return this.ids.add(id);
+    int index = indexOf(id);
+    if (index >= 0) {
+      return false;
+    }
+    index = -(index + 1);
+    ensureCapacity(size + 1);
+    int offset = index * GradoopId.ID_SIZE;
+    System.arraycopy(bytes, offset, bytes, offset + GradoopId.ID_SIZE,
+      (size - index) * GradoopId.ID_SIZE);
+    id.toByteArray(bytes, offset);
+    size++;
+    return true;
   }
 
   /**
@@ -144,7 +145,32 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param ids the ids to add
    */
   public void addAll(GradoopIdSet ids) {
-    this.ids.addAll(ids.ids);
+    if (ids.isEmpty()) {
+      return;
+    }
+    byte[] merged = new byte[(size + ids.size) * GradoopId.ID_SIZE];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < size || j < ids.size) {
+      int comparison = i == size ? 1 : j == ids.size ? -1 :
+        GradoopId.compare(bytes, i * GradoopId.ID_SIZE, ids.bytes, j * GradoopId.ID_SIZE);
+      if (comparison <= 0) {
+        System.arraycopy(bytes, i * GradoopId.ID_SIZE, merged, k * GradoopId.ID_SIZE,
+          GradoopId.ID_SIZE);
+        i++;
+        if (comparison == 0) {
+          j++;
+        }
+      } else {
+        System.arraycopy(ids.bytes, j * GradoopId.ID_SIZE, merged, k * GradoopId.ID_SIZE,
+          GradoopId.ID_SIZE);
+        j++;
+      }
+      k++;
+    }
+    bytes = merged;
+    size = k;
   }
 
   /**
@@ -154,7 +180,18 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean addAll(Collection<? extends GradoopId> ids) {
-    return this.ids.addAll(ids);
+    int oldSize = size;
+    if (ids instanceof GradoopIdSet) {
+      addAll((GradoopIdSet) ids);
+    } else if (!ids.isEmpty()) {
+      ensureCapacity(size + ids.size());
+      for (GradoopId id : ids) {
+        id.toByteArray(bytes, size * GradoopId.ID_SIZE);
+        size++;
+      }
+      normalize();
+    }
+    return size != oldSize;
   }
 
   /**
@@ -165,7 +202,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean contains(Object identifier) {
-    return this.ids.contains(identifier);
+    return identifier instanceof GradoopId && indexOf((GradoopId) identifier) >= 0;
   }
 
   /**
@@ -175,13 +212,23 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff all specified ids are contained in the set
    */
   public boolean containsAll(GradoopIdSet other) {
-    if (other.size() > this.size()) {
+    if (other.size > this.size) {
       return false;
     }
-    for (GradoopId id : other) {
-      if (!this.contains(id)) {
+    int i = 0;
+    int j = 0;
+    while (j < other.size) {
+      if (i == size) {
         return false;
       }
+      int comparison = GradoopId.compare(
+        bytes, i * GradoopId.ID_SIZE, other.bytes, j * GradoopId.ID_SIZE);
+      if (comparison > 0) {
+        return false;
+      } else if (comparison == 0) {
+        j++;
+      }
+      i++;
     }
     return true;
   }
@@ -194,6 +241,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean containsAll(Collection<?> other) {
+    if (other instanceof GradoopIdSet) {
+      return containsAll((GradoopIdSet) other);
+    }
     if (other instanceof Set && other.size() > this.size()) {
       return false;
     }
@@ -212,21 +262,17 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(GradoopIdSet other) {
-    // Algorithm: the sizes of both lists might be vastly different
-    // to prevent the case of iterating multiple times over large collections
-    // we make sure to always iterate over the smaller one
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other.ids;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other.ids;
-      contains = this.ids;
-    }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      int comparison = GradoopId.compare(
+        bytes, i * GradoopId.ID_SIZE, other.bytes, j * GradoopId.ID_SIZE);
+      if (comparison == 0) {
         return true;
+      } else if (comparison < 0) {
+        i++;
+      } else {
+        j++;
       }
     }
     return false;
@@ -239,45 +285,71 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(Set<GradoopId> other) {
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other;
-      contains = this.ids;
+    if (other instanceof GradoopIdSet) {
+      return containsAny((GradoopIdSet) other);
     }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
-        return true;
+    // Algorithm: the sizes of both sets might be vastly different
+    // to prevent the case of iterating multiple times over large collections
+    // we make sure to always iterate over the smaller one
+    if (this.size() > other.size()) {
+      for (GradoopId id : other) {
+        if (this.contains(id)) {
+          return true;
+        }
+      }
+    } else {
+      for (GradoopId id : this) {
+        if (other.contains(id)) {
+          return true;
+        }
       }
     }
     return false;
   }
 
+  /**
+   * Removes the given id from the set.
+   *
+   * @param identifier the id to remove
+   * @return true, iff the id was contained in the set
+   */
+  @Override
+  public boolean remove(Object identifier) {
+    if (!(identifier instanceof GradoopId)) {
+      return false;
+    }
+    int index = indexOf((GradoopId) identifier);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
   /**
    * Checks if the set is empty.
    *
    * @return true, iff the set contains no elements
    */
   public boolean isEmpty() {
-    return ids.isEmpty();
+    return size == 0;
   }
 
   /**
-   * {@inheritDoc}
+   * Returns an iterator over the ids in ascending order.
+   *
+   * @return iterator
    */
   @Override
   public Iterator<GradoopId> iterator() {
-    return ids.iterator();
+    return new GradoopIdSetIterator();
   }
 
   /**
    * Clears the set.
    */
   public void clear() {
-    ids.clear();
+    size = 0;
   }
 
   /**
@@ -286,7 +358,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return number of elements in the set
    */
   public int size() {
-    return ids.size();
+    return size;
   }
 
   /**
@@ -295,48 +367,54 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return byte array representation
    */
   public byte[] toByteArray() {
-    return writeIds(ids);
+    return Arrays.copyOf(bytes, size * GradoopId.ID_SIZE);
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    if (isEmpty()) {
-      out.writeInt(0);
-    } else {
-      out.writeInt(size());
-      out.write(writeIds(ids));
-    }
+    out.writeInt(size);
+    out.write(bytes, 0, size * GradoopId.ID_SIZE);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
-    int n = in.readInt();
-    byte[] bytes = new byte[n * GradoopId.ID_SIZE];
-    in.readFully(bytes);
-    this.ids = readIds(bytes);
+    size = in.readInt();
+    int length = size * GradoopId.ID_SIZE;
+    if (bytes.length < length) {
+      bytes = new byte[length];
+    }
+    in.readFully(bytes, 0, length);
+    normalize();
   }
 
   @Override
   public boolean equals(Object o) {
-    boolean equal = this == o;
-
-    if (!equal && o instanceof GradoopIdSet) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof GradoopIdSet) {
       GradoopIdSet that = (GradoopIdSet) o;
-      // same number of ids
-      equal = this.size() == that.size();
-
-      if (equal) {
-        // same ids
-        equal = this.ids.equals(that.ids);
+      int length = size * GradoopId.ID_SIZE;
+      if (this.size != that.size) {
+        return false;
       }
+      for (int i = 0; i < length; i++) {
+        if (bytes[i] != that.bytes[i]) {
+          return false;
+        }
+      }
+      return true;
     }
-
-    return equal;
+    return super.equals(o);
   }
 
   @Override
   public int hashCode() {
-    return ids.hashCode();
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += GradoopId.hashCode(bytes, i * GradoopId.ID_SIZE);
+    }
+    return hashCode;
   }
 
   @Override
@@ -358,4 +436,128 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
       sb.append(',').append(' ');
     }
   }
+
+  /**
+   * Returns the position of the given id using binary search.
+   *
+   * @param id the id to look for
+   * @return position of the id or {@code -(insertion point) - 1} if the id is not contained
+   */
+  private int indexOf(GradoopId id) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = id.compareTo(bytes, mid * GradoopId.ID_SIZE);
+      if (comparison > 0) {
+        low = mid + 1;
+      } else if (comparison < 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Removes the id at the given position.
+   *
+   * @param index position of the id
+   */
+  private void removeAt(int index) {
+    int offset = index * GradoopId.ID_SIZE;
+    System.arraycopy(bytes, offset + GradoopId.ID_SIZE, bytes, offset,
+      (size - index - 1) * GradoopId.ID_SIZE);
+    size--;
+  }
+
+  /**
+   * Makes sure that the internal array is able to store the given number of ids.
+   *
+   * @param capacity number of ids
+   */
+  private void ensureCapacity(int capacity) {
+    int length = capacity * GradoopId.ID_SIZE;
+    if (bytes.length < length) {
+      bytes = Arrays.copyOf(bytes, Math.max(length, 2 * bytes.length));
+    }
+  }
+
+  /**
+   * Sorts the ids and removes duplicates, if the ids are not already in ascending order.
+   */
+  private void normalize() {
+    boolean sorted = true;
+    for (int i = 1; i < size && sorted; i++) {
+      sorted = GradoopId.compare(
+        bytes, (i - 1) * GradoopId.ID_SIZE, bytes, i * GradoopId.ID_SIZE) < 0;
+    }
+    if (sorted) {
+      return;
+    }
+
+    GradoopId[] ids = new GradoopId[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = GradoopId.fromByteArray(bytes, i * GradoopId.ID_SIZE);
+    }
+    Arrays.sort(ids);
+
+    int distinct = 0;
+    for (int i = 0; i < ids.length; i++) {
+      if (i == 0 || !ids[i].equals(ids[i - 1])) {
+        ids[i].toByteArray(bytes, distinct * GradoopId.ID_SIZE);
+        distinct++;
+      }
+    }
+    size = distinct;
+  }
+
+  /**
+   * Iterates over the ids of the set in ascending order.
+   */
+  private class GradoopIdSetIterator implements Iterator<GradoopId> {
+    /**
+     * Position of the next id.
+     */
+    private int next;
+
+    /**
+     * Position of the last returned id or -1 if it has been removed.
+     */
+    private int last = -1;
+
+    /**
+     * Expected size of the set, used to detect concurrent modifications.
+     */
+    private int expectedSize = size;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public GradoopId next() {
+      if (expectedSize != size) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      last = next++;
+      return GradoopId.fromByteArray(bytes, last * GradoopId.ID_SIZE);
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      removeAt(last);
+      next = last;
+      last = -1;
+      expectedSize = size;
+    }
+  }
 }
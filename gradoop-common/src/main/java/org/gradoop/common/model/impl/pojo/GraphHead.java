@@ -15,13 +15,16 @@
  */
 package org.gradoop.common.model.impl.pojo;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.typeutils.GraphHeadTypeInfoFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 
 /**
  * POJO Implementation of an EPGM graph head.
  */
+@TypeInfo(GraphHeadTypeInfoFactory.class)
 public class GraphHead extends Element implements EPGMGraphHead {
 
   /**
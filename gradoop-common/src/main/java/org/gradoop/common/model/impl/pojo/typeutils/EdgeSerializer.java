@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link Edge}, adds source and target id to the serialized graph element.
+ */
+public final class EdgeSerializer extends GraphElementSerializer<Edge> {
+  /**
+   * Shared instance, which writes property keys as strings.
+   */
+  public static final EdgeSerializer INSTANCE = new EdgeSerializer(null);
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param dictionary property key dictionary or {@code null} to write keys as strings
+   */
+  public EdgeSerializer(PropertyKeyDictionary dictionary) {
+    super(dictionary);
+  }
+
+  @Override
+  public EdgeSerializer withDictionary(PropertyKeyDictionary dictionary) {
+    return new EdgeSerializer(dictionary);
+  }
+
+  @Override
+  public Edge createInstance() {
+    return new Edge();
+  }
+
+  @Override
+  protected void copyFields(Edge from, Edge reuse) {
+    super.copyFields(from, reuse);
+    reuse.setSourceId(from.getSourceId() == null ? null : from.getSourceId().copy());
+    reuse.setTargetId(from.getTargetId() == null ? null : from.getTargetId().copy());
+  }
+
+  @Override
+  protected void serializeFields(Edge record, DataOutputView target) throws IOException {
+    super.serializeFields(record, target);
+    writeId(record.getSourceId(), target);
+    writeId(record.getTargetId(), target);
+  }
+
+  @Override
+  protected void deserializeFields(Edge reuse, DataInputView source) throws IOException {
+    super.deserializeFields(reuse, source);
+    reuse.setSourceId(readId(reuse.getSourceId(), source));
+    reuse.setTargetId(readId(reuse.getTargetId(), source));
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof EdgeSerializer;
+  }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.CompositeTypeComparator;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.java.typeutils.runtime.ValueComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.NullKeyFieldException;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares EPGM elements by their id.
+ *
+ * The comparator supports normalized keys which fully determine the order, so Flink's sorters
+ * never need to call {@link #compare(Element, Element)} on deserialized elements. Serialized
+ * elements are compared by reading only the id at the start of the record, see
+ * {@link ElementSerializer}. The extracted key is the {@link GradoopId} of the element.
+ *
+ * @param <T> element type
+ */
+public class ElementIdComparator<T extends Element> extends CompositeTypeComparator<T> {
+  /**
+   * True, if the comparator sorts in ascending order.
+   */
+  private final boolean ascending;
+  /**
+   * Copy of the id of the current reference element.
+   */
+  private final GradoopId reference = new GradoopId();
+  /**
+   * Temporary id used to compare serialized elements.
+   */
+  private final GradoopId firstId = new GradoopId();
+  /**
+   * Temporary id used to compare serialized elements.
+   */
+  private final GradoopId secondId = new GradoopId();
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param ascending true, if ascending order is required
+   */
+  public ElementIdComparator(boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  @Override
+  public int hash(T record) {
+    return record.getId().hashCode();
+  }
+
+  @Override
+  public void setReference(T toCompare) {
+    toCompare.getId().copyTo(reference);
+  }
+
+  @Override
+  public boolean equalToReference(T candidate) {
+    return reference.equals(candidate.getId());
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<T> referencedComparator) {
+    GradoopId otherReference = ((ElementIdComparator<T>) referencedComparator).reference;
+    return ascending ?
+      otherReference.compareTo(reference) : reference.compareTo(otherReference);
+  }
+
+  @Override
+  public int compare(T first, T second) {
+    return ascending ?
+      first.getId().compareTo(second.getId()) : second.getId().compareTo(first.getId());
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    readId(firstSource, firstId);
+    readId(secondSource, secondId);
+    return ascending ? firstId.compareTo(secondId) : secondId.compareTo(firstId);
+  }
+
+  /**
+   * Reads the id at the beginning of a serialized element.
+   *
+   * @param source input view positioned at the start of the element
+   * @param target id to read into
+   * @throws IOException on failure
+   */
+  private static void readId(DataInputView source, GradoopId target) throws IOException {
+    if (source.readByte() != ElementSerializer.ELEMENT_WITH_ID) {
+      throw new NullKeyFieldException();
+    }
+    target.read(source);
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return keyBytes < GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public void putNormalizedKey(T record, MemorySegment target, int offset, int numBytes) {
+    record.getId().copyNormalizedKey(target, offset, numBytes);
+  }
+
+  @Override
+  public void writeWithKeyNormalization(T record, DataOutputView target) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public T readWithKeyDenormalization(T reuse, DataInputView source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public TypeComparator<T> duplicate() {
+    return new ElementIdComparator<>(ascending);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int extractKeys(Object record, Object[] target, int index) {
+    target[index] = ((T) record).getId();
+    return 1;
+  }
+
+  @Override
+  public void getFlatComparator(List<TypeComparator> flatComparators) {
+    flatComparators.add(new ValueComparator<>(ascending, GradoopId.class));
+  }
+}
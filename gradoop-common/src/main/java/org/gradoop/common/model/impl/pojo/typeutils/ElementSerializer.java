@@ -0,0 +1,248 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.base.TypeSerializerSingleton;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.StringValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Base serializer for EPGM elements.
+ *
+ * In contrast to Flink's POJO serializer, there is no per-field dispatch and no subclass tag.
+ * Each record starts with a header byte, telling if the element is {@code null} or has an id,
+ * followed by the {@link GradoopId} bytes. This allows {@link ElementIdComparator} to compare
+ * serialized elements by reading only their first bytes. Subclass fields follow, then the label
+ * and the properties.
+ *
+ * If the serializer has a {@link PropertyKeyDictionary}, the properties are written with
+ * {@link Properties#write(DataOutputView, PropertyKeyDictionary)}, which replaces the property
+ * keys by short ids. The dictionary is taken from the global job parameters of the job (see
+ * {@link PropertyKeyDictionaryParameters}), so all shuffles of EPGM elements use it.
+ *
+ * @param <T> element type
+ */
+public abstract class ElementSerializer<T extends Element> extends TypeSerializerSingleton<T> {
+  /**
+   * Header of a {@code null} element.
+   */
+  static final byte NULL_ELEMENT = 0;
+  /**
+   * Header of an element without id.
+   */
+  static final byte ELEMENT_WITHOUT_ID = 1;
+  /**
+   * Header of an element with id.
+   */
+  static final byte ELEMENT_WITH_ID = 2;
+  /**
+   * Dictionary used to encode property keys, {@code null} to write them as strings.
+   */
+  private final PropertyKeyDictionary dictionary;
+
+  /**
+   * Creates a serializer which encodes property keys using the given dictionary.
+   *
+   * @param dictionary property key dictionary or {@code null} to write keys as strings
+   */
+  protected ElementSerializer(PropertyKeyDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  /**
+   * Returns the dictionary used to encode property keys.
+   *
+   * @return property key dictionary or {@code null} if keys are written as strings
+   */
+  public PropertyKeyDictionary getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Returns a serializer for the same element type which encodes property keys using the given
+   * dictionary.
+   *
+   * @param dictionary property key dictionary or {@code null} to write keys as strings
+   * @return serializer using the dictionary
+   */
+  public abstract ElementSerializer<T> withDictionary(PropertyKeyDictionary dictionary);
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public T copy(T from) {
+    return from == null ? null : copy(from, createInstance());
+  }
+
+  @Override
+  public T copy(T from, T reuse) {
+    if (from == null) {
+      return null;
+    }
+    reuse.setId(from.getId() == null ? null : from.getId().copy());
+    reuse.setLabel(from.getLabel());
+    reuse.setProperties(from.getProperties() == null ? null : from.getProperties().copy());
+    copyFields(from, reuse);
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(T record, DataOutputView target) throws IOException {
+    if (record == null) {
+      target.writeByte(NULL_ELEMENT);
+      return;
+    }
+    if (record.getId() == null) {
+      target.writeByte(ELEMENT_WITHOUT_ID);
+    } else {
+      target.writeByte(ELEMENT_WITH_ID);
+      record.getId().write(target);
+    }
+    serializeFields(record, target);
+    StringValue.writeString(record.getLabel(), target);
+    Properties properties = record.getProperties();
+    target.writeBoolean(properties != null);
+    if (properties != null) {
+      if (dictionary == null) {
+        properties.write(target);
+      } else {
+        properties.write(target, dictionary);
+      }
+    }
+  }
+
+  @Override
+  public T deserialize(DataInputView source) throws IOException {
+    return deserialize(null, source);
+  }
+
+  @Override
+  public T deserialize(T reuse, DataInputView source) throws IOException {
+    byte header = source.readByte();
+    if (header == NULL_ELEMENT) {
+      return null;
+    }
+    T element = reuse != null ? reuse : createInstance();
+    GradoopId id = null;
+    if (header == ELEMENT_WITH_ID) {
+      id = element.getId() != null ? element.getId() : new GradoopId();
+      id.read(source);
+    }
+    element.setId(id);
+    deserializeFields(element, source);
+    element.setLabel(StringValue.readString(source));
+    Properties properties = null;
+    if (source.readBoolean()) {
+      properties = element.getProperties() != null ? element.getProperties() : Properties.create();
+      if (dictionary == null) {
+        properties.read(source);
+      } else {
+        properties.read(source, dictionary);
+      }
+    }
+    element.setProperties(properties);
+    return element;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    serialize(deserialize(createInstance(), source), target);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ElementSerializer && super.equals(obj) &&
+      Objects.equals(dictionary, ((ElementSerializer<?>) obj).dictionary);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + Objects.hashCode(dictionary);
+  }
+
+  /**
+   * Copies the fields which are specific to the element type.
+   *
+   * @param from element to copy from
+   * @param reuse element to copy to
+   */
+  protected abstract void copyFields(T from, T reuse);
+
+  /**
+   * Writes the fields which are specific to the element type.
+   *
+   * @param record element to serialize
+   * @param target output view
+   * @throws IOException on failure
+   */
+  protected abstract void serializeFields(T record, DataOutputView target) throws IOException;
+
+  /**
+   * Reads the fields which are specific to the element type.
+   *
+   * @param reuse element to deserialize into
+   * @param source input view
+   * @throws IOException on failure
+   */
+  protected abstract void deserializeFields(T reuse, DataInputView source) throws IOException;
+
+  /**
+   * Writes a nullable {@link GradoopId}.
+   *
+   * @param id id or {@code null}
+   * @param target output view
+   * @throws IOException on failure
+   */
+  static void writeId(GradoopId id, DataOutputView target) throws IOException {
+    target.writeBoolean(id != null);
+    if (id != null) {
+      id.write(target);
+    }
+  }
+
+  /**
+   * Reads a nullable {@link GradoopId}.
+   *
+   * @param reuse id instance to read into, may be {@code null}
+   * @param source input view
+   * @return id or {@code null}
+   * @throws IOException on failure
+   */
+  static GradoopId readId(GradoopId reuse, DataInputView source) throws IOException {
+    if (!source.readBoolean()) {
+      return null;
+    }
+    GradoopId id = reuse != null ? reuse : new GradoopId();
+    id.read(source);
+    return id;
+  }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.PojoField;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type information for EPGM elements.
+ *
+ * The type exposes the same fields as Flink's POJO type information, so field expressions like
+ * {@code "id"} or {@code "sourceId"} in keys and semantic annotations keep working. It only
+ * replaces the serializer by an {@link ElementSerializer} and uses an
+ * {@link ElementIdComparator} if the element is keyed by its id alone.
+ *
+ * @param <T> element type
+ */
+public class ElementTypeInfo<T extends Element> extends PojoTypeInfo<T> {
+  /**
+   * Name of the id field.
+   */
+  private static final String ID_FIELD = "id";
+  /**
+   * Serializer for the element type.
+   */
+  private final ElementSerializer<T> serializer;
+
+  /**
+   * Creates a new type information.
+   *
+   * @param typeClass element type
+   * @param serializer serializer for that type
+   */
+  public ElementTypeInfo(Class<T> typeClass, ElementSerializer<T> serializer) {
+    super(typeClass, getPojoFields(typeClass));
+    this.serializer = serializer;
+  }
+
+  /**
+   * Collects the non-static, non-transient fields of the given class and its super classes.
+   *
+   * @param typeClass element type
+   * @return fields and their type information
+   */
+  private static List<PojoField> getPojoFields(Class<?> typeClass) {
+    List<PojoField> fields = new ArrayList<>();
+    for (Class<?> clazz = typeClass; clazz != Object.class; clazz = clazz.getSuperclass()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+          fields.add(new PojoField(field, TypeExtractor.getForClass(field.getType())));
+        }
+      }
+    }
+    return fields;
+  }
+
+  /**
+   * Returns the element serializer. If the global job parameters contain a
+   * {@link org.gradoop.common.model.impl.properties.PropertyKeyDictionary}, the serializer uses
+   * it to encode property keys.
+   *
+   * @param config execution config of the job
+   * @return element serializer
+   */
+  @Override
+  public TypeSerializer<T> createSerializer(ExecutionConfig config) {
+    PropertyKeyDictionaryParameters parameters = PropertyKeyDictionaryParameters.get(config);
+    return parameters == null ?
+      serializer : serializer.withDictionary(parameters.getDictionary());
+  }
+
+  @Override
+  public TypeComparator<T> createComparator(int[] logicalKeyFields, boolean[] orders,
+    int logicalFieldOffset, ExecutionConfig config) {
+    // all fields are atomic, so logical positions equal field indices
+    if (logicalKeyFields.length == 1 &&
+      logicalKeyFields[0] - logicalFieldOffset == getFieldIndex(ID_FIELD)) {
+      return new ElementIdComparator<>(orders[0]);
+    }
+    return super.createComparator(logicalKeyFields, orders, logicalFieldOffset, config);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ElementTypeInfo && super.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof ElementTypeInfo;
+  }
+}
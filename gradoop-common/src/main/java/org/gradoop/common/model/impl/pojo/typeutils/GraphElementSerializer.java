@@ -0,0 +1,70 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.IOException;
+
+/**
+ * Base serializer for EPGM graph elements, adds the graph ids to the serialized element.
+ *
+ * @param <T> graph element type
+ */
+public abstract class GraphElementSerializer<T extends GraphElement> extends ElementSerializer<T> {
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param dictionary property key dictionary or {@code null} to write keys as strings
+   */
+  protected GraphElementSerializer(PropertyKeyDictionary dictionary) {
+    super(dictionary);
+  }
+
+  @Override
+  protected void copyFields(T from, T reuse) {
+    GradoopIdSet graphIds = null;
+    if (from.getGraphIds() != null) {
+      graphIds = new GradoopIdSet();
+      graphIds.addAll(from.getGraphIds());
+    }
+    reuse.setGraphIds(graphIds);
+  }
+
+  @Override
+  protected void serializeFields(T record, DataOutputView target) throws IOException {
+    GradoopIdSet graphIds = record.getGraphIds();
+    target.writeBoolean(graphIds != null);
+    if (graphIds != null) {
+      graphIds.write(target);
+    }
+  }
+
+  @Override
+  protected void deserializeFields(T reuse, DataInputView source) throws IOException {
+    GradoopIdSet graphIds = null;
+    if (source.readBoolean()) {
+      graphIds = reuse.getGraphIds() != null ? reuse.getGraphIds() : new GradoopIdSet();
+      graphIds.read(source);
+    }
+    reuse.setGraphIds(graphIds);
+  }
+}
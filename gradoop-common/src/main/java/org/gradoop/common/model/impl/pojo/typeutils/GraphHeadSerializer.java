@@ -0,0 +1,67 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+/**
+ * Serializer for {@link GraphHead}.
+ */
+public final class GraphHeadSerializer extends ElementSerializer<GraphHead> {
+  /**
+   * Shared instance, which writes property keys as strings.
+   */
+  public static final GraphHeadSerializer INSTANCE = new GraphHeadSerializer(null);
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param dictionary property key dictionary or {@code null} to write keys as strings
+   */
+  public GraphHeadSerializer(PropertyKeyDictionary dictionary) {
+    super(dictionary);
+  }
+
+  @Override
+  public GraphHeadSerializer withDictionary(PropertyKeyDictionary dictionary) {
+    return new GraphHeadSerializer(dictionary);
+  }
+
+  @Override
+  public GraphHead createInstance() {
+    return new GraphHead();
+  }
+
+  @Override
+  protected void copyFields(GraphHead from, GraphHead reuse) {
+  }
+
+  @Override
+  protected void serializeFields(GraphHead record, DataOutputView target) {
+  }
+
+  @Override
+  protected void deserializeFields(GraphHead reuse, DataInputView source) {
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof GraphHeadSerializer;
+  }
+}
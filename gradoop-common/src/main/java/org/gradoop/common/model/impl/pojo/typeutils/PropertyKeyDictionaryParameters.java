@@ -0,0 +1,135 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.ExecutionConfig.GlobalJobParameters;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Global job parameters which provide a {@link PropertyKeyDictionary} to the
+ * {@link ElementSerializer}s of a job.
+ *
+ * Flink creates the serializers of a job from its {@link ExecutionConfig}, so the global job
+ * parameters are the channel to ship a job level dictionary to every serializer instance. Global
+ * job parameters which were set before are wrapped and still contribute to {@link #toMap()}.
+ */
+public class PropertyKeyDictionaryParameters extends GlobalJobParameters {
+  /**
+   * Key of the dictionary in the parameter map.
+   */
+  public static final String DICTIONARY_KEY = "gradoop.propertyKeyDictionary";
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Dictionary used by the element serializers.
+   */
+  private final PropertyKeyDictionary dictionary;
+  /**
+   * Global job parameters which were set before, may be {@code null}.
+   */
+  private final GlobalJobParameters parameters;
+
+  /**
+   * Creates new parameters.
+   *
+   * @param dictionary property key dictionary
+   * @param parameters wrapped global job parameters or {@code null}
+   */
+  private PropertyKeyDictionaryParameters(PropertyKeyDictionary dictionary,
+    GlobalJobParameters parameters) {
+    this.dictionary = Objects.requireNonNull(dictionary);
+    this.parameters = parameters;
+  }
+
+  /**
+   * Sets the dictionary used by the element serializers of all jobs created with the given
+   * config. Replaces a previously set dictionary.
+   *
+   * @param config execution config
+   * @param dictionary property key dictionary
+   */
+  public static void setDictionary(ExecutionConfig config, PropertyKeyDictionary dictionary) {
+    GlobalJobParameters parameters = config.getGlobalJobParameters();
+    if (parameters instanceof PropertyKeyDictionaryParameters) {
+      parameters = ((PropertyKeyDictionaryParameters) parameters).getParameters();
+    }
+    config.setGlobalJobParameters(new PropertyKeyDictionaryParameters(dictionary, parameters));
+  }
+
+  /**
+   * Removes the dictionary from the given config and restores the wrapped global job
+   * parameters.
+   *
+   * @param config execution config
+   */
+  public static void removeDictionary(ExecutionConfig config) {
+    PropertyKeyDictionaryParameters parameters = get(config);
+    if (parameters != null) {
+      config.setGlobalJobParameters(parameters.getParameters());
+    }
+  }
+
+  /**
+   * Returns the parameters of the given config if they provide a dictionary.
+   *
+   * @param config execution config, may be {@code null}
+   * @return parameters or {@code null} if no dictionary is set
+   */
+  public static PropertyKeyDictionaryParameters get(ExecutionConfig config) {
+    if (config == null) {
+      return null;
+    }
+    GlobalJobParameters parameters = config.getGlobalJobParameters();
+    return parameters instanceof PropertyKeyDictionaryParameters ?
+      (PropertyKeyDictionaryParameters) parameters : null;
+  }
+
+  /**
+   * Returns the dictionary used by the element serializers.
+   *
+   * @return property key dictionary
+   */
+  public PropertyKeyDictionary getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Returns the wrapped global job parameters.
+   *
+   * @return global job parameters which were set before or {@code null}
+   */
+  public GlobalJobParameters getParameters() {
+    return parameters;
+  }
+
+  @Override
+  public Map<String, String> toMap() {
+    Map<String, String> map = new HashMap<>();
+    Map<String, String> wrapped = parameters == null ? null : parameters.toMap();
+    if (wrapped != null) {
+      map.putAll(wrapped);
+    }
+    map.put(DICTIONARY_KEY, dictionary.toString());
+    return map;
+  }
+}
@@ -16,11 +16,14 @@
 package org.gradoop.common.model.impl.properties;
 
 import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.Value;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -29,6 +32,11 @@ import java.util.stream.Collectors;
 
 /**
  * Represents the properties of an {@link org.gradoop.common.model.impl.pojo.Element}.
+ *
+ * Deserialization via {@link #read(DataInputView)} is lazy: the serialized properties are only
+ * copied into an internal buffer and decoded on first access. If the properties are not accessed
+ * at all, {@link #write(DataOutputView)} emits the buffered bytes as they are. This makes
+ * operators that pass elements through without looking at their properties cheap.
  */
 public class Properties implements Iterable<Property>, Value, Serializable {
 
@@ -38,10 +46,32 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   private static final int DEFAULT_CAPACITY = 10;
 
   /**
-   * Internal representation
+   * Expected average number of bytes per serialized property (key and value), used to size the
+   * buffer during deserialization.
+   */
+  private static final int ESTIMATED_ENTRY_SIZE = 32;
+
+  /**
+   * Internal representation, {@code null} while the properties are not decoded yet.
    */
   private Map<String, PropertyValue> properties;
 
+  /**
+   * Serialized properties in the format of {@link #write(DataOutputView)} (without the leading
+   * property count) or {@code null} if the properties have been decoded.
+   */
+  private byte[] serialized;
+
+  /**
+   * Number of valid bytes in {@link #serialized}.
+   */
+  private int serializedLength;
+
+  /**
+   * Number of properties in {@link #serialized}.
+   */
+  private int serializedCount;
+
   /**
    * Default constructor
    */
@@ -107,7 +137,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return property keys
    */
   public Iterable<String> getKeys() {
-    return properties.keySet();
+    return properties().keySet();
   }
 
   /**
@@ -129,7 +159,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue get(String key) {
     Objects.requireNonNull(key);
-    return properties.get(key);
+    return properties().get(key);
   }
 
   /**
@@ -152,7 +182,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   public void set(String key, PropertyValue value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
-    properties.put(key, value);
+    properties().put(key, value);
   }
 
   /**
@@ -183,7 +213,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue remove(String key) {
     Objects.requireNonNull(key);
-    return properties.remove(key);
+    return properties().remove(key);
   }
 
   /**
@@ -202,7 +232,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * Removes all elements from these properties.
    */
   public void clear() {
-    this.properties.clear();
+    properties().clear();
   }
 
   /**
@@ -211,7 +241,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return number of properties
    */
   public int size() {
-    return properties.size();
+    return serialized != null ? serializedCount : properties.size();
   }
 
   /**
@@ -242,8 +272,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
     Properties that = (Properties) o;
 
-    return !(properties != null ? !properties.equals(that.properties) :
-      that.properties != null);
+    return properties().equals(that.properties());
   }
 
   /**
@@ -254,18 +283,48 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   @Override
   public int hashCode() {
-    return properties != null ? properties.hashCode() : 0;
+    return properties().hashCode();
   }
 
   @Override
   public Iterator<Property> iterator() {
-    return properties.entrySet().stream()
+    return properties().entrySet().stream()
       .map(e -> Property.create(e.getKey(), e.getValue()))
       .collect(Collectors.toList()).iterator();
   }
 
+  /**
+   * Creates a deep copy of these properties. If the properties are not decoded yet, only the
+   * serialized representation is copied.
+   *
+   * @return copy
+   */
+  public Properties copy() {
+    Properties copy;
+    if (serialized != null) {
+      copy = new Properties(0);
+      copy.serialized = Arrays.copyOf(serialized, serializedLength);
+      copy.serializedLength = serializedLength;
+      copy.serializedCount = serializedCount;
+      copy.properties = null;
+    } else {
+      copy = new Properties(properties.size());
+      for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+        copy.properties.put(entry.getKey(),
+          PropertyValue.fromRawBytes(entry.getValue().getRawBytes()));
+      }
+    }
+    return copy;
+  }
+
   @Override
   public void write(DataOutputView outputView) throws IOException {
+    if (serialized != null) {
+      outputView.writeInt(serializedCount);
+      outputView.write(serialized, 0, serializedLength);
+      return;
+    }
+
     outputView.writeInt(properties.size());
 
     for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
@@ -274,25 +333,248 @@ public class Properties implements Iterable<Property>, Value, Serializable {
     }
   }
 
+  /**
+   * Reads the properties from the given input view. The properties are not decoded but copied
+   * into an internal buffer, see {@link #properties()}.
+   *
+   * @param inputView input view to read from
+   * @throws IOException on failure
+   */
   @Override
   public void read(DataInputView inputView) throws IOException {
     int propertyCount = inputView.readInt();
+    // the buffer of a previous, still encoded read is not shared and can be reused
+    byte[] buffer = serialized != null ?
+      serialized : new byte[propertyCount * ESTIMATED_ENTRY_SIZE];
+
+    int offset = 0;
+    for (int i = 0; i < propertyCount; i++) {
+      // key, in modified UTF-8 with a two byte length prefix
+      int keyLength = inputView.readUnsignedShort();
+      buffer = ensureCapacity(buffer, offset + Short.BYTES + keyLength + PropertyValue.OFFSET);
+      offset = putShort(buffer, offset, keyLength);
+      inputView.readFully(buffer, offset, keyLength);
+      offset += keyLength;
+      // value, with a two byte length prefix for dynamic length types
+      byte type = inputView.readByte();
+      int valueLength = PropertyValue.readValueLength(type, inputView);
+      buffer = ensureCapacity(buffer, offset + PropertyValue.OFFSET + Short.BYTES + valueLength);
+      buffer[offset++] = type;
+      if (PropertyValue.isDynamicLengthType(type)) {
+        offset = putShort(buffer, offset, valueLength);
+      }
+      inputView.readFully(buffer, offset, valueLength);
+      offset += valueLength;
+    }
+
+    this.properties = null;
+    this.serialized = buffer;
+    this.serializedLength = offset;
+    this.serializedCount = propertyCount;
+  }
+
+  /**
+   * Returns the internal map, decodes the serialized properties first if necessary. All decoded
+   * property values share a single byte array and are views on their respective range (see
+   * {@link PropertyValue#fromRawBytes(byte[], int, int)}), so only one array is allocated for all
+   * values instead of one array per value.
+   *
+   * @return property map
+   */
+  private Map<String, PropertyValue> properties() {
+    if (serialized == null) {
+      return properties;
+    }
+
+    int propertyCount = serializedCount;
+    Map<String, PropertyValue> decoded = new HashMap<>(propertyCount);
+    DataInputView inputView = new DataInputViewStreamWrapper(
+      new ByteArrayInputStream(serialized, 0, serializedLength));
+
+    String[] keys = new String[propertyCount];
+    int[] offsets = new int[propertyCount + 1];
+    byte[] buffer = new byte[serializedLength];
+
+    try {
+      int offset = 0;
+      for (int i = 0; i < propertyCount; i++) {
+        keys[i] = inputView.readUTF();
+        byte type = inputView.readByte();
+        int valueLength = PropertyValue.readValueLength(type, inputView);
+        buffer[offset] = type;
+        inputView.readFully(buffer, offset + PropertyValue.OFFSET, valueLength);
+        offset += PropertyValue.OFFSET + valueLength;
+        offsets[i + 1] = offset;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error decoding Properties", e);
+    }
+
+    for (int i = 0; i < propertyCount; i++) {
+      decoded.put(keys[i],
+        PropertyValue.fromRawBytes(buffer, offsets[i], offsets[i + 1] - offsets[i]));
+    }
+
+    this.properties = decoded;
+    this.serialized = null;
+    return properties;
+  }
+
+  /**
+   * Returns the given buffer or a larger copy of it, if it is smaller than the given capacity.
+   *
+   * @param buffer buffer
+   * @param capacity required capacity
+   * @return buffer with at least the given capacity
+   */
+  private static byte[] ensureCapacity(byte[] buffer, int capacity) {
+    return capacity <= buffer.length ?
+      buffer : Arrays.copyOf(buffer, Math.max(2 * buffer.length, capacity));
+  }
+
+  /**
+   * Writes the lower two bytes of the given value in big endian order.
+   *
+   * @param buffer target buffer
+   * @param offset offset in the target buffer
+   * @param value value to write
+   * @return offset after the written bytes
+   */
+  private static int putShort(byte[] buffer, int offset, int value) {
+    buffer[offset] = (byte) (value >> 8);
+    buffer[offset + 1] = (byte) value;
+    return offset + Short.BYTES;
+  }
+
+  /**
+   * Writes the properties in a compact binary representation, where property keys contained in
+   * the given dictionary are replaced by their id. The representation has to be read using
+   * {@link #read(DataInputView, PropertyKeyDictionary)} with an equal dictionary.
+   *
+   * Byte representation:
+   *
+   * int                : number of properties n
+   * int                : number of value bytes
+   * n times            : short key id, [UTF key, if id is unknown], short value length
+   * value bytes        : values in their internal representation, in the same order as the keys
+   *
+   * Entries are ordered by key id (unknown keys last, ordered by key), so that equal properties
+   * result in equal byte representations.
+   *
+   * @param outputView output view to write to
+   * @param dictionary property key dictionary
+   * @throws IOException on failure
+   */
+  public void write(DataOutputView outputView, PropertyKeyDictionary dictionary)
+    throws IOException {
+    Map<String, PropertyValue> map = properties();
+    int propertyCount = map.size();
+    String[] keys = new String[propertyCount];
+    PropertyValue[] values = new PropertyValue[propertyCount];
+    // unsigned key id in the upper, entry index in the lower half
+    long[] order = new long[propertyCount];
+
+    int valueBytes = 0;
+    int i = 0;
+    for (Map.Entry<String, PropertyValue> entry : map.entrySet()) {
+      keys[i] = entry.getKey();
+      values[i] = entry.getValue();
+      order[i] = (long) (dictionary.getId(keys[i]) & 0xFFFF) << Integer.SIZE | i;
+      valueBytes += values[i].getByteSize();
+      i++;
+    }
+
+    Arrays.sort(order);
+    int firstUnknown = 0;
+    while (firstUnknown < propertyCount && getKeyId(order[firstUnknown]) !=
+      PropertyKeyDictionary.UNKNOWN_KEY) {
+      firstUnknown++;
+    }
+    if (propertyCount - firstUnknown > 1) {
+      sortByKey(order, firstUnknown, keys);
+    }
+
+    outputView.writeInt(propertyCount);
+    outputView.writeInt(valueBytes);
+    for (long entry : order) {
+      short id = getKeyId(entry);
+      outputView.writeShort(id);
+      if (id == PropertyKeyDictionary.UNKNOWN_KEY) {
+        outputView.writeUTF(keys[(int) entry]);
+      }
+      outputView.writeShort(values[(int) entry].getByteSize());
+    }
+    for (long entry : order) {
+      values[(int) entry].writeRawBytes(outputView);
+    }
+  }
+
+  /**
+   * Reads properties written by {@link #write(DataOutputView, PropertyKeyDictionary)}. All
+   * property values share the single value buffer.
+   *
+   * @param inputView input view to read from
+   * @param dictionary property key dictionary used for writing
+   * @throws IOException on failure
+   */
+  public void read(DataInputView inputView, PropertyKeyDictionary dictionary)
+    throws IOException {
+    int propertyCount = inputView.readInt();
+    byte[] buffer = new byte[inputView.readInt()];
     this.properties = new HashMap<>(propertyCount);
+    this.serialized = null;
+
+    String[] keys = new String[propertyCount];
+    short[] lengths = new short[propertyCount];
+
+    for (int i = 0; i < propertyCount; i++) {
+      short id = inputView.readShort();
+      keys[i] = id == PropertyKeyDictionary.UNKNOWN_KEY ?
+        inputView.readUTF() : dictionary.getKey(id);
+      lengths[i] = inputView.readShort();
+    }
 
-    String key;
-    PropertyValue value;
+    inputView.readFully(buffer);
 
+    int offset = 0;
     for (int i = 0; i < propertyCount; i++) {
-      key = inputView.readUTF();
-      value = new PropertyValue();
-      value.read(inputView);
-      properties.put(key, value);
+      properties.put(keys[i], PropertyValue.fromRawBytes(buffer, offset, lengths[i]));
+      offset += lengths[i];
+    }
+  }
+
+  /**
+   * Returns the key id of an entry of the sort order used by
+   * {@link #write(DataOutputView, PropertyKeyDictionary)}.
+   *
+   * @param entry key id and entry index
+   * @return key id
+   */
+  private static short getKeyId(long entry) {
+    return (short) (entry >>> Integer.SIZE);
+  }
+
+  /**
+   * Sorts the entries of the given order starting at the given position by their property key.
+   *
+   * @param order key ids and entry indices
+   * @param from first position to sort
+   * @param keys property keys by entry index
+   */
+  private static void sortByKey(long[] order, int from, String[] keys) {
+    Long[] unknown = new Long[order.length - from];
+    for (int i = 0; i < unknown.length; i++) {
+      unknown[i] = order[from + i];
+    }
+    Arrays.sort(unknown, (a, b) -> keys[(int) (long) a].compareTo(keys[(int) (long) b]));
+    for (int i = 0; i < unknown.length; i++) {
+      order[from + i] = unknown[i];
     }
   }
 
   @Override
   public String toString() {
-    return properties.entrySet().stream()
+    return properties().entrySet().stream()
       .map(e -> Property.create(e.getKey(), e.getValue()).toString())
       .collect(Collectors.joining(","));
   }
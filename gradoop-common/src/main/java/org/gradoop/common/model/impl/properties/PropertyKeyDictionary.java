@@ -0,0 +1,144 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Maps property keys to dense ids and vice versa.
+ *
+ * The dictionary is immutable and is meant to be created once per job, e.g. from the property
+ * keys of the input graph, and shipped to all workers. It is used by
+ * {@link Properties#write(org.apache.flink.core.memory.DataOutputView, PropertyKeyDictionary)}
+ * to replace property keys by their id in the binary representation. Keys that are not contained
+ * in the dictionary are still supported, but are serialized as string.
+ */
+public class PropertyKeyDictionary implements Serializable {
+
+  /**
+   * Id returned for keys that are not contained in the dictionary.
+   */
+  public static final short UNKNOWN_KEY = -1;
+
+  /**
+   * Maximum number of keys a dictionary can store.
+   */
+  public static final int MAX_SIZE = Short.MAX_VALUE;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Sorted property keys, the id of a key is its position in the array.
+   */
+  private final String[] keys;
+
+  /**
+   * Creates a new dictionary.
+   *
+   * @param keys sorted and distinct property keys
+   */
+  private PropertyKeyDictionary(String[] keys) {
+    this.keys = keys;
+  }
+
+  /**
+   * Creates a new dictionary containing the given property keys. Duplicates are ignored.
+   *
+   * @param keys property keys
+   * @return dictionary
+   */
+  public static PropertyKeyDictionary fromKeys(Collection<String> keys) {
+    String[] sortedKeys = keys.stream()
+      .map(Objects::requireNonNull)
+      .distinct()
+      .sorted()
+      .toArray(String[]::new);
+
+    if (sortedKeys.length > MAX_SIZE) {
+      throw new IllegalArgumentException("Too many property keys for a dictionary: " +
+        sortedKeys.length + " > " + MAX_SIZE);
+    }
+
+    return new PropertyKeyDictionary(sortedKeys);
+  }
+
+  /**
+   * Creates a new dictionary containing the given property keys. Duplicates are ignored.
+   *
+   * @param keys property keys
+   * @return dictionary
+   */
+  public static PropertyKeyDictionary fromKeys(String... keys) {
+    return fromKeys(Arrays.asList(keys));
+  }
+
+  /**
+   * Returns the id of the given property key.
+   *
+   * @param key property key
+   * @return id or {@link #UNKNOWN_KEY} if the key is not contained in the dictionary
+   */
+  public short getId(String key) {
+    int index = Arrays.binarySearch(keys, key);
+    return index >= 0 ? (short) index : UNKNOWN_KEY;
+  }
+
+  /**
+   * Returns the property key for the given id.
+   *
+   * @param id key id
+   * @return property key
+   */
+  public String getKey(short id) {
+    return keys[id];
+  }
+
+  /**
+   * Returns the number of keys in the dictionary.
+   *
+   * @return number of keys
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(keys, ((PropertyKeyDictionary) o).keys);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(keys);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(keys);
+  }
+}
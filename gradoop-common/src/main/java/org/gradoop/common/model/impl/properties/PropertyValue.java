@@ -20,7 +20,8 @@ import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
-import org.apache.flink.types.Value;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.NormalizableKey;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.storage.exceptions.UnsupportedTypeException;
@@ -46,8 +47,11 @@ import java.util.Map;
  * Represents a single property value in the EPGM.
  *
  * A property value wraps a value that implements a supported data type.
+ *
+ * Values of the same type are compared on their binary representation. Property values are
+ * normalizable keys, i.e. Flink sorts them on a binary prefix without deserializing them.
  */
-public class PropertyValue implements Value, Serializable, Comparable<PropertyValue> {
+public class PropertyValue implements NormalizableKey<PropertyValue>, Serializable {
 
   /**
    * Represents a property value that is {@code null}.
@@ -110,6 +114,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * {@code <property-type>} for {@link java.util.List}
    */
   public static final transient byte TYPE_DATETIME     = 0x0d;
+  /**
+   * {@code <property-type>} for {@code byte[]}
+   */
+  public static final transient byte TYPE_BYTE_ARRAY   = 0x0e;
 
   /**
    * Value offset in byte
@@ -128,10 +136,21 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
   private static final long serialVersionUID = 1L;
 
   /**
-   * Stores the type and the value
-    */
+   * Stores the type and the value. The array may be shared with other property values, in which
+   * case this value only covers the range {@code [start, start + length)}.
+   */
   private byte[] rawBytes;
 
+  /**
+   * Index of the type byte inside {@link #rawBytes}.
+   */
+  private int start;
+
+  /**
+   * Number of bytes inside {@link #rawBytes} that belong to this value (type byte included).
+   */
+  private int length;
+
   /**
    * Default constructor.
    */
@@ -155,7 +174,20 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param bytes byte array
    */
   private PropertyValue(byte[] bytes) {
-    rawBytes = bytes;
+    wrap(bytes);
+  }
+
+  /**
+   * Creates a new property value which is a view on the given range of the byte array.
+   *
+   * @param bytes byte array
+   * @param start index of the type byte
+   * @param length number of bytes of the value (including the type byte)
+   */
+  private PropertyValue(byte[] bytes, int start, int length) {
+    this.rawBytes = bytes;
+    this.start = start;
+    this.length = length;
   }
 
   /**
@@ -181,7 +213,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code null} value
    */
   public boolean isNull() {
-    return rawBytes[0] == TYPE_NULL;
+    return rawBytes[start] == TYPE_NULL;
   }
 
   /**
@@ -190,7 +222,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code boolean} value
    */
   public boolean isBoolean() {
-    return rawBytes[0] == TYPE_BOOLEAN;
+    return rawBytes[start] == TYPE_BOOLEAN;
   }
   /**
    * True, if the wrapped value is of type {@code int}.
@@ -198,7 +230,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code int} value
    */
   public boolean isInt() {
-    return rawBytes[0] == TYPE_INTEGER;
+    return rawBytes[start] == TYPE_INTEGER;
   }
   /**
    * True, if the wrapped value is of type {@code long}.
@@ -206,7 +238,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code long} value
    */
   public boolean isLong() {
-    return rawBytes[0] == TYPE_LONG;
+    return rawBytes[start] == TYPE_LONG;
   }
   /**
    * True, if the wrapped value is of type {@code float}.
@@ -214,7 +246,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code float} value
    */
   public boolean isFloat() {
-    return rawBytes[0] == TYPE_FLOAT;
+    return rawBytes[start] == TYPE_FLOAT;
   }
   /**
    * True, if the wrapped value is of type {@code double}.
@@ -222,7 +254,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code double} value
    */
   public boolean isDouble() {
-    return rawBytes[0] == TYPE_DOUBLE;
+    return rawBytes[start] == TYPE_DOUBLE;
   }
   /**
    * True, if the wrapped value is of type {@code String}.
@@ -230,7 +262,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code String} value
    */
   public boolean isString() {
-    return rawBytes[0] == TYPE_STRING;
+    return rawBytes[start] == TYPE_STRING;
   }
   /**
    * True, if the wrapped value is of type {@code BigDecimal}.
@@ -239,7 +271,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @see BigDecimal
    */
   public boolean isBigDecimal() {
-    return rawBytes[0] == TYPE_BIG_DECIMAL;
+    return rawBytes[start] == TYPE_BIG_DECIMAL;
   }
   /**
    * True, if the wrapped value is of type {@code GradoopId}.
@@ -247,7 +279,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code GradoopId} value
    */
   public boolean isGradoopId() {
-    return rawBytes[0] == TYPE_GRADOOP_ID;
+    return rawBytes[start] == TYPE_GRADOOP_ID;
   }
   /**
    * True, if the wrapped value is of type {@code Map}.
@@ -255,7 +287,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code Map} value
    */
   public boolean isMap() {
-    return rawBytes[0] == TYPE_MAP;
+    return rawBytes[start] == TYPE_MAP;
   }
   /**
    * True, if the wrapped value is of type {@code List}.
@@ -263,7 +295,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code List} value
    */
   public boolean isList() {
-    return rawBytes[0] == TYPE_LIST;
+    return rawBytes[start] == TYPE_LIST;
   }
   /**
    * True, if the wrapped value is of type {@code LocalDate}.
@@ -271,7 +303,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code LocalDate} value
    */
   public boolean isDate() {
-    return rawBytes[0] == TYPE_DATE;
+    return rawBytes[start] == TYPE_DATE;
   }
   /**
    * True, if the wrapped value is of type {@code LocalTime}.
@@ -279,7 +311,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code LocalTime} value
    */
   public boolean isTime() {
-    return rawBytes[0] == TYPE_TIME;
+    return rawBytes[start] == TYPE_TIME;
   }
   /**
    * True, if the wrapped value is of type {@code LocalDateTime}.
@@ -287,7 +319,15 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code LocalDateTime} value
    */
   public boolean isDateTime() {
-    return rawBytes[0] == TYPE_DATETIME;
+    return rawBytes[start] == TYPE_DATETIME;
+  }
+  /**
+   * True, if the wrapped value is of type {@code byte[]}.
+   *
+   * @return true, if {@code byte[]} value
+   */
+  public boolean isByteArray() {
+    return rawBytes[start] == TYPE_BYTE_ARRAY;
   }
 
   //----------------------------------------------------------------------------
@@ -313,7 +353,8 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
                         isDate() ? getDate() :
                           isTime() ? getTime() :
                             isDateTime() ? getDateTime() :
-                              null;
+                              isByteArray() ? getByteArray() :
+                                null;
   }
   /**
    * Returns the wrapped value as {@code boolean}.
@@ -321,7 +362,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code boolean} value
    */
   public boolean getBoolean() {
-    return rawBytes[1] == -1;
+    return rawBytes[start + OFFSET] == -1;
   }
   /**
    * Returns the wrapped value as {@code int}.
@@ -329,7 +370,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code int} value
    */
   public int getInt() {
-    return Bytes.toInt(rawBytes, OFFSET);
+    return Bytes.toInt(rawBytes, start + OFFSET);
   }
   /**
    * Returns the wrapped value as {@code long}.
@@ -337,7 +378,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code long} value
    */
   public long getLong() {
-    return Bytes.toLong(rawBytes, OFFSET);
+    return Bytes.toLong(rawBytes, start + OFFSET);
   }
   /**
    * Returns the wrapped value as {@code float}.
@@ -345,7 +386,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code float} value
    */
   public float getFloat() {
-    return Bytes.toFloat(rawBytes, OFFSET);
+    return Bytes.toFloat(rawBytes, start + OFFSET);
   }
   /**
    * Returns the wrapped value as {@code double}.
@@ -353,7 +394,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code double} value
    */
   public double getDouble() {
-    return Bytes.toDouble(rawBytes, OFFSET);
+    return Bytes.toDouble(rawBytes, start + OFFSET);
   }
   /**
    * Returns the wrapped value as {@code String}.
@@ -361,7 +402,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code String} value
    */
   public String getString() {
-    return Bytes.toString(rawBytes, OFFSET, rawBytes.length - OFFSET);
+    return Bytes.toString(rawBytes, start + OFFSET, length - OFFSET);
   }
   /**
    * Returns the wrapped value as {@code BigDecimal}.
@@ -373,18 +414,18 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     BigDecimal decimal;
 
     if (isBigDecimal()) {
-      decimal = Bytes.toBigDecimal(rawBytes, OFFSET, rawBytes.length - OFFSET);
+      decimal = Bytes.toBigDecimal(rawBytes, start + OFFSET, length - OFFSET);
     } else if (isFloat()) {
-      decimal = BigDecimal.valueOf(Bytes.toFloat(rawBytes, OFFSET));
+      decimal = BigDecimal.valueOf(Bytes.toFloat(rawBytes, start + OFFSET));
     } else if (isDouble())  {
-      decimal = BigDecimal.valueOf(Bytes.toDouble(rawBytes, OFFSET));
+      decimal = BigDecimal.valueOf(Bytes.toDouble(rawBytes, start + OFFSET));
     } else if (isInt()) {
-      decimal = BigDecimal.valueOf(Bytes.toInt(rawBytes, OFFSET));
+      decimal = BigDecimal.valueOf(Bytes.toInt(rawBytes, start + OFFSET));
     } else if (isLong()) {
-      decimal = BigDecimal.valueOf(Bytes.toLong(rawBytes, OFFSET));
+      decimal = BigDecimal.valueOf(Bytes.toLong(rawBytes, start + OFFSET));
     } else if (isString()) {
       decimal = new BigDecimal(
-        Bytes.toString(rawBytes, OFFSET, rawBytes.length - OFFSET));
+        Bytes.toString(rawBytes, start + OFFSET, length - OFFSET));
     } else {
       throw new ClassCastException(
         "Cannot covert " + this.getType().getSimpleName() +
@@ -398,8 +439,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code GradoopId} value
    */
   public GradoopId getGradoopId() {
-    return GradoopId.fromByteArray(
-      Arrays.copyOfRange(rawBytes, OFFSET, GradoopId.ID_SIZE + OFFSET));
+    return GradoopId.fromByteArray(rawBytes, start + OFFSET);
   }
 
   /**
@@ -413,7 +453,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
 
     Map<PropertyValue, PropertyValue> map = new HashMap<>();
 
-    ByteArrayInputStream byteStream = new ByteArrayInputStream(rawBytes);
+    ByteArrayInputStream byteStream = new ByteArrayInputStream(rawBytes, start, length);
     DataInputStream inputStream = new DataInputStream(byteStream);
     DataInputView inputView = new DataInputViewStreamWrapper(inputStream);
 
@@ -447,7 +487,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
 
     List<PropertyValue> list = new ArrayList<>();
 
-    ByteArrayInputStream byteStream = new ByteArrayInputStream(rawBytes);
+    ByteArrayInputStream byteStream = new ByteArrayInputStream(rawBytes, start, length);
     DataInputStream inputStream = new DataInputStream(byteStream);
     DataInputView inputView = new DataInputViewStreamWrapper(inputStream);
 
@@ -474,7 +514,8 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public LocalDate getDate() {
     return DateTimeSerializer.deserializeDate(
-      Arrays.copyOfRange(rawBytes, OFFSET, DateTimeSerializer.SIZEOF_DATE + OFFSET));
+      Arrays.copyOfRange(rawBytes, start + OFFSET,
+        start + OFFSET + DateTimeSerializer.SIZEOF_DATE));
   }
   /**
    * Returns the wrapped List as {@code LocalTime}.
@@ -483,7 +524,8 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public LocalTime getTime() {
     return DateTimeSerializer.deserializeTime(
-      Arrays.copyOfRange(rawBytes, OFFSET, DateTimeSerializer.SIZEOF_TIME + OFFSET));
+      Arrays.copyOfRange(rawBytes, start + OFFSET,
+        start + OFFSET + DateTimeSerializer.SIZEOF_TIME));
   }
   /**
    * Returns the wrapped List as {@code LocalDateTime}.
@@ -492,7 +534,16 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public LocalDateTime getDateTime() {
     return DateTimeSerializer.deserializeDateTime(
-      Arrays.copyOfRange(rawBytes, OFFSET, DateTimeSerializer.SIZEOF_DATETIME + OFFSET));
+      Arrays.copyOfRange(rawBytes, start + OFFSET,
+        start + OFFSET + DateTimeSerializer.SIZEOF_DATETIME));
+  }
+  /**
+   * Returns a copy of the wrapped {@code byte[]}.
+   *
+   * @return {@code byte[]} value
+   */
+  public byte[] getByteArray() {
+    return Arrays.copyOfRange(rawBytes, start + OFFSET, start + length);
   }
 
   //----------------------------------------------------------------------------
@@ -507,8 +558,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public void setObject(Object value) {
     if (value == null) {
-      rawBytes = new byte[] {TYPE_NULL};
-      validateBytesLength();
+      wrap(new byte[] {TYPE_NULL});
     } else if (value instanceof Boolean) {
       setBoolean((Boolean) value);
     } else if (value instanceof Integer) {
@@ -535,6 +585,8 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
       setTime((LocalTime) value);
     } else if (value instanceof LocalDateTime) {
       setDateTime((LocalDateTime) value);
+    } else if (value instanceof byte[]) {
+      setByteArray((byte[]) value);
     } else {
       throw new UnsupportedTypeException(value.getClass());
     }
@@ -545,9 +597,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param booleanValue value
    */
   public void setBoolean(boolean booleanValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_BOOLEAN];
-    rawBytes[0] = TYPE_BOOLEAN;
-    Bytes.putByte(rawBytes, OFFSET, (byte) (booleanValue ? -1 : 0));
+    byte[] bytes = new byte[OFFSET + Bytes.SIZEOF_BOOLEAN];
+    bytes[0] = TYPE_BOOLEAN;
+    Bytes.putByte(bytes, OFFSET, (byte) (booleanValue ? -1 : 0));
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code int} value.
@@ -555,9 +608,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param intValue intValue
    */
   public void setInt(int intValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_INT];
-    rawBytes[0] = TYPE_INTEGER;
-    Bytes.putInt(rawBytes, OFFSET, intValue);
+    byte[] bytes = new byte[OFFSET + Bytes.SIZEOF_INT];
+    bytes[0] = TYPE_INTEGER;
+    Bytes.putInt(bytes, OFFSET, intValue);
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code long} value.
@@ -565,9 +619,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param longValue value
    */
   public void setLong(long longValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_LONG];
-    rawBytes[0] = TYPE_LONG;
-    Bytes.putLong(rawBytes, OFFSET, longValue);
+    byte[] bytes = new byte[OFFSET + Bytes.SIZEOF_LONG];
+    bytes[0] = TYPE_LONG;
+    Bytes.putLong(bytes, OFFSET, longValue);
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code float} value.
@@ -575,9 +630,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param floatValue value
    */
   public void setFloat(float floatValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_FLOAT];
-    rawBytes[0] = TYPE_FLOAT;
-    Bytes.putFloat(rawBytes, OFFSET, floatValue);
+    byte[] bytes = new byte[OFFSET + Bytes.SIZEOF_FLOAT];
+    bytes[0] = TYPE_FLOAT;
+    Bytes.putFloat(bytes, OFFSET, floatValue);
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code double} value.
@@ -585,9 +641,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param doubleValue value
    */
   public void setDouble(double doubleValue) {
-    rawBytes = new byte[OFFSET + Bytes.SIZEOF_DOUBLE];
-    rawBytes[0] = TYPE_DOUBLE;
-    Bytes.putDouble(rawBytes, OFFSET, doubleValue);
+    byte[] bytes = new byte[OFFSET + Bytes.SIZEOF_DOUBLE];
+    bytes[0] = TYPE_DOUBLE;
+    Bytes.putDouble(bytes, OFFSET, doubleValue);
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code String} value.
@@ -596,10 +653,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public void setString(String stringValue) {
     byte[] valueBytes = Bytes.toBytes(stringValue);
-    rawBytes = new byte[OFFSET + valueBytes.length];
-    rawBytes[0] = TYPE_STRING;
-    Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
-    validateBytesLength();
+    byte[] bytes = new byte[OFFSET + valueBytes.length];
+    bytes[0] = TYPE_STRING;
+    Bytes.putBytes(bytes, OFFSET, valueBytes, 0, valueBytes.length);
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code BigDecimal} value.
@@ -608,10 +665,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public void setBigDecimal(BigDecimal bigDecimalValue) {
     byte[] valueBytes = Bytes.toBytes(bigDecimalValue);
-    rawBytes = new byte[OFFSET + valueBytes.length];
-    rawBytes[0] = TYPE_BIG_DECIMAL;
-    Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
-    validateBytesLength();
+    byte[] bytes = new byte[OFFSET + valueBytes.length];
+    bytes[0] = TYPE_BIG_DECIMAL;
+    Bytes.putBytes(bytes, OFFSET, valueBytes, 0, valueBytes.length);
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code GradoopId} value.
@@ -619,10 +676,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param gradoopIdValue value
    */
   public void setGradoopId(GradoopId gradoopIdValue) {
-    byte[] valueBytes = gradoopIdValue.toByteArray();
-    rawBytes = new byte[OFFSET + GradoopId.ID_SIZE];
-    rawBytes[0] = TYPE_GRADOOP_ID;
-    Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
+    byte[] bytes = new byte[OFFSET + GradoopId.ID_SIZE];
+    bytes[0] = TYPE_GRADOOP_ID;
+    gradoopIdValue.toByteArray(bytes, OFFSET);
+    wrap(bytes);
   }
 
   /**
@@ -650,8 +707,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
       throw new RuntimeException("Error writing PropertyValue");
     }
 
-    this.rawBytes = byteStream.toByteArray();
-    validateBytesLength();
+    wrap(byteStream.toByteArray());
   }
 
   /**
@@ -676,8 +732,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
       throw new RuntimeException("Error writing PropertyValue");
     }
 
-    this.rawBytes = byteStream.toByteArray();
-    validateBytesLength();
+    wrap(byteStream.toByteArray());
   }
 
   /**
@@ -687,9 +742,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public void setDate(LocalDate date) {
     byte[] valueBytes = DateTimeSerializer.serializeDate(date);
-    rawBytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_DATE];
-    rawBytes[0] = TYPE_DATE;
-    Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
+    byte[] bytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_DATE];
+    bytes[0] = TYPE_DATE;
+    Bytes.putBytes(bytes, OFFSET, valueBytes, 0, valueBytes.length);
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code LocalTime} value.
@@ -698,9 +754,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public void setTime(LocalTime time) {
     byte[] valueBytes = DateTimeSerializer.serializeTime(time);
-    rawBytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_TIME];
-    rawBytes[0] = TYPE_TIME;
-    Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
+    byte[] bytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_TIME];
+    bytes[0] = TYPE_TIME;
+    Bytes.putBytes(bytes, OFFSET, valueBytes, 0, valueBytes.length);
+    wrap(bytes);
   }
   /**
    * Sets the wrapped value as {@code LocalDateTime} value.
@@ -709,9 +766,21 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public void setDateTime(LocalDateTime dateTime) {
     byte[] valueBytes = DateTimeSerializer.serializeDateTime(dateTime);
-    rawBytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_DATETIME];
-    rawBytes[0] = TYPE_DATETIME;
-    Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
+    byte[] bytes = new byte[OFFSET + DateTimeSerializer.SIZEOF_DATETIME];
+    bytes[0] = TYPE_DATETIME;
+    Bytes.putBytes(bytes, OFFSET, valueBytes, 0, valueBytes.length);
+    wrap(bytes);
+  }
+  /**
+   * Sets the wrapped value as {@code byte[]} value. The array is copied.
+   *
+   * @param byteArray value
+   */
+  public void setByteArray(byte[] byteArray) {
+    byte[] bytes = new byte[OFFSET + byteArray.length];
+    bytes[0] = TYPE_BYTE_ARRAY;
+    Bytes.putBytes(bytes, OFFSET, byteArray, 0, byteArray.length);
+    wrap(bytes);
   }
 
   //----------------------------------------------------------------------------
@@ -719,39 +788,80 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
   //----------------------------------------------------------------------------
 
   public Class<?> getType() {
-    return rawBytes[0] == TYPE_BOOLEAN ?
-      Boolean.class     : rawBytes[0] == TYPE_INTEGER     ?
-      Integer.class     : rawBytes[0] == TYPE_LONG        ?
-      Long.class        : rawBytes[0] == TYPE_FLOAT       ?
-      Float.class       : rawBytes[0] == TYPE_DOUBLE      ?
-      Double.class      : rawBytes[0] == TYPE_STRING      ?
-      String.class      : rawBytes[0] == TYPE_BIG_DECIMAL ?
-      BigDecimal.class  : rawBytes[0] == TYPE_GRADOOP_ID  ?
-      GradoopId.class   : rawBytes[0] == TYPE_MAP         ?
-      Map.class         : rawBytes[0] == TYPE_LIST        ?
-      LocalDate.class   : rawBytes[0] == TYPE_DATE        ?
-      LocalTime.class   : rawBytes[0] == TYPE_TIME        ?
-      LocalDateTime.class : rawBytes[0] == TYPE_DATETIME  ?
-      List.class        : null;
+    return rawBytes[start] == TYPE_BOOLEAN ?
+      Boolean.class     : rawBytes[start] == TYPE_INTEGER     ?
+      Integer.class     : rawBytes[start] == TYPE_LONG        ?
+      Long.class        : rawBytes[start] == TYPE_FLOAT       ?
+      Float.class       : rawBytes[start] == TYPE_DOUBLE      ?
+      Double.class      : rawBytes[start] == TYPE_STRING      ?
+      String.class      : rawBytes[start] == TYPE_BIG_DECIMAL ?
+      BigDecimal.class  : rawBytes[start] == TYPE_GRADOOP_ID  ?
+      GradoopId.class   : rawBytes[start] == TYPE_MAP         ?
+      Map.class         : rawBytes[start] == TYPE_LIST        ?
+      LocalDate.class   : rawBytes[start] == TYPE_DATE        ?
+      LocalTime.class   : rawBytes[start] == TYPE_TIME        ?
+      LocalDateTime.class : rawBytes[start] == TYPE_DATETIME  ?
+      List.class        : rawBytes[start] == TYPE_BYTE_ARRAY  ?
+      byte[].class      : null;
   }
 
   public int getByteSize() {
-    return rawBytes.length;
+    return length;
   }
 
+  /**
+   * Returns the internal byte representation. If this value is a view on a shared byte array,
+   * the represented range is copied into an array owned by this value first.
+   *
+   * @return internal byte representation
+   */
   @SuppressWarnings("EI_EXPOSE_REP")
   public byte[] getRawBytes() {
+    if (isSlice()) {
+      wrap(Arrays.copyOfRange(rawBytes, start, start + length));
+    }
     return this.rawBytes;
   }
 
+  /**
+   * Copies the internal byte representation into the target array without materializing a
+   * dedicated array for this value.
+   *
+   * @param target target byte array
+   * @param offset index in the target array to copy the first byte to
+   */
+  public void copyRawBytes(byte[] target, int offset) {
+    System.arraycopy(rawBytes, start, target, offset, length);
+  }
+
+  /**
+   * Writes the internal byte representation to the given output view. In contrast to
+   * {@link #write(DataOutputView)}, no length information is written.
+   *
+   * @param outputView output view to write to
+   * @throws IOException on failure
+   */
+  void writeRawBytes(DataOutputView outputView) throws IOException {
+    outputView.write(rawBytes, start, length);
+  }
+
   /**
    * Set internal byte representation
    * @param bytes array
    */
   @SuppressWarnings("EI_EXPOSE_REP")
   public void setBytes(byte[] bytes) {
-    this.rawBytes = bytes;
-    validateBytesLength();
+    wrap(bytes);
+  }
+
+  /**
+   * True, if this value is a view on a range of a byte array that may be shared with other
+   * property values.
+   *
+   * @return true, if the value does not own its internal byte array
+   */
+  public boolean isSlice() {
+    return start != 0 || length != rawBytes.length;
   }
 
   /**
@@ -763,6 +873,20 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     return new PropertyValue(rawBytes);
   }
 
+  /**
+   * Create a {@link PropertyValue} that is a view on a range of the given byte array. The array
+   * is neither copied nor modified, which allows multiple values to share a single array.
+   *
+   * @param rawBytes array containing the internal representation at the given range
+   * @param offset index of the first byte (the type byte) of the value
+   * @param length number of bytes of the value
+   * @return new instance of {@link PropertyValue}
+   */
+  @SuppressWarnings("EI_EXPOSE_REP2")
+  public static PropertyValue fromRawBytes(byte[] rawBytes, int offset, int length) {
+    return new PropertyValue(rawBytes, offset, length);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -772,53 +896,240 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
       return false;
     }
     PropertyValue that = (PropertyValue) o;
-    return Arrays.equals(rawBytes, that.rawBytes);
+    return Bytes.equals(rawBytes, start, length, that.rawBytes, that.start, that.length);
   }
 
+  /**
+   * Returns the same hash code as {@link Arrays#hashCode(byte[])} on the represented range.
+   *
+   * @return hash code
+   */
   @Override
   public int hashCode() {
-    return Arrays.hashCode(rawBytes);
+    int result = 1;
+    for (int i = start; i < start + length; i++) {
+      result = 31 * result + rawBytes[i];
+    }
+    return result;
   }
 
+  /**
+   * Compares two values of the same type on their internal byte representation, i.e. without
+   * instantiating the represented Java objects.
+   *
+   * Note: strings are compared by the unsigned bytes of their UTF-8 encoding, which equals the
+   * lexicographic order of their unicode code points.
+   *
+   * @param o value to compare with
+   * @return a negative integer, zero, or a positive integer as this value is less than, equal to,
+   *         or greater than the given value
+   * @throws UnsupportedOperationException if one of the values is a map or a list
+   * @throws IllegalArgumentException if the values are of different types
+   */
   @Override
   public int compareTo(PropertyValue o) {
+    byte type = rawBytes[start];
+
+    if (this.isMap() || o.isMap() || this.isList() || o.isList()) {
+      throw new UnsupportedOperationException(String.format(
+        "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
+    } else if (type != o.rawBytes[o.start]) {
+      throw new IllegalArgumentException(String.format(
+        "Incompatible types: %s, %s", this.getClass(), o.getClass()));
+    }
+
     int result;
 
-    if (this.isNull() && o.isNull()) {
+    switch (type) {
+    case TYPE_NULL:
       result = 0;
-    } else if (this.isBoolean() && o.isBoolean()) {
+      break;
+    case TYPE_BOOLEAN:
       result = Boolean.compare(this.getBoolean(), o.getBoolean());
-    } else if (this.isInt() && o.isInt()) {
+      break;
+    case TYPE_INTEGER:
       result = Integer.compare(this.getInt(), o.getInt());
-    } else if (this.isLong() && o.isLong()) {
+      break;
+    case TYPE_LONG:
       result = Long.compare(this.getLong(), o.getLong());
-    } else if (this.isFloat() && o.isFloat()) {
+      break;
+    case TYPE_FLOAT:
       result = Float.compare(this.getFloat(), o.getFloat());
-    } else if (this.isDouble() && o.isDouble()) {
+      break;
+    case TYPE_DOUBLE:
       result = Double.compare(this.getDouble(), o.getDouble());
-    } else if (this.isString() && o.isString()) {
-      result = this.getString().compareTo(o.getString());
-    } else if (this.isBigDecimal() && o.isBigDecimal()) {
-      result = this.getBigDecimal().compareTo(o.getBigDecimal());
-    } else if (this.isGradoopId() && o.isGradoopId()) {
-      result = this.getGradoopId().compareTo(o.getGradoopId());
-    } else if (this.isMap() || o.isMap() || this.isList() || o.isList()) {
-      throw new UnsupportedOperationException(String.format(
-        "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
+      break;
+    case TYPE_BIG_DECIMAL:
+      result = compareBigDecimal(o);
+      break;
+    case TYPE_DATE:
+    case TYPE_TIME:
+    case TYPE_DATETIME:
+      result = compareInts(o);
+      break;
+    default:
+      // strings, ids and byte arrays are ordered by their unsigned bytes
+      result = Bytes.compareTo(rawBytes, start + OFFSET, length - OFFSET,
+        o.rawBytes, o.start + OFFSET, o.length - OFFSET);
+    }
+
+    return result;
+  }
+
+  /**
+   * Compares two {@code BigDecimal} values. If both values have the same scale, only their
+   * unscaled two's-complement representations are compared.
+   *
+   * @param o value to compare with
+   * @return comparison result
+   */
+  private int compareBigDecimal(PropertyValue o) {
+    int offset = start + OFFSET;
+    int otherOffset = o.start + OFFSET;
+
+    if (Bytes.toInt(rawBytes, offset) != Bytes.toInt(o.rawBytes, otherOffset)) {
+      return this.getBigDecimal().compareTo(o.getBigDecimal());
+    }
+
+    // minimal two's-complement representations of the unscaled values
+    offset += Bytes.SIZEOF_INT;
+    otherOffset += Bytes.SIZEOF_INT;
+    int unscaledLength = start + length - offset;
+    int otherUnscaledLength = o.start + o.length - otherOffset;
+    boolean negative = rawBytes[offset] < 0;
+
+    int result;
+    if (negative != o.rawBytes[otherOffset] < 0) {
+      result = negative ? -1 : 1;
+    } else if (unscaledLength != otherUnscaledLength) {
+      result = negative ?
+        Integer.compare(otherUnscaledLength, unscaledLength) :
+        Integer.compare(unscaledLength, otherUnscaledLength);
     } else {
-      throw new IllegalArgumentException(String.format(
-        "Incompatible types: %s, %s", this.getClass(), o.getClass()));
+      result = Bytes.compareTo(rawBytes, offset, unscaledLength,
+        o.rawBytes, otherOffset, otherUnscaledLength);
     }
+    return result;
+  }
 
+  /**
+   * Compares two values which are represented by a sequence of {@code int} values of decreasing
+   * significance, i.e. dates and times (see {@link DateTimeSerializer}).
+   *
+   * @param o value to compare with
+   * @return comparison result
+   */
+  private int compareInts(PropertyValue o) {
+    int result = 0;
+    for (int i = OFFSET; result == 0 && i < length; i += Bytes.SIZEOF_INT) {
+      result = Integer.compare(
+        Bytes.toInt(rawBytes, start + i), Bytes.toInt(o.rawBytes, o.start + i));
+    }
     return result;
   }
 
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Writes an order-preserving prefix of this value, starting with the type byte. Numbers, dates
+   * and times are written with flipped sign bits, strings by their UTF-8 bytes, ids and byte
+   * arrays by their raw bytes. {@code BigDecimal} values only contribute their sign, maps and
+   * lists only their type. Unused bytes are filled with zeros.
+   *
+   * @param target memory segment to write the key to
+   * @param offset offset in the memory segment
+   * @param len number of bytes to write
+   */
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    if (len <= 0) {
+      return;
+    }
+    byte type = rawBytes[start];
+    target.put(offset, type);
+
+    int keyOffset = offset + 1;
+    int keyLen = len - 1;
+    int written;
+
+    switch (type) {
+    case TYPE_BOOLEAN:
+      written = putKey(target, keyOffset, keyLen, getBoolean() ? 1 : 0, 1);
+      break;
+    case TYPE_INTEGER:
+      written = putKey(target, keyOffset, keyLen, getInt() ^ Integer.MIN_VALUE, Integer.BYTES);
+      break;
+    case TYPE_LONG:
+      written = putKey(target, keyOffset, keyLen, getLong() ^ Long.MIN_VALUE, Long.BYTES);
+      break;
+    case TYPE_FLOAT:
+      int floatBits = Float.floatToIntBits(getFloat());
+      written = putKey(target, keyOffset, keyLen,
+        floatBits ^ (floatBits >> (Integer.SIZE - 1) | Integer.MIN_VALUE), Integer.BYTES);
+      break;
+    case TYPE_DOUBLE:
+      long doubleBits = Double.doubleToLongBits(getDouble());
+      written = putKey(target, keyOffset, keyLen,
+        doubleBits ^ (doubleBits >> (Long.SIZE - 1) | Long.MIN_VALUE), Long.BYTES);
+      break;
+    case TYPE_BIG_DECIMAL:
+      // sign of the minimal two's-complement representation of the unscaled value
+      int unscaledOffset = start + OFFSET + Bytes.SIZEOF_INT;
+      int signum = rawBytes[unscaledOffset] < 0 ? -1 :
+        (rawBytes[unscaledOffset] == 0 && unscaledOffset + 1 == start + length ? 0 : 1);
+      written = putKey(target, keyOffset, keyLen, signum + 1, 1);
+      break;
+    case TYPE_STRING:
+    case TYPE_GRADOOP_ID:
+    case TYPE_BYTE_ARRAY:
+      written = Math.min(keyLen, length - OFFSET);
+      target.put(keyOffset, rawBytes, start + OFFSET, written);
+      break;
+    case TYPE_DATE:
+    case TYPE_TIME:
+    case TYPE_DATETIME:
+      written = 0;
+      for (int i = OFFSET; written < keyLen && i < length; i += Bytes.SIZEOF_INT) {
+        written += putKey(target, keyOffset + written, keyLen - written,
+          Bytes.toInt(rawBytes, start + i) ^ Integer.MIN_VALUE, Integer.BYTES);
+      }
+      break;
+    default:
+      written = 0;
+    }
+
+    for (int i = written; i < keyLen; i++) {
+      target.put(keyOffset + i, (byte) 0);
+    }
+  }
+
+  /**
+   * Writes the lowest bytes of the given value in big-endian order to a memory segment.
+   *
+   * @param target memory segment
+   * @param offset offset in the memory segment
+   * @param len maximum number of bytes to write
+   * @param value value to write
+   * @param size number of bytes of the value
+   * @return number of bytes written
+   */
+  private static int putKey(MemorySegment target, int offset, int len, long value, int size) {
+    int count = Math.min(len, size);
+    for (int i = 0; i < count; i++) {
+      target.put(offset + i, (byte) (value >> (Byte.SIZE * (size - 1 - i))));
+    }
+    return count;
+  }
+
   /**
    * Returns the byte size of the properties internal representation
    * @return byte size
    */
   public int byteSize() {
-    return rawBytes.length;
+    return length;
   }
 
   /**
@@ -841,72 +1152,112 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
   public void write(DataOutputView outputView) throws IOException {
     // null?
     // type
-    outputView.writeByte(rawBytes[0]);
+    byte type = rawBytes[start];
+    outputView.writeByte(type);
     // dynamic type?
-    if (rawBytes[0] == TYPE_STRING || rawBytes[0] == TYPE_BIG_DECIMAL ||
-      rawBytes[0] == TYPE_MAP || rawBytes[0] == TYPE_LIST) {
+    if (isDynamicLengthType(type)) {
       // write length
-      outputView.writeShort(rawBytes.length - OFFSET);
+      outputView.writeShort(length - OFFSET);
     }
     // write data
-    outputView.write(rawBytes, OFFSET, rawBytes.length - OFFSET);
+    outputView.write(rawBytes, start + OFFSET, length - OFFSET);
   }
 
   @Override
   public void read(DataInputView inputView) throws IOException {
-    short length = 0;
     // type
     byte type = inputView.readByte();
+    int valueLength = readValueLength(type, inputView);
+    // init new array
+    byte[] bytes = new byte[OFFSET + valueLength];
+    // read type info
+    bytes[0] = type;
+    // read data
+    inputView.readFully(bytes, OFFSET, valueLength);
+    wrap(bytes);
+  }
+
+  /**
+   * Returns the number of value bytes (excluding the type byte) that follow the given type byte
+   * in the serialized representation. For dynamic length types, the length prefix is consumed
+   * from the input view.
+   *
+   * @param type type byte that has already been read from the input view
+   * @param inputView input view positioned right after the type byte
+   * @return number of value bytes
+   * @throws IOException on failure
+   */
+  static int readValueLength(byte type, DataInputView inputView) throws IOException {
+    int valueLength = 0;
     // dynamic type?
-    if (type == TYPE_STRING || type == TYPE_BIG_DECIMAL || type == TYPE_MAP || type == TYPE_LIST) {
+    if (isDynamicLengthType(type)) {
       // read length
-      length = inputView.readShort();
+      valueLength = inputView.readShort();
     } else if (type == TYPE_NULL) {
-      length = 0;
+      valueLength = 0;
     } else if (type == TYPE_BOOLEAN) {
-      length = Bytes.SIZEOF_BOOLEAN;
+      valueLength = Bytes.SIZEOF_BOOLEAN;
     } else if (type == TYPE_INTEGER) {
-      length = Bytes.SIZEOF_INT;
+      valueLength = Bytes.SIZEOF_INT;
     } else if (type == TYPE_LONG) {
-      length = Bytes.SIZEOF_LONG;
+      valueLength = Bytes.SIZEOF_LONG;
     } else if (type == TYPE_FLOAT) {
-      length = Bytes.SIZEOF_FLOAT;
+      valueLength = Bytes.SIZEOF_FLOAT;
     } else if (type == TYPE_DOUBLE) {
-      length = Bytes.SIZEOF_DOUBLE;
+      valueLength = Bytes.SIZEOF_DOUBLE;
     } else if (type == TYPE_GRADOOP_ID) {
-      length = GradoopId.ID_SIZE;
+      valueLength = GradoopId.ID_SIZE;
     } else if (type == TYPE_DATE) {
-      length = DateTimeSerializer.SIZEOF_DATE;
+      valueLength = DateTimeSerializer.SIZEOF_DATE;
     } else if (type == TYPE_TIME) {
-      length = DateTimeSerializer.SIZEOF_TIME;
+      valueLength = DateTimeSerializer.SIZEOF_TIME;
     } else if (type == TYPE_DATETIME) {
-      length = DateTimeSerializer.SIZEOF_DATETIME;
-    }
-    // init new array
-    rawBytes = new byte[OFFSET + length];
-    // read type info
-    rawBytes[0] = type;
-    // read data
-    for (int i = OFFSET; i < rawBytes.length; i++) {
-      rawBytes[i] = inputView.readByte();
+      valueLength = DateTimeSerializer.SIZEOF_DATETIME;
     }
+    return valueLength;
+  }
+
+  /**
+   * True, if values of the given type are serialized with a length prefix.
+   *
+   * @param type type byte
+   * @return true, if the type has a dynamic length
+   */
+  static boolean isDynamicLengthType(byte type) {
+    return type == TYPE_STRING || type == TYPE_BIG_DECIMAL || type == TYPE_MAP ||
+      type == TYPE_LIST || type == TYPE_BYTE_ARRAY;
   }
 
   @Override
   public String toString() {
+    if (isByteArray()) {
+      return Arrays.toString(getByteArray());
+    }
     return getObject() != null ?
       getObject().toString() :
       GradoopConstants.NULL_STRING;
   }
 
+  /**
+   * Sets the given array as internal representation which is exclusively owned by this value.
+   *
+   * @param bytes internal representation
+   */
+  private void wrap(byte[] bytes) {
+    this.rawBytes = bytes;
+    this.start = 0;
+    this.length = bytes.length;
+    validateBytesLength();
+  }
+
   /**
    * Throw a runtime exception if this property value can't be represented
    * in {@link PropertyValue#MAX_BINARY_LENGTH} bytes.
    */
   private void validateBytesLength() {
-    if (rawBytes != null && rawBytes.length > MAX_BINARY_LENGTH) {
+    if (length > MAX_BINARY_LENGTH) {
       throw new IllegalStateException("The binary representation of this property is too big: " +
-      rawBytes.length + " > " + MAX_BINARY_LENGTH);
+      length + " > " + MAX_BINARY_LENGTH);
     }
   }
 }
@@ -378,20 +378,17 @@ public class PropertyValueUtils {
 
       } else {
 
-        BigDecimal a;
-        BigDecimal b;
-
         if (sameType) {
-          a = aValue.getBigDecimal();
-          b = bValue.getBigDecimal();
+          // compare on the binary representation
+          aIsLessOrEqual = aValue.compareTo(bValue) <= 0;
         } else {
-          a = aType == BIG_DECIMAL ? aValue.getBigDecimal() :
+          BigDecimal a = aType == BIG_DECIMAL ? aValue.getBigDecimal() :
             bigDecimalValue(aValue, aType);
-          b = bType == BIG_DECIMAL ? bValue.getBigDecimal() :
+          BigDecimal b = bType == BIG_DECIMAL ? bValue.getBigDecimal() :
             bigDecimalValue(bValue, bType);
-        }
 
-        aIsLessOrEqual = a.compareTo(b) <= 0;
+          aIsLessOrEqual = a.compareTo(b) <= 0;
+        }
       }
 
       return aIsLessOrEqual;
@@ -15,10 +15,17 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.bson.types.ObjectId;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -112,4 +119,84 @@ public class GradoopIdTest {
 
     assertEquals(expectedId, newId);
   }
+
+  @Test
+  public void testCompatibilityWithObjectId() {
+    ObjectId bsonId = new ObjectId(-12345, 16777215, (short) -2, 8388608);
+    GradoopId id = new GradoopId(bsonId);
+
+    assertArrayEquals(bsonId.toByteArray(), id.toByteArray());
+    assertEquals(bsonId.toHexString(), id.toString());
+    assertEquals(bsonId.hashCode(), id.hashCode());
+  }
+
+  @Test
+  public void testCompareToIsUnsignedByteWise() {
+    GradoopId[] ids = new GradoopId[] {
+      new GradoopId(new ObjectId(1, 0, (short) 0, 0)),
+      new GradoopId(new ObjectId(1, 0, (short) 0, 1)),
+      new GradoopId(new ObjectId(1, 0, (short) 0x80, 0)),
+      new GradoopId(new ObjectId(1, 0, (short) -1, 0)),
+      new GradoopId(new ObjectId(1, 0x800000, (short) 0, 0)),
+      new GradoopId(new ObjectId(Integer.MIN_VALUE, 0, (short) 0, 0)),
+      new GradoopId(new ObjectId(-1, 0, (short) 0, 0))
+    };
+
+    for (int i = 0; i < ids.length; i++) {
+      for (int j = 0; j < ids.length; j++) {
+        assertEquals(Integer.signum(Integer.compare(i, j)),
+          Integer.signum(ids[i].compareTo(ids[j])));
+        assertEquals(Integer.signum(Integer.compare(i, j)),
+          Integer.signum(compareBytes(ids[i].toByteArray(), ids[j].toByteArray())));
+      }
+    }
+  }
+
+  @Test
+  public void testCopyNormalizedKey() {
+    GradoopId id = new GradoopId(new ObjectId(-12345, 16777215, (short) -2, 8388608));
+    byte[] expected = id.toByteArray();
+
+    for (int len = 0; len <= GradoopId.ID_SIZE; len++) {
+      MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(GradoopId.ID_SIZE + 2);
+      id.copyNormalizedKey(segment, 1, len);
+      byte[] actual = new byte[len];
+      segment.get(1, actual, 0, len);
+      assertArrayEquals(Arrays.copyOf(expected, len), actual);
+    }
+  }
+
+  @Test
+  public void testFromAndToByteArrayWithOffset() {
+    GradoopId id = GradoopId.get();
+    byte[] bytes = new byte[GradoopId.ID_SIZE + 3];
+
+    id.toByteArray(bytes, 3);
+
+    assertEquals(id, GradoopId.fromByteArray(bytes, 3));
+    assertArrayEquals(id.toByteArray(), Arrays.copyOfRange(bytes, 3, bytes.length));
+  }
+
+  @Test
+  public void testWriteAndReadFields() throws Exception {
+    GradoopId id = GradoopId.get();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    id.write(new DataOutputViewStreamWrapper(out));
+
+    assertArrayEquals(id.toByteArray(), out.toByteArray());
+
+    GradoopId read = new GradoopId();
+    read.read(new DataInputViewStreamWrapper(new ByteArrayInputStream(out.toByteArray())));
+    assertEquals(id, read);
+  }
+
+  private static int compareBytes(byte[] first, byte[] second) {
+    for (int i = 0; i < first.length; i++) {
+      int result = Integer.compare(first[i] & 0xFF, second[i] & 0xFF);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
 }
@@ -308,4 +308,68 @@ public class GradoopIdsTest {
     assertTrue("equals failed for two empty lists", empty2.equals(empty));
     assertTrue("hashCode failed two one empty lists", empty2.hashCode() == empty.hashCode());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testIteratesInAscendingOrder() {
+    List<GradoopId> ids = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      ids.add(GradoopId.get());
+    }
+    List<GradoopId> shuffled = new ArrayList<>(ids);
+    Collections.shuffle(shuffled);
+
+    GradoopIdSet bulk = GradoopIdSet.fromExisting(shuffled);
+    GradoopIdSet single = new GradoopIdSet();
+    shuffled.forEach(single::add);
+
+    assertEquals(ids, new ArrayList<>(bulk));
+    assertEquals(ids, new ArrayList<>(single));
+    assertEquals(bulk, single);
+  }
+
+  @Test
+  public void testRemove() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id1, id2, id3);
+
+    assertTrue(ids.remove(id2));
+    assertFalse(ids.remove(id2));
+    assertEquals(GradoopIdSet.fromExisting(id1, id3), ids);
+
+    Iterator<GradoopId> iterator = ids.iterator();
+    iterator.next();
+    iterator.remove();
+    assertEquals(GradoopIdSet.fromExisting(id3), ids);
+  }
+
+  @Test
+  public void testFromByteArrayWithUnsortedDuplicates() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    byte[] bytes = new byte[3 * GradoopId.ID_SIZE];
+    id2.toByteArray(bytes, 0);
+    id1.toByteArray(bytes, GradoopId.ID_SIZE);
+    id2.toByteArray(bytes, 2 * GradoopId.ID_SIZE);
+
+    GradoopIdSet ids = GradoopIdSet.fromByteArray(bytes);
+
+    assertEquals(2, ids.size());
+    assertEquals(Arrays.asList(id1, id2), new ArrayList<>(ids));
+  }
+
+  @Test
+  public void testEqualsAndHashCodeWithOtherSets() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id1, id2);
+
+    assertEquals(Sets.newHashSet(id1, id2), ids);
+    assertEquals(ids, Sets.newHashSet(id1, id2));
+    assertEquals(Sets.newHashSet(id1, id2).hashCode(), ids.hashCode());
+  }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.java.typeutils.runtime.PojoComparator;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class ElementIdComparatorTest {
+
+  @Test
+  public void testCreateComparator() {
+    ElementTypeInfo<Vertex> typeInfo =
+      (ElementTypeInfo<Vertex>) TypeExtractor.getForClass(Vertex.class);
+    ExecutionConfig config = new ExecutionConfig();
+
+    int idField = typeInfo.getFieldIndex("id");
+    int labelField = typeInfo.getFieldIndex("label");
+
+    assertTrue(typeInfo.createComparator(new int[] {idField}, new boolean[] {true}, 0, config)
+      instanceof ElementIdComparator);
+    assertTrue(typeInfo.createComparator(new int[] {labelField}, new boolean[] {true}, 0, config)
+      instanceof PojoComparator);
+    assertTrue(typeInfo.createComparator(
+      new int[] {idField, labelField}, new boolean[] {true, true}, 0, config)
+      instanceof PojoComparator);
+  }
+
+  @Test
+  public void testCompare() throws IOException {
+    Vertex smaller = new Vertex(GradoopId.NULL_VALUE, "B", null, null);
+    Vertex larger = new Vertex(GradoopId.get(), "A", null, null);
+
+    TypeComparator<Vertex> ascending = new ElementIdComparator<>(true);
+    TypeComparator<Vertex> descending = new ElementIdComparator<>(false);
+
+    assertTrue(ascending.compare(smaller, larger) < 0);
+    assertTrue(descending.compare(smaller, larger) > 0);
+    assertEquals(0, ascending.compare(larger, larger));
+
+    assertTrue(ascending.compareSerialized(
+      ElementSerializerTest.toInput(smaller, VertexSerializer.INSTANCE),
+      ElementSerializerTest.toInput(larger, VertexSerializer.INSTANCE)) < 0);
+    assertTrue(descending.compareSerialized(
+      ElementSerializerTest.toInput(smaller, VertexSerializer.INSTANCE),
+      ElementSerializerTest.toInput(larger, VertexSerializer.INSTANCE)) > 0);
+
+    TypeComparator<Vertex> reference = ascending.duplicate();
+    reference.setReference(smaller);
+    ascending.setReference(larger);
+    assertTrue(ascending.compareToReference(reference) < 0);
+    assertTrue(reference.equalToReference(new Vertex(smaller.getId(), "C", null, null)));
+    assertFalse(reference.equalToReference(larger));
+    assertEquals(larger.getId().hashCode(), ascending.hash(larger));
+  }
+
+  @Test
+  public void testNormalizedKey() {
+    TypeComparator<Vertex> comparator = new ElementIdComparator<>(true);
+    assertTrue(comparator.supportsNormalizedKey());
+    assertFalse(comparator.isNormalizedKeyPrefixOnly(comparator.getNormalizeKeyLen()));
+
+    int keyLength = comparator.getNormalizeKeyLen();
+    MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(2 * keyLength);
+
+    for (int i = 0; i < 100; i++) {
+      Vertex first = new Vertex(GradoopId.get(), null, null, null);
+      Vertex second = new Vertex(GradoopId.get(), null, null, null);
+      comparator.putNormalizedKey(first, segment, 0, keyLength);
+      comparator.putNormalizedKey(second, segment, keyLength, keyLength);
+
+      assertEquals(Integer.signum(comparator.compare(first, second)),
+        Integer.signum(segment.compare(segment, 0, keyLength, keyLength)));
+    }
+  }
+
+  @Test
+  public void testExtractKeys() {
+    GradoopId id = GradoopId.get();
+    TypeComparator<Vertex> comparator = new ElementIdComparator<>(true);
+    Object[] keys = new Object[1];
+
+    assertEquals(1, comparator.extractKeys(new Vertex(id, null, null, null), keys, 0));
+    assertEquals(id, keys[0]);
+    assertEquals(1, comparator.getFlatComparators().length);
+    assertEquals(0, comparator.getFlatComparators()[0].compare(id, keys[0]));
+  }
+}
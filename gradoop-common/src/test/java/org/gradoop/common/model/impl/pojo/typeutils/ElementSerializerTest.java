@@ -0,0 +1,229 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class ElementSerializerTest {
+
+  @Test
+  public void testTypeExtraction() {
+    TypeInformation<Vertex> vertexType = TypeExtractor.getForClass(Vertex.class);
+    TypeInformation<Edge> edgeType = TypeExtractor.getForClass(Edge.class);
+    TypeInformation<GraphHead> graphHeadType = TypeExtractor.getForClass(GraphHead.class);
+
+    assertTrue(vertexType instanceof ElementTypeInfo);
+    assertTrue(edgeType instanceof ElementTypeInfo);
+    assertTrue(graphHeadType instanceof ElementTypeInfo);
+
+    ExecutionConfig config = new ExecutionConfig();
+    assertEquals(VertexSerializer.INSTANCE, vertexType.createSerializer(config));
+    assertEquals(EdgeSerializer.INSTANCE, edgeType.createSerializer(config));
+    assertEquals(GraphHeadSerializer.INSTANCE, graphHeadType.createSerializer(config));
+
+    // field expressions are still supported
+    ElementTypeInfo<Edge> edgeTypeInfo = (ElementTypeInfo<Edge>) edgeType;
+    assertEquals(6, edgeTypeInfo.getArity());
+    assertTrue(edgeTypeInfo.getFieldIndex("id") >= 0);
+    assertTrue(edgeTypeInfo.getFieldIndex("sourceId") >= 0);
+    assertTrue(edgeTypeInfo.getFieldIndex("graphIds") >= 0);
+  }
+
+  @Test
+  public void testSerializerWithDictionaryFromConfig() throws IOException {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromKeys("name", "age");
+    ExecutionConfig config = new ExecutionConfig();
+    ExecutionConfig.GlobalJobParameters userParameters = new ExecutionConfig.GlobalJobParameters();
+    config.setGlobalJobParameters(userParameters);
+
+    PropertyKeyDictionaryParameters.setDictionary(config, dictionary);
+
+    TypeSerializer<Vertex> serializer =
+      TypeExtractor.getForClass(Vertex.class).createSerializer(config);
+    assertEquals(new VertexSerializer(dictionary), serializer);
+    assertNotEquals(VertexSerializer.INSTANCE, serializer);
+    assertEquals(new EdgeSerializer(dictionary),
+      TypeExtractor.getForClass(Edge.class).createSerializer(config));
+    assertEquals(new GraphHeadSerializer(dictionary),
+      TypeExtractor.getForClass(GraphHead.class).createSerializer(config));
+
+    PropertyKeyDictionaryParameters.removeDictionary(config);
+    assertSame(userParameters, config.getGlobalJobParameters());
+    assertEquals(VertexSerializer.INSTANCE,
+      TypeExtractor.getForClass(Vertex.class).createSerializer(config));
+  }
+
+  @Test
+  public void testSerializationWithDictionary() throws IOException {
+    Properties properties = Properties.create();
+    properties.set("firstName", "Alice");
+    properties.set("birthday", 19850312);
+    properties.set("city", "Leipzig");
+    Vertex vertex = new Vertex(GradoopId.get(), "Person", properties,
+      GradoopIdSet.fromExisting(GradoopId.get()));
+
+    VertexSerializer serializer =
+      new VertexSerializer(PropertyKeyDictionary.fromKeys("firstName", "birthday"));
+    Vertex result = serializeAndDeserialize(vertex, serializer);
+
+    assertElementEquals(vertex, result);
+    assertEquals(vertex.getGraphIds(), result.getGraphIds());
+    assertTrue("dictionary encoding was not smaller", toBytes(vertex, serializer).length <
+      toBytes(vertex, VertexSerializer.INSTANCE).length);
+  }
+
+  @Test
+  public void testVertexSerialization() throws IOException {
+    Properties properties = Properties.create();
+    properties.set("a", 42);
+    properties.set("b", "foo");
+    Vertex vertex = new Vertex(GradoopId.get(), "A", properties,
+      GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get()));
+
+    Vertex result = serializeAndDeserialize(vertex, VertexSerializer.INSTANCE);
+
+    assertElementEquals(vertex, result);
+    assertEquals(vertex.getGraphIds(), result.getGraphIds());
+  }
+
+  @Test
+  public void testEdgeSerialization() throws IOException {
+    Properties properties = Properties.create();
+    properties.set("a", 42);
+    Edge edge = new Edge(GradoopId.get(), "a", GradoopId.get(), GradoopId.get(), properties,
+      GradoopIdSet.fromExisting(GradoopId.get()));
+
+    Edge result = serializeAndDeserialize(edge, EdgeSerializer.INSTANCE);
+
+    assertElementEquals(edge, result);
+    assertEquals(edge.getGraphIds(), result.getGraphIds());
+    assertEquals(edge.getSourceId(), result.getSourceId());
+    assertEquals(edge.getTargetId(), result.getTargetId());
+  }
+
+  @Test
+  public void testGraphHeadSerialization() throws IOException {
+    Properties properties = Properties.create();
+    properties.set("a", 42L);
+    GraphHead graphHead = new GraphHead(GradoopId.get(), "G", properties);
+
+    assertElementEquals(graphHead,
+      serializeAndDeserialize(graphHead, GraphHeadSerializer.INSTANCE));
+  }
+
+  @Test
+  public void testSerializationWithNullFields() throws IOException {
+    Edge edge = new Edge();
+
+    Edge result = serializeAndDeserialize(edge, EdgeSerializer.INSTANCE);
+
+    assertNull(result.getId());
+    assertNull(result.getLabel());
+    assertNull(result.getProperties());
+    assertNull(result.getGraphIds());
+    assertNull(result.getSourceId());
+    assertNull(result.getTargetId());
+  }
+
+  @Test
+  public void testSerializationOfNullElement() throws IOException {
+    assertNull(serializeAndDeserialize(null, VertexSerializer.INSTANCE));
+    assertNull(serializeAndDeserialize(null, EdgeSerializer.INSTANCE));
+    assertNull(serializeAndDeserialize(null, GraphHeadSerializer.INSTANCE));
+    assertNull(GraphHeadSerializer.INSTANCE.copy(null));
+  }
+
+  @Test
+  public void testDeserializeIntoReusedInstance() throws IOException {
+    Vertex first = new Vertex(GradoopId.get(), "A", Properties.create(),
+      GradoopIdSet.fromExisting(GradoopId.get()));
+    first.setProperty("a", 1);
+    Vertex second = new Vertex(GradoopId.get(), "B", null, null);
+
+    TypeSerializer<Vertex> serializer = VertexSerializer.INSTANCE;
+    Vertex reuse = serializer.deserialize(serializer.createInstance(), toInput(first, serializer));
+    assertElementEquals(first, reuse);
+
+    reuse = serializer.deserialize(reuse, toInput(second, serializer));
+    assertElementEquals(second, reuse);
+    assertNull(reuse.getGraphIds());
+  }
+
+  @Test
+  public void testCopy() {
+    Properties properties = Properties.create();
+    properties.set("a", 42);
+    Edge edge = new Edge(GradoopId.get(), "a", GradoopId.get(), GradoopId.get(), properties,
+      GradoopIdSet.fromExisting(GradoopId.get()));
+
+    Edge copy = EdgeSerializer.INSTANCE.copy(edge);
+
+    assertElementEquals(edge, copy);
+    assertEquals(edge.getGraphIds(), copy.getGraphIds());
+    assertEquals(edge.getSourceId(), copy.getSourceId());
+    assertEquals(edge.getTargetId(), copy.getTargetId());
+
+    // the copy is deep
+    assertNotSame(edge.getId(), copy.getId());
+    assertNotSame(edge.getProperties(), copy.getProperties());
+    assertNotSame(edge.getGraphIds(), copy.getGraphIds());
+    copy.setProperty("a", 23);
+    assertEquals(42, edge.getPropertyValue("a").getInt());
+  }
+
+  private static void assertElementEquals(Element expected, Element actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getLabel(), actual.getLabel());
+    assertEquals(expected.getProperties(), actual.getProperties());
+  }
+
+  static <T> T serializeAndDeserialize(T element, TypeSerializer<T> serializer)
+    throws IOException {
+    return serializer.deserialize(toInput(element, serializer));
+  }
+
+  static <T> DataInputViewStreamWrapper toInput(T element, TypeSerializer<T> serializer)
+    throws IOException {
+    return new DataInputViewStreamWrapper(
+      new ByteArrayInputStream(toBytes(element, serializer)));
+  }
+
+  static <T> byte[] toBytes(T element, TypeSerializer<T> serializer) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serializer.serialize(element, new DataOutputViewStreamWrapper(out));
+    return out.toByteArray();
+  }
+}
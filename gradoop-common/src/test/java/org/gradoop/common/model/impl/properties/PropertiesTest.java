@@ -16,8 +16,13 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -212,4 +217,119 @@ public class PropertiesTest {
 
     assertEquals(propertiesIn, propertiesOut);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testReadFieldsSharesValueBuffer() throws Exception {
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+
+    Properties propertiesOut = writeAndReadFields(Properties.class, propertiesIn);
+
+    for (Property property : propertiesOut) {
+      PropertyValue value = property.getValue();
+      assertTrue("value was not a slice", value.isSlice());
+      assertEquals(SUPPORTED_PROPERTIES.get(property.getKey()), value.getObject());
+    }
+
+    // modifying a value must not affect the other values of the shared buffer
+    propertiesOut.get(KEY_2).setInt(42);
+    assertEquals(42, propertiesOut.get(KEY_2).getInt());
+    propertiesIn.set(KEY_2, 42);
+    assertEquals(propertiesIn, propertiesOut);
+  }
+
+  @Test
+  public void testWriteAndReadWithDictionary() throws Exception {
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    // KEY_1 is not contained in the dictionary
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromKeys(KEY_0, KEY_2, KEY_3,
+      KEY_4, KEY_5, KEY_6, KEY_7, KEY_8, KEY_9, KEY_a, KEY_b, KEY_c, KEY_d);
+
+    byte[] compact = writeWithDictionary(propertiesIn, dictionary);
+
+    Properties propertiesOut = Properties.create();
+    propertiesOut.read(new DataInputViewStreamWrapper(new ByteArrayInputStream(compact)),
+      dictionary);
+
+    assertEquals(propertiesIn, propertiesOut);
+
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    propertiesIn.write(new DataOutputViewStreamWrapper(byteStream));
+    assertTrue("compact representation was not smaller",
+      compact.length < byteStream.toByteArray().length);
+  }
+
+  @Test
+  public void testWriteWithDictionaryIsCanonical() throws Exception {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromKeys(KEY_1, KEY_2);
+
+    Properties properties1 = Properties.create();
+    properties1.set(KEY_3, STRING_VAL_6);
+    properties1.set(KEY_1, BOOL_VAL_1);
+    properties1.set(KEY_2, INT_VAL_2);
+    properties1.set(KEY_4, LONG_VAL_3);
+
+    Properties properties2 = Properties.create();
+    properties2.set(KEY_4, LONG_VAL_3);
+    properties2.set(KEY_2, INT_VAL_2);
+    properties2.set(KEY_1, BOOL_VAL_1);
+    properties2.set(KEY_3, STRING_VAL_6);
+
+    assertArrayEquals(writeWithDictionary(properties1, dictionary),
+      writeWithDictionary(properties2, dictionary));
+  }
+
+  @Test
+  public void testWriteUndecodedProperties() throws Exception {
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    byte[] expected = write(propertiesIn);
+
+    // properties which are not accessed are written as read
+    Properties propertiesOut = read(expected);
+    assertEquals(SUPPORTED_PROPERTIES.size(), propertiesOut.size());
+    assertArrayEquals(expected, write(propertiesOut));
+
+    // reading into the same instance again
+    propertiesOut.read(new DataInputViewStreamWrapper(new ByteArrayInputStream(expected)));
+    assertArrayEquals(expected, write(propertiesOut));
+    assertEquals(propertiesIn, propertiesOut);
+
+    // modifications are written
+    propertiesOut = read(expected);
+    propertiesOut.set(KEY_1, 42);
+    propertiesIn.set(KEY_1, 42);
+    assertEquals(propertiesIn, read(write(propertiesOut)));
+  }
+
+  @Test
+  public void testCopy() throws Exception {
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+
+    Properties decodedCopy = propertiesIn.copy();
+    Properties encodedCopy = read(write(propertiesIn)).copy();
+    assertEquals(propertiesIn, decodedCopy);
+    assertEquals(propertiesIn, encodedCopy);
+
+    decodedCopy.get(KEY_2).setInt(42);
+    assertNotEquals(propertiesIn, decodedCopy);
+    assertEquals(SUPPORTED_PROPERTIES.get(KEY_2), propertiesIn.get(KEY_2).getObject());
+  }
+
+  private byte[] write(Properties properties) throws IOException {
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    properties.write(new DataOutputViewStreamWrapper(byteStream));
+    return byteStream.toByteArray();
+  }
+
+  private Properties read(byte[] bytes) throws IOException {
+    Properties properties = Properties.create();
+    properties.read(new DataInputViewStreamWrapper(new ByteArrayInputStream(bytes)));
+    return properties;
+  }
+
+  private byte[] writeWithDictionary(Properties properties, PropertyKeyDictionary dictionary)
+    throws IOException {
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    properties.write(new DataOutputViewStreamWrapper(byteStream), dictionary);
+    return byteStream.toByteArray();
+  }
+}
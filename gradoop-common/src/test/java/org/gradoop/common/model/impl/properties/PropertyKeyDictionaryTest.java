@@ -0,0 +1,48 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.junit.Test;
+
+import static org.gradoop.common.GradoopTestUtils.*;
+import static org.junit.Assert.*;
+
+public class PropertyKeyDictionaryTest {
+
+  @Test
+  public void testGetIdAndKey() {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromKeys(KEY_2, KEY_0, KEY_1, KEY_0);
+
+    assertEquals(3, dictionary.size());
+    for (String key : new String[] {KEY_0, KEY_1, KEY_2}) {
+      short id = dictionary.getId(key);
+      assertNotEquals(PropertyKeyDictionary.UNKNOWN_KEY, id);
+      assertEquals(key, dictionary.getKey(id));
+    }
+    assertEquals(PropertyKeyDictionary.UNKNOWN_KEY, dictionary.getId(KEY_3));
+  }
+
+  @Test
+  public void testEqualsAndHashCode() {
+    PropertyKeyDictionary dictionary1 = PropertyKeyDictionary.fromKeys(KEY_0, KEY_1);
+    PropertyKeyDictionary dictionary2 = PropertyKeyDictionary.fromKeys(KEY_1, KEY_0);
+    PropertyKeyDictionary dictionary3 = PropertyKeyDictionary.fromKeys(KEY_0, KEY_2);
+
+    assertEquals(dictionary1, dictionary2);
+    assertEquals(dictionary1.hashCode(), dictionary2.hashCode());
+    assertNotEquals(dictionary1, dictionary3);
+  }
+}
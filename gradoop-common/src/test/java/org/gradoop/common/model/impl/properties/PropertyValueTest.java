@@ -16,6 +16,8 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.storage.exceptions.UnsupportedTypeException;
 import org.junit.Rule;
@@ -649,6 +651,43 @@ public class PropertyValueTest {
     assertEquals(DATETIME_VAL_d, p.getDateTime());
   }
 
+  @Test
+  public void testIsByteArray() throws Exception {
+    PropertyValue p = PropertyValue.create(new byte[] {1, 2, 3});
+    assertFalse(p.isNull());
+    assertFalse(p.isString());
+    assertFalse(p.isList());
+    assertTrue(p.isByteArray());
+    assertFalse(PropertyValue.create("abc").isByteArray());
+  }
+
+  @Test
+  public void testGetByteArray() throws Exception {
+    byte[] bytes = {1, 2, 3};
+    PropertyValue p = PropertyValue.create(bytes);
+    assertArrayEquals(bytes, p.getByteArray());
+    // the value does not share the array
+    bytes[0] = 0;
+    assertArrayEquals(new byte[] {1, 2, 3}, p.getByteArray());
+    p.getByteArray()[0] = 0;
+    assertArrayEquals(new byte[] {1, 2, 3}, p.getByteArray());
+  }
+
+  @Test
+  public void testSetByteArray() throws Exception {
+    PropertyValue p = new PropertyValue();
+    p.setByteArray(new byte[] {1, 2, 3});
+    assertArrayEquals(new byte[] {1, 2, 3}, p.getByteArray());
+    assertEquals(byte[].class, p.getType());
+    assertEquals("[1, 2, 3]", p.toString());
+  }
+
+  @Test
+  public void testWriteAndReadByteArray() throws Exception {
+    PropertyValue p = PropertyValue.create(new byte[] {1, 2, 3});
+    assertEquals(p, writeAndReadFields(PropertyValue.class, p));
+  }
+
 
   @Test
   public void testEqualsAndHashCode() throws Exception {
@@ -774,6 +813,89 @@ public class PropertyValueTest {
     create(LIST_VAL_a).compareTo(create(LIST_VAL_a));
   }
 
+  @Test
+  public void testCompareToOnBinaryRepresentation() {
+    List<BigDecimal> decimals = Lists.newArrayList(
+      new BigDecimal("-129"), new BigDecimal("-128"), new BigDecimal("-1.5"),
+      new BigDecimal("-1.50"), BigDecimal.ZERO, new BigDecimal("0.00"), new BigDecimal("0.5"),
+      new BigDecimal("127"), new BigDecimal("128"), new BigDecimal("1E+3"),
+      new BigDecimal("123456789012345678901234567890.12"));
+    for (BigDecimal first : decimals) {
+      for (BigDecimal second : decimals) {
+        assertEquals(Integer.signum(first.compareTo(second)),
+          Integer.signum(create(first).compareTo(create(second))));
+      }
+    }
+
+    validateCompareTo(create("a"), create("a"), create("ab"));
+    validateCompareTo(create("ab"), create("ab"), create("b"));
+    validateCompareTo(create("z"), create("z"), create("\u00e4"));
+
+    validateCompareTo(create(LocalDate.of(-1, 12, 31)), create(LocalDate.of(-1, 12, 31)),
+      create(LocalDate.of(2017, 1, 1)));
+    validateCompareTo(create(LocalTime.of(9, 30, 0, 1)), create(LocalTime.of(9, 30, 0, 1)),
+      create(LocalTime.of(10, 0)));
+    validateCompareTo(create(LocalDateTime.of(2017, 5, 1, 23, 59)),
+      create(LocalDateTime.of(2017, 5, 1, 23, 59)),
+      create(LocalDateTime.of(2017, 5, 2, 0, 0)));
+  }
+
+  @Test
+  public void testNormalizedKey() {
+    List<List<PropertyValue>> sortedValues = Lists.newArrayList(
+      Lists.newArrayList(create(false), create(true)),
+      Lists.newArrayList(create(Integer.MIN_VALUE), create(-1), create(0), create(1),
+        create(Integer.MAX_VALUE)),
+      Lists.newArrayList(create(Long.MIN_VALUE), create(-1L), create(0L), create(1L),
+        create(Long.MAX_VALUE)),
+      Lists.newArrayList(create(Float.NEGATIVE_INFINITY), create(-1.5F), create(-0.0F),
+        create(0.0F), create(1.5F), create(Float.POSITIVE_INFINITY), create(Float.NaN)),
+      Lists.newArrayList(create(Double.NEGATIVE_INFINITY), create(-1.5), create(-0.0),
+        create(0.0), create(1.5), create(Double.POSITIVE_INFINITY), create(Double.NaN)),
+      Lists.newArrayList(create(""), create("a"), create("ab"), create("abcdefghijklmnop"),
+        create("b")),
+      Lists.newArrayList(create(new BigDecimal("-1000")), create(new BigDecimal("-0.1")),
+        create(BigDecimal.ZERO), create(new BigDecimal("0.1")), create(new BigDecimal("1000"))),
+      Lists.newArrayList(create(GradoopId.NULL_VALUE),
+        create(GradoopId.fromString("583ff8ffbd7d222690a90999")),
+        create(GradoopId.fromString("f83ff8ffbd7d222690a90999"))),
+      Lists.newArrayList(create(LocalDate.of(-1, 1, 1)), create(LocalDate.of(2017, 1, 1)),
+        create(LocalDate.of(2017, 1, 2))),
+      Lists.newArrayList(create(LocalDateTime.of(2017, 1, 1, 0, 0)),
+        create(LocalDateTime.of(2017, 1, 1, 0, 0, 0, 1)),
+        create(LocalDateTime.of(2017, 1, 1, 1, 0))));
+
+    int keyLength = 8;
+    for (List<PropertyValue> values : sortedValues) {
+      for (int i = 0; i < values.size(); i++) {
+        for (int j = 0; j < values.size(); j++) {
+          int keyComparison = Integer.signum(compareNormalizedKeys(
+            values.get(i), values.get(j), keyLength));
+          int valueComparison = Integer.signum(values.get(i).compareTo(values.get(j)));
+          assertEquals(Integer.signum(Integer.compare(i, j)), valueComparison);
+          // normalized keys are prefixes, equal keys do not imply equal values
+          assertTrue(keyComparison == valueComparison || keyComparison == 0);
+        }
+      }
+    }
+  }
+
+  /**
+   * Compares the normalized keys of two property values.
+   *
+   * @param first first value
+   * @param second second value
+   * @param keyLength length of the normalized keys
+   * @return comparison result of the unsigned key bytes
+   */
+  private int compareNormalizedKeys(PropertyValue first, PropertyValue second, int keyLength) {
+    MemorySegment firstKey = MemorySegmentFactory.wrap(new byte[keyLength + 2]);
+    MemorySegment secondKey = MemorySegmentFactory.wrap(new byte[keyLength + 2]);
+    first.copyNormalizedKey(firstKey, 1, keyLength);
+    second.copyNormalizedKey(secondKey, 1, keyLength);
+    return firstKey.compare(secondKey, 0, 0, keyLength + 2);
+  }
+
   @Test
   public void testArrayValueMaxSize() {
     PropertyValue property = new PropertyValue();
@@ -898,6 +1020,33 @@ public class PropertyValueTest {
     p = create(DATETIME_VAL_d);
     assertEquals(p, writeAndReadFields(PropertyValue.class, p));
   }
+  @Test
+  public void testSlice() throws IOException {
+    for (Object value : SUPPORTED_PROPERTIES.values()) {
+      PropertyValue owned = create(value);
+      byte[] rawBytes = owned.getRawBytes();
+      byte[] shared = new byte[rawBytes.length + 4];
+      System.arraycopy(rawBytes, 0, shared, 2, rawBytes.length);
+
+      PropertyValue slice = PropertyValue.fromRawBytes(shared, 2, rawBytes.length);
+
+      assertTrue(slice.isSlice());
+      assertEquals(value, slice.getObject());
+      assertEquals(owned, slice);
+      assertEquals(slice, owned);
+      assertEquals(owned.hashCode(), slice.hashCode());
+      assertEquals(owned.getByteSize(), slice.getByteSize());
+      assertEquals(owned, writeAndReadFields(PropertyValue.class, slice));
+
+      byte[] copy = new byte[rawBytes.length];
+      slice.copyRawBytes(copy, 0);
+      assertArrayEquals(rawBytes, copy);
+
+      assertArrayEquals(rawBytes, slice.getRawBytes());
+      assertFalse(slice.isSlice());
+    }
+  }
+
   /**
    * Assumes that p1 == p2 < p3
    */
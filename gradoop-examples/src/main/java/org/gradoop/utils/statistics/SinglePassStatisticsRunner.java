@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.utils.statistics;
+
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.statistics.GraphStatisticsCollector;
+
+/**
+ * Computes all mandatory statistics for a given logical graph within a single Flink program
+ * using {@link GraphStatisticsCollector}. Distinct value counts are estimated.
+ */
+public class SinglePassStatisticsRunner extends AbstractRunner implements ProgramDescription {
+
+  /**
+   * Statistics computed by {@link GraphStatisticsCollector}
+   */
+  private static final String[] STATISTICS = {
+    GraphStatisticsReader.FILE_VERTEX_COUNT,
+    GraphStatisticsReader.FILE_EDGE_COUNT,
+    GraphStatisticsReader.FILE_VERTEX_COUNT_BY_LABEL,
+    GraphStatisticsReader.FILE_EDGE_COUNT_BY_LABEL,
+    GraphStatisticsReader.FILE_EDGE_COUNT_BY_SOURCE_VERTEX_AND_EDGE_LABEL,
+    GraphStatisticsReader.FILE_EDGE_COUNT_BY_TARGET_VERTEX_AND_EDGE_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT,
+    GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT,
+    GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT_BY_EDGE_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT_BY_EDGE_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES_BY_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES_BY_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES,
+    GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES
+  };
+
+  /**
+   * args[0] - path to input directory
+   * args[1] - input format (json, csv)
+   * args[2] - path to output directory
+   *
+   * @param args arguments
+   * @throws Exception if something goes wrong
+   */
+  public static void main(String[] args) throws Exception {
+    DataSet<Tuple3<String, String, Long>> statistics = new GraphStatisticsCollector()
+      .execute(readLogicalGraph(args[0], args[1]));
+
+    for (String statistic : STATISTICS) {
+      statistics
+        .filter(tuple -> tuple.f0.equals(statistic))
+        .writeAsFormattedText(appendSeparator(args[2]) + statistic, tuple -> tuple.f1.isEmpty() ?
+          tuple.f2.toString() : tuple.f1 + GraphStatisticsReader.TOKEN_SEPARATOR + tuple.f2)
+        .setParallelism(1);
+    }
+
+    getExecutionEnvironment().execute("Statistics: Single pass");
+  }
+
+  @Override
+  public String getDescription() {
+    return SinglePassStatisticsRunner.class.getName();
+  }
+}
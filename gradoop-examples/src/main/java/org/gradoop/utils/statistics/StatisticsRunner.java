@@ -49,6 +49,10 @@ public class StatisticsRunner extends AbstractRunner implements ProgramDescripti
     DistinctVertexPropertiesByLabelRunner.main(args);
     DistinctEdgePropertiesRunner.main(args);
     DistinctVertexPropertiesRunner.main(args);
+    EdgePropertyHistogramsByLabelRunner.main(args);
+    VertexPropertyHistogramsByLabelRunner.main(args);
+    MostCommonEdgePropertyValuesByLabelRunner.main(args);
+    MostCommonVertexPropertyValuesByLabelRunner.main(args);
   }
 
   @Override
@@ -0,0 +1,46 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api;
+
+import org.gradoop.flink.io.api.filter.ElementFilter;
+
+/**
+ * A data source which is able to restrict the loaded graph to the elements and properties that
+ * are required by an analytical program. In contrast to filtering the loaded graph, the
+ * restrictions are applied while reading, i.e. excluded labels, property values and elements are
+ * skipped as early as the underlying format allows.
+ *
+ * Note that the vertex filter does not affect the edges. Edges whose source or target vertex is
+ * excluded are loaded unless they are excluded by the edge filter.
+ */
+public interface FilterableDataSource extends DataSource {
+
+  /**
+   * Restricts the vertices loaded by subsequent calls of {@link #getLogicalGraph()} and
+   * {@link #getGraphCollection()}.
+   *
+   * @param vertexFilter vertex filter
+   */
+  void applyVertexFilter(ElementFilter vertexFilter);
+
+  /**
+   * Restricts the edges loaded by subsequent calls of {@link #getLogicalGraph()} and
+   * {@link #getGraphCollection()}.
+   *
+   * @param edgeFilter edge filter
+   */
+  void applyEdgeFilter(ElementFilter edgeFilter);
+}
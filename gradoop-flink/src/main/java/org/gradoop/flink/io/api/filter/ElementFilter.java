@@ -0,0 +1,250 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api.filter;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Describes which elements and which of their properties shall be loaded by a
+ * {@link org.gradoop.flink.io.api.FilterableDataSource}. A filter consists of
+ *
+ * <ul>
+ *   <li>the accepted labels (all labels by default),</li>
+ *   <li>the property keys to load (all keys by default) and</li>
+ *   <li>a conjunction of {@link PropertyPredicate}s an element has to fulfill.</li>
+ * </ul>
+ *
+ * Property keys which are only referenced by predicates are loaded to evaluate the predicates
+ * but removed from the resulting elements. Filters are immutable.
+ */
+public class ElementFilter implements Serializable {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Filter that accepts all elements and properties
+   */
+  private static final ElementFilter ALL = new ElementFilter(null, null,
+    Collections.emptyList());
+  /**
+   * Accepted labels or {@code null} if all labels are accepted
+   */
+  private final Set<String> labels;
+  /**
+   * Property keys to load or {@code null} if all properties are loaded
+   */
+  private final Set<String> propertyKeys;
+  /**
+   * Predicates an element has to fulfill
+   */
+  private final List<PropertyPredicate> predicates;
+
+  /**
+   * Creates a new filter.
+   *
+   * @param labels accepted labels or {@code null}
+   * @param propertyKeys property keys to load or {@code null}
+   * @param predicates predicates an element has to fulfill
+   */
+  private ElementFilter(Set<String> labels, Set<String> propertyKeys,
+    List<PropertyPredicate> predicates) {
+    this.labels = labels;
+    this.propertyKeys = propertyKeys;
+    this.predicates = predicates;
+  }
+
+  /**
+   * Returns a filter that accepts all elements and properties.
+   *
+   * @return filter accepting everything
+   */
+  public static ElementFilter all() {
+    return ALL;
+  }
+
+  /**
+   * Returns a copy of this filter which only accepts elements with one of the given labels.
+   *
+   * @param labels accepted labels
+   * @return new filter
+   */
+  public ElementFilter withLabels(String... labels) {
+    return new ElementFilter(new HashSet<>(Arrays.asList(labels)), propertyKeys, predicates);
+  }
+
+  /**
+   * Returns a copy of this filter which only loads the given property keys.
+   *
+   * @param propertyKeys property keys to load
+   * @return new filter
+   */
+  public ElementFilter withPropertyKeys(String... propertyKeys) {
+    return new ElementFilter(labels, new HashSet<>(Arrays.asList(propertyKeys)), predicates);
+  }
+
+  /**
+   * Returns a copy of this filter which additionally requires the given predicate.
+   *
+   * @param predicate property predicate
+   * @return new filter
+   */
+  public ElementFilter where(PropertyPredicate predicate) {
+    List<PropertyPredicate> newPredicates = new ArrayList<>(predicates);
+    newPredicates.add(predicate);
+    return new ElementFilter(labels, propertyKeys, newPredicates);
+  }
+
+  /**
+   * True, if the filter accepts all elements and loads all properties.
+   *
+   * @return true, if the filter does not restrict anything
+   */
+  public boolean acceptsAll() {
+    return labels == null && propertyKeys == null && predicates.isEmpty();
+  }
+
+  /**
+   * True, if the filter restricts the labels.
+   *
+   * @return true, if not all labels are accepted
+   */
+  public boolean hasLabelRestriction() {
+    return labels != null;
+  }
+
+  /**
+   * Returns the accepted labels or {@code null} if all labels are accepted.
+   *
+   * @return accepted labels
+   */
+  public Set<String> getLabels() {
+    return labels == null ? null : Collections.unmodifiableSet(labels);
+  }
+
+  /**
+   * True, if elements with the given label are accepted.
+   *
+   * @param label element label
+   * @return true, if the label is accepted
+   */
+  public boolean acceptsLabel(String label) {
+    return labels == null || labels.contains(label);
+  }
+
+  /**
+   * True, if the filter restricts the property keys to load.
+   *
+   * @return true, if not all properties are loaded
+   */
+  public boolean hasPropertyRestriction() {
+    return propertyKeys != null;
+  }
+
+  /**
+   * Returns the property keys to load or {@code null} if all properties are loaded. The result
+   * does not contain the keys which are only referenced by predicates.
+   *
+   * @return property keys
+   */
+  public Set<String> getPropertyKeys() {
+    return propertyKeys == null ? null : Collections.unmodifiableSet(propertyKeys);
+  }
+
+  /**
+   * True, if the given property has to be read, i.e. it is either loaded or referenced by a
+   * predicate.
+   *
+   * @param key property key
+   * @return true, if the property has to be read
+   */
+  public boolean isRequired(String key) {
+    if (propertyKeys == null || propertyKeys.contains(key)) {
+      return true;
+    }
+    for (PropertyPredicate predicate : predicates) {
+      if (predicate.getKey().equals(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * True, if the filter contains predicates.
+   *
+   * @return true, if there are predicates
+   */
+  public boolean hasPredicates() {
+    return !predicates.isEmpty();
+  }
+
+  public List<PropertyPredicate> getPredicates() {
+    return Collections.unmodifiableList(predicates);
+  }
+
+  /**
+   * True, if the element is accepted by the label restriction and fulfills all predicates.
+   *
+   * @param element EPGM element
+   * @return true, if the element is accepted
+   */
+  public boolean test(EPGMElement element) {
+    if (!acceptsLabel(element.getLabel())) {
+      return false;
+    }
+    for (PropertyPredicate predicate : predicates) {
+      if (!predicate.test(element.getPropertyValue(predicate.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Removes all properties of the element which shall not be loaded.
+   *
+   * @param element EPGM element
+   */
+  public void project(EPGMElement element) {
+    if (propertyKeys == null || element.getProperties() == null) {
+      return;
+    }
+    List<String> removed = new ArrayList<>();
+    for (String key : element.getPropertyKeys()) {
+      if (!propertyKeys.contains(key)) {
+        removed.add(key);
+      }
+    }
+    for (String key : removed) {
+      element.removeProperty(key);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ElementFilter{labels=%s, propertyKeys=%s, predicates=%s}",
+      labels == null ? "*" : labels, propertyKeys == null ? "*" : propertyKeys, predicates);
+  }
+}
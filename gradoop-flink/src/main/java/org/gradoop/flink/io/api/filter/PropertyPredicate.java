@@ -0,0 +1,203 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api.filter;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A simple predicate that compares a single property value with a constant, e.g.
+ * {@code age > 30}. Elements without the property never fulfill the predicate. Values of a
+ * different type than the constant only fulfill {@link Comparison#NEQ}.
+ */
+public class PropertyPredicate implements Serializable {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Supported comparisons.
+   */
+  public enum Comparison {
+    /**
+     * Property value equals the constant
+     */
+    EQ,
+    /**
+     * Property value does not equal the constant
+     */
+    NEQ,
+    /**
+     * Property value is less than the constant
+     */
+    LT,
+    /**
+     * Property value is less than or equal to the constant
+     */
+    LTE,
+    /**
+     * Property value is greater than the constant
+     */
+    GT,
+    /**
+     * Property value is greater than or equal to the constant
+     */
+    GTE
+  }
+
+  /**
+   * Property key
+   */
+  private final String key;
+  /**
+   * Comparison between property value and constant
+   */
+  private final Comparison comparison;
+  /**
+   * Constant to compare with
+   */
+  private final PropertyValue value;
+
+  /**
+   * Creates a new predicate.
+   *
+   * @param key property key
+   * @param comparison comparison between property value and constant
+   * @param value constant to compare with
+   */
+  public PropertyPredicate(String key, Comparison comparison, PropertyValue value) {
+    this.key = Objects.requireNonNull(key);
+    this.comparison = Objects.requireNonNull(comparison);
+    this.value = Objects.requireNonNull(value);
+    if ((value.isMap() || value.isList()) && comparison != Comparison.EQ &&
+      comparison != Comparison.NEQ) {
+      throw new IllegalArgumentException("Maps and lists can only be compared for equality");
+    }
+  }
+
+  /**
+   * Creates a predicate {@code key = value}.
+   *
+   * @param key property key
+   * @param value constant
+   * @return predicate
+   */
+  public static PropertyPredicate equalTo(String key, Object value) {
+    return new PropertyPredicate(key, Comparison.EQ, PropertyValue.create(value));
+  }
+
+  /**
+   * Creates a predicate {@code key <> value}.
+   *
+   * @param key property key
+   * @param value constant
+   * @return predicate
+   */
+  public static PropertyPredicate notEqualTo(String key, Object value) {
+    return new PropertyPredicate(key, Comparison.NEQ, PropertyValue.create(value));
+  }
+
+  /**
+   * Creates a predicate {@code key < value}.
+   *
+   * @param key property key
+   * @param value constant
+   * @return predicate
+   */
+  public static PropertyPredicate lessThan(String key, Object value) {
+    return new PropertyPredicate(key, Comparison.LT, PropertyValue.create(value));
+  }
+
+  /**
+   * Creates a predicate {@code key <= value}.
+   *
+   * @param key property key
+   * @param value constant
+   * @return predicate
+   */
+  public static PropertyPredicate lessThanOrEqualTo(String key, Object value) {
+    return new PropertyPredicate(key, Comparison.LTE, PropertyValue.create(value));
+  }
+
+  /**
+   * Creates a predicate {@code key > value}.
+   *
+   * @param key property key
+   * @param value constant
+   * @return predicate
+   */
+  public static PropertyPredicate greaterThan(String key, Object value) {
+    return new PropertyPredicate(key, Comparison.GT, PropertyValue.create(value));
+  }
+
+  /**
+   * Creates a predicate {@code key >= value}.
+   *
+   * @param key property key
+   * @param value constant
+   * @return predicate
+   */
+  public static PropertyPredicate greaterThanOrEqualTo(String key, Object value) {
+    return new PropertyPredicate(key, Comparison.GTE, PropertyValue.create(value));
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public Comparison getComparison() {
+    return comparison;
+  }
+
+  public PropertyValue getValue() {
+    return value;
+  }
+
+  /**
+   * Evaluates the predicate for the given property value.
+   *
+   * @param propertyValue property value or {@code null} if the property is missing
+   * @return true, if the predicate is fulfilled
+   */
+  public boolean test(PropertyValue propertyValue) {
+    if (propertyValue == null) {
+      return false;
+    }
+    switch (comparison) {
+    case EQ:
+      return value.equals(propertyValue);
+    case NEQ:
+      return !value.equals(propertyValue);
+    default:
+      if (!Objects.equals(value.getType(), propertyValue.getType()) ||
+        propertyValue.isMap() || propertyValue.isList()) {
+        return false;
+      }
+      int result = propertyValue.compareTo(value);
+      return comparison == Comparison.LT ? result < 0 :
+        comparison == Comparison.LTE ? result <= 0 :
+        comparison == Comparison.GT ? result > 0 : result >= 0;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return key + " " + comparison + " " + value;
+  }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Objects;
+
+/**
+ * Base class for binary data source and data sink.
+ */
+public abstract class BinaryBase {
+  /**
+   * Root directory containing the graph head, vertex and edge directories.
+   */
+  private final String binaryRoot;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Constructor.
+   *
+   * @param binaryPath root directory of the binary graph
+   * @param config Gradoop Flink configuration
+   */
+  protected BinaryBase(String binaryPath, GradoopFlinkConfig config) {
+    Objects.requireNonNull(binaryPath);
+    Objects.requireNonNull(config);
+    this.binaryRoot = binaryPath.endsWith("/") ? binaryPath : binaryPath + "/";
+    this.config = config;
+  }
+
+  protected String getGraphHeadPath() {
+    return binaryRoot + BinaryConstants.GRAPH_HEAD_DIRECTORY;
+  }
+
+  protected String getVertexPath() {
+    return binaryRoot + BinaryConstants.VERTEX_DIRECTORY;
+  }
+
+  protected String getEdgePath() {
+    return binaryRoot + BinaryConstants.EDGE_DIRECTORY;
+  }
+
+  protected GradoopFlinkConfig getConfig() {
+    return config;
+  }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants of the binary columnar graph format.
+ *
+ * Each parallel writer task creates one file per element label inside the graph head, vertex
+ * and edge directories. A file consists of a sequence of compressed blocks followed by a footer:
+ *
+ * <pre>
+ * file    := block* footer trailer
+ * block   := uncompressedSize:int compressedSize:int deflate(columns)
+ * columns := rowCount:int id* structure propertyKeyCount:int property*
+ * property:= key:string valueBytes:int valueLength:int[rowCount] value*
+ * footer  := MAGIC:int VERSION:byte label:string elementCount:long blockCount:int
+ *            (blockOffset:long blockRowCount:int)[blockCount]
+ *            propertyKeyCount:int key:string[propertyKeyCount]
+ * trailer := footerOffset:long MAGIC:int
+ * </pre>
+ *
+ * A string is stored as its UTF-8 length followed by the UTF-8 bytes. Property values are stored
+ * as the raw bytes of their {@code PropertyValue}, a length of 0 denotes a missing property.
+ * The structure columns depend on the element type: vertices store their graph ids, edges store
+ * their source ids, target ids and graph ids.
+ */
+public class BinaryConstants {
+  /**
+   * Identifies files of the binary format.
+   */
+  public static final int MAGIC = 0x47424346;
+  /**
+   * Version of the binary format.
+   */
+  public static final byte VERSION = 1;
+  /**
+   * Default number of elements per block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 4096;
+  /**
+   * Directory containing the graph head files.
+   */
+  public static final String GRAPH_HEAD_DIRECTORY = "graphs";
+  /**
+   * Directory containing the vertex files.
+   */
+  public static final String VERTEX_DIRECTORY = "vertices";
+  /**
+   * Directory containing the edge files.
+   */
+  public static final String EDGE_DIRECTORY = "edges";
+  /**
+   * Prefix of all element files.
+   */
+  private static final String FILE_PREFIX = "part-";
+  /**
+   * Separates the task number and the encoded label in a file name.
+   */
+  private static final char FILE_NAME_SEPARATOR = '-';
+  /**
+   * Digits used for the hex encoding of labels.
+   */
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  /**
+   * Returns the name of the file containing the elements with the given label which were
+   * written by the given task. The label is hex encoded to support arbitrary label strings.
+   *
+   * @param label element label
+   * @param taskNumber number of the writing task
+   * @return file name
+   */
+  public static String getFileName(String label, int taskNumber) {
+    byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+    StringBuilder builder = new StringBuilder(FILE_PREFIX)
+      .append(taskNumber)
+      .append(FILE_NAME_SEPARATOR);
+    for (byte b : bytes) {
+      builder.append(HEX_DIGITS[(b >> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Returns the label of the elements stored in the file with the given name.
+   *
+   * @param fileName file name created by {@link #getFileName(String, int)}
+   * @return element label
+   */
+  public static String getLabel(String fileName) {
+    if (!fileName.startsWith(FILE_PREFIX)) {
+      throw new IllegalArgumentException("Not a binary element file: " + fileName);
+    }
+    int start = fileName.indexOf(FILE_NAME_SEPARATOR, FILE_PREFIX.length()) + 1;
+    if (start == 0 || (fileName.length() - start) % 2 != 0) {
+      throw new IllegalArgumentException("Not a binary element file: " + fileName);
+    }
+    byte[] bytes = new byte[(fileName.length() - start) / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int high = Character.digit(fileName.charAt(start + 2 * i), 16);
+      int low = Character.digit(fileName.charAt(start + 2 * i + 1), 16);
+      bytes[i] = (byte) ((high << 4) | low);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
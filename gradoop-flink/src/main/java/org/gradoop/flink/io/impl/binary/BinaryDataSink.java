@@ -0,0 +1,94 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.binary.format.EdgeOutputFormat;
+import org.gradoop.flink.io.impl.binary.format.GraphHeadOutputFormat;
+import org.gradoop.flink.io.impl.binary.format.VertexOutputFormat;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * A graph data sink for binary columnar files. The file layout is documented at
+ * {@link BinaryConstants}.
+ *
+ * The data sink writes the following directory structure:
+ *
+ * binaryRoot
+ *   |- graphs   # one file per graph head label and task
+ *   |- vertices # one file per vertex label and task
+ *   |- edges    # one file per edge label and task
+ */
+public class BinaryDataSink extends BinaryBase implements DataSink {
+  /**
+   * Number of elements per block.
+   */
+  private final int blockSize;
+
+  /**
+   * Creates a new binary data sink using the default block size.
+   *
+   * @param binaryPath directory to write to
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryDataSink(String binaryPath, GradoopFlinkConfig config) {
+    this(binaryPath, BinaryConstants.DEFAULT_BLOCK_SIZE, config);
+  }
+
+  /**
+   * Creates a new binary data sink.
+   *
+   * @param binaryPath directory to write to
+   * @param blockSize number of elements per compressed block
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryDataSink(String binaryPath, int blockSize, GradoopFlinkConfig config) {
+    super(binaryPath, config);
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("block size must be positive");
+    }
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(getConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    graphCollection.getGraphHeads()
+      .output(new GraphHeadOutputFormat(getGraphHeadPath(), blockSize, overwrite));
+    graphCollection.getVertices()
+      .output(new VertexOutputFormat(getVertexPath(), blockSize, overwrite));
+    graphCollection.getEdges()
+      .output(new EdgeOutputFormat(getEdgePath(), blockSize, overwrite));
+  }
+}
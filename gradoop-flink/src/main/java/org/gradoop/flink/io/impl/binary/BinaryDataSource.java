@@ -0,0 +1,102 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+import org.gradoop.flink.io.impl.binary.format.EdgeInputFormat;
+import org.gradoop.flink.io.impl.binary.format.GraphHeadInputFormat;
+import org.gradoop.flink.io.impl.binary.format.VertexInputFormat;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Objects;
+
+/**
+ * A graph data source for binary columnar files written by {@link BinaryDataSink}.
+ *
+ * The data source expects the following directory structure:
+ *
+ * binaryRoot
+ *   |- graphs   # graph head files
+ *   |- vertices # vertex files
+ *   |- edges    # edge files
+ *
+ * Files of labels excluded by a vertex or edge filter are not read, property columns which are
+ * not required are not decoded.
+ */
+public class BinaryDataSource extends BinaryBase implements FilterableDataSource {
+  /**
+   * Restricts the loaded vertices.
+   */
+  private ElementFilter vertexFilter = ElementFilter.all();
+  /**
+   * Restricts the loaded edges.
+   */
+  private ElementFilter edgeFilter = ElementFilter.all();
+
+  /**
+   * Creates a new binary data source.
+   *
+   * @param binaryPath path to the directory containing the binary files
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryDataSource(String binaryPath, GradoopFlinkConfig config) {
+    super(binaryPath, config);
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    DataSet<GraphHead> graphHeads = env.createInput(
+      new GraphHeadInputFormat(getGraphHeadPath(), getConfig().getGraphHeadFactory()),
+      TypeExtractor.createTypeInfo(getConfig().getGraphHeadFactory().getType()));
+
+    DataSet<Vertex> vertices = env.createInput(
+      new VertexInputFormat(getVertexPath(), getConfig().getVertexFactory(), vertexFilter),
+      TypeExtractor.createTypeInfo(getConfig().getVertexFactory().getType()));
+
+    DataSet<Edge> edges = env.createInput(
+      new EdgeInputFormat(getEdgePath(), getConfig().getEdgeFactory(), edgeFilter),
+      TypeExtractor.createTypeInfo(getConfig().getEdgeFactory().getType()));
+
+    return getConfig().getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
+  }
+
+  @Override
+  public void applyVertexFilter(ElementFilter vertexFilter) {
+    this.vertexFilter = Objects.requireNonNull(vertexFilter);
+  }
+
+  @Override
+  public void applyEdgeFilter(ElementFilter edgeFilter) {
+    this.edgeFilter = Objects.requireNonNull(edgeFilter);
+  }
+}
@@ -0,0 +1,300 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.format;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads EPGM elements from binary columnar files written by {@link BinaryElementOutputFormat}.
+ * Each file is read as a whole by a single task, the blocks are decompressed one after the other.
+ * Property values are not copied but share the decompressed block.
+ *
+ * An {@link ElementFilter} is applied while reading: files of excluded labels are skipped by
+ * their name, property columns which are not required are skipped without being decoded.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class BinaryElementInputFormat<E extends Element> extends FileInputFormat<E> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Size of the trailer at the end of each file
+   */
+  private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+  /**
+   * Restricts the loaded elements
+   */
+  private final ElementFilter filter;
+  /**
+   * Label of the elements in the current file
+   */
+  private transient String label;
+  /**
+   * Offsets of the blocks in the current file
+   */
+  private transient long[] blockOffsets;
+  /**
+   * Index of the next block to read
+   */
+  private transient int nextBlock;
+  /**
+   * Elements of the current block
+   */
+  private transient List<E> elements;
+  /**
+   * Index of the next element to emit
+   */
+  private transient int nextElement;
+  /**
+   * Decompresses the blocks
+   */
+  private transient Inflater inflater;
+  /**
+   * Reused buffer for the compressed block
+   */
+  private transient byte[] compressed;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the element files
+   * @param filter restricts the loaded elements
+   */
+  protected BinaryElementInputFormat(String path, ElementFilter filter) {
+    super(new Path(path));
+    this.unsplittable = true;
+    this.filter = filter;
+  }
+
+  @Override
+  public boolean acceptFile(FileStatus fileStatus) {
+    return super.acceptFile(fileStatus) && (!filter.hasLabelRestriction() ||
+      filter.acceptsLabel(BinaryConstants.getLabel(fileStatus.getPath().getName())));
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    if (inflater == null) {
+      inflater = new Inflater();
+      compressed = new byte[0];
+    }
+    long fileLength = split.getPath().getFileSystem().getFileStatus(split.getPath()).getLen();
+    readFooter(fileLength);
+    nextBlock = 0;
+    elements = new ArrayList<>();
+    nextElement = 0;
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    while (nextElement == elements.size() && nextBlock < blockOffsets.length) {
+      readBlock(nextBlock++);
+    }
+    return nextElement == elements.size();
+  }
+
+  @Override
+  public E nextRecord(E reuse) throws IOException {
+    return reachedEnd() ? null : elements.get(nextElement++);
+  }
+
+  @Override
+  public void close() throws IOException {
+    super.close();
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+  }
+
+  /**
+   * Creates the elements of a block from their ids and the structure columns.
+   *
+   * @param ids element ids
+   * @param label element label
+   * @param block block positioned at the first structure column
+   * @return elements of the block
+   */
+  protected abstract List<E> readStructure(GradoopId[] ids, String label, ByteBuffer block);
+
+  /**
+   * Reads a gradoop id and advances the position of the buffer.
+   *
+   * @param buffer buffer backed by an array
+   * @return gradoop id
+   */
+  protected static GradoopId readId(ByteBuffer buffer) {
+    GradoopId id = GradoopId.fromByteArray(buffer.array(), buffer.position());
+    buffer.position(buffer.position() + GradoopId.ID_SIZE);
+    return id;
+  }
+
+  /**
+   * Reads the graph ids of an element and advances the position of the buffer.
+   *
+   * @param buffer buffer backed by an array
+   * @return graph ids
+   */
+  protected static GradoopIdSet readGraphIds(ByteBuffer buffer) {
+    int count = buffer.getInt();
+    GradoopIdSet graphIds = new GradoopIdSet();
+    for (int i = 0; i < count; i++) {
+      graphIds.add(readId(buffer));
+    }
+    return graphIds;
+  }
+
+  /**
+   * Reads a string and advances the position of the buffer.
+   *
+   * @param buffer buffer backed by an array
+   * @return string value
+   */
+  protected static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+    buffer.position(buffer.position() + length);
+    return value;
+  }
+
+  /**
+   * Reads the footer of the current file.
+   *
+   * @param fileLength length of the current file
+   * @throws IOException if the file is no valid binary element file
+   */
+  private void readFooter(long fileLength) throws IOException {
+    if (fileLength < TRAILER_SIZE) {
+      throw new IOException("Not a binary element file: " + currentSplit.getPath());
+    }
+    DataInputStream in = new DataInputStream(stream);
+    stream.seek(fileLength - TRAILER_SIZE);
+    long footerOffset = in.readLong();
+    if (in.readInt() != BinaryConstants.MAGIC) {
+      throw new IOException("Not a binary element file: " + currentSplit.getPath());
+    }
+    byte[] footerData = new byte[(int) (fileLength - TRAILER_SIZE - footerOffset)];
+    stream.seek(footerOffset);
+    in.readFully(footerData);
+
+    ByteBuffer footer = ByteBuffer.wrap(footerData);
+    if (footer.getInt() != BinaryConstants.MAGIC) {
+      throw new IOException("Corrupt footer in " + currentSplit.getPath());
+    }
+    byte version = footer.get();
+    if (version != BinaryConstants.VERSION) {
+      throw new IOException("Unsupported version " + version + " of " + currentSplit.getPath());
+    }
+    label = readString(footer);
+    footer.getLong();
+    blockOffsets = new long[footer.getInt()];
+    for (int i = 0; i < blockOffsets.length; i++) {
+      blockOffsets[i] = footer.getLong();
+      footer.getInt();
+    }
+  }
+
+  /**
+   * Reads and decompresses a block and creates its elements.
+   *
+   * @param index index of the block in the current file
+   * @throws IOException on failure
+   */
+  private void readBlock(int index) throws IOException {
+    DataInputStream in = new DataInputStream(stream);
+    stream.seek(blockOffsets[index]);
+    byte[] data = new byte[in.readInt()];
+    int compressedSize = in.readInt();
+    if (compressed.length < compressedSize) {
+      compressed = new byte[compressedSize];
+    }
+    in.readFully(compressed, 0, compressedSize);
+
+    inflater.reset();
+    inflater.setInput(compressed, 0, compressedSize);
+    try {
+      int size = 0;
+      while (size < data.length) {
+        int inflated = inflater.inflate(data, size, data.length - size);
+        if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+          throw new IOException("Truncated block in " + currentSplit.getPath());
+        }
+        size += inflated;
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt block in " + currentSplit.getPath(), e);
+    }
+
+    ByteBuffer block = ByteBuffer.wrap(data);
+    GradoopId[] ids = new GradoopId[block.getInt()];
+    for (int row = 0; row < ids.length; row++) {
+      ids[row] = readId(block);
+    }
+    elements = readStructure(ids, label, block);
+    nextElement = 0;
+
+    int propertyKeys = block.getInt();
+    for (int i = 0; i < propertyKeys; i++) {
+      String key = readString(block);
+      int valueBytes = block.getInt();
+      if (!filter.isRequired(key)) {
+        block.position(block.position() + ids.length * Integer.BYTES + valueBytes);
+        continue;
+      }
+      int valueOffset = block.position() + ids.length * Integer.BYTES;
+      for (int row = 0; row < ids.length; row++) {
+        int length = block.getInt();
+        if (length > 0) {
+          elements.get(row).setProperty(key, PropertyValue.fromRawBytes(data, valueOffset, length));
+          valueOffset += length;
+        }
+      }
+      block.position(block.position() + valueBytes);
+    }
+
+    if (filter.hasPredicates()) {
+      List<E> accepted = new ArrayList<>(elements.size());
+      for (E element : elements) {
+        if (filter.test(element)) {
+          filter.project(element);
+          accepted.add(element);
+        }
+      }
+      elements = accepted;
+    }
+  }
+}
@@ -0,0 +1,446 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.format;
+
+import org.apache.flink.api.common.io.InitializeOnMaster;
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.binary.BinaryConstants;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+
+/**
+ * Writes EPGM elements into binary columnar files. Each parallel task writes one file per element
+ * label. The elements of a file are collected column-wise into blocks of a fixed number of rows,
+ * each block is compressed separately. The file layout is documented at {@link BinaryConstants}.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class BinaryElementOutputFormat<E extends Element>
+  implements OutputFormat<E>, InitializeOnMaster {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Directory to write the element files to
+   */
+  private final String path;
+  /**
+   * Number of elements per block
+   */
+  private final int blockSize;
+  /**
+   * True, if an existing directory shall be overwritten
+   */
+  private final boolean overwrite;
+  /**
+   * Number of the writing task
+   */
+  private transient int taskNumber;
+  /**
+   * Open files by element label
+   */
+  private transient Map<String, LabelFile> files;
+  /**
+   * Compresses the blocks of all files
+   */
+  private transient Deflater deflater;
+  /**
+   * Reused buffer for the uncompressed block
+   */
+  private transient ColumnBuffer block;
+  /**
+   * Reused buffer for the compressed block
+   */
+  private transient byte[] compressed;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param path directory to write the element files to
+   * @param blockSize number of elements per block
+   * @param overwrite true, if an existing directory shall be overwritten
+   */
+  protected BinaryElementOutputFormat(String path, int blockSize, boolean overwrite) {
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("block size must be positive");
+    }
+    this.path = path;
+    this.blockSize = blockSize;
+    this.overwrite = overwrite;
+  }
+
+  @Override
+  public void initializeGlobal(int parallelism) throws IOException {
+    Path directory = new Path(path);
+    FileSystem fs = directory.getFileSystem();
+    if (fs.exists(directory)) {
+      if (!overwrite) {
+        throw new IOException("Output directory " + path + " already exists");
+      }
+      fs.delete(directory, true);
+    }
+    if (!fs.mkdirs(directory)) {
+      throw new IOException("Could not create output directory " + path);
+    }
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    this.taskNumber = taskNumber;
+    this.files = new HashMap<>();
+    this.deflater = new Deflater(Deflater.BEST_SPEED);
+    this.block = new ColumnBuffer();
+    this.compressed = new byte[0];
+  }
+
+  @Override
+  public void writeRecord(E element) throws IOException {
+    String label = element.getLabel() == null ? "" : element.getLabel();
+    LabelFile file = files.get(label);
+    if (file == null) {
+      file = new LabelFile(label);
+      files.put(label, file);
+    }
+    file.add(element);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (files == null) {
+      return;
+    }
+    try {
+      for (LabelFile file : files.values()) {
+        file.close();
+      }
+    } finally {
+      files = null;
+      deflater.end();
+    }
+  }
+
+  /**
+   * Returns the number of structure columns written by {@link #writeStructure}.
+   *
+   * @return number of structure columns
+   */
+  protected abstract int getStructureColumnCount();
+
+  /**
+   * Appends the element type specific values of the element to the structure columns.
+   *
+   * @param element element to write
+   * @param columns structure columns
+   */
+  protected abstract void writeStructure(E element, ColumnBuffer[] columns);
+
+  /**
+   * Appends the graph ids of an element to a structure column.
+   *
+   * @param graphIds graph ids, may be {@code null}
+   * @param column structure column
+   */
+  protected static void writeGraphIds(GradoopIdSet graphIds, ColumnBuffer column) {
+    if (graphIds == null) {
+      column.writeInt(0);
+      return;
+    }
+    column.writeInt(graphIds.size());
+    for (GradoopId graphId : graphIds) {
+      column.writeId(graphId);
+    }
+  }
+
+  /**
+   * Compresses the block buffer into the compressed buffer.
+   *
+   * @return size of the compressed block
+   */
+  private int compressBlock() {
+    deflater.reset();
+    deflater.setInput(block.getData(), 0, block.size());
+    deflater.finish();
+    if (compressed.length < block.size() + 64) {
+      compressed = new byte[block.size() + block.size() / 8 + 64];
+    }
+    int size = 0;
+    while (!deflater.finished()) {
+      if (size == compressed.length) {
+        compressed = Arrays.copyOf(compressed, compressed.length * 2);
+      }
+      size += deflater.deflate(compressed, size, compressed.length - size);
+    }
+    return size;
+  }
+
+  /**
+   * The file containing all elements of a single label which are written by this task.
+   */
+  private class LabelFile {
+    /**
+     * Label of all elements in the file
+     */
+    private final String label;
+    /**
+     * File output
+     */
+    private final DataOutputStream out;
+    /**
+     * Number of bytes written to the file
+     */
+    private long position;
+    /**
+     * Number of elements in the current block
+     */
+    private int rows;
+    /**
+     * Id column of the current block
+     */
+    private final ColumnBuffer ids;
+    /**
+     * Structure columns of the current block
+     */
+    private final ColumnBuffer[] structure;
+    /**
+     * Property columns of the current block
+     */
+    private final Map<String, PropertyColumn> properties;
+    /**
+     * Offsets of all written blocks
+     */
+    private final List<Long> blockOffsets;
+    /**
+     * Number of elements of all written blocks
+     */
+    private final List<Integer> blockRows;
+
+    /**
+     * Creates the file for the given label.
+     *
+     * @param label element label
+     * @throws IOException if the file can not be created
+     */
+    LabelFile(String label) throws IOException {
+      this.label = label;
+      Path file = new Path(path, BinaryConstants.getFileName(label, taskNumber));
+      this.out = new DataOutputStream(file.getFileSystem().create(file, overwrite));
+      this.ids = new ColumnBuffer();
+      this.structure = new ColumnBuffer[getStructureColumnCount()];
+      for (int i = 0; i < structure.length; i++) {
+        structure[i] = new ColumnBuffer();
+      }
+      this.properties = new TreeMap<>();
+      this.blockOffsets = new ArrayList<>();
+      this.blockRows = new ArrayList<>();
+    }
+
+    /**
+     * Appends the element to the current block and writes the block if it is full.
+     *
+     * @param element element to write
+     * @throws IOException on failure
+     */
+    void add(E element) throws IOException {
+      ids.writeId(element.getId());
+      writeStructure(element, structure);
+      if (element.getProperties() != null) {
+        for (Property property : element.getProperties()) {
+          PropertyColumn column = properties.get(property.getKey());
+          if (column == null) {
+            column = new PropertyColumn(blockSize);
+            properties.put(property.getKey(), column);
+          }
+          column.set(rows, property.getValue());
+        }
+      }
+      if (++rows == blockSize) {
+        writeBlock();
+      }
+    }
+
+    /**
+     * Compresses and writes the current block.
+     *
+     * @throws IOException on failure
+     */
+    private void writeBlock() throws IOException {
+      block.clear();
+      block.writeInt(rows);
+      block.write(ids);
+      for (ColumnBuffer column : structure) {
+        block.write(column);
+      }
+      int propertyKeys = 0;
+      for (PropertyColumn column : properties.values()) {
+        propertyKeys += column.isEmpty() ? 0 : 1;
+      }
+      block.writeInt(propertyKeys);
+      for (Map.Entry<String, PropertyColumn> entry : properties.entrySet()) {
+        if (!entry.getValue().isEmpty()) {
+          block.writeString(entry.getKey());
+          entry.getValue().writeTo(block, rows);
+        }
+      }
+
+      int compressedSize = compressBlock();
+      blockOffsets.add(position);
+      blockRows.add(rows);
+      out.writeInt(block.size());
+      out.writeInt(compressedSize);
+      out.write(compressed, 0, compressedSize);
+      position += 2 * Integer.BYTES + compressedSize;
+
+      rows = 0;
+      ids.clear();
+      for (ColumnBuffer column : structure) {
+        column.clear();
+      }
+      for (PropertyColumn column : properties.values()) {
+        column.clear();
+      }
+    }
+
+    /**
+     * Writes the last block and the footer and closes the file.
+     *
+     * @throws IOException on failure
+     */
+    void close() throws IOException {
+      try {
+        if (rows > 0) {
+          writeBlock();
+        }
+        long elementCount = 0L;
+        for (int count : blockRows) {
+          elementCount += count;
+        }
+        ColumnBuffer footer = new ColumnBuffer();
+        footer.writeInt(BinaryConstants.MAGIC);
+        footer.writeByte(BinaryConstants.VERSION);
+        footer.writeString(label);
+        footer.writeLong(elementCount);
+        footer.writeInt(blockOffsets.size());
+        for (int i = 0; i < blockOffsets.size(); i++) {
+          footer.writeLong(blockOffsets.get(i));
+          footer.writeInt(blockRows.get(i));
+        }
+        footer.writeInt(properties.size());
+        for (String key : properties.keySet()) {
+          footer.writeString(key);
+        }
+        footer.writeTo(out);
+        out.writeLong(position);
+        out.writeInt(BinaryConstants.MAGIC);
+      } finally {
+        out.close();
+      }
+    }
+  }
+
+  /**
+   * The values of a single property key in the current block.
+   */
+  private static class PropertyColumn {
+    /**
+     * Length of the value of each row, 0 if the row has no value
+     */
+    private final int[] lengths;
+    /**
+     * Concatenated raw bytes of all values
+     */
+    private final ColumnBuffer values;
+    /**
+     * True, if the block contains no value
+     */
+    private boolean empty;
+
+    /**
+     * Creates an empty column.
+     *
+     * @param blockSize number of elements per block
+     */
+    PropertyColumn(int blockSize) {
+      this.lengths = new int[blockSize];
+      this.values = new ColumnBuffer();
+      this.empty = true;
+    }
+
+    /**
+     * Sets the value of the given row. Rows have to be set in ascending order.
+     *
+     * @param row row of the current block
+     * @param value property value
+     */
+    void set(int row, PropertyValue value) {
+      lengths[row] = value.getByteSize();
+      values.writeValue(value);
+      empty = false;
+    }
+
+    /**
+     * True, if no row of the current block has a value.
+     *
+     * @return true, if the column is empty
+     */
+    boolean isEmpty() {
+      return empty;
+    }
+
+    /**
+     * Writes the column to the block.
+     *
+     * @param block block buffer
+     * @param rows number of rows of the block
+     */
+    void writeTo(ColumnBuffer block, int rows) {
+      block.writeInt(values.size());
+      for (int row = 0; row < rows; row++) {
+        block.writeInt(lengths[row]);
+      }
+      block.write(values);
+    }
+
+    /**
+     * Removes all values.
+     */
+    void clear() {
+      Arrays.fill(lengths, 0);
+      values.clear();
+      empty = true;
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.format;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable byte array which is used to collect a single column of a block. Values are written
+ * in big endian byte order, i.e. they can be read using a {@link java.nio.ByteBuffer}.
+ */
+public class ColumnBuffer {
+  /**
+   * Initial capacity in bytes
+   */
+  private static final int INITIAL_CAPACITY = 256;
+  /**
+   * Column data
+   */
+  private byte[] data;
+  /**
+   * Number of bytes written
+   */
+  private int size;
+
+  /**
+   * Creates an empty buffer.
+   */
+  public ColumnBuffer() {
+    this.data = new byte[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Writes a byte value.
+   *
+   * @param value byte value
+   */
+  public void writeByte(byte value) {
+    ensureCapacity(Byte.BYTES);
+    data[size++] = value;
+  }
+
+  /**
+   * Writes an int value.
+   *
+   * @param value int value
+   */
+  public void writeInt(int value) {
+    ensureCapacity(Integer.BYTES);
+    data[size++] = (byte) (value >>> 24);
+    data[size++] = (byte) (value >>> 16);
+    data[size++] = (byte) (value >>> 8);
+    data[size++] = (byte) value;
+  }
+
+  /**
+   * Writes a long value.
+   *
+   * @param value long value
+   */
+  public void writeLong(long value) {
+    writeInt((int) (value >>> 32));
+    writeInt((int) value);
+  }
+
+  /**
+   * Writes the bytes of a gradoop id.
+   *
+   * @param id gradoop id
+   */
+  public void writeId(GradoopId id) {
+    ensureCapacity(GradoopId.ID_SIZE);
+    id.toByteArray(data, size);
+    size += GradoopId.ID_SIZE;
+  }
+
+  /**
+   * Writes the raw bytes of a property value without any length information.
+   *
+   * @param value property value
+   */
+  public void writeValue(PropertyValue value) {
+    int length = value.getByteSize();
+    ensureCapacity(length);
+    value.copyRawBytes(data, size);
+    size += length;
+  }
+
+  /**
+   * Writes a string as its UTF-8 length followed by the UTF-8 bytes.
+   *
+   * @param value string value
+   */
+  public void writeString(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeInt(bytes.length);
+    write(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Writes a range of a byte array.
+   *
+   * @param bytes byte array
+   * @param offset offset of the first byte to write
+   * @param length number of bytes to write
+   */
+  public void write(byte[] bytes, int offset, int length) {
+    ensureCapacity(length);
+    System.arraycopy(bytes, offset, data, size, length);
+    size += length;
+  }
+
+  /**
+   * Appends the content of another buffer.
+   *
+   * @param other buffer to append
+   */
+  public void write(ColumnBuffer other) {
+    write(other.data, 0, other.size);
+  }
+
+  /**
+   * Writes the content of this buffer to the given output.
+   *
+   * @param out output
+   * @throws IOException on failure
+   */
+  public void writeTo(DataOutput out) throws IOException {
+    out.write(data, 0, size);
+  }
+
+  /**
+   * Returns the internal byte array. Only the first {@link #size()} bytes are valid.
+   *
+   * @return internal byte array
+   */
+  @SuppressWarnings("EI_EXPOSE_REP")
+  public byte[] getData() {
+    return data;
+  }
+
+  /**
+   * Returns the number of bytes written.
+   *
+   * @return number of bytes
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes all written bytes but keeps the allocated memory.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Grows the internal array if the specified number of bytes does not fit.
+   *
+   * @param length number of bytes to write
+   */
+  private void ensureCapacity(int length) {
+    if (size + length > data.length) {
+      data = Arrays.copyOf(data, Math.max(data.length * 2, size + length));
+    }
+  }
+}
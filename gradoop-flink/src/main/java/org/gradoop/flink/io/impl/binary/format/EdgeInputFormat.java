@@ -0,0 +1,79 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.format;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads edges from binary columnar files.
+ */
+public class EdgeInputFormat extends BinaryElementInputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Creates edges
+   */
+  private final EdgeFactory edgeFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the edge files
+   * @param edgeFactory edge factory
+   */
+  public EdgeInputFormat(String path, EdgeFactory edgeFactory) {
+    this(path, edgeFactory, ElementFilter.all());
+  }
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the edge files
+   * @param edgeFactory edge factory
+   * @param filter restricts the loaded edges
+   */
+  public EdgeInputFormat(String path, EdgeFactory edgeFactory, ElementFilter filter) {
+    super(path, filter);
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  protected List<Edge> readStructure(GradoopId[] ids, String label, ByteBuffer block) {
+    GradoopId[] sourceIds = new GradoopId[ids.length];
+    for (int row = 0; row < ids.length; row++) {
+      sourceIds[row] = readId(block);
+    }
+    GradoopId[] targetIds = new GradoopId[ids.length];
+    for (int row = 0; row < ids.length; row++) {
+      targetIds[row] = readId(block);
+    }
+    List<Edge> edges = new ArrayList<>(ids.length);
+    for (int row = 0; row < ids.length; row++) {
+      edges.add(edgeFactory.initEdge(ids[row], label, sourceIds[row], targetIds[row],
+        readGraphIds(block)));
+    }
+    return edges;
+  }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.format;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads graph heads from binary columnar files.
+ */
+public class GraphHeadInputFormat extends BinaryElementInputFormat<GraphHead> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Creates graph heads
+   */
+  private final GraphHeadFactory graphHeadFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the graph head files
+   * @param graphHeadFactory graph head factory
+   */
+  public GraphHeadInputFormat(String path, GraphHeadFactory graphHeadFactory) {
+    super(path, ElementFilter.all());
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
+  @Override
+  protected List<GraphHead> readStructure(GradoopId[] ids, String label, ByteBuffer block) {
+    List<GraphHead> graphHeads = new ArrayList<>(ids.length);
+    for (GradoopId id : ids) {
+      graphHeads.add(graphHeadFactory.initGraphHead(id, label));
+    }
+    return graphHeads;
+  }
+}
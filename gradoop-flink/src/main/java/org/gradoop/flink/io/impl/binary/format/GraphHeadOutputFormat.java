@@ -0,0 +1,48 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.format;
+
+import org.gradoop.common.model.impl.pojo.GraphHead;
+
+/**
+ * Writes graph heads into binary columnar files. Graph heads have no structure columns.
+ */
+public class GraphHeadOutputFormat extends BinaryElementOutputFormat<GraphHead> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param path directory to write the graph head files to
+   * @param blockSize number of graph heads per block
+   * @param overwrite true, if an existing directory shall be overwritten
+   */
+  public GraphHeadOutputFormat(String path, int blockSize, boolean overwrite) {
+    super(path, blockSize, overwrite);
+  }
+
+  @Override
+  protected int getStructureColumnCount() {
+    return 0;
+  }
+
+  @Override
+  protected void writeStructure(GraphHead graphHead, ColumnBuffer[] columns) {
+  }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.format;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads vertices from binary columnar files.
+ */
+public class VertexInputFormat extends BinaryElementInputFormat<Vertex> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Creates vertices
+   */
+  private final VertexFactory vertexFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the vertex files
+   * @param vertexFactory vertex factory
+   */
+  public VertexInputFormat(String path, VertexFactory vertexFactory) {
+    this(path, vertexFactory, ElementFilter.all());
+  }
+
+  /**
+   * Creates a new input format.
+   *
+   * @param path directory containing the vertex files
+   * @param vertexFactory vertex factory
+   * @param filter restricts the loaded vertices
+   */
+  public VertexInputFormat(String path, VertexFactory vertexFactory, ElementFilter filter) {
+    super(path, filter);
+    this.vertexFactory = vertexFactory;
+  }
+
+  @Override
+  protected List<Vertex> readStructure(GradoopId[] ids, String label, ByteBuffer block) {
+    List<Vertex> vertices = new ArrayList<>(ids.length);
+    for (GradoopId id : ids) {
+      vertices.add(vertexFactory.initVertex(id, label, readGraphIds(block)));
+    }
+    return vertices;
+  }
+}
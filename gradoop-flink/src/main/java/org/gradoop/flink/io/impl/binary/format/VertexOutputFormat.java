@@ -0,0 +1,49 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary.format;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Writes vertices into binary columnar files. The only structure column contains the graph ids.
+ */
+public class VertexOutputFormat extends BinaryElementOutputFormat<Vertex> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param path directory to write the vertex files to
+   * @param blockSize number of vertices per block
+   * @param overwrite true, if an existing directory shall be overwritten
+   */
+  public VertexOutputFormat(String path, int blockSize, boolean overwrite) {
+    super(path, blockSize, overwrite);
+  }
+
+  @Override
+  protected int getStructureColumnCount() {
+    return 1;
+  }
+
+  @Override
+  protected void writeStructure(Vertex vertex, ColumnBuffer[] columns) {
+    writeGraphIds(vertex.getGraphIds(), columns[0]);
+  }
+}
@@ -15,6 +15,10 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+import org.gradoop.flink.model.impl.functions.epgm.ApplyElementFilter;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.File;
@@ -103,4 +107,18 @@ public abstract class CSVBase {
   protected GradoopFlinkConfig getConfig() {
     return config;
   }
+
+  /**
+   * Applies the predicates of the filter to the parsed elements. Labels and property keys are
+   * expected to be handled while reading and parsing.
+   *
+   * @param elements parsed elements
+   * @param filter element filter
+   * @param <E> EPGM element type
+   * @return elements fulfilling the predicates
+   */
+  protected static <E extends Element> DataSet<E> applyPredicates(DataSet<E> elements,
+    ElementFilter filter) {
+    return filter.hasPredicates() ? elements.flatMap(new ApplyElementFilter<>(filter)) : elements;
+  }
 }
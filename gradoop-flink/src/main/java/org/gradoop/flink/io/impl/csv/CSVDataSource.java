@@ -19,7 +19,9 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineByLabel;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
@@ -27,6 +29,8 @@ import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.util.Objects;
+
 /**
  * A graph data source for CSV files.
  *
@@ -37,8 +41,19 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
  *   |- vertices.csv # all vertex data
  *   |- edges.csv    # all edge data
  *   |- metadata.csv # Meta data for all data contained in the graph
+ *
+ * Lines with labels excluded by a vertex or edge filter are skipped before they are parsed,
+ * property values which are not required are not parsed.
  */
-public class CSVDataSource extends CSVBase implements DataSource {
+public class CSVDataSource extends CSVBase implements FilterableDataSource {
+  /**
+   * Restricts the loaded vertices.
+   */
+  private ElementFilter vertexFilter = ElementFilter.all();
+  /**
+   * Restricts the loaded edges.
+   */
+  private ElementFilter edgeFilter = ElementFilter.all();
 
   /**
    * Creates a new CSV data source.
@@ -54,19 +69,39 @@ public class CSVDataSource extends CSVBase implements DataSource {
   public LogicalGraph getLogicalGraph() {
     DataSet<Tuple2<String, String>> metaData = MetaData.fromFile(getMetaDataPath(), getConfig());
 
-    DataSet<Vertex> vertices = getConfig().getExecutionEnvironment()
-      .readTextFile(getVertexCSVPath())
-      .map(new CSVLineToVertex(getConfig().getVertexFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+    DataSet<String> vertexLines = getConfig().getExecutionEnvironment()
+      .readTextFile(getVertexCSVPath());
+    if (vertexFilter.hasLabelRestriction()) {
+      vertexLines = vertexLines.filter(
+        new CSVLineByLabel(vertexFilter.getLabels(), CSVLineByLabel.VERTEX_LABEL_TOKEN));
+    }
+    DataSet<Vertex> vertices = applyPredicates(vertexLines
+      .map(new CSVLineToVertex(getConfig().getVertexFactory(), vertexFilter))
+      .withBroadcastSet(metaData, BC_METADATA), vertexFilter);
 
-    DataSet<Edge> edges = getConfig().getExecutionEnvironment()
-      .readTextFile(getEdgeCSVPath())
-      .map(new CSVLineToEdge(getConfig().getEdgeFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+    DataSet<String> edgeLines = getConfig().getExecutionEnvironment()
+      .readTextFile(getEdgeCSVPath());
+    if (edgeFilter.hasLabelRestriction()) {
+      edgeLines = edgeLines.filter(
+        new CSVLineByLabel(edgeFilter.getLabels(), CSVLineByLabel.EDGE_LABEL_TOKEN));
+    }
+    DataSet<Edge> edges = applyPredicates(edgeLines
+      .map(new CSVLineToEdge(getConfig().getEdgeFactory(), edgeFilter))
+      .withBroadcastSet(metaData, BC_METADATA), edgeFilter);
 
     return getConfig().getLogicalGraphFactory().fromDataSets(vertices, edges);
   }
 
+  @Override
+  public void applyVertexFilter(ElementFilter vertexFilter) {
+    this.vertexFilter = Objects.requireNonNull(vertexFilter);
+  }
+
+  @Override
+  public void applyEdgeFilter(ElementFilter edgeFilter) {
+    this.edgeFilter = Objects.requireNonNull(edgeFilter);
+  }
+
   @Override
   public GraphCollection getGraphCollection() {
     return getConfig().getGraphCollectionFactory().fromGraph(getLogicalGraph());
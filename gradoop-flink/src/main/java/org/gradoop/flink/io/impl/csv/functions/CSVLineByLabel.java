@@ -0,0 +1,69 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Accepts all CSV lines whose label token is one of the specified labels. Only the label token is
+ * extracted, the remaining line is neither split nor parsed.
+ */
+public class CSVLineByLabel implements FilterFunction<String> {
+  /**
+   * Token position of the vertex label
+   */
+  public static final int VERTEX_LABEL_TOKEN = 1;
+  /**
+   * Token position of the edge label
+   */
+  public static final int EDGE_LABEL_TOKEN = 3;
+  /**
+   * Accepted labels
+   */
+  private final Set<String> labels;
+  /**
+   * Token position of the label
+   */
+  private final int labelToken;
+
+  /**
+   * Constructor
+   *
+   * @param labels accepted labels
+   * @param labelToken token position of the label
+   */
+  public CSVLineByLabel(Set<String> labels, int labelToken) {
+    this.labels = new HashSet<>(labels);
+    this.labelToken = labelToken;
+  }
+
+  @Override
+  public boolean filter(String csvLine) throws Exception {
+    int start = 0;
+    for (int i = 0; i < labelToken; i++) {
+      start = csvLine.indexOf(CSVConstants.TOKEN_DELIMITER, start) + 1;
+      if (start == 0) {
+        return false;
+      }
+    }
+    int end = csvLine.indexOf(CSVConstants.TOKEN_DELIMITER, start);
+    return labels.contains(csvLine.substring(start, end == -1 ? csvLine.length() : end));
+  }
+}
@@ -18,6 +18,7 @@ package org.gradoop.flink.io.impl.csv.functions;
 import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.api.filter.ElementFilter;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 
 /**
@@ -40,6 +41,17 @@ public class CSVLineToEdge extends CSVLineToElement<Edge> {
    * @param epgmEdgeFactory EPGM edge factory
    */
   public CSVLineToEdge(EPGMEdgeFactory<Edge> epgmEdgeFactory) {
+    this(epgmEdgeFactory, ElementFilter.all());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param epgmEdgeFactory EPGM edge factory
+   * @param filter decides which property values need to be parsed
+   */
+  public CSVLineToEdge(EPGMEdgeFactory<Edge> epgmEdgeFactory, ElementFilter filter) {
+    super(filter);
     this.edgeFactory = epgmEdgeFactory;
   }
 
@@ -19,6 +19,7 @@ import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.api.filter.ElementFilter;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
@@ -30,7 +31,8 @@ import java.util.regex.Pattern;
 
 /**
  * Base class for reading an {@link Element} from CSV. Handles the {@link MetaData} which is
- * required to parse the property values.
+ * required to parse the property values. Property values which are not required by the
+ * {@link ElementFilter} are not parsed.
  *
  * @param <E> EPGM element type
  */
@@ -43,6 +45,10 @@ abstract class CSVLineToElement<E extends Element> extends RichMapFunction<Strin
    * Needed for splitting the input.
    */
   private final String valueDelimiter = Pattern.quote(CSVConstants.VALUE_DELIMITER);
+  /**
+   * Decides which property values need to be parsed.
+   */
+  private final ElementFilter filter;
   /**
    * Meta data that provides parsers for a specific {@link Element}.
    */
@@ -52,7 +58,17 @@ abstract class CSVLineToElement<E extends Element> extends RichMapFunction<Strin
    * Constructor
    */
   CSVLineToElement() {
+    this(ElementFilter.all());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param filter decides which property values need to be parsed
+   */
+  CSVLineToElement(ElementFilter filter) {
     this.properties = Properties.create();
+    this.filter = filter;
   }
 
   @Override
@@ -75,7 +91,7 @@ abstract class CSVLineToElement<E extends Element> extends RichMapFunction<Strin
     List<PropertyMetaData> metaDataList = metaData.getPropertyMetaData(label);
     properties.clear();
     for (int i = 0; i < propertyValues.length; i++) {
-      if (propertyValues[i].length() > 0) {
+      if (propertyValues[i].length() > 0 && filter.isRequired(metaDataList.get(i).getKey())) {
         properties.set(metaDataList.get(i).getKey(),
           metaDataList.get(i).getValueParser().apply(propertyValues[i]));
       }
@@ -18,6 +18,7 @@ package org.gradoop.flink.io.impl.csv.functions;
 import org.gradoop.common.model.api.entities.EPGMVertexFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.filter.ElementFilter;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 
 /**
@@ -41,6 +42,17 @@ public class CSVLineToVertex extends CSVLineToElement<Vertex> {
    * @param epgmVertexFactory EPGM vertex factory
    */
   public CSVLineToVertex(EPGMVertexFactory<Vertex> epgmVertexFactory) {
+    this(epgmVertexFactory, ElementFilter.all());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param epgmVertexFactory EPGM vertex factory
+   * @param filter decides which property values need to be parsed
+   */
+  public CSVLineToVertex(EPGMVertexFactory<Vertex> epgmVertexFactory, ElementFilter filter) {
+    super(filter);
     this.vertexFactory = epgmVertexFactory;
   }
 
@@ -19,17 +19,21 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
-import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.filter.ElementFilter;
 import org.gradoop.flink.io.impl.csv.CSVBase;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.bool.False;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
@@ -48,12 +52,23 @@ import java.util.stream.Collectors;
  *   |- knows.csv      # contains all edges with label 'knows'
  *   |- studyAy.csv    # contains all edges with label 'studyAt'
  *   |- metadata.csv   # Meta data for all data contained in the graph
+ *
+ * Files of labels excluded by a vertex or edge filter are not read, property values which are not
+ * required are not parsed.
  */
-public class IndexedCSVDataSource extends CSVBase implements DataSource {
+public class IndexedCSVDataSource extends CSVBase implements FilterableDataSource {
   /**
    * HDFS Configuration
    */
   private final Configuration hdfsConfig;
+  /**
+   * Restricts the loaded vertices.
+   */
+  private ElementFilter vertexFilter = ElementFilter.all();
+  /**
+   * Restricts the loaded edges.
+   */
+  private ElementFilter edgeFilter = ElementFilter.all();
 
   /**
    * Creates a new data source. The constructor creates a default HDFS configuration.
@@ -90,20 +105,46 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
     EdgeFactory edgeFactory = getConfig().getEdgeFactory();
 
     Map<String, DataSet<Vertex>> vertices = metaData.getVertexLabels().stream()
-      .map(l -> Tuple2.of(l, env.readTextFile(getVertexCSVPath(l))
-        .map(new CSVLineToVertex(vertexFactory))
-        .withBroadcastSet(MetaData.fromFile(getMetaDataPath(), getConfig()), BC_METADATA)))
+      .filter(vertexFilter::acceptsLabel)
+      .map(l -> Tuple2.of(l, applyPredicates(env.readTextFile(getVertexCSVPath(l))
+        .map(new CSVLineToVertex(vertexFactory, vertexFilter))
+        .withBroadcastSet(MetaData.fromFile(getMetaDataPath(), getConfig()), BC_METADATA),
+        vertexFilter)))
       .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
 
+    if (vertices.isEmpty()) {
+      // no label is read, the graph factory still expects a (typed) dataset
+      vertices.put(GradoopConstants.DEFAULT_VERTEX_LABEL,
+        env.fromElements(vertexFactory.createVertex()).filter(new False<>()));
+    }
+
     Map<String, DataSet<Edge>> edges = metaData.getEdgeLabels().stream()
-      .map(l -> Tuple2.of(l, env.readTextFile(getEdgeCSVPath(l))
-        .map(new CSVLineToEdge(edgeFactory))
-        .withBroadcastSet(MetaData.fromFile(getMetaDataPath(), getConfig()), BC_METADATA)))
+      .filter(edgeFilter::acceptsLabel)
+      .map(l -> Tuple2.of(l, applyPredicates(env.readTextFile(getEdgeCSVPath(l))
+        .map(new CSVLineToEdge(edgeFactory, edgeFilter))
+        .withBroadcastSet(MetaData.fromFile(getMetaDataPath(), getConfig()), BC_METADATA),
+        edgeFilter)))
       .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
 
+    if (edges.isEmpty()) {
+      edges.put(GradoopConstants.DEFAULT_EDGE_LABEL, env
+        .fromElements(edgeFactory.createEdge(GradoopId.get(), GradoopId.get()))
+        .filter(new False<>()));
+    }
+
     return getConfig().getLogicalGraphFactory().fromIndexedDataSets(vertices, edges);
   }
 
+  @Override
+  public void applyVertexFilter(ElementFilter vertexFilter) {
+    this.vertexFilter = Objects.requireNonNull(vertexFilter);
+  }
+
+  @Override
+  public void applyEdgeFilter(ElementFilter edgeFilter) {
+    this.edgeFilter = Objects.requireNonNull(edgeFilter);
+  }
+
   @Override
   public GraphCollection getGraphCollection() throws IOException {
     return getConfig().getGraphCollectionFactory().fromGraph(getLogicalGraph());
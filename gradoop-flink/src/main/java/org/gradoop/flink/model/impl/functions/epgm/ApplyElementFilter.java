@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.functions.epgm;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Applies an {@link ElementFilter} to EPGM elements, i.e. emits the accepted elements without
+ * the properties which shall not be loaded.
+ *
+ * @param <E> EPGM element type
+ */
+public class ApplyElementFilter<E extends Element> implements FlatMapFunction<E, E> {
+
+  /**
+   * Filter to apply.
+   */
+  private final ElementFilter filter;
+
+  /**
+   * Initialize.
+   *
+   * @param filter filter to apply
+   */
+  public ApplyElementFilter(ElementFilter filter) {
+    this.filter = checkNotNull(filter);
+  }
+
+  @Override
+  public void flatMap(E e, Collector<E> out) throws Exception {
+    if (filter.test(e)) {
+      filter.project(e);
+      out.collect(e);
+    }
+  }
+}
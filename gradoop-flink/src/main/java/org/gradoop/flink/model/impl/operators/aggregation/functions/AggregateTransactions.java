@@ -19,6 +19,7 @@ import org.apache.flink.api.common.functions.MapFunction;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
+import org.gradoop.flink.model.api.functions.AggregateFinalizer;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
 import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
@@ -61,6 +62,11 @@ public class AggregateTransactions implements MapFunction<GraphTransaction, Grap
    * {@link AggregateTransactions#hasAggregateDefaultValue} is {@code true}.
    */
   private final AggregateDefaultValue aggregateDefaultValue;
+  /**
+   * Set to an instance of {@link AggregateFinalizer} if the given aggregate function needs to
+   * finalize its aggregate, {@code null} otherwise.
+   */
+  private final AggregateFinalizer aggregateFinalizer;
 
   /**
    * Creates a new instance.
@@ -88,6 +94,9 @@ public class AggregateTransactions implements MapFunction<GraphTransaction, Grap
       hasAggregateDefaultValue = false;
       aggregateDefaultValue = null;
     }
+
+    aggregateFinalizer = aggregateFunction instanceof AggregateFinalizer ?
+      (AggregateFinalizer) aggregateFunction : null;
   }
 
   @Override
@@ -103,6 +112,8 @@ public class AggregateTransactions implements MapFunction<GraphTransaction, Grap
       } else {
         aggregate = PropertyValue.NULL_VALUE;
       }
+    } else if (aggregateFinalizer != null) {
+      aggregate = aggregateFinalizer.finalizeAggregate(aggregate);
     }
 
     graphTransaction.getGraphHead().setProperty(aggregatePropertyKey, aggregate);
@@ -51,7 +51,7 @@ public class CombinePartitionAggregates
     PropertyValue aggregate = iterator.next();
 
     while (iterator.hasNext()) {
-      aggregateFunction.aggregate(aggregate, iterator.next());
+      aggregate = aggregateFunction.aggregate(aggregate, iterator.next());
     }
 
     out.collect(aggregate);
@@ -22,6 +22,7 @@ import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
+import org.gradoop.flink.model.api.functions.AggregateFinalizer;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -40,6 +41,10 @@ public class SetAggregateProperties implements
    * default value used to replace aggregate value in case of NULL.
    */
   private final PropertyValue defaultValue;
+  /**
+   * finalizer applied to aggregate values, may be {@code null}.
+   */
+  private final AggregateFinalizer finalizer;
 
   /**
    * Constructor.
@@ -52,6 +57,8 @@ public class SetAggregateProperties implements
     this.defaultValue = aggregateFunction instanceof AggregateDefaultValue ?
       ((AggregateDefaultValue) aggregateFunction).getDefaultValue() :
       PropertyValue.NULL_VALUE;
+    this.finalizer = aggregateFunction instanceof AggregateFinalizer ?
+      (AggregateFinalizer) aggregateFunction : null;
   }
 
   @Override
@@ -62,7 +69,8 @@ public class SetAggregateProperties implements
     for (GraphHead leftElem : left) {
       boolean rightEmpty = true;
       for (Tuple2<GradoopId, PropertyValue> rightElem : right) {
-        leftElem.setProperty(propertyKey, rightElem.f1);
+        leftElem.setProperty(propertyKey, finalizer != null ?
+          finalizer.finalizeAggregate(rightElem.f1) : rightElem.f1);
         out.collect(leftElem);
         rightEmpty = false;
       }
@@ -21,6 +21,7 @@ import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
+import org.gradoop.flink.model.api.functions.AggregateFinalizer;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -52,6 +53,10 @@ public class SetAggregateProperty
    */
   private final PropertyValue defaultValue;
 
+  /**
+   * finalizer applied to non-empty aggregate values, may be {@code null}.
+   */
+  private final AggregateFinalizer finalizer;
 
   /**
    * Constructor.
@@ -66,6 +71,9 @@ public class SetAggregateProperty
     this.defaultValue = aggregateFunction instanceof AggregateDefaultValue ?
       ((AggregateDefaultValue) aggregateFunction).getDefaultValue() :
       PropertyValue.NULL_VALUE;
+
+    this.finalizer = aggregateFunction instanceof AggregateFinalizer ?
+      (AggregateFinalizer) aggregateFunction : null;
   }
 
   @Override
@@ -76,6 +84,8 @@ public class SetAggregateProperty
 
     if (aggregateValue.equals(PropertyValue.NULL_VALUE)) {
       aggregateValue = defaultValue;
+    } else if (finalizer != null) {
+      aggregateValue = finalizer.finalizeAggregate(aggregateValue);
     }
   }
 
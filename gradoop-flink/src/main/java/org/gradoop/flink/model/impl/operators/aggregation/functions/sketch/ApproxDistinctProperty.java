@@ -0,0 +1,96 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.MurmurHash;
+
+/**
+ * Superclass of aggregate functions that estimate the number of distinct values of a specified
+ * property using a {@link HyperLogLog} sketch.
+ */
+public abstract class ApproxDistinctProperty extends SketchAggregate<HyperLogLog> {
+  /**
+   * Default precision of the sketch (4096 registers, standard error ~1.6%)
+   */
+  public static final int DEFAULT_PRECISION = 12;
+  /**
+   * Property key whose value should be aggregated.
+   */
+  protected final String propertyKey;
+  /**
+   * Precision of the sketch
+   */
+  private final int precision;
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param precision precision of the sketch, at most 14
+   */
+  public ApproxDistinctProperty(String propertyKey, int precision) {
+    checkSketchSize(HyperLogLog.getSizeInBytes(precision));
+    this.propertyKey = propertyKey;
+    this.precision = precision;
+  }
+
+  /**
+   * Returns the increment of the given property value, i.e. its hash.
+   *
+   * @param value property value, may be {@code null}
+   * @return increment or {@code null} if the property is not set
+   */
+  protected PropertyValue getIncrement(PropertyValue value) {
+    return value == null ? null : PropertyValue.create(MurmurHash.hash64(value.getRawBytes()));
+  }
+
+  @Override
+  protected int getSketchSize() {
+    return HyperLogLog.getSizeInBytes(precision);
+  }
+
+  @Override
+  protected HyperLogLog wrap(byte[] bytes, int offset) {
+    return new HyperLogLog(bytes, offset, precision);
+  }
+
+  @Override
+  protected void store(HyperLogLog source, byte[] bytes, int offset) {
+    source.writeTo(bytes, offset);
+  }
+
+  @Override
+  protected boolean add(HyperLogLog target, PropertyValue increment) {
+    return target.addHash(increment.getLong());
+  }
+
+  @Override
+  protected void merge(HyperLogLog target, HyperLogLog other) {
+    target.merge(other);
+  }
+
+  @Override
+  protected PropertyValue getResult(HyperLogLog source) {
+    return PropertyValue.create(source.estimate());
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return "approxDistinct_" + propertyKey;
+  }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+
+/**
+ * Aggregate function returning the estimated number of distinct values of a specified property
+ * over all vertices.
+ */
+public class ApproxDistinctVertexProperty extends ApproxDistinctProperty
+  implements VertexAggregateFunction {
+
+  /**
+   * Constructor using {@link #DEFAULT_PRECISION}.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  public ApproxDistinctVertexProperty(String propertyKey) {
+    this(propertyKey, DEFAULT_PRECISION);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param precision precision of the sketch, at most 14
+   */
+  public ApproxDistinctVertexProperty(String propertyKey, int precision) {
+    super(propertyKey, precision);
+  }
+
+  @Override
+  public PropertyValue getVertexIncrement(Vertex vertex) {
+    return getIncrement(vertex.getPropertyValue(propertyKey));
+  }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.CountMinSketch;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.MurmurHash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Superclass of aggregate functions that summarize the frequencies of the values of a specified
+ * property using a {@link CountMinSketch}.
+ *
+ * The final value is a list containing the depth, the width and all counters of the sketch (row
+ * by row). Frequencies of single values can be estimated from it using
+ * {@link #estimateFrequency(PropertyValue, PropertyValue)}.
+ */
+public abstract class ApproxFrequencyProperty extends SketchAggregate<CountMinSketch> {
+  /**
+   * Default number of rows (error probability ~1.8%)
+   */
+  public static final int DEFAULT_DEPTH = 4;
+  /**
+   * Default number of counters per row (error ~0.5% of the total count)
+   */
+  public static final int DEFAULT_WIDTH = 512;
+  /**
+   * Property key whose value should be aggregated.
+   */
+  protected final String propertyKey;
+  /**
+   * Number of rows
+   */
+  private final int depth;
+  /**
+   * Number of counters per row
+   */
+  private final int width;
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param depth number of rows
+   * @param width number of counters per row
+   */
+  public ApproxFrequencyProperty(String propertyKey, int depth, int width) {
+    checkSketchSize(CountMinSketch.getSizeInBytes(depth, width));
+    // the final value stores each counter with an additional type byte
+    checkSketchSize(2 * (1 + Integer.BYTES) + depth * width * (1 + Long.BYTES));
+    this.propertyKey = propertyKey;
+    this.depth = depth;
+    this.width = width;
+  }
+
+  /**
+   * Estimates the frequency of a property value from the final value of the aggregate function.
+   *
+   * @param aggregate final value of the aggregate function
+   * @param value property value
+   * @return estimated frequency or zero if the aggregate is {@code NULL}
+   */
+  public static long estimateFrequency(PropertyValue aggregate, PropertyValue value) {
+    if (aggregate.isNull()) {
+      return 0L;
+    }
+    List<PropertyValue> list = aggregate.getList();
+    int depth = list.get(0).getInt();
+    int width = list.get(1).getInt();
+    CountMinSketch sketch = new CountMinSketch(depth, width);
+    for (int row = 0; row < depth; row++) {
+      for (int column = 0; column < width; column++) {
+        sketch.setCounter(row, column, list.get(2 + row * width + column).getLong());
+      }
+    }
+    return sketch.estimate(value);
+  }
+
+  /**
+   * Returns the increment of the given property value, i.e. its hash.
+   *
+   * @param value property value, may be {@code null}
+   * @return increment or {@code null} if the property is not set
+   */
+  protected PropertyValue getIncrement(PropertyValue value) {
+    return value == null ? null : PropertyValue.create(MurmurHash.hash64(value.getRawBytes()));
+  }
+
+  @Override
+  protected int getSketchSize() {
+    return CountMinSketch.getSizeInBytes(depth, width);
+  }
+
+  @Override
+  protected CountMinSketch wrap(byte[] bytes, int offset) {
+    return new CountMinSketch(bytes, offset, depth, width);
+  }
+
+  @Override
+  protected boolean add(CountMinSketch target, PropertyValue increment) {
+    target.addHash(increment.getLong(), 1L);
+    return true;
+  }
+
+  @Override
+  protected void merge(CountMinSketch target, CountMinSketch other) {
+    target.merge(other);
+  }
+
+  @Override
+  protected PropertyValue getResult(CountMinSketch source) {
+    List<PropertyValue> list = new ArrayList<>(2 + depth * width);
+    list.add(PropertyValue.create(depth));
+    list.add(PropertyValue.create(width));
+    for (int row = 0; row < depth; row++) {
+      for (int column = 0; column < width; column++) {
+        list.add(PropertyValue.create(source.getCounter(row, column)));
+      }
+    }
+    return PropertyValue.create(list);
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return "approxFrequency_" + propertyKey;
+  }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+
+/**
+ * Aggregate function returning a Count-Min sketch of the frequencies of the values of a
+ * specified property over all vertices.
+ */
+public class ApproxFrequencyVertexProperty extends ApproxFrequencyProperty
+  implements VertexAggregateFunction {
+
+  /**
+   * Constructor using {@link #DEFAULT_DEPTH} and {@link #DEFAULT_WIDTH}.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  public ApproxFrequencyVertexProperty(String propertyKey) {
+    this(propertyKey, DEFAULT_DEPTH, DEFAULT_WIDTH);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param depth number of rows
+   * @param width number of counters per row
+   */
+  public ApproxFrequencyVertexProperty(String propertyKey, int depth, int width) {
+    super(propertyKey, depth, width);
+  }
+
+  @Override
+  public PropertyValue getVertexIncrement(Vertex vertex) {
+    return getIncrement(vertex.getPropertyValue(propertyKey));
+  }
+}
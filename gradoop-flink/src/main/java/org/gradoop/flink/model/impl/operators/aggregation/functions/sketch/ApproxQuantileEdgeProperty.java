@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.TDigest;
+
+/**
+ * Aggregate function returning an estimated quantile of a specified numerical property over all
+ * edges.
+ */
+public class ApproxQuantileEdgeProperty extends ApproxQuantileProperty
+  implements EdgeAggregateFunction {
+
+  /**
+   * Constructor using {@link TDigest#DEFAULT_COMPRESSION}.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to estimate, e.g. 0.5 for the median
+   */
+  public ApproxQuantileEdgeProperty(String propertyKey, double quantile) {
+    this(propertyKey, quantile, TDigest.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to estimate, e.g. 0.5 for the median
+   * @param compression compression of the digest, at most 454
+   */
+  public ApproxQuantileEdgeProperty(String propertyKey, double quantile, int compression) {
+    super(propertyKey, quantile, compression);
+  }
+
+  @Override
+  public PropertyValue getEdgeIncrement(Edge edge) {
+    return getIncrement(edge.getPropertyValue(propertyKey));
+  }
+}
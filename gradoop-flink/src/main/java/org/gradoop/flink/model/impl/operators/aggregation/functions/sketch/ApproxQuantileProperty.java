@@ -0,0 +1,114 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.TDigest;
+
+/**
+ * Superclass of aggregate functions that estimate a quantile of the numerical values of a
+ * specified property using a {@link TDigest}. Non-numerical values are ignored.
+ */
+public abstract class ApproxQuantileProperty extends SketchAggregate<TDigest> {
+  /**
+   * Property key whose value should be aggregated.
+   */
+  protected final String propertyKey;
+  /**
+   * Quantile to estimate
+   */
+  private final double quantile;
+  /**
+   * Compression of the digest
+   */
+  private final int compression;
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to estimate, e.g. 0.5 for the median
+   * @param compression compression of the digest, at most 454
+   */
+  public ApproxQuantileProperty(String propertyKey, double quantile, int compression) {
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("Quantile must be in [0, 1], was " + quantile);
+    }
+    checkSketchSize(TDigest.getSizeInBytes(compression));
+    this.propertyKey = propertyKey;
+    this.quantile = quantile;
+    this.compression = compression;
+  }
+
+  /**
+   * Returns the increment of the given property value, i.e. the value itself if it is numerical.
+   *
+   * @param value property value, may be {@code null}
+   * @return increment or {@code null} if the property is not set or not numerical
+   */
+  protected PropertyValue getIncrement(PropertyValue value) {
+    return value != null && (value.isInt() || value.isLong() || value.isFloat() ||
+      value.isDouble() || value.isBigDecimal()) ? value : null;
+  }
+
+  @Override
+  protected int getSketchSize() {
+    return TDigest.getSizeInBytes(compression);
+  }
+
+  @Override
+  protected TDigest wrap(byte[] bytes, int offset) {
+    return new TDigest(bytes, offset, compression);
+  }
+
+  @Override
+  protected void initialize(TDigest emptySketch) {
+    emptySketch.clear();
+  }
+
+  @Override
+  protected boolean add(TDigest target, PropertyValue increment) {
+    double value;
+    if (increment.isInt()) {
+      value = increment.getInt();
+    } else if (increment.isLong()) {
+      value = increment.getLong();
+    } else if (increment.isFloat()) {
+      value = increment.getFloat();
+    } else if (increment.isDouble()) {
+      value = increment.getDouble();
+    } else {
+      value = increment.getBigDecimal().doubleValue();
+    }
+    target.add(value);
+    return true;
+  }
+
+  @Override
+  protected void merge(TDigest target, TDigest other) {
+    target.merge(other);
+  }
+
+  @Override
+  protected PropertyValue getResult(TDigest source) {
+    return PropertyValue.create(source.quantile(quantile));
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return "approxQuantile_" + quantile + "_" + propertyKey;
+  }
+}
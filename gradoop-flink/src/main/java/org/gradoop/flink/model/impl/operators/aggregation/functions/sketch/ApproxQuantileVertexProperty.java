@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.TDigest;
+
+/**
+ * Aggregate function returning an estimated quantile of a specified numerical property over all
+ * vertices.
+ */
+public class ApproxQuantileVertexProperty extends ApproxQuantileProperty
+  implements VertexAggregateFunction {
+
+  /**
+   * Constructor using {@link TDigest#DEFAULT_COMPRESSION}.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to estimate, e.g. 0.5 for the median
+   */
+  public ApproxQuantileVertexProperty(String propertyKey, double quantile) {
+    this(propertyKey, quantile, TDigest.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to estimate, e.g. 0.5 for the median
+   * @param compression compression of the digest, at most 454
+   */
+  public ApproxQuantileVertexProperty(String propertyKey, double quantile, int compression) {
+    super(propertyKey, quantile, compression);
+  }
+
+  @Override
+  public PropertyValue getVertexIncrement(Vertex vertex) {
+    return getIncrement(vertex.getPropertyValue(propertyKey));
+  }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFinalizer;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+/**
+ * Superclass of aggregate functions that summarize their increments by a fixed size sketch.
+ *
+ * Increments are plain property values, aggregates are sketches stored in byte array property
+ * values. Sketches are either views which update the property value in place or copies which
+ * are written back by {@link #store(Object, byte[], int)} whenever they are modified. Partition
+ * aggregates are merged by merging their sketches and the final value is computed from the sketch
+ * by {@link #finalizeAggregate(PropertyValue)}.
+ *
+ * @param <S> sketch type
+ */
+public abstract class SketchAggregate<S> implements AggregateFunction, AggregateFinalizer {
+  /**
+   * Property value array of the last used sketch
+   */
+  private transient byte[] sketchBytes;
+  /**
+   * Last used sketch
+   */
+  private transient S sketch;
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    if (!isSketch(aggregate)) {
+      if (isSketch(increment)) {
+        addAndStore(increment, aggregate);
+        return increment;
+      }
+      PropertyValue sketchValue = createSketch(aggregate);
+      addAndStore(sketchValue, increment);
+      return sketchValue;
+    }
+
+    if (isSketch(increment)) {
+      S aggregateSketch = getSketch(aggregate);
+      merge(aggregateSketch, wrap(increment.getRawBytes(), PropertyValue.OFFSET));
+      store(aggregateSketch, sketchBytes, PropertyValue.OFFSET);
+    } else {
+      addAndStore(aggregate, increment);
+    }
+    return aggregate;
+  }
+
+  @Override
+  public PropertyValue finalizeAggregate(PropertyValue aggregate) {
+    return getResult(getSketch(isSketch(aggregate) ? aggregate : createSketch(aggregate)));
+  }
+
+  /**
+   * Returns the number of bytes needed to store the sketch.
+   *
+   * @return sketch size in bytes
+   */
+  protected abstract int getSketchSize();
+
+  /**
+   * Returns the sketch stored in a range of the given array. The sketch is either a view which
+   * writes its updates through to the array or a copy whose updates are written back by
+   * {@link #store(Object, byte[], int)}.
+   *
+   * @param bytes array containing the sketch
+   * @param offset index of the first byte of the sketch
+   * @return sketch
+   */
+  protected abstract S wrap(byte[] bytes, int offset);
+
+  /**
+   * Writes a modified sketch back to the range of the array it has been read from. Views do not
+   * need to be stored, which is the default.
+   *
+   * @param source modified sketch
+   * @param bytes array containing the sketch
+   * @param offset index of the first byte of the sketch
+   */
+  protected void store(S source, byte[] bytes, int offset) {
+  }
+
+  /**
+   * Initializes an empty sketch. All bytes of the sketch are zero before.
+   *
+   * @param emptySketch empty sketch
+   */
+  protected void initialize(S emptySketch) {
+  }
+
+  /**
+   * Adds an increment to the sketch.
+   *
+   * @param target sketch to update
+   * @param increment increment
+   * @return true, if the sketch has been modified
+   */
+  protected abstract boolean add(S target, PropertyValue increment);
+
+  /**
+   * Merges a sketch into another one.
+   *
+   * @param target sketch to update
+   * @param other sketch to merge into the target
+   */
+  protected abstract void merge(S target, S other);
+
+  /**
+   * Computes the final aggregate value from the sketch.
+   *
+   * @param source sketch of all increments
+   * @return final value
+   */
+  protected abstract PropertyValue getResult(S source);
+
+  /**
+   * Checks if the sketch size can be stored in a single property value.
+   *
+   * @param sketchSize sketch size in bytes
+   */
+  protected static void checkSketchSize(int sketchSize) {
+    if (sketchSize > PropertyValue.MAX_BINARY_LENGTH) {
+      throw new IllegalArgumentException(String.format(
+        "Sketch of %d bytes exceeds the maximum property value size of %d bytes",
+        sketchSize, PropertyValue.MAX_BINARY_LENGTH));
+    }
+  }
+
+  /**
+   * Returns true, if the given aggregate value is a sketch and not a single increment.
+   *
+   * @param value aggregate value
+   * @return true, if the value is a sketch
+   */
+  private boolean isSketch(PropertyValue value) {
+    return value.isByteArray();
+  }
+
+  /**
+   * Adds an increment to the sketch stored in the given value and stores the sketch if it has
+   * been modified.
+   *
+   * @param sketchValue sketch value
+   * @param increment increment
+   */
+  private void addAndStore(PropertyValue sketchValue, PropertyValue increment) {
+    S target = getSketch(sketchValue);
+    if (add(target, increment)) {
+      store(target, sketchBytes, PropertyValue.OFFSET);
+    }
+  }
+
+  /**
+   * Creates a new sketch containing the given increment.
+   *
+   * @param increment first increment
+   * @return sketch value
+   */
+  private PropertyValue createSketch(PropertyValue increment) {
+    byte[] bytes = new byte[PropertyValue.OFFSET + getSketchSize()];
+    bytes[0] = PropertyValue.TYPE_BYTE_ARRAY;
+    PropertyValue sketchValue = PropertyValue.fromRawBytes(bytes);
+    S newSketch = getSketch(sketchValue);
+    initialize(newSketch);
+    add(newSketch, increment);
+    store(newSketch, bytes, PropertyValue.OFFSET);
+    return sketchValue;
+  }
+
+  /**
+   * Returns the sketch stored in the given value. The sketch of the last accessed value is
+   * reused.
+   *
+   * @param value sketch value
+   * @return sketch
+   */
+  private S getSketch(PropertyValue value) {
+    byte[] bytes = value.getRawBytes();
+    if (bytes != sketchBytes) {
+      sketch = wrap(bytes, PropertyValue.OFFSET);
+      sketchBytes = bytes;
+    }
+    return sketch;
+  }
+}
@@ -26,12 +26,15 @@ import org.gradoop.flink.model.impl.operators.grouping.functions.BuildEdgeGroupI
 import org.gradoop.flink.model.impl.operators.grouping.functions.CombineEdgeGroupItems;
 import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceEdgeGroupItems;
 import org.gradoop.flink.model.impl.operators.grouping.functions.UpdateEdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.UpdateEdgeGroupItemBC;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.flink.util.ParallelismUtils;
 
 import java.util.List;
 import java.util.Objects;
@@ -89,6 +92,11 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
    * Used to verify if a grouping key is used for all edges.
    */
   public static final String DEFAULT_EDGE_LABEL_GROUP = ":defaultEdgeLabelGroup";
+  /**
+   * Maximum number of vertices for which the vertex to super vertex mapping is broadcasted if
+   * the decision is based on graph statistics.
+   */
+  public static final long MAX_BROADCAST_VERTEX_COUNT = 1_000_000L;
   /**
    * Gradoop Flink configuration.
    */
@@ -111,23 +119,41 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
    */
   private final List<LabelGroup> edgeLabelGroups;
 
+  /**
+   * True, if the mapping from vertices to super vertices shall be broadcasted to update the edges.
+   */
+  private final boolean broadcastVertexMapping;
+
+  /**
+   * Statistics about the input graph used to decide if the vertex to super vertex mapping shall
+   * be broadcasted, {@code null} if the decision is not based on statistics.
+   */
+  private final GraphStatistics graphStatistics;
+
   /**
    * Creates grouping operator instance.
    *
-   * @param useVertexLabels   group on vertex label true/false
-   * @param useEdgeLabels     group on edge label true/false
-   * @param vertexLabelGroups stores grouping properties for vertex labels
-   * @param edgeLabelGroups   stores grouping properties for edge labels
+   * @param useVertexLabels         group on vertex label true/false
+   * @param useEdgeLabels           group on edge label true/false
+   * @param vertexLabelGroups       stores grouping properties for vertex labels
+   * @param edgeLabelGroups         stores grouping properties for edge labels
+   * @param broadcastVertexMapping  broadcast vertex to super vertex mapping true/false
+   * @param graphStatistics         statistics to select the broadcast of the vertex to super
+   *                                vertex mapping or {@code null}
    */
   Grouping(
     boolean useVertexLabels,
     boolean useEdgeLabels,
     List<LabelGroup> vertexLabelGroups,
-    List<LabelGroup> edgeLabelGroups) {
-    this.useVertexLabels   = useVertexLabels;
-    this.useEdgeLabels     = useEdgeLabels;
-    this.vertexLabelGroups = vertexLabelGroups;
-    this.edgeLabelGroups   = edgeLabelGroups;
+    List<LabelGroup> edgeLabelGroups,
+    boolean broadcastVertexMapping,
+    GraphStatistics graphStatistics) {
+    this.useVertexLabels        = useVertexLabels;
+    this.useEdgeLabels          = useEdgeLabels;
+    this.vertexLabelGroups      = vertexLabelGroups;
+    this.edgeLabelGroups        = edgeLabelGroups;
+    this.broadcastVertexMapping = broadcastVertexMapping;
+    this.graphStatistics        = graphStatistics;
   }
 
   /**
@@ -186,6 +212,28 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     return useEdgeLabels;
   }
 
+  /**
+   * True, iff the vertex to super vertex mapping shall be broadcasted when building super edges.
+   *
+   * If graph statistics are given, the mapping is broadcasted if it contains at most
+   * {@link #MAX_BROADCAST_VERTEX_COUNT} vertices and shipping a copy to each parallel instance
+   * is cheaper than shuffling the edges twice.
+   *
+   * @return true, iff the mapping shall be broadcasted
+   */
+  protected boolean broadcastVertexMapping() {
+    if (broadcastVertexMapping) {
+      return true;
+    }
+    if (graphStatistics == null) {
+      return false;
+    }
+    long vertexCount = graphStatistics.getVertexCount();
+    int parallelism = ParallelismUtils.getParallelism(config.getExecutionEnvironment());
+    return vertexCount <= MAX_BROADCAST_VERTEX_COUNT &&
+      vertexCount * parallelism <= 2 * graphStatistics.getEdgeCount();
+  }
+
   /**
    * Returns tuple which contains the properties used for a specific vertex label.
    *
@@ -212,15 +260,25 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
    */
   protected UnsortedGrouping<VertexGroupItem> groupVertices(
     DataSet<VertexGroupItem> groupVertices) {
-    UnsortedGrouping<VertexGroupItem> vertexGrouping;
+    return groupVertices.groupBy(getVertexGroupingFields());
+  }
+
+  /**
+   * Returns the fields of {@link VertexGroupItem} which identify a vertex group, i.e. the label,
+   * the grouping values or both.
+   *
+   * @return field positions of the group key
+   */
+  protected int[] getVertexGroupingFields() {
+    int[] fields;
     if (useVertexLabels() && useVertexProperties()) {
-      vertexGrouping = groupVertices.groupBy(2, 3);
+      fields = new int[] {2, 3};
     } else if (useVertexLabels()) {
-      vertexGrouping = groupVertices.groupBy(2);
+      fields = new int[] {2};
     } else {
-      vertexGrouping = groupVertices.groupBy(3);
+      fields = new int[] {3};
     }
-    return vertexGrouping;
+    return fields;
   }
 
   /**
@@ -255,9 +313,49 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     LogicalGraph graph,
     DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
 
+    DataSet<EdgeGroupItem> edges = buildEdgeGroupItems(graph, vertexToRepresentativeMap);
+
+    // group + combine
+    DataSet<EdgeGroupItem> combinedEdges = groupEdges(edges)
+      .combineGroup(new CombineEdgeGroupItems(useEdgeLabels()));
+
+    // group + reduce + build final edges
+    return groupEdges(combinedEdges)
+      .reduceGroup(new ReduceEdgeGroupItems(
+        useEdgeLabels(),
+        config.getEdgeFactory()));
+  }
+
+  /**
+   * Maps edges to {@link EdgeGroupItem}s and replaces their source and target ids by the ids of
+   * the corresponding super vertices.
+   *
+   * By default, this requires two joins with the vertex to super vertex mapping, each shuffling
+   * the edges. If the mapping shall be broadcasted, the edges are updated locally using a compact
+   * in-memory copy of the mapping on each worker. This is faster if the edges outnumber the
+   * vertices and the mapping fits into memory.
+   *
+   * @param graph                     input graph
+   * @param vertexToRepresentativeMap dataset containing tuples of vertex id
+   *                                  and super vertex id
+   * @return edge group items pointing to super vertices
+   */
+  protected DataSet<EdgeGroupItem> buildEdgeGroupItems(
+    LogicalGraph graph,
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
+
     DataSet<EdgeGroupItem> edges = graph.getEdges()
       // build edge group items
-      .flatMap(new BuildEdgeGroupItem(useEdgeLabels(), getEdgeLabelGroups()))
+      .flatMap(new BuildEdgeGroupItem(useEdgeLabels(), getEdgeLabelGroups()));
+
+    if (broadcastVertexMapping()) {
+      // replace source-id and target-id using the broadcasted vertex-group-map
+      return edges
+        .flatMap(new UpdateEdgeGroupItemBC())
+        .withBroadcastSet(vertexToRepresentativeMap, UpdateEdgeGroupItemBC.BC_MAPPING);
+    }
+
+    return edges
       // join edges with vertex-group-map on source-id == vertex-id
       .join(vertexToRepresentativeMap)
       .where(0).equalTo(0)
@@ -270,16 +368,6 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
       .with(new UpdateEdgeGroupItem(1))
       .withForwardedFieldsFirst("f0;f2;f3;f4")
       .withForwardedFieldsSecond("f1->f1");
-
-    // group + combine
-    DataSet<EdgeGroupItem> combinedEdges = groupEdges(edges)
-      .combineGroup(new CombineEdgeGroupItems(useEdgeLabels()));
-
-    // group + reduce + build final edges
-    return groupEdges(combinedEdges)
-      .reduceGroup(new ReduceEdgeGroupItems(
-        useEdgeLabels(),
-        config.getEdgeFactory()));
   }
 
   /**
@@ -299,6 +387,14 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
      * Grouping strategy
      */
     private GroupingStrategy strategy;
+    /**
+     * True, iff the vertex to super vertex mapping shall be broadcasted, {@code null} if not set.
+     */
+    private Boolean broadcastVertexMapping;
+    /**
+     * Statistics about the input graph.
+     */
+    private GraphStatistics graphStatistics;
     /**
      * True, iff vertex labels shall be considered.
      */
@@ -369,6 +465,34 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
       return this;
     }
 
+    /**
+     * Define, if the mapping from vertices to super vertices shall be broadcasted to all workers
+     * when building super edges. This avoids shuffling the edges twice but requires the mapping
+     * to fit into the memory of each worker. It pays off for graphs with many more edges than
+     * vertices. Overrides the selection based on {@link #setGraphStatistics(GraphStatistics)}.
+     *
+     * @param broadcastVertexMapping true, iff the mapping shall be broadcasted
+     * @return this builder
+     */
+    public GroupingBuilder setBroadcastVertexMapping(boolean broadcastVertexMapping) {
+      this.broadcastVertexMapping = broadcastVertexMapping;
+      return this;
+    }
+
+    /**
+     * Set statistics about the input graph. Unless set explicitly via
+     * {@link #setBroadcastVertexMapping(boolean)}, the vertex to super vertex mapping is
+     * broadcasted if the statistics indicate that it is small compared to the edges.
+     *
+     * @param graphStatistics statistics about the input graph
+     * @return this builder
+     */
+    public GroupingBuilder setGraphStatistics(GraphStatistics graphStatistics) {
+      Objects.requireNonNull(graphStatistics);
+      this.graphStatistics = graphStatistics;
+      return this;
+    }
+
     /**
      * Adds a property key to the vertex grouping keys for vertices which do not have a specific
      * label group.
@@ -661,16 +785,24 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
         }
       }
 
+      // an explicit broadcast setting takes precedence over the statistics
+      boolean broadcast = broadcastVertexMapping != null && broadcastVertexMapping;
+      GraphStatistics statistics = broadcastVertexMapping == null ? graphStatistics : null;
+
       Grouping groupingOperator;
 
       switch (strategy) {
       case GROUP_REDUCE:
-        groupingOperator = new GroupingGroupReduce(
-          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups);
+        groupingOperator = new GroupingGroupReduce(useVertexLabel, useEdgeLabel,
+          vertexLabelGroups, edgeLabelGroups, broadcast, statistics);
         break;
       case GROUP_COMBINE:
-        groupingOperator = new GroupingGroupCombine(
-          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups);
+        groupingOperator = new GroupingGroupCombine(useVertexLabel, useEdgeLabel,
+          vertexLabelGroups, edgeLabelGroups, broadcast, statistics);
+        break;
+      case HASH_COMBINE:
+        groupingOperator = new GroupingHashCombine(useVertexLabel, useEdgeLabel,
+          vertexLabelGroups, edgeLabelGroups, broadcast, statistics);
         break;
       default:
         throw new IllegalArgumentException("Unsupported strategy: " + strategy);
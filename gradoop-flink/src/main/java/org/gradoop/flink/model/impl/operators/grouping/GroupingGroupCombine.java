@@ -33,6 +33,7 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
 
 import java.util.List;
@@ -68,17 +69,23 @@ public class GroupingGroupCombine extends Grouping {
   /**
    * Creates grouping operator instance.
    *
-   * @param useVertexLabels   group on vertex label true/false
-   * @param useEdgeLabels     group on edge label true/false
-   * @param vertexLabelGroups stores grouping properties for vertex labels
-   * @param edgeLabelGroups   stores grouping properties for edge labels
+   * @param useVertexLabels         group on vertex label true/false
+   * @param useEdgeLabels           group on edge label true/false
+   * @param vertexLabelGroups       stores grouping properties for vertex labels
+   * @param edgeLabelGroups         stores grouping properties for edge labels
+   * @param broadcastVertexMapping  broadcast vertex to super vertex mapping true/false
+   * @param graphStatistics         statistics to select the broadcast of the vertex to super
+   *                                vertex mapping or {@code null}
    */
   GroupingGroupCombine(
     boolean useVertexLabels,
     boolean useEdgeLabels,
     List<LabelGroup> vertexLabelGroups,
-    List<LabelGroup> edgeLabelGroups) {
-    super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups);
+    List<LabelGroup> edgeLabelGroups,
+    boolean broadcastVertexMapping,
+    GraphStatistics graphStatistics) {
+    super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups,
+      broadcastVertexMapping, graphStatistics);
   }
 
   @Override
@@ -0,0 +1,136 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.common.operators.base.ReduceOperatorBase.CombineHint;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.functions.AggregateGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.AssignSuperVertexId;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperEdgeFromGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.UpdateVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+
+import java.util.List;
+
+/**
+ * Grouping implementation that pre-aggregates vertices and edges in hash tables before shuffling
+ * them. This strategy is suited for groupings that lead to a small number of super vertices, e.g.
+ * grouping by label or by a low cardinality property.
+ *
+ * Algorithmic idea:
+ *
+ * 1) Map vertices to a minimal representation, i.e. {@link VertexGroupItem}.
+ * 2) Group vertices on label and/or property and aggregate the items of each group pairwise.
+ *    Flink executes the combine phase in a hash table in managed memory. If the table is full,
+ *    the partial aggregates are emitted and the table is cleared. Only one item per group and
+ *    partition is shuffled.
+ * 3) Assign a new id to each group, which is the id of its super vertex.
+ * 4) Join the vertex group items with the super vertex tuples on the group key to get the super
+ *    vertex id of each vertex. The super vertex tuples are broadcasted, so the vertices are not
+ *    shuffled.
+ * 5) Map edges to a minimal representation, i.e. {@link EdgeGroupItem}
+ * 6) Join edges with output of 4) and replace source/target id with super vertex id.
+ * 7) Group the updated edges by source and target id and optionally by label and/or edge
+ *    property and aggregate them pairwise using a hash combiner.
+ * 8) Create the final super edges.
+ *
+ * Note that all super vertex tuples need to fit into the memory of each worker. For groupings
+ * with many groups, use {@link GroupingGroupReduce} or {@link GroupingGroupCombine} instead.
+ */
+public class GroupingHashCombine extends Grouping {
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param useVertexLabels         group on vertex label true/false
+   * @param useEdgeLabels           group on edge label true/false
+   * @param vertexLabelGroups       stores grouping properties for vertex labels
+   * @param edgeLabelGroups         stores grouping properties for edge labels
+   * @param broadcastVertexMapping  broadcast vertex to super vertex mapping true/false
+   * @param graphStatistics         statistics to select the broadcast of the vertex to super
+   *                                vertex mapping or {@code null}
+   */
+  GroupingHashCombine(
+    boolean useVertexLabels,
+    boolean useEdgeLabels,
+    List<LabelGroup> vertexLabelGroups,
+    List<LabelGroup> edgeLabelGroups,
+    boolean broadcastVertexMapping,
+    GraphStatistics graphStatistics) {
+    super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups,
+      broadcastVertexMapping, graphStatistics);
+  }
+
+  @Override
+  protected LogicalGraph groupInternal(LogicalGraph graph) {
+    // map vertex to vertex group item
+    DataSet<VertexGroupItem> verticesForGrouping = graph.getVertices()
+      .flatMap(new BuildVertexGroupItem(useVertexLabels(), getVertexLabelGroups()));
+
+    // aggregate vertex group items per group using a hash combiner
+    // create super vertex tuple (1 per group)
+    DataSet<VertexGroupItem> superVertexTuples = groupVertices(verticesForGrouping)
+      .reduce(new AggregateGroupItems<>(useVertexLabels()))
+      .setCombineHint(CombineHint.HASH)
+      .map(new AssignSuperVertexId());
+
+    // build super vertices from super vertex tuples
+    DataSet<Vertex> superVertices = superVertexTuples
+      .map(new BuildSuperVertex(useVertexLabels(), config.getVertexFactory()));
+
+    // update the vertex representative of each vertex by joining with the broadcasted groups
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = verticesForGrouping
+      .join(superVertexTuples, JoinHint.BROADCAST_HASH_SECOND)
+      .where(getVertexGroupingFields()).equalTo(getVertexGroupingFields())
+      .with(new UpdateVertexGroupItem())
+      .map(new BuildVertexWithSuperVertex());
+
+    // build super edges
+    DataSet<Edge> superEdges = buildSuperEdges(graph, vertexToRepresentativeMap);
+
+    return config.getLogicalGraphFactory().fromDataSets(superVertices, superEdges);
+  }
+
+  @Override
+  protected DataSet<Edge> buildSuperEdges(
+    LogicalGraph graph,
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
+
+    DataSet<EdgeGroupItem> edges = buildEdgeGroupItems(graph, vertexToRepresentativeMap);
+
+    // aggregate edge group items per group using a hash combiner + build final edges
+    return groupEdges(edges)
+      .reduce(new AggregateGroupItems<>(useEdgeLabels()))
+      .setCombineHint(CombineHint.HASH)
+      .map(new BuildSuperEdgeFromGroupItem(useEdgeLabels(), config.getEdgeFactory()));
+  }
+
+  @Override
+  public String getName() {
+    return GroupingHashCombine.class.getName();
+  }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.common.operators.base.ReduceOperatorBase.CombineHint;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.GroupItem;
+
+import java.util.List;
+
+/**
+ * Merges two group items of the same group by aggregating their aggregate values.
+ *
+ * In contrast to {@link ReduceVertexGroupItems} and {@link CombineEdgeGroupItems}, this function
+ * only sees two items at a time. This allows Flink to pre-aggregate the items in a hash table
+ * before shuffling them (see {@link CombineHint#HASH}).
+ *
+ * @param <T> vertex or edge group item
+ */
+public class AggregateGroupItems<T extends GroupItem> extends BuildBase
+  implements ReduceFunction<T> {
+
+  /**
+   * Creates reduce function.
+   *
+   * @param useLabel true, iff labels are used for grouping
+   */
+  public AggregateGroupItems(boolean useLabel) {
+    super(useLabel);
+  }
+
+  @Override
+  public T reduce(T first, T second) throws Exception {
+    List<PropertyValueAggregator> aggregators = first.getLabelGroup().getAggregators();
+    if (doAggregate(aggregators)) {
+      aggregate(first.getAggregateValues(), aggregators);
+      aggregate(second.getAggregateValues(), aggregators);
+      first.setAggregateValues(getAggregateValues(aggregators));
+      resetAggregators(aggregators);
+    }
+    return first;
+  }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+/**
+ * Turns a {@link VertexGroupItem} representing a whole group into a super vertex tuple by
+ * assigning a new super vertex id.
+ */
+@FunctionAnnotation.ForwardedFields(
+    "f2;" + // label
+    "f3;" + // properties
+    "f4;" + // aggregates
+    "f6"    // label group
+)
+public class AssignSuperVertexId implements MapFunction<VertexGroupItem, VertexGroupItem> {
+
+  @Override
+  public VertexGroupItem map(VertexGroupItem groupItem) throws Exception {
+    GradoopId superVertexId = GradoopId.get();
+    groupItem.setVertexId(superVertexId);
+    groupItem.setSuperVertexId(superVertexId);
+    groupItem.setSuperVertex(true);
+    return groupItem;
+  }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+
+/**
+ * Creates a super edge from an {@link EdgeGroupItem} which already represents the whole group.
+ */
+@FunctionAnnotation.ForwardedFields("f0->sourceId;f1->targetId;f2->label")
+@FunctionAnnotation.ReadFields("f3;f4;f5")
+public class BuildSuperEdgeFromGroupItem
+  extends BuildBase
+  implements MapFunction<EdgeGroupItem, Edge>, ResultTypeQueryable<Edge> {
+
+  /**
+   * Edge factory.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Creates map function.
+   *
+   * @param useLabel        true, iff labels are used for grouping
+   * @param epgmEdgeFactory edge factory
+   */
+  public BuildSuperEdgeFromGroupItem(boolean useLabel, EPGMEdgeFactory<Edge> epgmEdgeFactory) {
+    super(useLabel);
+    this.edgeFactory = epgmEdgeFactory;
+  }
+
+  @Override
+  public Edge map(EdgeGroupItem edgeGroupItem) throws Exception {
+    Edge superEdge = edgeFactory.createEdge(
+      edgeGroupItem.getGroupLabel(),
+      edgeGroupItem.getSourceId(),
+      edgeGroupItem.getTargetId());
+
+    setGroupProperties(
+      superEdge, edgeGroupItem.getGroupingValues(), edgeGroupItem.getLabelGroup());
+    setAggregateValues(
+      superEdge,
+      edgeGroupItem.getAggregateValues(),
+      edgeGroupItem.getLabelGroup().getAggregators());
+
+    return superEdge;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public TypeInformation<Edge> getProducedType() {
+    return TypeExtractor.createTypeInfo(edgeFactory.getType());
+  }
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.BroadcastVariableInitializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact hash multimap from vertex ids to the ids of their super vertices.
+ *
+ * Vertex ids are stored in a single byte array using open addressing with linear probing. Each
+ * slot references one of the (few) distinct super vertex ids by its index. A vertex may be
+ * contained multiple times if it is represented by multiple super vertices, i.e. if it is part of
+ * multiple label groups. Slots of a vertex are iterated via {@link #firstSlot(GradoopId, byte[])}
+ * and {@link #nextSlot(int, byte[])}.
+ *
+ * The mapping is read-only after construction and can therefore be shared by all tasks of a task
+ * manager (see {@link Initializer}). The index of the distinct super vertex ids is only needed
+ * while the mapping is built and is not kept.
+ */
+public class SuperVertexMapping {
+  /**
+   * Initial number of slots.
+   */
+  private static final int INITIAL_CAPACITY = 1 << 10;
+  /**
+   * Marks an empty slot.
+   */
+  private static final int EMPTY = -1;
+  /**
+   * Vertex ids, {@link GradoopId#ID_SIZE} bytes per slot.
+   */
+  private byte[] vertexIds;
+  /**
+   * Index of the super vertex id per slot or {@link #EMPTY}.
+   */
+  private int[] superVertexIndices;
+  /**
+   * Distinct super vertex ids.
+   */
+  private final List<GradoopId> superVertexIds;
+  /**
+   * Number of used slots.
+   */
+  private int size;
+
+  /**
+   * Creates the mapping from the given tuples.
+   *
+   * @param tuples mappings from vertex ids to super vertex ids
+   */
+  public SuperVertexMapping(Iterable<VertexWithSuperVertex> tuples) {
+    this.superVertexIds = new ArrayList<>();
+    allocate(INITIAL_CAPACITY);
+    Map<GradoopId, Integer> superVertexIdIndex = new HashMap<>();
+    for (VertexWithSuperVertex tuple : tuples) {
+      put(tuple.f0, tuple.getSuperVertexId(), superVertexIdIndex);
+    }
+  }
+
+  /**
+   * Adds a mapping from a vertex id to a super vertex id.
+   *
+   * @param vertexId vertex id
+   * @param superVertexId super vertex id
+   * @param superVertexIdIndex index of each super vertex id in {@link #superVertexIds}
+   */
+  private void put(GradoopId vertexId, GradoopId superVertexId,
+    Map<GradoopId, Integer> superVertexIdIndex) {
+    if (2 * (size + 1) > superVertexIndices.length) {
+      grow();
+    }
+    Integer index = superVertexIdIndex.get(superVertexId);
+    if (index == null) {
+      index = superVertexIds.size();
+      superVertexIds.add(superVertexId);
+      superVertexIdIndex.put(superVertexId, index);
+    }
+    int slot = bucket(vertexId);
+    while (superVertexIndices[slot] != EMPTY) {
+      slot = (slot + 1) & (superVertexIndices.length - 1);
+    }
+    vertexId.toByteArray(vertexIds, slot * GradoopId.ID_SIZE);
+    superVertexIndices[slot] = index;
+    size++;
+  }
+
+  /**
+   * Returns the first slot containing the given vertex id.
+   *
+   * @param vertexId vertex id
+   * @param key buffer of size {@link GradoopId#ID_SIZE} which is used to store the key bytes,
+   *            needs to be passed to {@link #nextSlot(int, byte[])}
+   * @return slot or a negative value if the vertex is not contained
+   */
+  public int firstSlot(GradoopId vertexId, byte[] key) {
+    vertexId.toByteArray(key, 0);
+    return find(bucket(vertexId), key);
+  }
+
+  /**
+   * Returns the next slot containing the same vertex id as the given slot.
+   *
+   * @param slot current slot
+   * @param key key bytes as filled by {@link #firstSlot(GradoopId, byte[])}
+   * @return slot or a negative value if there are no more slots for the vertex
+   */
+  public int nextSlot(int slot, byte[] key) {
+    return find((slot + 1) & (superVertexIndices.length - 1), key);
+  }
+
+  /**
+   * Returns the super vertex id stored in the given slot.
+   *
+   * @param slot slot
+   * @return super vertex id
+   */
+  public GradoopId getSuperVertexId(int slot) {
+    return superVertexIds.get(superVertexIndices[slot]);
+  }
+
+  /**
+   * Returns the number of stored mappings.
+   *
+   * @return number of mappings
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Probes the slots starting at the given one until the key or an empty slot is found.
+   *
+   * @param start first slot to probe
+   * @param key key bytes
+   * @return slot containing the key or {@link #EMPTY}
+   */
+  private int find(int start, byte[] key) {
+    int slot = start;
+    while (superVertexIndices[slot] != EMPTY) {
+      if (keyEquals(slot, key)) {
+        return slot;
+      }
+      slot = (slot + 1) & (superVertexIndices.length - 1);
+    }
+    return EMPTY;
+  }
+
+  /**
+   * Checks if the given slot contains the key.
+   *
+   * @param slot slot
+   * @param key key bytes
+   * @return true, iff the slot contains the key
+   */
+  private boolean keyEquals(int slot, byte[] key) {
+    int offset = slot * GradoopId.ID_SIZE;
+    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
+      if (vertexIds[offset + i] != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the initial slot of the given vertex id.
+   *
+   * @param vertexId vertex id
+   * @return slot
+   */
+  private int bucket(GradoopId vertexId) {
+    int hash = vertexId.hashCode();
+    return (hash ^ (hash >>> 16)) & (superVertexIndices.length - 1);
+  }
+
+  /**
+   * Allocates empty slots.
+   *
+   * @param capacity number of slots, power of two
+   */
+  private void allocate(int capacity) {
+    vertexIds = new byte[capacity * GradoopId.ID_SIZE];
+    superVertexIndices = new int[capacity];
+    Arrays.fill(superVertexIndices, EMPTY);
+  }
+
+  /**
+   * Doubles the number of slots and re-inserts all mappings.
+   */
+  private void grow() {
+    byte[] oldVertexIds = vertexIds;
+    int[] oldSuperVertexIndices = superVertexIndices;
+    allocate(oldSuperVertexIndices.length * 2);
+
+    for (int oldSlot = 0; oldSlot < oldSuperVertexIndices.length; oldSlot++) {
+      if (oldSuperVertexIndices[oldSlot] != EMPTY) {
+        GradoopId vertexId =
+          GradoopId.fromByteArray(oldVertexIds, oldSlot * GradoopId.ID_SIZE);
+        int slot = bucket(vertexId);
+        while (superVertexIndices[slot] != EMPTY) {
+          slot = (slot + 1) & (superVertexIndices.length - 1);
+        }
+        System.arraycopy(oldVertexIds, oldSlot * GradoopId.ID_SIZE,
+          vertexIds, slot * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+        superVertexIndices[slot] = oldSuperVertexIndices[oldSlot];
+      }
+    }
+  }
+
+  /**
+   * Builds the mapping from a broadcast set of {@link VertexWithSuperVertex} tuples once per
+   * task manager.
+   */
+  public static class Initializer
+    implements BroadcastVariableInitializer<VertexWithSuperVertex, SuperVertexMapping> {
+
+    @Override
+    public SuperVertexMapping initializeBroadcastVariable(Iterable<VertexWithSuperVertex> data) {
+      return new SuperVertexMapping(data);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+
+/**
+ * Replaces source and target id of an {@link EdgeGroupItem} by the ids of the corresponding super
+ * vertices. The mapping from vertices to super vertices is broadcasted as
+ * {@link VertexWithSuperVertex} tuples and held in a {@link SuperVertexMapping}.
+ *
+ * Produces the same result as two joins with the mapping on source and target id, but does not
+ * need to shuffle the edges.
+ */
+@FunctionAnnotation.ForwardedFields(
+    "f2;" + // label
+    "f3;" + // properties
+    "f4;" + // aggregates
+    "f5"    // label group
+)
+public class UpdateEdgeGroupItemBC extends RichFlatMapFunction<EdgeGroupItem, EdgeGroupItem> {
+  /**
+   * Broadcast set name for the vertex to super vertex mapping.
+   */
+  public static final String BC_MAPPING = "mapping";
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Mapping from vertex ids to super vertex ids, shared by all tasks of the task manager.
+   */
+  private transient SuperVertexMapping mapping;
+  /**
+   * Key buffer for source id lookups.
+   */
+  private final byte[] sourceKey;
+  /**
+   * Key buffer for target id lookups.
+   */
+  private final byte[] targetKey;
+
+  /**
+   * Creates the function.
+   */
+  public UpdateEdgeGroupItemBC() {
+    this.sourceKey = new byte[GradoopId.ID_SIZE];
+    this.targetKey = new byte[GradoopId.ID_SIZE];
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    mapping = getRuntimeContext()
+      .getBroadcastVariableWithInitializer(BC_MAPPING, new SuperVertexMapping.Initializer());
+  }
+
+  @Override
+  public void flatMap(EdgeGroupItem edge, Collector<EdgeGroupItem> out) throws Exception {
+    GradoopId sourceId = edge.getSourceId();
+    GradoopId targetId = edge.getTargetId();
+
+    // usually there is exactly one super vertex per vertex
+    int sourceSlot = mapping.firstSlot(sourceId, sourceKey);
+    while (sourceSlot >= 0) {
+      int targetSlot = mapping.firstSlot(targetId, targetKey);
+      while (targetSlot >= 0) {
+        edge.setSourceId(mapping.getSuperVertexId(sourceSlot));
+        edge.setTargetId(mapping.getSuperVertexId(targetSlot));
+        out.collect(edge);
+        targetSlot = mapping.nextSlot(targetSlot, targetKey);
+      }
+      sourceSlot = mapping.nextSlot(sourceSlot, sourceKey);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+/**
+ * Sets the super vertex id of a vertex group item to the id of the super vertex representing its
+ * group.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst(
+    "f0;" + // vertex id
+    "f2;" + // label
+    "f3;" + // properties
+    "f6"    // label group
+)
+@FunctionAnnotation.ForwardedFieldsSecond("f1")
+public class UpdateVertexGroupItem
+  implements JoinFunction<VertexGroupItem, VertexGroupItem, VertexGroupItem> {
+
+  @Override
+  public VertexGroupItem join(VertexGroupItem vertex, VertexGroupItem superVertex)
+    throws Exception {
+    vertex.setSuperVertexId(superVertex.getSuperVertexId());
+    return vertex;
+  }
+}
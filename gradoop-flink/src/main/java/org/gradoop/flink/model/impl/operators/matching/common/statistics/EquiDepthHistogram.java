@@ -0,0 +1,261 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Equi-depth histogram of the values of a single property, i.e. each bucket contains
+ * approximately the same number of property values.
+ *
+ * The histogram is represented by the sorted bucket boundaries b_0, ..., b_n, where b_0 is the
+ * minimum and b_n the maximum value. Bucket i contains the values in [b_i, b_i+1]. All boundaries
+ * are of the same type.
+ */
+public class EquiDepthHistogram {
+  /**
+   * Number of property values represented by the histogram
+   */
+  private final long count;
+  /**
+   * Sorted bucket boundaries
+   */
+  private final List<PropertyValue> boundaries;
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param count number of property values represented by the histogram
+   * @param boundaries sorted bucket boundaries (at least one)
+   */
+  public EquiDepthHistogram(long count, List<PropertyValue> boundaries) {
+    if (boundaries.isEmpty()) {
+      throw new IllegalArgumentException("Histogram requires at least one boundary");
+    }
+    this.count = count;
+    this.boundaries = boundaries;
+  }
+
+  /**
+   * Builds a histogram with at most the specified number of buckets from the given value
+   * frequencies.
+   *
+   * Only values of the most frequent type are considered, where all numeric types are treated
+   * as one. Maps, lists and {@code null} values are ignored. The number of buckets is limited by
+   * the number of distinct values.
+   *
+   * @param valueCounts frequency of each distinct property value
+   * @param bucketCount maximum number of buckets
+   * @return histogram or {@code null} if there are no comparable values
+   */
+  public static EquiDepthHistogram create(Map<PropertyValue, Long> valueCounts, int bucketCount) {
+    Map<Object, Long> countsByType = new HashMap<>();
+    for (Map.Entry<PropertyValue, Long> entry : valueCounts.entrySet()) {
+      if (isSupported(entry.getKey())) {
+        countsByType.merge(getTypeKey(entry.getKey()), entry.getValue(), Long::sum);
+      }
+    }
+    if (countsByType.isEmpty()) {
+      return null;
+    }
+    Object typeKey = countsByType.entrySet().stream()
+      .max(Map.Entry.comparingByValue())
+      .get().getKey();
+    long count = countsByType.get(typeKey);
+
+    List<PropertyValue> values = valueCounts.keySet().stream()
+      .filter(value -> isSupported(value) && getTypeKey(value).equals(typeKey))
+      .sorted(EquiDepthHistogram::compare)
+      .collect(Collectors.toList());
+
+    int buckets = Math.max(1, Math.min(bucketCount, values.size() - 1));
+    List<PropertyValue> boundaries = new ArrayList<>(buckets + 1);
+    boundaries.add(values.get(0));
+    if (values.size() > 1) {
+      long cumulativeCount = 0;
+      int bucket = 1;
+      for (PropertyValue value : values) {
+        cumulativeCount += valueCounts.get(value);
+        // a single value may close several buckets
+        while (bucket <= buckets && cumulativeCount * buckets >= bucket * count) {
+          boundaries.add(value);
+          bucket++;
+        }
+      }
+    }
+    return new EquiDepthHistogram(count, boundaries);
+  }
+
+  /**
+   * Returns the number of property values represented by the histogram.
+   *
+   * @return number of property values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the sorted bucket boundaries.
+   *
+   * @return bucket boundaries
+   */
+  public List<PropertyValue> getBoundaries() {
+    return boundaries;
+  }
+
+  /**
+   * Returns the number of buckets.
+   *
+   * @return number of buckets
+   */
+  public int getBucketCount() {
+    return Math.max(1, boundaries.size() - 1);
+  }
+
+  /**
+   * Checks if the specified value can be located in the histogram, i.e. if it is of the same type
+   * as the bucket boundaries or if both are numbers.
+   *
+   * @param value property value
+   * @return true, iff {@link #getFractionLessThan(PropertyValue)} supports the value
+   */
+  public boolean isComparable(PropertyValue value) {
+    PropertyValue min = boundaries.get(0);
+    return isNumber(min) && isNumber(value) ||
+      min.getType() != null && min.getType().equals(value.getType()) &&
+        !value.isMap() && !value.isList();
+  }
+
+  /**
+   * Estimates the fraction of the property values that are strictly less than the specified
+   * value. Inside a bucket, numeric values are assumed to be uniformly distributed. For all other
+   * types, half of the bucket is assumed to be less than the value.
+   *
+   * @param value property value
+   * @return fraction of property values less than the given value
+   */
+  public double getFractionLessThan(PropertyValue value) {
+    if (boundaries.size() == 1) {
+      return compare(boundaries.get(0), value) < 0 ? 1d : 0d;
+    }
+    double fraction = 0d;
+    for (int i = 0; i < boundaries.size() - 1; i++) {
+      PropertyValue lower = boundaries.get(i);
+      PropertyValue upper = boundaries.get(i + 1);
+      if (compare(upper, value) < 0) {
+        fraction += 1d;
+      } else if (compare(lower, value) < 0) {
+        fraction += interpolate(lower, upper, value);
+      }
+    }
+    return fraction / getBucketCount();
+  }
+
+  /**
+   * Checks if the specified value is outside the range of the histogram.
+   *
+   * @param value property value
+   * @return true, iff the value is smaller than the minimum or larger than the maximum
+   */
+  public boolean isOutOfRange(PropertyValue value) {
+    return compare(value, boundaries.get(0)) < 0 ||
+      compare(value, boundaries.get(boundaries.size() - 1)) > 0;
+  }
+
+  /**
+   * Estimates the fraction of bucket [lower, upper] that is less than the specified value with
+   * lower < value <= upper.
+   *
+   * @param lower lower bucket boundary
+   * @param upper upper bucket boundary
+   * @param value property value
+   * @return fraction of the bucket less than value
+   */
+  private static double interpolate(PropertyValue lower, PropertyValue upper,
+    PropertyValue value) {
+    if (isNumber(lower) && isNumber(value)) {
+      double low = toDouble(lower);
+      double width = toDouble(upper) - low;
+      return width > 0 ? Math.min(1d, (toDouble(value) - low) / width) : 1d;
+    }
+    return 0.5;
+  }
+
+  /**
+   * Compares two values that are either both numbers or of the same type.
+   *
+   * @param first first value
+   * @param second second value
+   * @return comparison result
+   */
+  private static int compare(PropertyValue first, PropertyValue second) {
+    return isNumber(first) && isNumber(second) ?
+      Double.compare(toDouble(first), toDouble(second)) : first.compareTo(second);
+  }
+
+  /**
+   * Checks if the specified value can be part of a histogram.
+   *
+   * @param value property value
+   * @return true, iff the value is neither {@code null} nor a map or list
+   */
+  private static boolean isSupported(PropertyValue value) {
+    return !value.isNull() && !value.isMap() && !value.isList();
+  }
+
+  /**
+   * Returns a key that is equal for all values that can be compared with each other.
+   *
+   * @param value property value
+   * @return type key
+   */
+  private static Object getTypeKey(PropertyValue value) {
+    return isNumber(value) ? Number.class : value.getType();
+  }
+
+  /**
+   * Checks if the specified value represents a number.
+   *
+   * @param value property value
+   * @return true, iff the value is a number
+   */
+  private static boolean isNumber(PropertyValue value) {
+    return value.isInt() || value.isLong() || value.isFloat() || value.isDouble() ||
+      value.isBigDecimal();
+  }
+
+  /**
+   * Converts a number to double.
+   *
+   * @param value numeric property value
+   * @return double value
+   */
+  private static double toDouble(PropertyValue value) {
+    return ((Number) value.getObject()).doubleValue();
+  }
+
+  @Override
+  public String toString() {
+    return "EquiDepthHistogram{count=" + count + ", boundaries=" + boundaries + '}';
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 
 import java.util.Collections;
@@ -84,6 +85,22 @@ public class GraphStatistics {
    * Number of distinct vertex property values for property names
    */
   private Map<String, Long> distinctVertexProperties;
+  /**
+   * Histogram of edge property values of a given label - property name pair
+   */
+  private Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel;
+  /**
+   * Histogram of vertex property values of a given label - property name pair
+   */
+  private Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel;
+  /**
+   * Most common edge property values and their frequency of a given label - property name pair
+   */
+  private Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonEdgePropertiesByLabel;
+  /**
+   * Most common vertex property values and their frequency of a given label - property name pair
+   */
+  private Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonVertexPropertiesByLabel;
 
   /**
    * Constructor using basic statistics.
@@ -140,6 +157,55 @@ public class GraphStatistics {
     Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
     Map<String, Long> distinctEdgeProperties,
     Map<String, Long> distinctVertexProperties) {
+    this(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
+      edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
+      distinctSourceVertexCount, distinctTargetVertexCount,
+      distinctSourceVertexCountByEdgeLabel, distinctTargetVertexCountByEdgeLabel,
+      distinctEdgePropertiesByLabel, distinctVertexPropertiesByLabel,
+      distinctEdgeProperties, distinctVertexProperties,
+      Collections.emptyMap(),
+      Collections.emptyMap(),
+      Collections.emptyMap(),
+      Collections.emptyMap());
+  }
+
+  /**
+   * Constructor including property value distributions.
+   *
+   * @param vertexCount number of vertices
+   * @param edgeCount number of edges
+   * @param vertexCountByLabel number of vertices by label
+   * @param edgeCountByLabel number of edges by label
+   * @param edgeCountBySourceVertexAndEdgeLabel number of edges by source vertex and edge label
+   * @param edgeCountByTargetVertexAndEdgeLabel number of edges by target vertex and edge label
+   * @param distinctSourceVertexCount number of distinct source vertices
+   * @param distinctTargetVertexCount number of distinct target vertices
+   * @param distinctSourceVertexCountByEdgeLabel number of distinct source vertices by edge label
+   * @param distinctTargetVertexCountByEdgeLabel number of distinct target vertices by edge label
+   * @param distinctEdgePropertiesByLabel (label,property) -> distinct values
+   * @param distinctVertexPropertiesByLabel (label,property) -> distinct values
+   * @param distinctEdgeProperties (edge property) -> distinct values
+   * @param distinctVertexProperties (vertex property) -> distinct values
+   * @param edgePropertyHistogramsByLabel (label,property) -> histogram
+   * @param vertexPropertyHistogramsByLabel (label,property) -> histogram
+   * @param mostCommonEdgePropertiesByLabel (label,property) -> (value -> frequency)
+   * @param mostCommonVertexPropertiesByLabel (label,property) -> (value -> frequency)
+   */
+  GraphStatistics(long vertexCount, long edgeCount, Map<String, Long> vertexCountByLabel,
+    Map<String, Long> edgeCountByLabel,
+    Map<String, Map<String, Long>> edgeCountBySourceVertexAndEdgeLabel,
+    Map<String, Map<String, Long>> edgeCountByTargetVertexAndEdgeLabel,
+    long distinctSourceVertexCount, long distinctTargetVertexCount,
+    Map<String, Long> distinctSourceVertexCountByEdgeLabel,
+    Map<String, Long> distinctTargetVertexCountByEdgeLabel,
+    Map<String, Map<String, Long>> distinctEdgePropertiesByLabel,
+    Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
+    Map<String, Long> distinctEdgeProperties,
+    Map<String, Long> distinctVertexProperties,
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel,
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel,
+    Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonEdgePropertiesByLabel,
+    Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonVertexPropertiesByLabel) {
     this.vertexCount = vertexCount;
     this.edgeCount = edgeCount;
     this.vertexCountByLabel = vertexCountByLabel;
@@ -154,6 +220,10 @@ public class GraphStatistics {
     this.distinctVertexPropertiesByLabel = distinctVertexPropertiesByLabel;
     this.distinctEdgeProperties = distinctEdgeProperties;
     this.distinctVertexProperties = distinctVertexProperties;
+    this.edgePropertyHistogramsByLabel = edgePropertyHistogramsByLabel;
+    this.vertexPropertyHistogramsByLabel = vertexPropertyHistogramsByLabel;
+    this.mostCommonEdgePropertiesByLabel = mostCommonEdgePropertiesByLabel;
+    this.mostCommonVertexPropertiesByLabel = mostCommonVertexPropertiesByLabel;
   }
 
   /**
@@ -306,6 +376,58 @@ public class GraphStatistics {
       distinctEdgePropertiesByLabel.get(edgeLabel).getOrDefault(propertyName, 0L) : 0;
   }
 
+  /**
+   * Returns the histogram of the property values for given vertex label property name pair.
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return histogram or {@code null} if there is none for the pair
+   */
+  public EquiDepthHistogram getVertexPropertyHistogram(String vertexLabel, String propertyName) {
+    return vertexPropertyHistogramsByLabel.getOrDefault(vertexLabel, Collections.emptyMap())
+      .get(propertyName);
+  }
+
+  /**
+   * Returns the histogram of the property values for given edge label property name pair.
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return histogram or {@code null} if there is none for the pair
+   */
+  public EquiDepthHistogram getEdgePropertyHistogram(String edgeLabel, String propertyName) {
+    return edgePropertyHistogramsByLabel.getOrDefault(edgeLabel, Collections.emptyMap())
+      .get(propertyName);
+  }
+
+  /**
+   * Returns the most common property values and their frequency for given vertex label property
+   * name pair, e.g. (Person, city) -> {Dresden=3, Leipzig=2}
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return most common values with frequency, empty if there are none
+   */
+  public Map<PropertyValue, Long> getMostCommonVertexProperties(String vertexLabel,
+    String propertyName) {
+    return mostCommonVertexPropertiesByLabel.getOrDefault(vertexLabel, Collections.emptyMap())
+      .getOrDefault(propertyName, Collections.emptyMap());
+  }
+
+  /**
+   * Returns the most common property values and their frequency for given edge label property
+   * name pair, e.g. (knows, since) -> {2014=4, 2013=3}
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return most common values with frequency, empty if there are none
+   */
+  public Map<PropertyValue, Long> getMostCommonEdgeProperties(String edgeLabel,
+    String propertyName) {
+    return mostCommonEdgePropertiesByLabel.getOrDefault(edgeLabel, Collections.emptyMap())
+      .getOrDefault(propertyName, Collections.emptyMap());
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("GraphStatistics{");
@@ -337,6 +459,14 @@ public class GraphStatistics {
       .append(distinctVertexPropertiesByLabel);
     sb.append(String.format(",%n distinctEdgePropertiesByLabel="))
       .append(distinctEdgePropertiesByLabel);
+    sb.append(String.format(",%n vertexPropertyHistogramsByLabel="))
+      .append(vertexPropertyHistogramsByLabel);
+    sb.append(String.format(",%n edgePropertyHistogramsByLabel="))
+      .append(edgePropertyHistogramsByLabel);
+    sb.append(String.format(",%n mostCommonVertexPropertiesByLabel="))
+      .append(mostCommonVertexPropertiesByLabel);
+    sb.append(String.format(",%n mostCommonEdgePropertiesByLabel="))
+      .append(mostCommonEdgePropertiesByLabel);
 
     sb.append(String.format("%n}"));
     return sb.toString();
@@ -0,0 +1,105 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Reads {@link GraphStatistics} from (statistic, key, value) tuples, e.g. computed by
+ * {@link org.gradoop.flink.model.impl.operators.statistics.GraphStatisticsCollector}.
+ *
+ * The statistic of each tuple is the name of the corresponding file and the key contains the
+ * comma-separated key tokens of a line in that file. Missing statistics are treated as empty.
+ */
+public class GraphStatisticsDataSetReader extends GraphStatisticsReader {
+  /**
+   * Collects the given statistics and creates a {@link GraphStatistics} object from them.
+   *
+   * @param statistics (statistic, key, value) tuples
+   * @return graph statistics
+   * @throws Exception if collecting the data set fails
+   */
+  public static GraphStatistics read(DataSet<Tuple3<String, String, Long>> statistics)
+      throws Exception {
+    return read(statistics.collect());
+  }
+
+  /**
+   * Creates a {@link GraphStatistics} object from the given statistics.
+   *
+   * @param statistics (statistic, key, value) tuples
+   * @return graph statistics
+   * @throws IOException if a statistic is malformed
+   */
+  public static GraphStatistics read(Collection<Tuple3<String, String, Long>> statistics)
+      throws IOException {
+
+    Map<String, List<String>> lines = new HashMap<>();
+    for (Tuple3<String, String, Long> statistic : statistics) {
+      lines.computeIfAbsent(statistic.f0, k -> new ArrayList<>()).add(statistic.f1.isEmpty() ?
+        statistic.f2.toString() : statistic.f1 + TOKEN_SEPARATOR + statistic.f2);
+    }
+
+    return new GraphStatistics(
+      readSingleValue(getLines(lines, FILE_VERTEX_COUNT)),
+      readSingleValue(getLines(lines, FILE_EDGE_COUNT)),
+      readKeyValueMap(getLines(lines, FILE_VERTEX_COUNT_BY_LABEL)),
+      readKeyValueMap(getLines(lines, FILE_EDGE_COUNT_BY_LABEL)),
+      readNestedKeyValueMap(getLines(lines, FILE_EDGE_COUNT_BY_SOURCE_VERTEX_AND_EDGE_LABEL)),
+      readNestedKeyValueMap(getLines(lines, FILE_EDGE_COUNT_BY_TARGET_VERTEX_AND_EDGE_LABEL)),
+      readSingleValue(getLines(lines, FILE_DISTINCT_SOURCE_VERTEX_COUNT)),
+      readSingleValue(getLines(lines, FILE_DISTINCT_TARGET_VERTEX_COUNT)),
+      readKeyValueMap(getLines(lines, FILE_DISTINCT_SOURCE_VERTEX_COUNT_BY_EDGE_LABEL)),
+      readKeyValueMap(getLines(lines, FILE_DISTINCT_TARGET_VERTEX_COUNT_BY_EDGE_LABEL)),
+      readNestedKeyValueMap(getLines(lines, FILE_DISTINCT_EDGE_PROPERTIES_BY_LABEL)),
+      readNestedKeyValueMap(getLines(lines, FILE_DISTINCT_VERTEX_PROPERTIES_BY_LABEL)),
+      readKeyValueMap(getLines(lines, FILE_DISTINCT_EDGE_PROPERTIES)),
+      readKeyValueMap(getLines(lines, FILE_DISTINCT_VERTEX_PROPERTIES)));
+  }
+
+  /**
+   * Returns the lines of the given statistic. Single value statistics default to zero.
+   *
+   * @param lines statistic -> lines
+   * @param statistic name of the statistic
+   * @return stream of lines
+   */
+  private static Stream<String> getLines(Map<String, List<String>> lines, String statistic) {
+    List<String> statisticLines = lines.get(statistic);
+    if (statisticLines != null) {
+      return statisticLines.stream();
+    }
+    switch (statistic) {
+    case FILE_VERTEX_COUNT:
+    case FILE_EDGE_COUNT:
+    case FILE_DISTINCT_SOURCE_VERTEX_COUNT:
+    case FILE_DISTINCT_TARGET_VERTEX_COUNT:
+      return Stream.of("0");
+    default:
+      return Collections.<String>emptyList().stream();
+    }
+  }
+}
@@ -18,11 +18,13 @@ package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -33,7 +35,7 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all mandatory files to be present and formatted according to the docs.
    *
    * @param inputPath path to directory containing statistics files
    * @param configuration Hadoop configuration
@@ -60,6 +62,14 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
     Map<String, Map<String, Long>> distinctPropertyValuesByVertexLabelAndPropertyName;
     Map<String, Long> distinctEdgePropertyValuesByPropertyName;
     Map<String, Long> distinctVertexPropertyValuesByPropertyName;
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel =
+      Collections.emptyMap();
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel =
+      Collections.emptyMap();
+    Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonEdgePropertiesByLabel =
+      Collections.emptyMap();
+    Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonVertexPropertiesByLabel =
+      Collections.emptyMap();
 
     Path p = new Path(root, GraphStatisticsReader.FILE_VERTEX_COUNT);
     try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
@@ -135,11 +145,41 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
       distinctVertexPropertyValuesByPropertyName = readKeyValueMap(br.lines());
     }
 
+    p = new Path(root, GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        edgePropertyHistogramsByLabel = readHistograms(br.lines());
+      }
+    }
+
+    p = new Path(root, GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        vertexPropertyHistogramsByLabel = readHistograms(br.lines());
+      }
+    }
+
+    p = new Path(root, GraphStatisticsReader.FILE_MOST_COMMON_EDGE_PROPERTIES_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        mostCommonEdgePropertiesByLabel = readMostCommonValues(br.lines());
+      }
+    }
+
+    p = new Path(root, GraphStatisticsReader.FILE_MOST_COMMON_VERTEX_PROPERTIES_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        mostCommonVertexPropertiesByLabel = readMostCommonValues(br.lines());
+      }
+    }
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount, distinctSourceVertexCountByEdgeLabel,
       distinctTargetVertexCountByEdgeLabel, distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
-      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName);
+      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel, vertexPropertyHistogramsByLabel,
+      mostCommonEdgePropertiesByLabel, mostCommonVertexPropertiesByLabel);
   }
 }
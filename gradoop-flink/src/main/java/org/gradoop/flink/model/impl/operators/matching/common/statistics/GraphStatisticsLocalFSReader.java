@@ -15,12 +15,15 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -31,7 +34,7 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all mandatory files to be present and formatted according to the docs.
    *
    * @param inputPath path to directory containing statistics files
    * @return graph statistics
@@ -98,6 +101,26 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
     Map<String, Long> distinctVertexPropertyValuesByPropertyName =
       readKeyValueMap(Files.lines(p, charset));
 
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL));
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel =
+      Files.exists(p) ? readHistograms(Files.lines(p, charset)) : Collections.emptyMap();
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL));
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel =
+      Files.exists(p) ? readHistograms(Files.lines(p, charset)) : Collections.emptyMap();
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_MOST_COMMON_EDGE_PROPERTIES_BY_LABEL));
+    Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonEdgePropertiesByLabel =
+      Files.exists(p) ? readMostCommonValues(Files.lines(p, charset)) : Collections.emptyMap();
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_MOST_COMMON_VERTEX_PROPERTIES_BY_LABEL));
+    Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonVertexPropertiesByLabel =
+      Files.exists(p) ? readMostCommonValues(Files.lines(p, charset)) : Collections.emptyMap();
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount,
@@ -105,7 +128,11 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
       distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName,
-      distinctVertexPropertyValuesByPropertyName);
+      distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel,
+      vertexPropertyHistogramsByLabel,
+      mostCommonEdgePropertiesByLabel,
+      mostCommonVertexPropertiesByLabel);
   }
 
 }
@@ -15,8 +15,13 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -166,6 +171,84 @@ public abstract class GraphStatisticsReader {
    */
   public static final String FILE_DISTINCT_VERTEX_PROPERTIES = "distinct_vertex_properties";
 
+  /**
+   * Each line contains the edge label, a property name, the number of property values
+   * represented by the histogram and the bucket boundaries in ascending order. Property values
+   * are encoded using {@link #encodePropertyValue(PropertyValue)}, e.g.
+   *
+   * BOF
+   * knows,since,10,AgAAB90=,AgAAB94=,AgAAB98=
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "edge_property_histograms_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, the number of property values
+   * represented by the histogram and the bucket boundaries in ascending order. Property values
+   * are encoded using {@link #encodePropertyValue(PropertyValue)}, e.g.
+   *
+   * BOF
+   * Person,age,6,AgAAABQ=,AgAAAB4=,AgAAACM=,AgAAACg=
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "vertex_property_histograms_by_label";
+
+  /**
+   * Each line contains the edge label, a property name, one of the most common values for that
+   * pair and its frequency. Property values are encoded using
+   * {@link #encodePropertyValue(PropertyValue)}, e.g.
+   *
+   * BOF
+   * knows,since,AgAAB94=,4
+   * knows,since,AgAAB90=,3
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_MOST_COMMON_EDGE_PROPERTIES_BY_LABEL =
+    "most_common_edge_properties_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, one of the most common values for that
+   * pair and its frequency. Property values are encoded using
+   * {@link #encodePropertyValue(PropertyValue)}, e.g.
+   *
+   * BOF
+   * Person,city,BkRyZXNkZW4=,3
+   * Person,city,BkxlaXB6aWc=,2
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_MOST_COMMON_VERTEX_PROPERTIES_BY_LABEL =
+    "most_common_vertex_properties_by_label";
+
+  /**
+   * Encodes a property value as a single token, i.e. the Base64 representation of its raw bytes.
+   *
+   * @param value property value
+   * @return encoded property value
+   */
+  public static String encodePropertyValue(PropertyValue value) {
+    return Base64.getEncoder().encodeToString(value.getRawBytes());
+  }
+
+  /**
+   * Decodes a property value encoded by {@link #encodePropertyValue(PropertyValue)}.
+   *
+   * @param token encoded property value
+   * @return property value
+   */
+  public static PropertyValue decodePropertyValue(String token) {
+    return PropertyValue.fromRawBytes(Base64.getDecoder().decode(token));
+  }
+
   /**
    * Reads a single {@link Long} value from the specified file.
    *
@@ -222,4 +305,53 @@ public abstract class GraphStatisticsReader {
 
     return mapping;
   }
+
+  /**
+   * Reads histograms from the given file grouped by the first token in each line.
+   *
+   * @param lines stream of lines in the file
+   * @return (label, property) -> histogram
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, EquiDepthHistogram>> readHistograms(Stream<String> lines)
+      throws IOException {
+
+    final Map<String, Map<String, EquiDepthHistogram>> mapping = new HashMap<>();
+
+    lines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> {
+          List<PropertyValue> boundaries = new ArrayList<>(tokens.length - 3);
+          for (int i = 3; i < tokens.length; i++) {
+            boundaries.add(decodePropertyValue(tokens[i]));
+          }
+          mapping.computeIfAbsent(tokens[0], label -> new HashMap<>())
+            .put(tokens[1], new EquiDepthHistogram(Long.parseLong(tokens[2]), boundaries));
+        });
+
+    return mapping;
+  }
+
+  /**
+   * Reads the most common values from the given file grouped by the first and second token in
+   * each line.
+   *
+   * @param lines stream of lines in the file
+   * @return (label, property) -> (value -> frequency)
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, Map<PropertyValue, Long>>> readMostCommonValues(
+    Stream<String> lines) throws IOException {
+
+    final Map<String, Map<String, Map<PropertyValue, Long>>> mapping = new HashMap<>();
+
+    lines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> mapping
+        .computeIfAbsent(tokens[0], label -> new HashMap<>())
+        .computeIfAbsent(tokens[1], property -> new HashMap<>())
+        .put(decodePropertyValue(tokens[2]), Long.parseLong(tokens[3])));
+
+    return mapping;
+  }
 }
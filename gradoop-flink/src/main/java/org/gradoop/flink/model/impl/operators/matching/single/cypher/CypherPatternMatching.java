@@ -30,6 +30,8 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.Print
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.SemiJoinReduction;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp.DynamicProgrammingPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
@@ -65,6 +67,14 @@ public class CypherPatternMatching extends PatternMatching {
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * True, if the search graph is reduced by semi-joins before query planning
+   */
+  private final boolean semiJoinReduction;
+  /**
+   * True, if the query plan is computed by dynamic programming instead of greedy join ordering
+   */
+  private final boolean dynamicProgramming;
 
   /**
    * Instantiates a new operator.
@@ -92,11 +102,54 @@ public class CypherPatternMatching extends PatternMatching {
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      false);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param semiJoinReduction   true, if the data graph shall be reduced by bloom filter
+   *                            semi-joins before query planning (see {@link SemiJoinReduction})
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    boolean semiJoinReduction) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      semiJoinReduction, false);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param semiJoinReduction   true, if the data graph shall be reduced by bloom filter
+   *                            semi-joins before query planning (see {@link SemiJoinReduction})
+   * @param dynamicProgramming  true, if the query plan shall be computed by the
+   *                            {@link DynamicProgrammingPlanner}, false for the
+   *                            {@link GreedyPlanner}
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    boolean semiJoinReduction, boolean dynamicProgramming) {
     super(query, attachData, LOG);
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.semiJoinReduction = semiJoinReduction;
+    this.dynamicProgramming = dynamicProgramming;
   }
 
   @Override
@@ -108,9 +161,13 @@ public class CypherPatternMatching extends PatternMatching {
   protected GraphCollection executeForPattern(LogicalGraph graph) {
     // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
+    LogicalGraph searchGraph = semiJoinReduction ?
+      new SemiJoinReduction(queryHandler, graphStatistics).execute(graph) : graph;
+    QueryPlan plan = dynamicProgramming ?
+      new DynamicProgrammingPlanner(searchGraph, queryHandler, graphStatistics, vertexStrategy,
+        edgeStrategy).plan().getQueryPlan() :
+      new GreedyPlanner(searchGraph, queryHandler, graphStatistics, vertexStrategy,
+        edgeStrategy).plan().getQueryPlan();
 
     // Query execution
     DataSet<Embedding> embeddings = plan.execute();
@@ -0,0 +1,165 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.common.functions.Partitioner;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.AssignHypercubeCells;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.GenericJoin;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.util.ParallelismUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Joins an arbitrary number of embedding data sets on their shared columns in a single step and
+ * checks for vertex/edge isomorphism/homomorphism.
+ *
+ * The operator distributes the inputs using a hypercube shuffle: each join column is assigned a
+ * share and the parallel instances form a hypercube with one dimension per join column. An
+ * embedding is sent to all cells that match the hash values of the join columns it contains,
+ * i.e., it is replicated along the dimensions of the columns it does not contain. Each cell then
+ * computes its part of the result using a generic join which binds one join column after the
+ * other by intersecting the candidate values of all inputs containing that column.
+ *
+ * In contrast to a sequence of binary joins, no intermediate results are materialized. For
+ * cyclic patterns, e.g. triangles, the size of the intermediate results of binary joins can
+ * exceed the final result by orders of magnitude whereas the work of the generic join is bounded
+ * by the worst case output size.
+ *
+ * The resulting embedding has the same layout as if the inputs were joined from left to right
+ * using {@link JoinEmbeddings}.
+ */
+public class MultiwayJoinEmbeddings implements PhysicalOperator {
+  /**
+   * Input embeddings
+   */
+  private final List<DataSet<Embedding>> inputs;
+  /**
+   * For each input the column of each join attribute or -1 if the input does not contain it
+   */
+  private final List<List<Integer>> joinColumns;
+  /**
+   * For each input the columns that are appended to the resulting embedding
+   */
+  private final List<List<Integer>> appendColumns;
+  /**
+   * Columns that represent vertices in the resulting embedding which need to be distinct
+   */
+  private final List<Integer> distinctVertexColumns;
+  /**
+   * Columns that represent edges in the resulting embedding which need to be distinct
+   */
+  private final List<Integer> distinctEdgeColumns;
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Instantiates a new multiway join operator.
+   *
+   * @param inputs embeddings to join
+   * @param joinColumns for each input the column of each join attribute or -1 if the input does
+   *                    not contain the attribute
+   * @param appendColumns for each input the columns appended to the resulting embedding
+   * @param distinctVertexColumns distinct vertex columns of the resulting embedding
+   * @param distinctEdgeColumns distinct edge columns of the resulting embedding
+   */
+  public MultiwayJoinEmbeddings(List<DataSet<Embedding>> inputs,
+    List<List<Integer>> joinColumns, List<List<Integer>> appendColumns,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns) {
+    this.inputs                = inputs;
+    this.joinColumns           = joinColumns;
+    this.appendColumns         = appendColumns;
+    this.distinctVertexColumns = distinctVertexColumns;
+    this.distinctEdgeColumns   = distinctEdgeColumns;
+    this.setName("MultiwayJoinEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    int parallelism = ParallelismUtils.getParallelism(inputs.get(0).getExecutionEnvironment());
+    int[] shares = computeShares(joinColumns.get(0).size(), parallelism);
+
+    DataSet<Tuple3<Integer, Integer, Embedding>> cells = null;
+    for (int i = 0; i < inputs.size(); i++) {
+      DataSet<Tuple3<Integer, Integer, Embedding>> inputCells = inputs.get(i)
+        .flatMap(new AssignHypercubeCells(i, joinColumns.get(i), shares))
+        .name(getName() + " - Hypercube " + i);
+      cells = cells == null ? inputCells : cells.union(inputCells);
+    }
+
+    return cells
+      .groupBy(0)
+      .withPartitioner(new CellPartitioner())
+      .reduceGroup(new GenericJoin(joinColumns, appendColumns,
+        distinctVertexColumns, distinctEdgeColumns))
+      .name(getName());
+  }
+
+  /**
+   * Computes the share, i.e. the number of hypercube partitions, for each join attribute such that
+   * the total number of cells does not exceed the given parallelism. Shares are increased in a
+   * round-robin fashion as long as the number of cells allows it.
+   *
+   * @param attributeCount number of join attributes
+   * @param parallelism available parallelism
+   * @return share of each join attribute
+   */
+  public static int[] computeShares(int attributeCount, int parallelism) {
+    int[] shares = new int[attributeCount];
+    Arrays.fill(shares, 1);
+    int cellCount = 1;
+    boolean increased = true;
+    while (increased) {
+      increased = false;
+      for (int i = 0; i < attributeCount; i++) {
+        int newCellCount = cellCount / shares[i] * (shares[i] + 1);
+        if (newCellCount <= parallelism) {
+          cellCount = newCellCount;
+          shares[i]++;
+          increased = true;
+        }
+      }
+    }
+    return shares;
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Assigns each hypercube cell to its own parallel instance if possible.
+   */
+  private static class CellPartitioner implements Partitioner<Integer> {
+
+    @Override
+    public int partition(Integer cell, int numPartitions) {
+      return cell % numPartitions;
+    }
+  }
+}
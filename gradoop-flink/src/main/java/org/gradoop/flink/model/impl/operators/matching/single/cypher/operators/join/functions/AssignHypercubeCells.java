@@ -0,0 +1,124 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.MultiwayJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.List;
+
+/**
+ * Assigns an embedding to all hypercube cells that match the hash values of the join columns it
+ * contains. For each join attribute the embedding does not contain, it is replicated to all
+ * partitions of that attribute.
+ *
+ * embedding -> (cell, input, embedding)*
+ *
+ * @see MultiwayJoinEmbeddings
+ */
+public class AssignHypercubeCells
+  implements FlatMapFunction<Embedding, Tuple3<Integer, Integer, Embedding>> {
+  /**
+   * Column of each join attribute or -1 if the embedding does not contain it
+   */
+  private final int[] joinColumns;
+  /**
+   * Number of hypercube partitions of each join attribute
+   */
+  private final int[] shares;
+  /**
+   * Hypercube coordinates of the current cell
+   */
+  private final int[] coordinates;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<Integer, Integer, Embedding> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param input index of the input
+   * @param joinColumns column of each join attribute or -1 if the input does not contain it
+   * @param shares number of hypercube partitions of each join attribute
+   */
+  public AssignHypercubeCells(int input, List<Integer> joinColumns, int[] shares) {
+    this.joinColumns = joinColumns.stream().mapToInt(i -> i).toArray();
+    this.shares = shares.clone();
+    this.coordinates = new int[shares.length];
+    this.reuseTuple = new Tuple3<>();
+    this.reuseTuple.f1 = input;
+  }
+
+  @Override
+  public void flatMap(Embedding embedding, Collector<Tuple3<Integer, Integer, Embedding>> out)
+    throws Exception {
+    for (int i = 0; i < joinColumns.length; i++) {
+      coordinates[i] = joinColumns[i] == -1 ? 0 :
+        getCoordinate(embedding.getId(joinColumns[i]).hashCode(), shares[i]);
+    }
+
+    reuseTuple.f2 = embedding;
+    do {
+      reuseTuple.f0 = getCell();
+      out.collect(reuseTuple);
+    } while (nextCoordinates());
+  }
+
+  /**
+   * Maps a hash value to a partition of a join attribute.
+   *
+   * @param hashCode hash value of the join attribute
+   * @param share number of partitions of the join attribute
+   * @return partition of the join attribute
+   */
+  private static int getCoordinate(int hashCode, int share) {
+    return (hashCode & Integer.MAX_VALUE) % share;
+  }
+
+  /**
+   * Computes the cell index of the current coordinates.
+   *
+   * @return cell index
+   */
+  private int getCell() {
+    int cell = 0;
+    for (int i = 0; i < coordinates.length; i++) {
+      cell = cell * shares[i] + coordinates[i];
+    }
+    return cell;
+  }
+
+  /**
+   * Advances the coordinates of join attributes the embedding does not contain to the next cell.
+   *
+   * @return true, iff there is a next cell
+   */
+  private boolean nextCoordinates() {
+    for (int i = 0; i < coordinates.length; i++) {
+      if (joinColumns[i] == -1) {
+        if (++coordinates[i] < shares[i]) {
+          return true;
+        }
+        coordinates[i] = 0;
+      }
+    }
+    return false;
+  }
+}
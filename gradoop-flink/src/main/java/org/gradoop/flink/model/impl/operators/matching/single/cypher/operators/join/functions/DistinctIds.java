@@ -0,0 +1,188 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingBatch;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Checks if the ids stored at a set of embedding columns are distinct. The ids are read from the
+ * raw embedding data, neither ids nor collections are instantiated for id entries.
+ *
+ * Every added id sets one bit of a 64 bit signature which is derived from the id bytes. An id is
+ * only compared byte-wise to the previously added ids if its bit is already set.
+ */
+public class DistinctIds implements Serializable {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Initial number of ids which can be stored without resizing
+   */
+  private static final int INITIAL_CAPACITY = 8;
+  /**
+   * Raw bytes of all added ids
+   */
+  private byte[] ids;
+  /**
+   * Number of added ids
+   */
+  private int count;
+  /**
+   * Signature of all added ids
+   */
+  private long signature;
+  /**
+   * Buffer for an id entry read from an embedding batch
+   */
+  private final byte[] entry = new byte[Embedding.ID_ENTRY_SIZE];
+
+  /**
+   * Creates an empty instance.
+   */
+  public DistinctIds() {
+    this.ids = new byte[INITIAL_CAPACITY * GradoopId.ID_SIZE];
+  }
+
+  /**
+   * Removes all added ids.
+   */
+  public void clear() {
+    count = 0;
+    signature = 0L;
+  }
+
+  /**
+   * Adds the ids stored at the specified columns of the embedding. An id list column is rejected
+   * if none of its ids is new.
+   *
+   * @param embedding embedding
+   * @param columns columns to add
+   * @return false, if an id entry or all ids of an id list have already been added
+   */
+  public boolean addAll(Embedding embedding, int[] columns) {
+    for (int column : columns) {
+      if (!add(embedding, column)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds the id(s) stored at the specified column of the embedding. An id list column is rejected
+   * if none of its ids is new.
+   *
+   * @param embedding embedding
+   * @param column column to add
+   * @return false, if the id entry or all ids of the id list have already been added
+   */
+  public boolean add(Embedding embedding, int column) {
+    byte[] idData = embedding.getIdData();
+    int offset = column * Embedding.ID_ENTRY_SIZE;
+    if (offset >= idData.length) {
+      throw new IndexOutOfBoundsException(column + " >= " + embedding.size());
+    }
+    if (idData[offset] != Embedding.ID_LIST_FLAG) {
+      return add(idData, offset + 1);
+    }
+    boolean added = false;
+    for (GradoopId id : embedding.getIdList(column)) {
+      added |= add(id.toByteArray(), 0);
+    }
+    return added;
+  }
+
+  /**
+   * Adds the id(s) stored at the specified row and column of the batch. An id list column is
+   * rejected if none of its ids is new.
+   *
+   * @param batch embedding batch
+   * @param row index of the embedding in the batch
+   * @param column column to add
+   * @return false, if the id entry or all ids of the id list have already been added
+   */
+  public boolean add(EmbeddingBatch batch, int row, int column) {
+    if (!batch.isIdList(row, column)) {
+      batch.copyIdEntry(row, column, entry, 0);
+      return add(entry, 1);
+    }
+    // id lists are only stored for variable length paths and resolved on the embedding
+    return add(batch.getEmbedding(row), column);
+  }
+
+  /**
+   * Adds the id stored at the specified offset.
+   *
+   * @param source byte array containing the id
+   * @param offset offset of the id
+   * @return false, if the id has already been added
+   */
+  public boolean add(byte[] source, int offset) {
+    long bit = 1L << hash(source, offset);
+    if ((signature & bit) != 0L && contains(source, offset)) {
+      return false;
+    }
+    signature |= bit;
+    if ((count + 1) * GradoopId.ID_SIZE > ids.length) {
+      ids = Arrays.copyOf(ids, ids.length * 2);
+    }
+    System.arraycopy(source, offset, ids, count * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    count++;
+    return true;
+  }
+
+  /**
+   * Compares the id stored at the specified offset with all added ids.
+   *
+   * @param source byte array containing the id
+   * @param offset offset of the id
+   * @return true, if the id has already been added
+   */
+  private boolean contains(byte[] source, int offset) {
+    for (int i = 0; i < count; i++) {
+      int idOffset = i * GradoopId.ID_SIZE;
+      int j = 0;
+      while (j < GradoopId.ID_SIZE && ids[idOffset + j] == source[offset + j]) {
+        j++;
+      }
+      if (j == GradoopId.ID_SIZE) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Maps the id stored at the specified offset to a bit of the signature. The last four bytes
+   * of an id contain its counter and thus differ most between ids.
+   *
+   * @param source byte array containing the id
+   * @param offset offset of the id
+   * @return bit index in [0, 64)
+   */
+  private static int hash(byte[] source, int offset) {
+    int last = offset + GradoopId.ID_SIZE - Integer.BYTES;
+    int value = (source[last] << 24) | ((source[last + 1] & 0xFF) << 16) |
+      ((source[last + 2] & 0xFF) << 8) | (source[last + 3] & 0xFF);
+    return (value * 0x9E3779B9) >>> 26;
+  }
+}
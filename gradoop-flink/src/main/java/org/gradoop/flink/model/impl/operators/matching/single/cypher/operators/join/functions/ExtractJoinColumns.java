@@ -15,8 +15,8 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.apache.flink.api.java.functions.KeySelector;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 
 import java.util.List;
@@ -26,6 +26,10 @@ import java.util.List;
  * identifiers of the specified columns.
  *
  * (id0,id1,...,idn),[0,2] -> "id0id2"
+ *
+ * The key is normalized, i.e. every byte of an identifier is represented by a single character.
+ * All keys thus have a fixed width of {@link GradoopId#ID_SIZE} characters per column and are
+ * read directly from the id data of the embedding.
  */
 public class ExtractJoinColumns implements KeySelector<Embedding, String> {
   /**
@@ -50,8 +54,15 @@ public class ExtractJoinColumns implements KeySelector<Embedding, String> {
   @Override
   public String getKey(Embedding value) throws Exception {
     sb.delete(0, sb.length());
+    byte[] idData = value.getIdData();
     for (Integer column : columns) {
-      sb.append(ArrayUtils.toString(value.getRawId(column)));
+      int offset = column * Embedding.ID_ENTRY_SIZE;
+      if (idData[offset] == Embedding.ID_LIST_FLAG) {
+        throw new UnsupportedOperationException("Can't return ID for ID List");
+      }
+      for (int i = offset + 1; i < offset + Embedding.ID_ENTRY_SIZE; i++) {
+        sb.append((char) (idData[i] & 0xFF));
+      }
     }
     return sb.toString();
   }
@@ -0,0 +1,404 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.MultiwayJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingBatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Joins the embeddings of all inputs assigned to a single hypercube cell.
+ *
+ * The embeddings of each input are indexed in a trie which is keyed by the input's join
+ * attributes in global attribute order. The join binds one attribute after the other: the
+ * candidate values for an attribute are the keys of the smallest current trie node among the
+ * inputs containing it, each candidate is probed against the trie nodes of the other inputs.
+ * When all attributes are bound, the matching embeddings of all inputs are checked for distinct
+ * ids at the distinct columns and merged if the check succeeds.
+ *
+ * The embeddings of a cell are appended to {@link EmbeddingBatch}es which are reused across
+ * cells, the trie leaves only store row indices. The merged embeddings are copied directly from
+ * the batch columns, so no intermediate copy of an input embedding is created.
+ *
+ * (cell, input, embedding)* -> embedding*
+ *
+ * @see MultiwayJoinEmbeddings
+ */
+public class GenericJoin
+  implements GroupReduceFunction<Tuple3<Integer, Integer, Embedding>, Embedding> {
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * For each input the column of each join attribute or -1 if the input does not contain it
+   */
+  private final int[][] joinColumns;
+  /**
+   * For each input the columns that are appended to the resulting embedding
+   */
+  private final int[][] appendColumns;
+  /**
+   * For each input the contained join attributes in ascending order
+   */
+  private final int[][] attributesByInput;
+  /**
+   * For each join attribute the inputs containing it
+   */
+  private final int[][] inputsByAttribute;
+  /**
+   * Vertex columns of the resulting embedding that need to have distinct id values.
+   */
+  private final int[] distinctVertexColumns;
+  /**
+   * Edge columns of the resulting embedding that need to have distinct id values.
+   */
+  private final int[] distinctEdgeColumns;
+  /**
+   * For each column of the resulting embedding the input it is taken from
+   */
+  private final int[] sourceInputs;
+  /**
+   * For each column of the resulting embedding its column in the input embedding
+   */
+  private final int[] sourceColumns;
+  /**
+   * Current trie node of each input for each attribute level
+   */
+  private transient Object[][] levelNodes;
+  /**
+   * Batches holding the embeddings of each input, reused across cells
+   */
+  private transient List<List<EmbeddingBatch>> batches;
+  /**
+   * Number of batches of each input used by the current cell
+   */
+  private transient int[] batchCounts;
+  /**
+   * Batch of the currently selected embedding of each input
+   */
+  private transient EmbeddingBatch[] selectedBatches;
+  /**
+   * Row of the currently selected embedding of each input
+   */
+  private transient int[] selectedRows;
+  /**
+   * Tracks the ids of the distinct columns
+   */
+  private transient DistinctIds distinctIds;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param joinColumns for each input the column of each join attribute or -1 if the input does
+   *                    not contain the attribute
+   * @param appendColumns for each input the columns appended to the resulting embedding
+   * @param distinctVertexColumns distinct vertex columns of the resulting embedding
+   * @param distinctEdgeColumns distinct edge columns of the resulting embedding
+   */
+  public GenericJoin(List<List<Integer>> joinColumns, List<List<Integer>> appendColumns,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns) {
+    this.joinColumns = toArray(joinColumns);
+    this.appendColumns = toArray(appendColumns);
+    this.distinctVertexColumns = distinctVertexColumns.stream().mapToInt(i -> i).toArray();
+    this.distinctEdgeColumns = distinctEdgeColumns.stream().mapToInt(i -> i).toArray();
+
+    int resultColumns = 0;
+    for (int[] columns : this.appendColumns) {
+      resultColumns += columns.length;
+    }
+    this.sourceInputs = new int[resultColumns];
+    this.sourceColumns = new int[resultColumns];
+    int resultColumn = 0;
+    for (int input = 0; input < this.appendColumns.length; input++) {
+      for (int column : this.appendColumns[input]) {
+        this.sourceInputs[resultColumn] = input;
+        this.sourceColumns[resultColumn] = column;
+        resultColumn++;
+      }
+    }
+
+    int attributeCount = this.joinColumns[0].length;
+    this.attributesByInput = new int[this.joinColumns.length][];
+    for (int input = 0; input < this.joinColumns.length; input++) {
+      int[] columns = this.joinColumns[input];
+      this.attributesByInput[input] = IntStream.range(0, attributeCount)
+        .filter(attribute -> columns[attribute] != -1)
+        .toArray();
+    }
+    this.inputsByAttribute = new int[attributeCount][];
+    for (int attribute = 0; attribute < attributeCount; attribute++) {
+      int a = attribute;
+      this.inputsByAttribute[attribute] = IntStream.range(0, this.joinColumns.length)
+        .filter(input -> this.joinColumns[input][a] != -1)
+        .toArray();
+    }
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple3<Integer, Integer, Embedding>> values,
+    Collector<Embedding> out) throws Exception {
+    if (levelNodes == null) {
+      levelNodes = new Object[inputsByAttribute.length + 1][joinColumns.length];
+      batches = new ArrayList<>(joinColumns.length);
+      for (int input = 0; input < joinColumns.length; input++) {
+        batches.add(new ArrayList<>());
+      }
+      batchCounts = new int[joinColumns.length];
+      selectedBatches = new EmbeddingBatch[joinColumns.length];
+      selectedRows = new int[joinColumns.length];
+      distinctIds = new DistinctIds();
+    }
+
+    Object[] roots = levelNodes[0];
+    for (int input = 0; input < roots.length; input++) {
+      roots[input] = attributesByInput[input].length == 0 ? new Rows() : new HashMap<>();
+    }
+    Arrays.fill(batchCounts, 0);
+    for (Tuple3<Integer, Integer, Embedding> value : values) {
+      insert(roots, value.f1, value.f2);
+    }
+
+    for (int count : batchCounts) {
+      if (count == 0) {
+        return;
+      }
+    }
+    join(0, out);
+  }
+
+  /**
+   * Appends the embedding to the batches of the specified input and inserts its row into the trie
+   * of the input. The batch holds its own copy of the data as the iterator may reuse its
+   * instances.
+   *
+   * @param roots trie roots of all inputs
+   * @param input input of the embedding
+   * @param embedding embedding
+   */
+  @SuppressWarnings("unchecked")
+  private void insert(Object[] roots, int input, Embedding embedding) {
+    Object node = roots[input];
+    int[] attributes = attributesByInput[input];
+    for (int i = 0; i < attributes.length; i++) {
+      Map<GradoopId, Object> map = (Map<GradoopId, Object>) node;
+      GradoopId id = embedding.getId(joinColumns[input][attributes[i]]);
+      node = map.get(id);
+      if (node == null) {
+        node = i == attributes.length - 1 ? new Rows() : new HashMap<>();
+        map.put(id, node);
+      }
+    }
+    ((Rows) node).add(append(input, embedding));
+  }
+
+  /**
+   * Appends the embedding to the last batch of the specified input. A new batch is taken if the
+   * last one is full.
+   *
+   * @param input input of the embedding
+   * @param embedding embedding
+   * @return row of the embedding over all batches of the input
+   */
+  private int append(int input, Embedding embedding) {
+    List<EmbeddingBatch> inputBatches = batches.get(input);
+    int count = batchCounts[input];
+    EmbeddingBatch batch = count == 0 ? null : inputBatches.get(count - 1);
+    if (batch == null || batch.isFull()) {
+      if (count == inputBatches.size()) {
+        inputBatches.add(new EmbeddingBatch());
+      }
+      batch = inputBatches.get(count);
+      batch.clear();
+      batchCounts[input] = ++count;
+    }
+    batch.add(embedding);
+    return (count - 1) * EmbeddingBatch.DEFAULT_CAPACITY + batch.size() - 1;
+  }
+
+  /**
+   * Binds the specified attribute to all values contained in the current trie nodes of all inputs
+   * that contain the attribute and recursively binds the next attribute.
+   *
+   * @param attribute attribute to bind
+   * @param out collector
+   */
+  @SuppressWarnings("unchecked")
+  private void join(int attribute, Collector<Embedding> out) {
+    Object[] nodes = levelNodes[attribute];
+    if (attribute == inputsByAttribute.length) {
+      emit(0, nodes, out);
+      return;
+    }
+
+    int[] inputs = inputsByAttribute[attribute];
+    Map<GradoopId, Object> smallest = null;
+    for (int input : inputs) {
+      Map<GradoopId, Object> map = (Map<GradoopId, Object>) nodes[input];
+      if (smallest == null || map.size() < smallest.size()) {
+        smallest = map;
+      }
+    }
+
+    Object[] next = levelNodes[attribute + 1];
+    System.arraycopy(nodes, 0, next, 0, nodes.length);
+    for (GradoopId value : smallest.keySet()) {
+      boolean match = true;
+      for (int input : inputs) {
+        Object child = ((Map<GradoopId, Object>) nodes[input]).get(value);
+        if (child == null) {
+          match = false;
+          break;
+        }
+        next[input] = child;
+      }
+      if (match) {
+        join(attribute + 1, out);
+      }
+    }
+  }
+
+  /**
+   * Emits all combinations of the embeddings stored at the specified leaf nodes.
+   *
+   * @param input input to select an embedding from
+   * @param leaves leaf node of each input
+   * @param out collector
+   */
+  private void emit(int input, Object[] leaves, Collector<Embedding> out) {
+    if (input == leaves.length) {
+      if (isDistinct(distinctVertexColumns) && isDistinct(distinctEdgeColumns)) {
+        out.collect(buildEmbedding());
+      }
+      return;
+    }
+    Rows rows = (Rows) leaves[input];
+    List<EmbeddingBatch> inputBatches = batches.get(input);
+    for (int i = 0; i < rows.size; i++) {
+      int row = rows.rows[i];
+      selectedBatches[input] = inputBatches.get(row / EmbeddingBatch.DEFAULT_CAPACITY);
+      selectedRows[input] = row % EmbeddingBatch.DEFAULT_CAPACITY;
+      emit(input + 1, leaves, out);
+    }
+  }
+
+  /**
+   * Merges the currently selected embeddings of all inputs.
+   *
+   * @return merged embedding
+   */
+  private Embedding buildEmbedding() {
+    int idLength = 0;
+    int propertyLength = 0;
+    int idListLength = 0;
+    for (int input = 0; input < selectedBatches.length; input++) {
+      idLength += appendColumns[input].length * Embedding.ID_ENTRY_SIZE;
+      propertyLength += selectedBatches[input].getPropertyDataLength(selectedRows[input]);
+      idListLength += selectedBatches[input].getIdListDataLength(selectedRows[input]);
+    }
+
+    byte[] idData = new byte[idLength];
+    byte[] propertyData = new byte[propertyLength];
+    byte[] idListData = new byte[idListLength];
+    int idOffset = 0;
+    int propertyOffset = 0;
+    int idListOffset = 0;
+
+    for (int input = 0; input < selectedBatches.length; input++) {
+      EmbeddingBatch batch = selectedBatches[input];
+      int row = selectedRows[input];
+      for (int column : appendColumns[input]) {
+        batch.copyIdEntry(row, column, idData, idOffset);
+        idOffset += Embedding.ID_ENTRY_SIZE;
+      }
+      propertyOffset += batch.copyPropertyData(row, propertyData, propertyOffset);
+      idListOffset += batch.copyIdListData(row, idListData, idListOffset);
+    }
+
+    return new Embedding(idData, propertyData, idListData);
+  }
+
+  /**
+   * Checks if the currently selected embeddings contain distinct ids at the specified columns of
+   * the resulting embedding. The ids are read from the batches of the selected rows, so candidates
+   * are rejected before they are merged.
+   *
+   * @param columns columns of the resulting embedding to check for uniqueness
+   * @return true, if the resulting embedding would contain distinct ids at the specified columns
+   */
+  private boolean isDistinct(int[] columns) {
+    if (columns.length < 2) {
+      return true;
+    }
+    distinctIds.clear();
+    for (int column : columns) {
+      int input = sourceInputs[column];
+      if (!distinctIds.add(selectedBatches[input], selectedRows[input], sourceColumns[column])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Trie leaf holding the rows of the embeddings with equal join attribute values.
+   */
+  private static class Rows {
+    /**
+     * Rows of the embeddings over all batches of an input
+     */
+    private int[] rows = new int[1];
+    /**
+     * Number of stored rows
+     */
+    private int size;
+
+    /**
+     * Adds a row.
+     *
+     * @param row row of an embedding
+     */
+    void add(int row) {
+      if (size == rows.length) {
+        rows = Arrays.copyOf(rows, size * 2);
+      }
+      rows[size++] = row;
+    }
+  }
+
+  /**
+   * Converts nested lists to a two-dimensional array.
+   *
+   * @param lists nested lists
+   * @return two-dimensional array
+   */
+  private static int[][] toArray(List<List<Integer>> lists) {
+    return lists.stream()
+      .map(list -> list.stream().mapToInt(i -> i).toArray())
+      .toArray(int[][]::new);
+  }
+}
@@ -16,17 +16,17 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.common.accumulators.LongCounter;
+import org.apache.flink.api.common.functions.AbstractRichFunction;
 import org.apache.flink.api.common.functions.FlatJoinFunction;
 import org.apache.flink.api.common.functions.FlatMapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
 import org.apache.flink.util.Collector;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.JoinEmbeddings;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.ToIntFunction;
 import java.util.stream.IntStream;
 
@@ -34,16 +34,37 @@ import java.util.stream.IntStream;
  * Given two input embeddings, the function merges them according to the given parameters and
  * constraints.
  *
- * The constraints for merging are defined at {@link JoinEmbeddings}.
+ * The constraints for merging are defined at {@link JoinEmbeddings}. They are checked on the input
+ * embeddings, i.e. before the merged embedding is built. The number of rejected candidates is
+ * reported by the accumulators {@link #REJECTED_BY_VERTEX_ISOMORPHISM} and
+ * {@link #REJECTED_BY_EDGE_ISOMORPHISM}.
  */
-public class MergeEmbeddings implements
+public class MergeEmbeddings extends AbstractRichFunction implements
   FlatJoinFunction<Embedding, Embedding, Embedding>,
   FlatMapFunction<Tuple2<Embedding, Embedding>, Embedding> {
 
+  /**
+   * Accumulator counting the candidates rejected because of duplicate vertex ids
+   */
+  public static final String REJECTED_BY_VERTEX_ISOMORPHISM =
+    "MergeEmbeddings.rejectedByVertexIsomorphism";
+  /**
+   * Accumulator counting the candidates rejected because of duplicate edge ids
+   */
+  public static final String REJECTED_BY_EDGE_ISOMORPHISM =
+    "MergeEmbeddings.rejectedByEdgeIsomorphism";
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
   /**
    * Reduce object instantiations.
    */
   protected final Embedding reuseEmbedding;
+  /**
+   * Tracks the ids of the distinct columns.
+   */
+  private final DistinctIds distinctIds;
   /**
    * Non-Join columns from the right side.
    */
@@ -76,6 +97,14 @@ public class MergeEmbeddings implements
    * Flag, if vertex distinctiveness needs to be checked.
    */
   private final boolean checkDistinctEdges;
+  /**
+   * Counts candidates rejected because of duplicate vertex ids
+   */
+  private transient LongCounter rejectedByVertexIsomorphism;
+  /**
+   * Counts candidates rejected because of duplicate edge ids
+   */
+  private transient LongCounter rejectedByEdgeIsomorphism;
 
   /**
    * Creates a new UDF instance.
@@ -110,6 +139,16 @@ public class MergeEmbeddings implements
     this.checkDistinctEdges = distinctEdgeColumnsLeft.size() > 0 ||
       distinctEdgeColumnsRight.size() > 0;
     this.reuseEmbedding = new Embedding();
+    this.distinctIds = new DistinctIds();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    rejectedByVertexIsomorphism =
+      getRuntimeContext().getLongCounter(REJECTED_BY_VERTEX_ISOMORPHISM);
+    rejectedByEdgeIsomorphism =
+      getRuntimeContext().getLongCounter(REJECTED_BY_EDGE_ISOMORPHISM);
   }
 
   @Override
@@ -133,25 +172,21 @@ public class MergeEmbeddings implements
    * @return true if the morphism condition holds
    */
   protected boolean isValid(Embedding left, Embedding right) {
-    boolean collect = false;
-
-    // Vertex-Homomorphism + Edge-Homomorphism
-    if (!checkDistinctVertices && !checkDistinctEdges) {
-      collect = true;
-      // Vertex-Homomorphism + Edge-Isomorphism
-    } else if (!checkDistinctVertices) {
-      if (isDistinct(distinctEdgeColumnsLeft, distinctEdgeColumnsRight, left, right)) {
-        collect = true;
+    if (checkDistinctVertices &&
+      !isDistinct(distinctVertexColumnsLeft, distinctVertexColumnsRight, left, right)) {
+      if (rejectedByVertexIsomorphism != null) {
+        rejectedByVertexIsomorphism.add(1L);
       }
-      // Vertex-Isomorphism + Edge-Isomorphism
-    } else {
-      if (isDistinct(distinctVertexColumnsLeft, distinctVertexColumnsRight, left, right) &&
-        isDistinct(distinctEdgeColumnsLeft, distinctEdgeColumnsRight, left, right)) {
-        collect = true;
+      return false;
+    }
+    if (checkDistinctEdges &&
+      !isDistinct(distinctEdgeColumnsLeft, distinctEdgeColumnsRight, left, right)) {
+      if (rejectedByEdgeIsomorphism != null) {
+        rejectedByEdgeIsomorphism.add(1L);
       }
+      return false;
     }
-
-    return collect;
+    return true;
   }
 
   /**
@@ -176,28 +211,8 @@ public class MergeEmbeddings implements
    */
   private boolean isDistinct(int[] columnsLeft, int[] columnsRight,
     Embedding left, Embedding right) {
-
-    Set<GradoopId> ids = new HashSet<>(left.size() + right.size());
-    return isDistinct(ids, columnsLeft, left) && isDistinct(ids, columnsRight, right);
-  }
-
-  /**
-   * Checks if the specified embeddings contains distinct ids at the specified columns.
-   *
-   * @param ids used to track uniqueness
-   * @param columns columns to check for uniqueness
-   * @param embedding embedding to check
-   * @return true, if the embedding contains distinct Ids at the specified columns
-   */
-  private boolean isDistinct(Set<GradoopId> ids, int[] columns, Embedding embedding) {
-    boolean isDistinct = true;
-    for (int column : columns) {
-      isDistinct = ids.addAll(embedding.getIdAsList(column));
-      if (!isDistinct) {
-        break;
-      }
-    }
-    return isDistinct;
+    distinctIds.clear();
+    return distinctIds.addAll(left, columnsLeft) && distinctIds.addAll(right, columnsRight);
   }
 
   /**
@@ -218,8 +233,10 @@ public class MergeEmbeddings implements
     int offset = left.getIdData().length;
     System.arraycopy(left.getIdData(), 0, newIdData, 0, offset);
 
+    byte[] rightIdData = right.getIdData();
     for (int i : nonJoinColumnsRight) {
-      System.arraycopy(right.getRawIdEntry(i), 0, newIdData, offset, Embedding.ID_ENTRY_SIZE);
+      System.arraycopy(rightIdData, i * Embedding.ID_ENTRY_SIZE,
+        newIdData, offset, Embedding.ID_ENTRY_SIZE);
       offset += Embedding.ID_ENTRY_SIZE;
     }
 
@@ -235,7 +252,7 @@ public class MergeEmbeddings implements
    * @return the merged data represented as byte array
    */
   private byte[] mergePropertyData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getPropertyData(), right.getPropertyData());
+    return concat(left.getPropertyData(), right.getPropertyData());
   }
 
   /**
@@ -247,6 +264,24 @@ public class MergeEmbeddings implements
    * @return the merged data represented as byte array
    */
   private byte[] mergeIdListData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getIdListData(), right.getIdListData());
+    return concat(left.getIdListData(), right.getIdListData());
+  }
+
+  /**
+   * Concatenates two data arrays. Embedding data is never modified in place, so if one side is
+   * empty (e.g. for id-only embeddings), the other array is shared instead of copied.
+   *
+   * @param left left data array
+   * @param right right data array
+   * @return concatenated data
+   */
+  private byte[] concat(byte[] left, byte[] right) {
+    if (right.length == 0) {
+      return left;
+    }
+    if (left.length == 0) {
+      return right;
+    }
+    return ArrayUtils.addAll(left, right);
   }
 }
@@ -0,0 +1,255 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.functions.epgm.TargetId;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.FilterEdge;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.functions.FilterVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.functions.BuildBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.functions.EdgeEndpointsInBloomFilters;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.functions.ElementInBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.functions.MergeBloomFilters;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.BloomFilter;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reduces the search graph to vertices and edges which may take part in a match of the query.
+ *
+ * For each query vertex, the candidate vertices are those satisfying its label and predicates.
+ * For each query edge of fixed length, the candidate edges are those satisfying its label and
+ * predicates whose source and target are candidates of the adjacent query vertices. Afterwards,
+ * the candidates of each query vertex are reduced to those being an endpoint of a candidate edge
+ * of every adjacent query edge.
+ *
+ * Both semi-joins are evaluated using {@link BloomFilter}s which are built from the candidate
+ * identifiers and broadcast to the filtering side. The resulting graph contains all vertices and
+ * edges which are candidates of at least one query element. Edges with the label of a variable
+ * length path are kept entirely.
+ *
+ * In contrast to the iterative pruning of {@code DualSimulation}, a single round of semi-joins is
+ * computed and the result may contain false positives. The query planner still applies all
+ * predicates to the reduced graph.
+ */
+public class SemiJoinReduction implements UnaryGraphToGraphOperator {
+  /**
+   * Query handler
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Statistics used to size the bloom filters
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * Probability of false positives of the bloom filters
+   */
+  private final double falsePositiveRate;
+
+  /**
+   * Creates a new operator instance using {@link BloomFilter#DEFAULT_FALSE_POSITIVE_RATE}.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics statistics about the search graph
+   */
+  public SemiJoinReduction(QueryHandler queryHandler, GraphStatistics graphStatistics) {
+    this(queryHandler, graphStatistics, BloomFilter.DEFAULT_FALSE_POSITIVE_RATE);
+  }
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics statistics about the search graph
+   * @param falsePositiveRate probability of false positives of the bloom filters
+   */
+  public SemiJoinReduction(QueryHandler queryHandler, GraphStatistics graphStatistics,
+    double falsePositiveRate) {
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  @Override
+  public LogicalGraph execute(LogicalGraph graph) {
+    Map<String, DataSet<Vertex>> vertexCandidates = new HashMap<>();
+    Map<String, DataSet<BloomFilter>> vertexFilters = new HashMap<>();
+
+    for (org.s1ck.gdl.model.Vertex queryVertex : queryHandler.getVertices()) {
+      DataSet<Vertex> candidates = filterVertices(graph, queryVertex);
+      vertexCandidates.put(queryVertex.getVariable(), candidates);
+      vertexFilters.put(queryVertex.getVariable(), buildFilter(
+        candidates.map(new Id<>()), estimateVertexCount(queryVertex.getLabel())));
+    }
+
+    Map<String, DataSet<Edge>> edgeCandidates = new HashMap<>();
+    Set<String> pathLabels = new HashSet<>();
+
+    for (org.s1ck.gdl.model.Edge queryEdge : queryHandler.getEdges()) {
+      if (queryEdge.hasVariableLength()) {
+        pathLabels.add(queryEdge.getLabel());
+        continue;
+      }
+      String sourceVariable =
+        queryHandler.getVertexById(queryEdge.getSourceVertexId()).getVariable();
+      String targetVariable =
+        queryHandler.getVertexById(queryEdge.getTargetVertexId()).getVariable();
+      long edgeCount = estimateEdgeCount(queryEdge.getLabel());
+
+      // edge candidates need candidate endpoints
+      DataSet<Edge> candidates = filterEdges(graph, queryEdge)
+        .filter(new EdgeEndpointsInBloomFilters<>())
+        .withBroadcastSet(vertexFilters.get(sourceVariable),
+          EdgeEndpointsInBloomFilters.SOURCE_FILTER)
+        .withBroadcastSet(vertexFilters.get(targetVariable),
+          EdgeEndpointsInBloomFilters.TARGET_FILTER);
+      edgeCandidates.put(queryEdge.getVariable(), candidates);
+
+      // vertex candidates need a candidate edge for each adjacent query edge
+      vertexCandidates.put(sourceVariable, vertexCandidates.get(sourceVariable)
+        .filter(new ElementInBloomFilter<>())
+        .withBroadcastSet(buildFilter(candidates.map(new SourceId<>()), edgeCount),
+          ElementInBloomFilter.BLOOM_FILTER));
+      vertexCandidates.put(targetVariable, vertexCandidates.get(targetVariable)
+        .filter(new ElementInBloomFilter<>())
+        .withBroadcastSet(buildFilter(candidates.map(new TargetId<>()), edgeCount),
+          ElementInBloomFilter.BLOOM_FILTER));
+    }
+
+    DataSet<Vertex> vertices = graph.getVertices()
+      .filter(new ElementInBloomFilter<>())
+      .withBroadcastSet(buildFilter(union(vertexCandidates.values()).map(new Id<>()),
+        graphStatistics.getVertexCount()), ElementInBloomFilter.BLOOM_FILTER);
+
+    DataSet<Edge> edges;
+    if (pathLabels.contains(GradoopConstants.DEFAULT_EDGE_LABEL)) {
+      edges = graph.getEdges();
+    } else if (edgeCandidates.isEmpty()) {
+      edges = graph.getEdges().filter(new ElementInBloomFilter<>(pathLabels))
+        .withBroadcastSet(graph.getConfig().getExecutionEnvironment()
+          .fromElements(new BloomFilter()), ElementInBloomFilter.BLOOM_FILTER);
+    } else {
+      edges = graph.getEdges()
+        .filter(new ElementInBloomFilter<>(pathLabels))
+        .withBroadcastSet(buildFilter(union(edgeCandidates.values()).map(new Id<>()),
+          graphStatistics.getEdgeCount()), ElementInBloomFilter.BLOOM_FILTER);
+    }
+
+    return graph.getConfig().getLogicalGraphFactory()
+      .fromDataSets(graph.getGraphHead(), vertices, edges);
+  }
+
+  /**
+   * Returns the vertices satisfying the label and predicates of the given query vertex.
+   *
+   * @param graph search graph
+   * @param queryVertex query vertex
+   * @return candidate vertices
+   */
+  private DataSet<Vertex> filterVertices(LogicalGraph graph,
+    org.s1ck.gdl.model.Vertex queryVertex) {
+    DataSet<Vertex> vertices =
+      queryVertex.getLabel().equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
+        graph.getVertices() : graph.getVerticesByLabel(queryVertex.getLabel());
+    return vertices.filter(
+      new FilterVertex(queryHandler.getPredicates().removeSubCNF(queryVertex.getVariable())));
+  }
+
+  /**
+   * Returns the edges satisfying the label and predicates of the given query edge.
+   *
+   * @param graph search graph
+   * @param queryEdge query edge
+   * @return candidate edges
+   */
+  private DataSet<Edge> filterEdges(LogicalGraph graph, org.s1ck.gdl.model.Edge queryEdge) {
+    DataSet<Edge> edges =
+      queryEdge.getLabel().equals(GradoopConstants.DEFAULT_EDGE_LABEL) ?
+        graph.getEdges() : graph.getEdgesByLabel(queryEdge.getLabel());
+    return edges.filter(
+      new FilterEdge(queryHandler.getPredicates().removeSubCNF(queryEdge.getVariable())));
+  }
+
+  /**
+   * Builds a bloom filter containing the given identifiers.
+   *
+   * @param ids identifiers
+   * @param expectedInsertions expected number of identifiers
+   * @return single element data set containing the filter
+   */
+  private DataSet<BloomFilter> buildFilter(DataSet<GradoopId> ids, long expectedInsertions) {
+    int sizeInBits = BloomFilter.getOptimalSizeInBits(expectedInsertions, falsePositiveRate);
+    return ids
+      .mapPartition(new BuildBloomFilter(sizeInBits,
+        BloomFilter.getOptimalHashCount(expectedInsertions, sizeInBits)))
+      .reduce(new MergeBloomFilters());
+  }
+
+  /**
+   * Estimates the number of vertices with the given label.
+   *
+   * @param label vertex label
+   * @return estimated number of vertices
+   */
+  private long estimateVertexCount(String label) {
+    return label.equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
+      graphStatistics.getVertexCount() : graphStatistics.getVertexCount(label);
+  }
+
+  /**
+   * Estimates the number of edges with the given label.
+   *
+   * @param label edge label
+   * @return estimated number of edges
+   */
+  private long estimateEdgeCount(String label) {
+    return label.equals(GradoopConstants.DEFAULT_EDGE_LABEL) ?
+      graphStatistics.getEdgeCount() : graphStatistics.getEdgeCount(label);
+  }
+
+  /**
+   * Computes the union of the given data sets.
+   *
+   * @param dataSets non-empty collection of data sets
+   * @param <T> element type
+   * @return union of all data sets
+   */
+  private static <T> DataSet<T> union(Iterable<DataSet<T>> dataSets) {
+    DataSet<T> result = null;
+    for (DataSet<T> dataSet : dataSets) {
+      result = result == null ? dataSet : result.union(dataSet);
+    }
+    return result;
+  }
+
+  @Override
+  public String getName() {
+    return SemiJoinReduction.class.getName();
+  }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.BloomFilter;
+
+/**
+ * Adds all identifiers of a partition to a {@link BloomFilter}. A filter is emitted for every
+ * partition, even if the partition is empty.
+ */
+public class BuildBloomFilter implements MapPartitionFunction<GradoopId, BloomFilter> {
+  /**
+   * Number of bits of the filter
+   */
+  private final int sizeInBits;
+  /**
+   * Number of hash functions of the filter
+   */
+  private final int hashCount;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param sizeInBits number of bits of the filter
+   * @param hashCount number of hash functions of the filter
+   */
+  public BuildBloomFilter(int sizeInBits, int hashCount) {
+    this.sizeInBits = sizeInBits;
+    this.hashCount = hashCount;
+  }
+
+  @Override
+  public void mapPartition(Iterable<GradoopId> ids, Collector<BloomFilter> out) {
+    BloomFilter filter = new BloomFilter(sizeInBits, hashCount);
+    for (GradoopId id : ids) {
+      filter.add(id);
+    }
+    out.collect(filter);
+  }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.BloomFilter;
+
+/**
+ * Filters edges whose source and target id might be contained in the broadcast source and target
+ * {@link BloomFilter}s.
+ *
+ * @param <E> edge type
+ */
+public class EdgeEndpointsInBloomFilters<E extends Edge> extends RichFilterFunction<E> {
+  /**
+   * Broadcast source vertex filter name
+   */
+  public static final String SOURCE_FILTER = "SourceFilter";
+  /**
+   * Broadcast target vertex filter name
+   */
+  public static final String TARGET_FILTER = "TargetFilter";
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Filter of source vertex candidates
+   */
+  private transient BloomFilter sourceFilter;
+  /**
+   * Filter of target vertex candidates
+   */
+  private transient BloomFilter targetFilter;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    sourceFilter = MergeBloomFilters.merge(getRuntimeContext().getBroadcastVariable(SOURCE_FILTER));
+    targetFilter = MergeBloomFilters.merge(getRuntimeContext().getBroadcastVariable(TARGET_FILTER));
+  }
+
+  @Override
+  public boolean filter(E edge) throws Exception {
+    return sourceFilter != null && targetFilter != null &&
+      sourceFilter.mightContain(edge.getSourceId()) &&
+      targetFilter.mightContain(edge.getTargetId());
+  }
+}
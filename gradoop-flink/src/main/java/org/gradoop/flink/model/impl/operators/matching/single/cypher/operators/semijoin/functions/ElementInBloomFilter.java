@@ -0,0 +1,77 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.api.entities.EPGMGraphElement;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.BloomFilter;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Filters elements whose id might be contained in a broadcast {@link BloomFilter}. Elements with
+ * one of the accepted labels pass the filter regardless of their id.
+ *
+ * @param <EL> element type
+ */
+public class ElementInBloomFilter<EL extends EPGMGraphElement> extends RichFilterFunction<EL> {
+  /**
+   * Broadcast filter name
+   */
+  public static final String BLOOM_FILTER = "BloomFilter";
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Labels of elements which are always accepted
+   */
+  private final Set<String> acceptedLabels;
+  /**
+   * Filter of candidate ids
+   */
+  private transient BloomFilter filter;
+
+  /**
+   * Creates a new UDF instance.
+   */
+  public ElementInBloomFilter() {
+    this(Collections.emptySet());
+  }
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param acceptedLabels labels of elements which are always accepted
+   */
+  public ElementInBloomFilter(Set<String> acceptedLabels) {
+    this.acceptedLabels = acceptedLabels;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    filter = MergeBloomFilters.merge(getRuntimeContext().getBroadcastVariable(BLOOM_FILTER));
+  }
+
+  @Override
+  public boolean filter(EL element) throws Exception {
+    return (filter != null && filter.mightContain(element.getId())) ||
+      acceptedLabels.contains(element.getLabel());
+  }
+}
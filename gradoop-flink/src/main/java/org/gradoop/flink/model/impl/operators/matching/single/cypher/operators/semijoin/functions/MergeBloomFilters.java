@@ -0,0 +1,50 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.semijoin.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.BloomFilter;
+
+import java.util.List;
+
+/**
+ * Merges partial {@link BloomFilter}s into a single filter.
+ */
+public class MergeBloomFilters implements ReduceFunction<BloomFilter> {
+
+  @Override
+  public BloomFilter reduce(BloomFilter first, BloomFilter second) {
+    first.merge(second);
+    return first;
+  }
+
+  /**
+   * Merges the filters of a broadcast variable.
+   *
+   * @param filters broadcast filters
+   * @return union of all filters, null if there is none
+   */
+  static BloomFilter merge(List<BloomFilter> filters) {
+    BloomFilter result = null;
+    for (BloomFilter filter : filters) {
+      if (result == null) {
+        result = new BloomFilter(filter.getSizeInBits(), filter.getHashCount());
+      }
+      result.merge(filter);
+    }
+    return result;
+  }
+}
@@ -15,17 +15,31 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.EquiDepthHistogram;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.Map;
 
 /**
  * Keeps track of the leaf nodes in a query plan and computes a final selectivity factor resulting
  * from the applied predicates.
+ *
+ * Comparisons between a property and a literal are estimated using the property value histograms
+ * and most common values of the graph statistics. Predicates are assumed to be independent. All
+ * other predicates and properties without statistics do not change the selectivity.
  */
 class FilterEstimator extends Estimator {
   /**
@@ -101,6 +115,146 @@ class FilterEstimator extends Estimator {
    * @param predicates query predicates
    */
   private void updateSelectivity(CNF predicates) {
-    // TODO
+    for (CNFElement disjunction : predicates.getPredicates()) {
+      double nonSelectivity = 1d;
+      for (ComparisonExpression comparison : disjunction.getPredicates()) {
+        nonSelectivity *= 1d - estimateSelectivity(comparison);
+      }
+      selectivity *= 1d - nonSelectivity;
+    }
+  }
+
+  /**
+   * Estimates the selectivity of a single comparison.
+   *
+   * @param comparison comparison expression
+   * @return selectivity factor
+   */
+  private double estimateSelectivity(ComparisonExpression comparison) {
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+
+    if (lhs instanceof PropertySelectorComparable && rhs instanceof LiteralComparable) {
+      return estimateSelectivity((PropertySelectorComparable) lhs, comparison.getComparator(),
+        PropertyValue.create(((LiteralComparable) rhs).getValue()));
+    } else if (lhs instanceof LiteralComparable && rhs instanceof PropertySelectorComparable) {
+      return estimateSelectivity((PropertySelectorComparable) rhs,
+        swap(comparison.getComparator()),
+        PropertyValue.create(((LiteralComparable) lhs).getValue()));
+    }
+    return 1d;
+  }
+
+  /**
+   * Estimates the selectivity of comparing a property with a literal value, i.e. the fraction of
+   * elements that satisfy {@code property comparator value}. Elements without the property never
+   * satisfy the comparison.
+   *
+   * @param property property selector
+   * @param comparator comparator
+   * @param value literal value
+   * @return selectivity factor
+   */
+  private double estimateSelectivity(PropertySelectorComparable property, Comparator comparator,
+    PropertyValue value) {
+    String variable = property.getVariable();
+    String key = property.getPropertyKey();
+    // the caches include anonymous variables, e.g. the ones of (:Tag)
+    boolean isVertex = getQueryHandler().getVertexByVariable(variable) != null;
+    if (!isVertex && getQueryHandler().getEdgeByVariable(variable) == null) {
+      return 1d;
+    }
+    String label = getLabel(variable, isVertex);
+
+    EquiDepthHistogram histogram = isVertex ?
+      getGraphStatistics().getVertexPropertyHistogram(label, key) :
+      getGraphStatistics().getEdgePropertyHistogram(label, key);
+    if (histogram == null || histogram.getCount() == 0) {
+      return 1d;
+    }
+
+    Map<PropertyValue, Long> mostCommonValues = isVertex ?
+      getGraphStatistics().getMostCommonVertexProperties(label, key) :
+      getGraphStatistics().getMostCommonEdgeProperties(label, key);
+    long distinctValues = isVertex ?
+      getGraphStatistics().getDistinctVertexProperties(label, key) :
+      getGraphStatistics().getDistinctEdgeProperties(label, key);
+
+    double equal = estimateEqualFraction(histogram, mostCommonValues, distinctValues, value);
+    double less = histogram.isComparable(value) ? histogram.getFractionLessThan(value) : 0.5;
+    double fraction;
+    switch (comparator) {
+    case EQ:
+      fraction = equal;
+      break;
+    case NEQ:
+      fraction = 1d - equal;
+      break;
+    case LT:
+      fraction = less;
+      break;
+    case LTE:
+      fraction = less + equal;
+      break;
+    case GT:
+      fraction = 1d - less - equal;
+      break;
+    case GTE:
+      fraction = 1d - less;
+      break;
+    default:
+      fraction = 1d;
+    }
+
+    double nonNullFraction = Math.min(1d,
+      (double) histogram.getCount() / getCardinality(label, isVertex));
+    return nonNullFraction * Math.max(0d, Math.min(1d, fraction));
+  }
+
+  /**
+   * Estimates the fraction of property values that are equal to the given value. The frequency of
+   * a most common value is known. Values outside of the histogram range do not occur. All other
+   * values are assumed to share the remaining frequency uniformly.
+   *
+   * @param histogram histogram of the property values
+   * @param mostCommonValues most common property values and their frequency
+   * @param distinctValues number of distinct property values
+   * @param value literal value
+   * @return fraction of property values equal to the given value
+   */
+  private double estimateEqualFraction(EquiDepthHistogram histogram,
+    Map<PropertyValue, Long> mostCommonValues, long distinctValues, PropertyValue value) {
+    long count = histogram.getCount();
+    if (mostCommonValues.containsKey(value)) {
+      return Math.min(1d, (double) mostCommonValues.get(value) / count);
+    }
+    if (histogram.isComparable(value) && histogram.isOutOfRange(value)) {
+      return 0d;
+    }
+    // values which cannot be compared with the histogram are estimated like any other value
+    long remainingCount = count - mostCommonValues.values().stream().mapToLong(l -> l).sum();
+    long remainingValues = Math.max(1L, distinctValues - mostCommonValues.size());
+    return Math.max(0d, (double) remainingCount / count / remainingValues);
+  }
+
+  /**
+   * Returns the comparator that yields the same result if both sides of a comparison are swapped.
+   *
+   * @param comparator comparator
+   * @return swapped comparator
+   */
+  private static Comparator swap(Comparator comparator) {
+    switch (comparator) {
+    case LT:
+      return Comparator.GT;
+    case LTE:
+      return Comparator.GTE;
+    case GT:
+      return Comparator.LT;
+    case GTE:
+      return Comparator.LTE;
+    default:
+      return comparator;
+    }
   }
 }
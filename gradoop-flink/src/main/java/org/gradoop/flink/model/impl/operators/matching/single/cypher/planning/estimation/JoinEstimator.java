@@ -22,6 +22,8 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embed
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.s1ck.gdl.model.Edge;
 
 import java.util.Collection;
@@ -70,6 +72,12 @@ class JoinEstimator extends Estimator {
       if (binaryNode.getRightChild() instanceof LeafNode) {
         process(binaryNode.getRightChild().getEmbeddingMetaData());
       }
+    } else if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        if (child instanceof LeafNode) {
+          process(child.getEmbeddingMetaData());
+        }
+      }
     }
   }
 
@@ -102,12 +110,12 @@ class JoinEstimator extends Estimator {
     if (entryCount == 1) {
       processVertex(variables.get(0));
     } else {
-      String edgeVariable = variables.get(1);
+      String edgeVariable = metaData.getEdgeVariables().get(0);
       String sourceVariable = getQueryHandler().getVertexById(
         getQueryHandler().getEdgeByVariable(edgeVariable).getSourceVertexId()).getVariable();
       String targetVariable = getQueryHandler().getVertexById(
         getQueryHandler().getEdgeByVariable(edgeVariable).getTargetVertexId()).getVariable();
-      processEdge(sourceVariable, variables.get(1), targetVariable);
+      processEdge(sourceVariable, edgeVariable, targetVariable);
     }
   }
 
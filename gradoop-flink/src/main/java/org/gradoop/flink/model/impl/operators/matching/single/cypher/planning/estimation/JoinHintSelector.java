@@ -0,0 +1,117 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.flink.util.ParallelismUtils;
+
+/**
+ * Chooses the Flink join strategy for a binary join from the estimated cardinalities of its
+ * inputs.
+ *
+ * Flink has no cardinality information about embedding data sets and therefore often
+ * repartitions a very small input against a very large one. Broadcasting an input ships it to
+ * each of the parallel instances while repartitioning ships both inputs once. An input is thus
+ * broadcasted if it is small in absolute terms and its size multiplied with the parallelism does
+ * not exceed the size of the other input. Otherwise, both inputs are repartitioned and joined
+ * via sort-merge which, in contrast to a hash join, does not require one side to fit into memory.
+ */
+public class JoinHintSelector {
+  /**
+   * Default maximum estimated cardinality of an input that is considered for broadcasting.
+   */
+  public static final long DEFAULT_MAX_BROADCAST_CARDINALITY = 1_000_000L;
+  /**
+   * Number of parallel instances a broadcasted input is shipped to.
+   */
+  private final int parallelism;
+  /**
+   * Maximum estimated cardinality of an input that is considered for broadcasting.
+   */
+  private final long maxBroadcastCardinality;
+
+  /**
+   * Creates a new selector for joins executed in the given environment using
+   * {@link #DEFAULT_MAX_BROADCAST_CARDINALITY}.
+   *
+   * @param env execution environment of the join operators
+   */
+  public JoinHintSelector(ExecutionEnvironment env) {
+    this(ParallelismUtils.getParallelism(env));
+  }
+
+  /**
+   * Creates a new selector using {@link #DEFAULT_MAX_BROADCAST_CARDINALITY}.
+   *
+   * @param parallelism parallelism of the join operators
+   */
+  public JoinHintSelector(int parallelism) {
+    this(parallelism, DEFAULT_MAX_BROADCAST_CARDINALITY);
+  }
+
+  /**
+   * Creates a new selector.
+   *
+   * @param parallelism parallelism of the join operators
+   * @param maxBroadcastCardinality maximum estimated cardinality of a broadcasted input
+   */
+  public JoinHintSelector(int parallelism, long maxBroadcastCardinality) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+    }
+    this.parallelism = parallelism;
+    this.maxBroadcastCardinality = maxBroadcastCardinality;
+  }
+
+  /**
+   * Returns the parallelism the selection is based on.
+   *
+   * @return parallelism of the join operators
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Selects the join hint for joining inputs of the given estimated cardinalities.
+   *
+   * @param leftCardinality estimated cardinality of the left (first) input
+   * @param rightCardinality estimated cardinality of the right (second) input
+   * @return join hint for the Flink optimizer
+   */
+  public JoinHint select(long leftCardinality, long rightCardinality) {
+    if (leftCardinality <= rightCardinality && isBroadcastable(leftCardinality, rightCardinality)) {
+      return JoinHint.BROADCAST_HASH_FIRST;
+    }
+    if (isBroadcastable(rightCardinality, leftCardinality)) {
+      return JoinHint.BROADCAST_HASH_SECOND;
+    }
+    return JoinHint.REPARTITION_SORT_MERGE;
+  }
+
+  /**
+   * Checks if broadcasting the smaller input is cheaper than repartitioning both inputs.
+   *
+   * @param smaller estimated cardinality of the input to broadcast
+   * @param larger estimated cardinality of the other input
+   * @return true, iff the smaller input should be broadcasted
+   */
+  private boolean isBroadcastable(long smaller, long larger) {
+    return smaller >= 0 && smaller <= maxBroadcastCardinality &&
+      smaller <= larger / parallelism;
+  }
+}
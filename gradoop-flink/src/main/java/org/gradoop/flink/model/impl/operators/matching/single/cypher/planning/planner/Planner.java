@@ -0,0 +1,387 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.JoinHintSelector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.ProjectEmbeddingsNode;
+import org.s1ck.gdl.model.Edge;
+import org.s1ck.gdl.model.Vertex;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.EDGE;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.GRAPH;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.PATH;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.VERTEX;
+
+/**
+ * Base class for query planners. It provides the creation of the initial plan table entries and
+ * the operations to combine them. Subclasses decide in which order the entries are combined.
+ */
+public abstract class Planner {
+  /**
+   * The search graph to be queried
+   */
+  protected final LogicalGraph graph;
+  /**
+   * The query handler represents the query.
+   */
+  protected final QueryHandler queryHandler;
+  /**
+   * Statistics about the search graph.
+   */
+  protected final GraphStatistics graphStatistics;
+  /**
+   * The morphism type for vertex mappings.
+   */
+  protected final MatchStrategy vertexStrategy;
+  /**
+   * The morphism type for edge mappings.
+   */
+  protected final MatchStrategy edgeStrategy;
+  /**
+   * Chooses the join strategy for each join from the estimated input cardinalities.
+   */
+  protected final JoinHintSelector joinHintSelector;
+
+  /**
+   * Creates a new planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  public Planner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this.graph = graph;
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+    this.joinHintSelector = new JoinHintSelector(graph.getConfig().getExecutionEnvironment());
+  }
+
+  /**
+   * Computes the {@link PlanTableEntry} that wraps the {@link QueryPlan} with the minimum costs
+   * according to the optimization algorithm of the planner.
+   *
+   * @return entry with minimum execution costs
+   */
+  public abstract PlanTableEntry plan();
+
+  //------------------------------------------------------------------------------------------------
+  // Initialization
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates the initial plan table entries according to the specified vertices and edges.
+   *
+   * @return initial plan table
+   */
+  protected PlanTable initPlanTable() {
+    PlanTable planTable = new PlanTable();
+    createVertexPlans(planTable);
+    createEdgePlans(planTable);
+    return planTable;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Leaf nodes (i.e. vertices and (variable length) edges)
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates an initial {@link PlanTableEntry} for each vertex in the query graph and adds it to the
+   * specified {@link PlanTable}. The entry wraps a query plan that filters vertices based on their
+   * predicates and projects properties that are required for further query planning.
+   *
+   * @param planTable plan table
+   */
+  private void createVertexPlans(PlanTable planTable) {
+    for (Vertex vertex : queryHandler.getVertices()) {
+      String vertexVariable = vertex.getVariable();
+      CNF allPredicates = queryHandler.getPredicates();
+      // TODO: this might be moved to the FilterAndProject node in issue #510
+      CNF vertexPredicates = allPredicates.removeSubCNF(vertexVariable);
+      Set<String> projectionKeys = allPredicates.getPropertyKeys(vertexVariable);
+
+      DataSet<org.gradoop.common.model.impl.pojo.Vertex> vertices =
+        vertex.getLabel().equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
+          graph.getVertices() : graph.getVerticesByLabel(vertex.getLabel());
+
+      FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(vertices,
+        vertex.getVariable(), vertexPredicates, projectionKeys);
+
+      planTable.add(new PlanTableEntry(VERTEX, Sets.newHashSet(vertexVariable), allPredicates,
+        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+    }
+  }
+
+  /**
+   * Creates an initial {@link PlanTableEntry} for each edge in the query graph and adds it to the
+   * specified {@link PlanTable}. The entry wraps a {@link QueryPlan} that filters edges based on
+   * their predicates and projects properties that are required for further query planning.
+   *
+   * @param planTable plan table
+   */
+  private void createEdgePlans(PlanTable planTable) {
+    for (Edge edge : queryHandler.getEdges()) {
+      String edgeVariable = edge.getVariable();
+      String sourceVariable = queryHandler.getVertexById(edge.getSourceVertexId()).getVariable();
+      String targetVariable = queryHandler.getVertexById(edge.getTargetVertexId()).getVariable();
+
+      CNF allPredicates = queryHandler.getPredicates();
+      // TODO: this might be moved the the FilterAndProject node in issue #510
+      CNF edgePredicates = allPredicates.removeSubCNF(edgeVariable);
+      Set<String> projectionKeys = allPredicates.getPropertyKeys(edgeVariable);
+
+      boolean isPath = edge.getUpperBound() != 1;
+
+      DataSet<org.gradoop.common.model.impl.pojo.Edge> edges =
+        edge.getLabel().equals(GradoopConstants.DEFAULT_EDGE_LABEL) ?
+          graph.getEdges() : graph.getEdgesByLabel(edge.getLabel());
+
+      FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(edges,
+        sourceVariable, edgeVariable, targetVariable, edgePredicates, projectionKeys, isPath);
+
+      PlanTableEntry.Type type = edge.hasVariableLength() ? PATH : EDGE;
+
+      planTable.add(new PlanTableEntry(type, Sets.newHashSet(edgeVariable), allPredicates,
+        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+    }
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Join and Expand
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Checks if the given entry may be extended. This is only the case for entries that represents
+   * either a vertex or a partial match graph.
+   *
+   * @param entry plan table entry
+   * @return true, iff the specified entry may be extended
+   */
+  protected boolean mayExtend(PlanTableEntry entry) {
+    return entry.getType() == VERTEX || entry.getType() == GRAPH;
+  }
+
+  /**
+   * Computes the overlapping query variables of the specified entries.
+   *
+   * @param firstEntry first entry
+   * @param secondEntry second entry
+   * @return variables that are available in both input entries
+   */
+  protected List<String> getOverlap(PlanTableEntry firstEntry, PlanTableEntry secondEntry) {
+    Set<String> overlap = firstEntry.getAllVariables();
+    overlap.retainAll(secondEntry.getAllVariables());
+    return new ArrayList<>(overlap);
+  }
+
+  /**
+   * Joins the query plans represented by the specified plan table entries.
+   *
+   * The method considers if the right entry is a variable length path and in that case
+   * creates an {@link ExpandEmbeddingsNode}. In any other case, a regular
+   * {@link JoinEmbeddingsNode} is used to join the query plans.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param joinVariables join variables
+   * @return an entry that represents the join of both input entries
+   */
+  protected PlanTableEntry joinEntries(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    List<String> joinVariables) {
+
+    PlanNode node;
+    if (rightEntry.getType() == PATH) {
+      assert joinVariables.size() == 1;
+      node = createExpandNode(leftEntry, rightEntry, joinVariables.get(0));
+    } else {
+      node = new JoinEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+        rightEntry.getQueryPlan().getRoot(), joinVariables, vertexStrategy, edgeStrategy,
+        selectJoinHint(leftEntry, rightEntry));
+    }
+
+    // update processed variables
+    HashSet<String> processedVariables = Sets.newHashSet(leftEntry.getProcessedVariables());
+    processedVariables.addAll(rightEntry.getProcessedVariables());
+    // create resulting predicates
+    // TODO: this might be moved to the join/expand node in issue #510
+    CNF predicates = mergePredicates(leftEntry, rightEntry);
+
+    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
+  /**
+   * Creates an {@link ExpandEmbeddingsNode} from the specified arguments.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param startVariable vertex variable to expand from
+   *
+   * @return new expand node
+   */
+  private ExpandEmbeddingsNode createExpandNode(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    String startVariable) {
+
+    String pathVariable = rightEntry.getQueryPlan().getRoot()
+      .getEmbeddingMetaData().getEdgeVariables().get(0);
+
+    Edge queryEdge = queryHandler.getEdgeByVariable(pathVariable);
+    Vertex sourceVertex = queryHandler.getVertexById(queryEdge.getSourceVertexId());
+    Vertex targetVertex = queryHandler.getVertexById(queryEdge.getTargetVertexId());
+
+    int lowerBound = queryEdge.getLowerBound();
+    int upperBound = queryEdge.getUpperBound();
+    ExpandDirection direction = sourceVertex.getVariable().equals(startVariable) ?
+      ExpandDirection.OUT : ExpandDirection.IN;
+    String endVariable = direction == ExpandDirection.OUT ?
+      targetVertex.getVariable() : sourceVertex.getVariable();
+
+    return new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+      rightEntry.getQueryPlan().getRoot(),
+      startVariable, pathVariable, endVariable, lowerBound, upperBound, direction,
+      vertexStrategy, edgeStrategy, selectExpandJoinHint(leftEntry, rightEntry));
+  }
+
+  /**
+   * Selects the join hint for expanding the left entry with the edges of the right entry.
+   *
+   * Inside the expand iteration, the candidate edges are the static input. Flink fails to
+   * translate explicit ship strategies other than broadcasting for a static input, so the
+   * optimizer is left to choose unless the edges can be broadcasted.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry representing the edges to expand with
+   *
+   * @return join hint for the Flink optimizer
+   */
+  private JoinOperatorBase.JoinHint selectExpandJoinHint(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    JoinOperatorBase.JoinHint joinHint = selectJoinHint(leftEntry, rightEntry);
+    return joinHint == JoinOperatorBase.JoinHint.BROADCAST_HASH_SECOND ?
+      joinHint : JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES;
+  }
+
+  /**
+   * Selects the join hint for joining the specified entries based on their estimated
+   * cardinalities.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   *
+   * @return join hint for the Flink optimizer
+   */
+  protected JoinOperatorBase.JoinHint selectJoinHint(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    return joinHintSelector.select(
+      leftEntry.getEstimatedCardinality(), rightEntry.getEstimatedCardinality());
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Filter and projection
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Checks if a filter can be applied on the specified entry. If this is the case, a
+   * {@link FilterEmbeddingsNode} is added to the query plan represented by the entry.
+   *
+   * @param entry plan table entry
+   * @return filtered entry or the input entry if no filter can be applied
+   */
+  protected PlanTableEntry filter(PlanTableEntry entry) {
+    Set<String> variables = Sets.newHashSet(entry.getProcessedVariables());
+    CNF predicates = entry.getPredicates();
+    CNF subCNF = predicates.removeSubCNF(variables);
+    if (subCNF.size() > 0) {
+      FilterEmbeddingsNode node = new FilterEmbeddingsNode(entry.getQueryPlan().getRoot(),
+        subCNF);
+      return new PlanTableEntry(GRAPH, Sets.newHashSet(entry.getProcessedVariables()),
+        predicates, new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+    }
+    return entry;
+  }
+
+  /**
+   * Checks if properties that are not needed for further query processing are attached to the
+   * specified entry. If this is the case, a {@link ProjectEmbeddingsNode} is added to the query
+   * plan represented by the entry.
+   *
+   * @param entry plan table entry
+   * @return projected entry or the input entry if no projection is necessary
+   */
+  protected PlanTableEntry project(PlanTableEntry entry) {
+    Set<Pair<String, String>> propertyPairs = entry.getPropertyPairs();
+    Set<Pair<String, String>> projectionPairs = entry.getProjectionPairs();
+
+    Set<Pair<String, String>> updatedPropertyPairs = propertyPairs.stream()
+      .filter(projectionPairs::contains)
+      .collect(Collectors.toSet());
+
+    if (updatedPropertyPairs.size() < propertyPairs.size()) {
+      ProjectEmbeddingsNode node = new ProjectEmbeddingsNode(entry.getQueryPlan().getRoot(),
+        new ArrayList<>(updatedPropertyPairs));
+      return new PlanTableEntry(GRAPH,
+        Sets.newHashSet(entry.getProcessedVariables()), entry.getPredicates(),
+        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+    }
+    return entry;
+  }
+
+  /**
+   * Creates a new predicate that includes only elements that exist in both input predicates
+   *
+   * @param leftEntry left side plant table entry
+   * @param rightEntry right side plan table entry
+   * @return Merged predicates
+   */
+  protected CNF mergePredicates(PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
+    CNF leftPredicates = new CNF(leftEntry.getPredicates());
+    CNF rightPredicates = new CNF(rightEntry.getPredicates());
+    leftPredicates.removeSubCNF(rightEntry.getProcessedVariables());
+    rightPredicates.removeSubCNF(leftEntry.getProcessedVariables());
+    return leftPredicates.and(rightPredicates);
+  }
+}
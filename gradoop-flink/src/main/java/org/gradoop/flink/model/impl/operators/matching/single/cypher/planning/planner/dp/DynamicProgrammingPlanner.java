@@ -0,0 +1,340 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp;
+
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.MultiwayJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.Planner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.MultiwayJoinNode;
+import org.s1ck.gdl.model.Edge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.EDGE;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.GRAPH;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.PATH;
+
+/**
+ * A query planner that enumerates all join orders of the query graph elements by dynamic
+ * programming over subsets of the initial plan table entries (DPsub).
+ *
+ * For each connected subset of query vertices and edges, the planner keeps the cheapest plan
+ * among all combinations of two disjoint subsets. The cost of a plan is the sum of the estimated
+ * cardinalities of all intermediate results. In contrast to the {@link GreedyPlanner}, this
+ * considers bushy plans and does not commit to a join order too early which matters for cyclic
+ * query graphs.
+ *
+ * Subsets of edges that form a cycle can additionally be joined at once by a
+ * {@link MultiwayJoinNode}. Its costs are the result cardinality plus the copies created by
+ * replicating the inputs in the hypercube shuffle. It thus avoids intermediate results of open
+ * paths which binary joins need to close a cycle.
+ *
+ * The number of evaluated subset pairs grows with 3^n for n query vertices and edges. For query
+ * graphs exceeding the configured threshold and for disconnected query graphs, which require
+ * cartesian products or value joins, planning falls back to the {@link GreedyPlanner}.
+ */
+public class DynamicProgrammingPlanner extends Planner {
+  /**
+   * Default maximum number of query vertices and edges planned by dynamic programming.
+   */
+  public static final int DEFAULT_MAX_QUERY_SIZE = 10;
+  /**
+   * Maximum number of query vertices and edges planned by dynamic programming.
+   */
+  private final int maxQuerySize;
+
+  /**
+   * Creates a new planner using {@link #DEFAULT_MAX_QUERY_SIZE}.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  public DynamicProgrammingPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      DEFAULT_MAX_QUERY_SIZE);
+  }
+
+  /**
+   * Creates a new planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxQuerySize maximum number of query vertices and edges planned by dynamic programming
+   */
+  public DynamicProgrammingPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    int maxQuerySize) {
+    super(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    if (maxQuerySize >= Integer.SIZE - 1) {
+      throw new IllegalArgumentException("Maximum query size must be less than " +
+        (Integer.SIZE - 1));
+    }
+    this.maxQuerySize = maxQuerySize;
+  }
+
+  @Override
+  public PlanTableEntry plan() {
+    PlanTable planTable = initPlanTable();
+    int size = planTable.size();
+
+    if (size == 1) {
+      return planTable.get(0);
+    }
+    if (size > maxQuerySize) {
+      return planGreedy();
+    }
+
+    // best plan and its costs for each subset of the initial entries, encoded as bit set
+    PlanTableEntry[] bestEntries = new PlanTableEntry[1 << size];
+    long[] costs = new long[1 << size];
+
+    for (int i = 0; i < size; i++) {
+      bestEntries[1 << i] = planTable.get(i);
+    }
+
+    // subsets of a set are numerically smaller than the set itself
+    for (int set = 1; set < bestEntries.length; set++) {
+      if (Integer.bitCount(set) < 2) {
+        continue;
+      }
+      for (int left = (set - 1) & set; left > 0; left = (left - 1) & set) {
+        int right = set ^ left;
+        if (bestEntries[left] == null || bestEntries[right] == null) {
+          continue;
+        }
+        for (PlanTableEntry entry : joinEntries(bestEntries[left], bestEntries[right])) {
+          long cost = costs[left] + costs[right] + entry.getEstimatedCardinality();
+          if (bestEntries[set] == null || cost < costs[set]) {
+            bestEntries[set] = entry;
+            costs[set] = cost;
+          }
+        }
+      }
+      List<PlanTableEntry> edgeEntries = getEntries(planTable, set);
+      if (isCycle(edgeEntries)) {
+        PlanTableEntry entry = project(filter(createMultiwayJoinEntry(edgeEntries)));
+        long cost = getMultiwayJoinCost(edgeEntries, entry);
+        if (bestEntries[set] == null || cost < costs[set]) {
+          bestEntries[set] = entry;
+          costs[set] = cost;
+        }
+      }
+    }
+
+    PlanTableEntry bestEntry = bestEntries[bestEntries.length - 1];
+    return bestEntry != null ? bestEntry : planGreedy();
+  }
+
+  /**
+   * Creates all possible joins of the specified entries with the left entry being the one that is
+   * extended. Each join is followed by filters and projections that become applicable.
+   *
+   * @param leftEntry entry to extend
+   * @param rightEntry entry to extend with
+   * @return joined entries, empty if the entries cannot be joined
+   */
+  private List<PlanTableEntry> joinEntries(PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
+    List<PlanTableEntry> entries = new ArrayList<>();
+    if (mayExtend(leftEntry)) {
+      List<String> joinVariables = getOverlap(leftEntry, rightEntry);
+      if (rightEntry.getType() == PATH && joinVariables.size() == 2) {
+        // evaluate join with variable length path on source and target vertex
+        entries.add(joinAndFilter(leftEntry, rightEntry, joinVariables.subList(0, 1)));
+        entries.add(joinAndFilter(leftEntry, rightEntry, joinVariables.subList(1, 2)));
+      } else if (joinVariables.size() > 0) {
+        entries.add(joinAndFilter(leftEntry, rightEntry, joinVariables));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Joins the specified entries on the given variables and applies filters and projections that
+   * become applicable.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param joinVariables join variables
+   * @return an entry that represents the join of both input entries
+   */
+  private PlanTableEntry joinAndFilter(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    List<String> joinVariables) {
+    return project(filter(joinEntries(leftEntry, rightEntry, joinVariables)));
+  }
+
+  /**
+   * Returns the entries of the plan table contained in the specified set.
+   *
+   * @param planTable plan table
+   * @param set bit set of entry positions
+   * @return entries contained in the set
+   */
+  private List<PlanTableEntry> getEntries(PlanTable planTable, int set) {
+    List<PlanTableEntry> entries = new ArrayList<>(Integer.bitCount(set));
+    for (int i = 0; i < planTable.size(); i++) {
+      if ((set & (1 << i)) != 0) {
+        entries.add(planTable.get(i));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Checks if the specified entries are at least three edges without loops that form a connected
+   * query graph containing a cycle. For such entries, a multiway join avoids the materialization
+   * of open paths (e.g. wedges for a triangle) that binary joins produce.
+   *
+   * @param entries plan table entries
+   * @return true, iff the entries are edges that form a connected cyclic query graph
+   */
+  private boolean isCycle(List<PlanTableEntry> entries) {
+    if (entries.size() < 3) {
+      return false;
+    }
+    // connected components of the query vertices, i.e. union-find with path halving
+    Map<String, String> parents = new HashMap<>();
+    for (PlanTableEntry entry : entries) {
+      if (entry.getType() != EDGE) {
+        return false;
+      }
+      Edge edge = queryHandler.getEdgeByVariable(
+        entry.getProcessedVariables().iterator().next());
+      String source = queryHandler.getVertexById(edge.getSourceVertexId()).getVariable();
+      String target = queryHandler.getVertexById(edge.getTargetVertexId()).getVariable();
+      if (source.equals(target)) {
+        return false;
+      }
+      parents.putIfAbsent(source, source);
+      parents.putIfAbsent(target, target);
+      parents.put(findRoot(parents, source), findRoot(parents, target));
+    }
+    long components = parents.keySet().stream()
+      .filter(vertex -> findRoot(parents, vertex).equals(vertex))
+      .count();
+    return components == 1 && entries.size() >= parents.size();
+  }
+
+  /**
+   * Returns the representative of the component containing the specified vertex.
+   *
+   * @param parents parent of each vertex
+   * @param vertex query vertex
+   * @return representative vertex
+   */
+  private String findRoot(Map<String, String> parents, String vertex) {
+    String current = vertex;
+    while (!parents.get(current).equals(current)) {
+      String grandParent = parents.get(parents.get(current));
+      parents.put(current, grandParent);
+      current = grandParent;
+    }
+    return current;
+  }
+
+  /**
+   * Creates an entry that joins the specified entries using a {@link MultiwayJoinNode}.
+   *
+   * @param entries entries to join
+   * @return an entry that represents the join of all input entries
+   */
+  private PlanTableEntry createMultiwayJoinEntry(List<PlanTableEntry> entries) {
+    MultiwayJoinNode node = new MultiwayJoinNode(
+      entries.stream().map(entry -> entry.getQueryPlan().getRoot()).collect(Collectors.toList()),
+      vertexStrategy, edgeStrategy);
+
+    Set<String> processedVariables = new HashSet<>(entries.get(0).getProcessedVariables());
+    CNF predicates = new CNF(entries.get(0).getPredicates());
+    for (PlanTableEntry entry : entries.subList(1, entries.size())) {
+      // same as merging the predicates of a left-deep binary join
+      CNF leftPredicates = new CNF(predicates);
+      CNF rightPredicates = new CNF(entry.getPredicates());
+      leftPredicates.removeSubCNF(entry.getProcessedVariables());
+      rightPredicates.removeSubCNF(processedVariables);
+      predicates = leftPredicates.and(rightPredicates);
+      processedVariables.addAll(entry.getProcessedVariables());
+    }
+
+    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
+  /**
+   * Computes the costs of a multiway join of the specified entries. In addition to the result
+   * cardinality, the costs include the copies each input is replicated to by the hypercube
+   * shuffle beyond the single copy any join ships.
+   *
+   * @param entries joined entries
+   * @param joinedEntry entry representing the multiway join
+   * @return costs of the multiway join
+   */
+  private long getMultiwayJoinCost(List<PlanTableEntry> entries, PlanTableEntry joinedEntry) {
+    PlanNode root = joinedEntry.getQueryPlan().getRoot();
+    while (!(root instanceof MultiwayJoinNode)) {
+      root = ((UnaryNode) root).getChildNode();
+    }
+    List<String> joinVariables = ((MultiwayJoinNode) root).getJoinVariables();
+    int[] shares = MultiwayJoinEmbeddings.computeShares(
+      joinVariables.size(), joinHintSelector.getParallelism());
+    int cellCount = Arrays.stream(shares).reduce(1, (a, b) -> a * b);
+
+    long cost = joinedEntry.getEstimatedCardinality();
+    for (PlanTableEntry entry : entries) {
+      int inputCells = 1;
+      for (int i = 0; i < joinVariables.size(); i++) {
+        if (entry.getAllVariables().contains(joinVariables.get(i))) {
+          inputCells *= shares[i];
+        }
+      }
+      cost += entry.getEstimatedCardinality() * (cellCount / inputCells - 1);
+    }
+    return cost;
+  }
+
+  /**
+   * Plans the query using the {@link GreedyPlanner}.
+   *
+   * @return entry with minimum execution costs according to the greedy planner
+   */
+  private PlanTableEntry planGreedy() {
+    return new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy)
+      .plan();
+  }
+}
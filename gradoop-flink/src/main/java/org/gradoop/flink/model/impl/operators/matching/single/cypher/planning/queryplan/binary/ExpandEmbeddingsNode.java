@@ -77,6 +77,10 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * Morphism type for edges
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * Join hint for Flink optimizer
+   */
+  private final JoinOperatorBase.JoinHint joinHint;
 
   /**
    * Creates a new node.
@@ -96,6 +100,30 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
     String startVariable, String pathVariable, String endVariable,
     int lowerBound, int upperBound, ExpandDirection expandDirection,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(leftChild, rightChild, startVariable, pathVariable, endVariable, lowerBound, upperBound,
+      expandDirection, vertexStrategy, edgeStrategy, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+  }
+
+  /**
+   * Creates a new node.
+   *
+   * @param leftChild left child representing the embeddings to expand
+   * @param rightChild right child representing the edges to expand with
+   * @param startVariable vertex variable on which to start the expansion
+   * @param pathVariable variable representing the path
+   * @param endVariable vertex variable on which to end the expansion
+   * @param lowerBound minimum number of expansions
+   * @param upperBound maximum number of expansions
+   * @param expandDirection edge direction in the expansion
+   * @param vertexStrategy morphism strategy for vertices
+   * @param edgeStrategy morphism strategy for edges
+   * @param joinHint join hint for the Flink optimizer
+   */
+  public ExpandEmbeddingsNode(PlanNode leftChild, PlanNode rightChild,
+    String startVariable, String pathVariable, String endVariable,
+    int lowerBound, int upperBound, ExpandDirection expandDirection,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    JoinOperatorBase.JoinHint joinHint) {
     super(leftChild, rightChild);
     this.pathVariable = pathVariable;
     this.startVariable = startVariable;
@@ -105,6 +133,7 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
     this.expandDirection = expandDirection;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
+    this.joinHint = joinHint;
     this.expandColumn = leftChild.getEmbeddingMetaData().getEntryColumn(startVariable);
     this.closingColumn = leftChild.getEmbeddingMetaData().containsEntryColumn(endVariable) ?
       leftChild.getEmbeddingMetaData().getEntryColumn(endVariable) : -1;
@@ -117,7 +146,7 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
       expandColumn, lowerBound, upperBound, expandDirection,
       getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
       getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
-      closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+      closingColumn, joinHint);
     op.setName(toString());
     return op.evaluate();
   }
@@ -178,8 +207,9 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
         "upperBound=%d, " +
         "expandDirection=%s, " +
         "vertexMorphismType=%s, " +
-        "edgeMorphismType=%s}",
+        "edgeMorphismType=%s, " +
+        "joinHint=%s}",
       startVariable, pathVariable, endVariable, lowerBound, upperBound, expandDirection,
-      vertexStrategy, edgeStrategy);
+      vertexStrategy, edgeStrategy, joinHint);
   }
 }
@@ -222,7 +222,8 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     return String.format("JoinEmbeddingsNode{" +
       "joinVariables=%s, " +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      joinVariables, vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "joinHint=%s}",
+      joinVariables, vertexStrategy, edgeStrategy, joinHint);
   }
 }
@@ -230,7 +230,8 @@ public class ValueJoinNode extends BinaryNode implements JoinNode {
       "leftJoinProperties=%s, " +
       "rightJoinProperties=%s, " +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      leftJoinProperties, rightJoinProperties, vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "joinHint=%s}",
+      leftJoinProperties, rightJoinProperties, vertexStrategy, edgeStrategy, joinHint);
   }
 }
@@ -0,0 +1,199 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.MultiwayJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * N-ary node that wraps a {@link MultiwayJoinEmbeddings} operator.
+ *
+ * The inputs are joined on all query variables they share. The resulting embedding has the same
+ * layout as the result of joining the inputs from left to right using binary joins.
+ */
+public class MultiwayJoinNode extends NaryNode implements JoinNode {
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Creates a new node.
+   *
+   * @param children input plan nodes
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public MultiwayJoinNode(List<PlanNode> children,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    super(children);
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+  }
+
+  @Override
+  public DataSet<Embedding> execute() {
+    List<DataSet<Embedding>> inputs = getChildren().stream()
+      .map(PlanNode::execute)
+      .collect(Collectors.toList());
+
+    MultiwayJoinEmbeddings op = new MultiwayJoinEmbeddings(inputs,
+      getJoinColumns(), getAppendColumns(), getDistinctVertexColumns(), getDistinctEdgeColumns());
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    EmbeddingMetaData embeddingMetaData =
+      new EmbeddingMetaData(getChildren().get(0).getEmbeddingMetaData());
+
+    for (PlanNode child : getChildren().subList(1, getChildren().size())) {
+      EmbeddingMetaData childMetaData = child.getEmbeddingMetaData();
+
+      // append the entry mappings of variables not contained in previous inputs
+      int entryCount = embeddingMetaData.getEntryCount();
+      for (String var : childMetaData.getVariables()) {
+        if (!embeddingMetaData.containsEntryColumn(var)) {
+          embeddingMetaData.setEntryColumn(var, childMetaData.getEntryType(var), entryCount++);
+        }
+        // copy the direction information of paths
+        if (childMetaData.getEntryType(var) == EmbeddingMetaData.EntryType.PATH) {
+          embeddingMetaData.setDirection(var, childMetaData.getDirection(var));
+        }
+      }
+
+      // append all property mappings
+      int propertyCount = embeddingMetaData.getPropertyCount();
+      for (String var : childMetaData.getVariables()) {
+        for (String key : childMetaData.getPropertyKeys(var)) {
+          embeddingMetaData.setPropertyColumn(var, key, propertyCount++);
+        }
+      }
+    }
+    return embeddingMetaData;
+  }
+
+  /**
+   * Returns the query variables contained in at least two inputs in order of their first
+   * occurrence.
+   *
+   * @return join variables
+   */
+  public List<String> getJoinVariables() {
+    Map<String, Integer> occurrences = new LinkedHashMap<>();
+    for (PlanNode child : getChildren()) {
+      for (String var : child.getEmbeddingMetaData().getVariables()) {
+        occurrences.merge(var, 1, Integer::sum);
+      }
+    }
+    return occurrences.entrySet().stream()
+      .filter(entry -> entry.getValue() > 1)
+      .map(Map.Entry::getKey)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Computes for each input the column of each join variable or -1 if the input does not contain
+   * the variable.
+   *
+   * @return join columns per input
+   */
+  private List<List<Integer>> getJoinColumns() {
+    List<String> joinVariables = getJoinVariables();
+    return getChildren().stream()
+      .map(PlanNode::getEmbeddingMetaData)
+      .map(metaData -> joinVariables.stream()
+        .map(var -> metaData.containsEntryColumn(var) ? metaData.getEntryColumn(var) : -1)
+        .collect(Collectors.toList()))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Computes for each input the columns that are appended to the resulting embedding, i.e. the
+   * columns of variables that are not contained in any previous input.
+   *
+   * @return appended columns per input
+   */
+  private List<List<Integer>> getAppendColumns() {
+    Set<String> seen = new HashSet<>();
+    List<List<Integer>> appendColumns = new ArrayList<>();
+    for (PlanNode child : getChildren()) {
+      EmbeddingMetaData metaData = child.getEmbeddingMetaData();
+      appendColumns.add(metaData.getVariables().stream()
+        .filter(seen::add)
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()));
+    }
+    return appendColumns;
+  }
+
+  /**
+   * According to the specified {@link MultiwayJoinNode#vertexStrategy}, the method returns
+   * the columns that need to contain distinct entries in the resulting embedding.
+   *
+   * @return distinct vertex columns of the resulting embedding
+   */
+  private List<Integer> getDistinctVertexColumns() {
+    EmbeddingMetaData metaData = getEmbeddingMetaData();
+    return vertexStrategy == MatchStrategy.ISOMORPHISM ?
+      metaData.getVertexVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  /**
+   * According to the specified {@link MultiwayJoinNode#edgeStrategy}, the method returns
+   * the columns that need to contain distinct entries in the resulting embedding.
+   *
+   * @return distinct edge columns of the resulting embedding
+   */
+  private List<Integer> getDistinctEdgeColumns() {
+    EmbeddingMetaData metaData = getEmbeddingMetaData();
+    return edgeStrategy == MatchStrategy.ISOMORPHISM ?
+      metaData.getEdgeVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("MultiwayJoinNode{" +
+      "joinVariables=%s, " +
+      "vertexMorphismType=%s, " +
+      "edgeMorphismType=%s}",
+      getJoinVariables(), vertexStrategy, edgeStrategy);
+  }
+}
@@ -57,6 +57,12 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    */
   public static final transient byte ID_LIST_FLAG = 0x01;
 
+  /**
+   * Shared representation of empty data arrays. Embedding data is never modified in place, so
+   * id-only embeddings can reference this array instead of allocating their own.
+   */
+  private static final transient byte[] EMPTY_DATA = new byte[0];
+
   /**
    * Holds the idData of all id-able entries (IDListFlag, ID)
    */
@@ -76,7 +82,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * Creates am empty Embedding
    */
   public Embedding() {
-    this(new byte[0], new byte[0], new byte[0]);
+    this(EMPTY_DATA, EMPTY_DATA, EMPTY_DATA);
   }
 
   /**
@@ -92,6 +98,22 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     this.idListData = idListData;
   }
 
+  /**
+   * Creates an Embedding which only holds the given ids. The id data is allocated once with a
+   * fixed width of {@link #ID_ENTRY_SIZE} bytes per entry, property and id list data are empty.
+   *
+   * @param ids ids stored in the embedding
+   * @return Embedding holding the given ids
+   */
+  public static Embedding fromIds(GradoopId... ids) {
+    byte[] idData = new byte[ids.length * ID_ENTRY_SIZE];
+    for (int i = 0; i < ids.length; i++) {
+      idData[i * ID_ENTRY_SIZE] = ID_ENTRY_FLAG;
+      ids[i].toByteArray(idData, i * ID_ENTRY_SIZE + 1);
+    }
+    return new Embedding(idData, EMPTY_DATA, EMPTY_DATA);
+  }
+
   // ---------------------------------------------------------------------------------------------
   //  ID handling
   // ---------------------------------------------------------------------------------------------
@@ -118,7 +140,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     int offset = idData.length;
     for (GradoopId id : ids) {
       newIds[offset] = ID_ENTRY_FLAG;
-      System.arraycopy(id.toByteArray(), 0, newIds, offset + 1, GradoopId.ID_SIZE);
+      id.toByteArray(newIds, offset + 1);
       offset += ID_ENTRY_SIZE;
     }
 
@@ -130,7 +152,13 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return ID of the entry
    */
   public GradoopId getId(int column) {
-    return GradoopId.fromByteArray(getRawId(column));
+    int offset = getIdOffset(column);
+
+    if (idData[offset] == ID_LIST_FLAG) {
+      throw new UnsupportedOperationException("Can't return ID for ID List");
+    }
+
+    return GradoopId.fromByteArray(idData, offset + 1);
   }
 
   /**
@@ -199,7 +227,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     byte[] newIds = new byte[idData.length + 1 + GradoopId.ID_SIZE];
     System.arraycopy(idData, 0, newIds, 0, idData.length);
     newIds[idData.length] = isIdList ? ID_LIST_FLAG : ID_ENTRY_FLAG;
-    System.arraycopy(id.toByteArray(), 0, newIds, idData.length + 1, GradoopId.ID_SIZE);
+    id.toByteArray(newIds, idData.length + 1);
 
     idData = newIds;
   }
@@ -235,6 +263,10 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param properties new properties
    */
   public void addPropertyValues(PropertyValue... properties) {
+    if (properties.length == 0) {
+      return;
+    }
+
     int newPropertiesSize = propertyData.length;
     for (PropertyValue property : properties) {
       newPropertiesSize += property.getByteSize() + Integer.BYTES;
@@ -262,15 +294,11 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   public PropertyValue getProperty(int column) {
     int offset = getPropertyOffset(column);
 
-    int entryLength = Ints.fromByteArray(
-      ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES)
-    );
+    int entryLength = readInt(propertyData, offset);
 
     offset += Integer.BYTES;
 
-    return PropertyValue.fromRawBytes(
-      ArrayUtils.subarray(propertyData, offset, offset + entryLength)
-    );
+    return PropertyValue.fromRawBytes(propertyData, offset, entryLength);
   }
 
   /**
@@ -281,9 +309,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   public byte[] getRawProperty(int column) {
     int offset = getPropertyOffset(column);
 
-    int entryLength = Ints.fromByteArray(
-      ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES)
-    );
+    int entryLength = readInt(propertyData, offset);
 
     return ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES + entryLength);
   }
@@ -297,14 +323,11 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     int offset = 0;
     int entrySize;
     while (offset < propertyData.length) {
-      entrySize =
-        Ints.fromByteArray(ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES));
+      entrySize = readInt(propertyData, offset);
 
       offset += Integer.BYTES;
 
-      properties.add(PropertyValue.fromRawBytes(
-        ArrayUtils.subarray(propertyData, offset, offset + entrySize)
-      ));
+      properties.add(PropertyValue.fromRawBytes(propertyData, offset, entrySize));
 
       offset += entrySize;
     }
@@ -323,8 +346,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     int entryLength;
 
     while (i < column && offset < propertyData.length) {
-      entryLength =
-        Ints.fromByteArray(ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES));
+      entryLength = readInt(propertyData, offset);
 
       offset += entryLength + Integer.BYTES;
       i++;
@@ -337,6 +359,30 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     return offset;
   }
 
+  /**
+   * Returns the offsets of all properties in the propertyData array in a single scan.
+   * The last element marks the end of the property data.
+   * @return Offsets of all properties in the propertyData array
+   */
+  private int[] getPropertyOffsets() {
+    int count = 0;
+    int offset = 0;
+    while (offset < propertyData.length) {
+      offset += readInt(propertyData, offset) + Integer.BYTES;
+      count++;
+    }
+
+    int[] offsets = new int[count + 1];
+    offset = 0;
+    for (int i = 0; i < count; i++) {
+      offsets[i] = offset;
+      offset += readInt(propertyData, offset) + Integer.BYTES;
+    }
+    offsets[count] = offset;
+
+    return offsets;
+  }
+
   // ---------------------------------------------------------------------------------------------
   //  ID-List handling
   // ---------------------------------------------------------------------------------------------
@@ -382,9 +428,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     List<GradoopId> idList = new ArrayList<>(listSize);
 
     for (int i = 0; i < listSize; i++) {
-      idList.add(GradoopId.fromByteArray(
-        ArrayUtils.subarray(idListData, offset, offset + GradoopId.ID_SIZE)
-      ));
+      idList.add(GradoopId.fromByteArray(idListData, offset));
       offset += GradoopId.ID_SIZE;
     }
 
@@ -441,6 +485,16 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     return idData.length / ID_ENTRY_SIZE;
   }
 
+  /**
+   * Checks if the embedding only stores ids, i.e. it has neither properties nor id lists.
+   * The entries of such an embedding can be addressed directly in the id data.
+   *
+   * @return true, if the embedding stores neither properties nor id lists
+   */
+  public boolean isIdOnly() {
+    return propertyData.length == 0 && idListData.length == 0;
+  }
+
   /**
    * Returns the internal representation of the stored ids
    * @return Internal representation of the list of ids
@@ -494,9 +548,24 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return Embedding with the projected property list
    */
   public Embedding project(List<Integer> propertyWhiteList) {
-    byte[] newPropertyData = new byte[0];
+    int[] offsets = getPropertyOffsets();
+    int propertyCount = offsets.length - 1;
+
+    int newPropertiesSize = 0;
     for (int index : propertyWhiteList) {
-      newPropertyData = ArrayUtils.addAll(newPropertyData, getRawProperty(index));
+      if (index < 0 || index >= propertyCount) {
+        throw new IndexOutOfBoundsException("Cant find Property. " + index + " >= " +
+          propertyCount);
+      }
+      newPropertiesSize += offsets[index + 1] - offsets[index];
+    }
+
+    byte[] newPropertyData = new byte[newPropertiesSize];
+    int offset = 0;
+    for (int index : propertyWhiteList) {
+      int entrySize = offsets[index + 1] - offsets[index];
+      System.arraycopy(propertyData, offsets[index], newPropertyData, offset, entrySize);
+      offset += entrySize;
     }
 
     return new Embedding(idData, newPropertyData, idListData);
@@ -512,7 +581,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
     for (int i = size() - 1; i >= 0; i--) {
       System.arraycopy(
-        getRawIdEntry(i), 0,
+        idData, i * ID_ENTRY_SIZE,
         newIdData,  (size() - 1 - i) * ID_ENTRY_SIZE,
         ID_ENTRY_SIZE
       );
@@ -546,6 +615,18 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     System.arraycopy(Ints.toByteArray(value), 0, target, offset, Integer.BYTES);
   }
 
+  /**
+   * Reads an Integer from the source byte array starting at the specified offset without
+   * copying the underlying bytes
+   * @param source Source byte array
+   * @param offset offset the value will be read from
+   * @return Integer stored at the offset
+   */
+  private int readInt(byte[] source, int offset) {
+    return Ints.fromBytes(source[offset], source[offset + 1], source[offset + 2],
+      source[offset + 3]);
+  }
+
   /**
    * Writes the byte representation of a GradoopId into the target byte array
    * starting at the specified offset
@@ -554,7 +635,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param offset offset the value will be written to
    */
   private void writeId(GradoopId value, byte[] target, int offset) {
-    System.arraycopy(value.toByteArray(), 0, target, offset, GradoopId.ID_SIZE);
+    value.toByteArray(target, offset);
   }
 
   /**
@@ -567,7 +648,16 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   private void writeProperty(PropertyValue value, byte[] target, int offset) {
     writeInt(value.getByteSize(), target, offset);
     offset += Integer.BYTES;
-    System.arraycopy(value.getRawBytes(), 0, target, offset, value.getByteSize());
+    value.copyRawBytes(target, offset);
+  }
+
+  /**
+   * Returns a copy of the given data array. Empty arrays are not copied.
+   * @param data data array
+   * @return copy of the data array
+   */
+  private static byte[] copyData(byte[] data) {
+    return data.length == 0 ? EMPTY_DATA : Arrays.copyOf(data, data.length);
   }
 
   // ---------------------------------------------------------------------------------------------
@@ -581,13 +671,9 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
   @Override
   public void copyTo(Embedding target) {
-    target.idData = new byte[idData.length];
-    target.propertyData = new byte[propertyData.length];
-    target.idListData = new byte[idListData.length];
-
-    System.arraycopy(this.idData, 0, target.idData, 0, this.idData.length);
-    System.arraycopy(this.propertyData, 0, target.propertyData, 0, this.propertyData.length);
-    System.arraycopy(this.idListData, 0, target.idListData, 0, this.idListData.length);
+    target.idData = copyData(idData);
+    target.propertyData = copyData(propertyData);
+    target.idListData = copyData(idListData);
   }
 
   @Override
@@ -629,7 +715,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   public void read(DataInputView in) throws IOException {
 
     int sizeBuffer = in.readInt();
-    byte[] ids = new byte[sizeBuffer];
+    byte[] ids = sizeBuffer > 0 ? new byte[sizeBuffer] : EMPTY_DATA;
     if (sizeBuffer > 0) {
       if (in.read(ids) != sizeBuffer) {
         throw new RuntimeException("Deserialisation of Embedding failed");
@@ -637,7 +723,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     }
 
     sizeBuffer = in.readInt();
-    byte[] newPropertyData =  new byte[sizeBuffer];
+    byte[] newPropertyData = sizeBuffer > 0 ? new byte[sizeBuffer] : EMPTY_DATA;
     if (sizeBuffer > 0) {
       if (in.read(newPropertyData) != sizeBuffer) {
         throw new RuntimeException("Deserialisation of Embedding failed");
@@ -645,7 +731,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     }
 
     sizeBuffer = in.readInt();
-    byte[] idLists = new byte[sizeBuffer];
+    byte[] idLists = sizeBuffer > 0 ? new byte[sizeBuffer] : EMPTY_DATA;
     if (sizeBuffer > 0) {
       if (in.read(idLists) != sizeBuffer) {
         throw new RuntimeException("Deserialisation of Embedding failed");
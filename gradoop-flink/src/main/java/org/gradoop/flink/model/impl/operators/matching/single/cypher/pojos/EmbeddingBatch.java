@@ -0,0 +1,474 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import com.google.common.primitives.Ints;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.Arrays;
+
+/**
+ * A columnar batch of {@link Embedding}s which share the same schema, i.e. the same number of
+ * entries and property values.
+ *
+ * Instead of three byte arrays per embedding, the batch stores the id entries of all embeddings in
+ * a single fixed-width vector (row-major, {@link Embedding#ID_ENTRY_SIZE} bytes per entry). The
+ * property values and id lists are stored in shared arenas which are addressed by offset vectors.
+ * Operators which need to hold many embeddings at once (e.g. the group-reduce of a multiway join)
+ * append them to a batch and copy the rows they emit directly from the batch columns. The buffers
+ * of a cleared batch are reused, so no per-embedding arrays are allocated.
+ */
+public class EmbeddingBatch {
+
+  /**
+   * Default number of embeddings stored in a batch
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /**
+   * Shared representation of empty embedding data
+   */
+  private static final byte[] EMPTY_DATA = new byte[0];
+
+  /**
+   * Maximum number of embeddings stored in the batch
+   */
+  private final int capacity;
+
+  /**
+   * Number of embeddings currently stored in the batch
+   */
+  private int size;
+
+  /**
+   * Number of entries of every embedding in the batch, -1 if not yet known
+   */
+  private int idColumns;
+
+  /**
+   * Number of property values of every embedding in the batch
+   */
+  private int propertyColumns;
+
+  /**
+   * Id entries of all embeddings (IDListFlag, ID), row-major
+   */
+  private byte[] idData;
+
+  /**
+   * Property values of all embeddings in the form (length, property value)
+   */
+  private byte[] propertyData;
+
+  /**
+   * Number of used bytes in {@link #propertyData}
+   */
+  private int propertyDataLength;
+
+  /**
+   * Offset of each property value in {@link #propertyData}. The value of column c of the embedding
+   * at row r starts at {@code propertyOffsets[r * propertyColumns + c]}, the last element marks the
+   * end of the used property data.
+   */
+  private int[] propertyOffsets;
+
+  /**
+   * Id lists of all embeddings in the form (pointer, count, ID+)
+   */
+  private byte[] idListData;
+
+  /**
+   * Offset of the id lists of each embedding in {@link #idListData}, the last element marks the end
+   * of the used id list data.
+   */
+  private int[] idListOffsets;
+
+  /**
+   * Creates a batch with the default capacity.
+   */
+  public EmbeddingBatch() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a batch which can store up to the specified number of embeddings.
+   *
+   * @param capacity maximum number of embeddings stored in the batch
+   */
+  public EmbeddingBatch(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+    this.idColumns = -1;
+    this.idData = EMPTY_DATA;
+    this.propertyData = EMPTY_DATA;
+    this.propertyOffsets = new int[1];
+    this.idListData = EMPTY_DATA;
+    this.idListOffsets = new int[capacity + 1];
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  //  Conversion
+  // ---------------------------------------------------------------------------------------------
+
+  /**
+   * Appends a copy of the given embedding to the batch. The first embedding added to an empty
+   * batch defines its schema.
+   *
+   * @param embedding embedding to append
+   */
+  public void add(Embedding embedding) {
+    if (isFull()) {
+      throw new IllegalStateException("Embedding batch is full");
+    }
+    if (size == 0) {
+      initSchema(embedding.size(), countProperties(embedding.getPropertyData()));
+    } else if (embedding.size() != idColumns) {
+      throw new IllegalArgumentException(
+        "Embedding has " + embedding.size() + " entries, batch expects " + idColumns);
+    }
+
+    byte[] properties = embedding.getPropertyData();
+    int base = size * propertyColumns;
+    int offset = 0;
+    int column = 0;
+    while (offset < properties.length) {
+      if (column == propertyColumns) {
+        throw new IllegalArgumentException(
+          "Embedding has more than " + propertyColumns + " properties");
+      }
+      propertyOffsets[base + column++] = propertyDataLength + offset;
+      offset += readInt(properties, offset) + Integer.BYTES;
+    }
+    if (column != propertyColumns) {
+      throw new IllegalArgumentException(
+        "Embedding has " + column + " properties, batch expects " + propertyColumns);
+    }
+
+    int rowIdLength = idColumns * Embedding.ID_ENTRY_SIZE;
+    System.arraycopy(embedding.getIdData(), 0, idData, size * rowIdLength, rowIdLength);
+
+    propertyData = ensureCapacity(propertyData, propertyDataLength + properties.length);
+    System.arraycopy(properties, 0, propertyData, propertyDataLength, properties.length);
+    propertyDataLength += properties.length;
+    propertyOffsets[base + propertyColumns] = propertyDataLength;
+
+    byte[] idLists = embedding.getIdListData();
+    int idListDataLength = idListOffsets[size];
+    idListData = ensureCapacity(idListData, idListDataLength + idLists.length);
+    System.arraycopy(idLists, 0, idListData, idListDataLength, idLists.length);
+    idListOffsets[size + 1] = idListDataLength + idLists.length;
+
+    size++;
+  }
+
+  /**
+   * Writes the embedding stored at the given row into the target embedding. The target receives
+   * its own copy of the data and can be emitted safely.
+   *
+   * @param row index of the embedding in the batch
+   * @param target embedding the data is written to
+   */
+  public void toEmbedding(int row, Embedding target) {
+    checkRow(row);
+    int rowIdLength = idColumns * Embedding.ID_ENTRY_SIZE;
+    target.setIdData(slice(idData, row * rowIdLength, (row + 1) * rowIdLength));
+    target.setPropertyData(slice(propertyData,
+      propertyOffsets[row * propertyColumns], propertyOffsets[(row + 1) * propertyColumns]));
+    target.setIdListData(slice(idListData, idListOffsets[row], idListOffsets[row + 1]));
+  }
+
+  /**
+   * Returns the embedding stored at the given row.
+   *
+   * @param row index of the embedding in the batch
+   * @return a new embedding holding a copy of the row
+   */
+  public Embedding getEmbedding(int row) {
+    Embedding embedding = new Embedding();
+    toEmbedding(row, embedding);
+    return embedding;
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  //  Column access
+  // ---------------------------------------------------------------------------------------------
+
+  /**
+   * Returns the id stored at the specified row and column.
+   *
+   * @param row index of the embedding in the batch
+   * @param column index of the entry in the embedding
+   * @return id of the entry
+   */
+  public GradoopId getId(int row, int column) {
+    int offset = getIdEntryOffset(row, column);
+    if (idData[offset] == Embedding.ID_LIST_FLAG) {
+      throw new UnsupportedOperationException("Can't return ID for ID List");
+    }
+    return GradoopId.fromByteArray(idData, offset + 1);
+  }
+
+  /**
+   * Returns the property value stored at the specified row and column.
+   *
+   * @param row index of the embedding in the batch
+   * @param column index of the property in the embedding
+   * @return property value stored at the specified position
+   */
+  public PropertyValue getProperty(int row, int column) {
+    checkRow(row);
+    if (column < 0 || column >= propertyColumns) {
+      throw new IndexOutOfBoundsException(column + " >= " + propertyColumns);
+    }
+    int offset = propertyOffsets[row * propertyColumns + column];
+    return PropertyValue.fromRawBytes(propertyData, offset + Integer.BYTES,
+      readInt(propertyData, offset));
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  //  Raw access
+  // ---------------------------------------------------------------------------------------------
+
+  /**
+   * Checks if the entry stored at the specified row and column is an id list.
+   *
+   * @param row index of the embedding in the batch
+   * @param column index of the entry in the embedding
+   * @return true, if the entry is an id list
+   */
+  public boolean isIdList(int row, int column) {
+    return idData[getIdEntryOffset(row, column)] == Embedding.ID_LIST_FLAG;
+  }
+
+  /**
+   * Copies the id entry (IDListFlag, ID) stored at the specified row and column into the target
+   * array.
+   *
+   * @param row index of the embedding in the batch
+   * @param column index of the entry in the embedding
+   * @param target target array
+   * @param offset offset in the target array
+   */
+  public void copyIdEntry(int row, int column, byte[] target, int offset) {
+    System.arraycopy(idData, getIdEntryOffset(row, column), target, offset,
+      Embedding.ID_ENTRY_SIZE);
+  }
+
+  /**
+   * Returns the length of the property data of the embedding stored at the given row.
+   *
+   * @param row index of the embedding in the batch
+   * @return number of bytes of the property data
+   */
+  public int getPropertyDataLength(int row) {
+    checkRow(row);
+    return propertyOffsets[(row + 1) * propertyColumns] - propertyOffsets[row * propertyColumns];
+  }
+
+  /**
+   * Copies the property data of the embedding stored at the given row into the target array.
+   *
+   * @param row index of the embedding in the batch
+   * @param target target array
+   * @param offset offset in the target array
+   * @return number of copied bytes
+   */
+  public int copyPropertyData(int row, byte[] target, int offset) {
+    int length = getPropertyDataLength(row);
+    System.arraycopy(propertyData, propertyOffsets[row * propertyColumns], target, offset, length);
+    return length;
+  }
+
+  /**
+   * Returns the length of the id list data of the embedding stored at the given row.
+   *
+   * @param row index of the embedding in the batch
+   * @return number of bytes of the id list data
+   */
+  public int getIdListDataLength(int row) {
+    checkRow(row);
+    return idListOffsets[row + 1] - idListOffsets[row];
+  }
+
+  /**
+   * Copies the id list data of the embedding stored at the given row into the target array.
+   *
+   * @param row index of the embedding in the batch
+   * @param target target array
+   * @param offset offset in the target array
+   * @return number of copied bytes
+   */
+  public int copyIdListData(int row, byte[] target, int offset) {
+    int length = getIdListDataLength(row);
+    System.arraycopy(idListData, idListOffsets[row], target, offset, length);
+    return length;
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  //  Internal State
+  // ---------------------------------------------------------------------------------------------
+
+  /**
+   * Returns the number of embeddings stored in the batch
+   * @return number of embeddings
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the maximum number of embeddings stored in the batch
+   * @return capacity of the batch
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Checks if the batch reached its capacity
+   * @return true, if no more embeddings can be added
+   */
+  public boolean isFull() {
+    return size == capacity;
+  }
+
+  /**
+   * Returns the number of entries of each embedding in the batch
+   * @return number of entries, -1 if the batch has never been filled
+   */
+  public int getIdColumns() {
+    return idColumns;
+  }
+
+  /**
+   * Returns the number of property values of each embedding in the batch
+   * @return number of property values
+   */
+  public int getPropertyColumns() {
+    return propertyColumns;
+  }
+
+  /**
+   * Removes all embeddings from the batch. Allocated buffers are kept for reuse.
+   */
+  public void clear() {
+    size = 0;
+    propertyDataLength = 0;
+    propertyOffsets[0] = 0;
+    idListOffsets[0] = 0;
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  //  Utilities
+  // ---------------------------------------------------------------------------------------------
+
+  /**
+   * Initializes the column vectors for the given schema. Buffers are only reallocated if the
+   * schema requires more space.
+   *
+   * @param newIdColumns number of entries per embedding
+   * @param newPropertyColumns number of property values per embedding
+   */
+  private void initSchema(int newIdColumns, int newPropertyColumns) {
+    int idDataLength = capacity * newIdColumns * Embedding.ID_ENTRY_SIZE;
+    if (idData.length < idDataLength) {
+      idData = new byte[idDataLength];
+    }
+    if (propertyOffsets.length < capacity * newPropertyColumns + 1) {
+      propertyOffsets = new int[capacity * newPropertyColumns + 1];
+    }
+    propertyOffsets[0] = 0;
+    idColumns = newIdColumns;
+    propertyColumns = newPropertyColumns;
+  }
+
+  /**
+   * Returns the offset of the specified id entry in {@link #idData}
+   * @param row index of the embedding in the batch
+   * @param column index of the entry in the embedding
+   * @return offset of the entry (IDListFlag, ID)
+   */
+  private int getIdEntryOffset(int row, int column) {
+    checkRow(row);
+    if (column < 0 || column >= idColumns) {
+      throw new IndexOutOfBoundsException(column + " >= " + idColumns);
+    }
+    return (row * idColumns + column) * Embedding.ID_ENTRY_SIZE;
+  }
+
+  /**
+   * Checks if the row specified exists in the batch
+   * @param row index of the embedding
+   */
+  private void checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException(row + " >= " + size);
+    }
+  }
+
+  /**
+   * Counts the property values stored in the internal property representation of an embedding
+   * @param properties property data of an embedding
+   * @return number of property values
+   */
+  private static int countProperties(byte[] properties) {
+    int count = 0;
+    int offset = 0;
+    while (offset < properties.length) {
+      offset += readInt(properties, offset) + Integer.BYTES;
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Returns a copy of the specified range of the source array
+   * @param source source byte array
+   * @param from start of the range (inclusive)
+   * @param to end of the range (exclusive)
+   * @return copy of the range
+   */
+  private static byte[] slice(byte[] source, int from, int to) {
+    return from == to ? EMPTY_DATA : Arrays.copyOfRange(source, from, to);
+  }
+
+  /**
+   * Grows the given arena if it can not hold the requested number of bytes
+   * @param arena byte array
+   * @param requiredLength number of bytes that must fit into the arena
+   * @return the arena or a larger copy of it
+   */
+  private static byte[] ensureCapacity(byte[] arena, int requiredLength) {
+    if (arena.length >= requiredLength) {
+      return arena;
+    }
+    return Arrays.copyOf(arena, Math.max(requiredLength, arena.length * 2));
+  }
+
+  /**
+   * Reads an Integer from the source byte array starting at the specified offset
+   * @param source Source byte array
+   * @param offset offset the value will be read from
+   * @return Integer stored at the offset
+   */
+  private static int readInt(byte[] source, int offset) {
+    return Ints.fromBytes(source[offset], source[offset + 1], source[offset + 2],
+      source[offset + 3]);
+  }
+}
@@ -25,6 +25,9 @@ import java.util.List;
 /**
  * Utility class to convert an EPGM element ({@link Vertex} and {@link Edge} into an
  * {@link Embedding}.
+ *
+ * If no property values need to be stored, an id-only embedding is created via
+ * {@link Embedding#fromIds}.
  */
 public class EmbeddingFactory {
 
@@ -40,6 +43,10 @@ public class EmbeddingFactory {
    * @return Embedding
    */
   public static Embedding fromVertex(Vertex vertex, List<String> propertyKeys) {
+    if (propertyKeys.isEmpty()) {
+      return Embedding.fromIds(vertex.getId());
+    }
+
     Embedding embedding = new Embedding();
     embedding.add(vertex.getId(), project(vertex, propertyKeys));
 
@@ -60,6 +67,12 @@ public class EmbeddingFactory {
    * @return Embedding
    */
   public static Embedding fromEdge(Edge edge, List<String> propertyKeys, boolean isLoop) {
+    if (propertyKeys.isEmpty()) {
+      return isLoop ?
+        Embedding.fromIds(edge.getSourceId(), edge.getId()) :
+        Embedding.fromIds(edge.getSourceId(), edge.getId(), edge.getTargetId());
+    }
+
     Embedding embedding = new Embedding();
 
     if (isLoop) {
@@ -94,6 +107,16 @@ public class EmbeddingFactory {
     edgePropertyKeys, List<String> targetPropertyKeys, String sourceVertexVariable,
     String targetVertexVariable) {
 
+    boolean isLoop = sourceVertexVariable.equals(targetVertexVariable);
+
+    if (sourcePropertyKeys.isEmpty() && edgePropertyKeys.isEmpty() &&
+      (isLoop || targetPropertyKeys.isEmpty())) {
+      return isLoop ?
+        Embedding.fromIds(triple.getSourceVertex().getId(), triple.getEdge().getId()) :
+        Embedding.fromIds(triple.getSourceVertex().getId(), triple.getEdge().getId(),
+          triple.getTargetVertex().getId());
+    }
+
     Embedding embedding = new Embedding();
     embedding.add(
       triple.getSourceVertex().getId(),
@@ -105,7 +128,7 @@ public class EmbeddingFactory {
       project(triple.getEdge(), edgePropertyKeys)
     );
 
-    if (sourceVertexVariable.equals(targetVertexVariable)) {
+    if (isLoop) {
       return embedding;
     }
 
@@ -0,0 +1,87 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.functions.tuple.ToIdWithLabel;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.statistics.functions.CollectEdgeStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.functions.CollectVertexStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.functions.CombineStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.functions.EndpointLabelAndEdgeLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.EstimateStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ToEndpointIdsWithLabel;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+
+/**
+ * Computes all mandatory statistics of {@link GraphStatistics} within a single Flink program.
+ *
+ * Vertices and edges are scanned once. Counts and {@link HyperLogLog} sketches of distinct values
+ * are aggregated partition-locally and only the partial results are shuffled and merged. Only the
+ * edge counts by source / target vertex label and edge label require a join between vertices and
+ * edges. Distinct value counts are estimates, all other values are exact.
+ *
+ * The result contains tuples of the form (statistic, key, value), where the statistic is the
+ * name of the corresponding file in {@link GraphStatisticsReader} and the key contains the
+ * comma-separated key tokens of a line in that file (empty for single value statistics).
+ */
+public class GraphStatisticsCollector
+  implements UnaryGraphToValueOperator<DataSet<Tuple3<String, String, Long>>> {
+  /**
+   * Precision of the sketches used to estimate distinct values
+   */
+  private final int precision;
+
+  /**
+   * Creates a new operator using sketches of {@link HyperLogLog#DEFAULT_PRECISION}.
+   */
+  public GraphStatisticsCollector() {
+    this(HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param precision precision of the sketches used to estimate distinct values
+   */
+  public GraphStatisticsCollector(int precision) {
+    this.precision = precision;
+  }
+
+  @Override
+  public DataSet<Tuple3<String, String, Long>> execute(LogicalGraph graph) {
+    DataSet<Tuple3<String, String, Long>> elementStatistics = graph.getVertices()
+      .mapPartition(new CollectVertexStatistics<>(precision))
+      .union(graph.getEdges().mapPartition(new CollectEdgeStatistics<>(precision)))
+      .groupBy(0, 1)
+      .reduce(new CombineStatistics())
+      .map(new EstimateStatistics());
+
+    DataSet<Tuple3<String, String, Long>> endpointStatistics = graph.getVertices()
+      .map(new ToIdWithLabel<>())
+      .join(graph.getEdges().flatMap(new ToEndpointIdsWithLabel<>()))
+      .where(0).equalTo(0)
+      .with(new EndpointLabelAndEdgeLabel())
+      .groupBy(0, 1)
+      .sum(2);
+
+    return elementStatistics.union(endpointStatistics);
+  }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractPropertyValueCountsByLabel;
+
+/**
+ * Computes the most common edge property values for label - property name pairs
+ */
+public class MostCommonEdgePropertyValuesByLabel extends MostCommonPropertyValuesByLabel<Edge> {
+
+  /**
+   * Creates a new operator selecting up to {@link #DEFAULT_VALUE_COUNT} values.
+   */
+  public MostCommonEdgePropertyValuesByLabel() {
+    super();
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param valueCount maximum number of values per label - property name pair
+   */
+  public MostCommonEdgePropertyValuesByLabel(int valueCount) {
+    super(valueCount);
+  }
+
+  @Override
+  protected DataSet<Tuple4<String, String, PropertyValue, Long>> extractValueCounts(
+    LogicalGraph graph) {
+    return graph.getEdges().flatMap(new ExtractPropertyValueCountsByLabel<>());
+  }
+}
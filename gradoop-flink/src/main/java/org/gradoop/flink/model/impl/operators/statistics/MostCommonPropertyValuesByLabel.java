@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.operators.statistics.functions.SelectMostCommonValues;
+
+/**
+ * Base class for statistic operators computing the most common property values of each label -
+ * property name pair.
+ *
+ * The result contains tuples of the form (label, property name, property value, frequency).
+ *
+ * @param <T> element type
+ */
+public abstract class MostCommonPropertyValuesByLabel<T extends GraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple4<String, String, PropertyValue, Long>>> {
+  /**
+   * Default maximum number of values per label - property name pair
+   */
+  public static final int DEFAULT_VALUE_COUNT = 10;
+  /**
+   * Maximum number of values per label - property name pair
+   */
+  private final int valueCount;
+
+  /**
+   * Creates a new operator selecting up to {@link #DEFAULT_VALUE_COUNT} values.
+   */
+  public MostCommonPropertyValuesByLabel() {
+    this(DEFAULT_VALUE_COUNT);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param valueCount maximum number of values per label - property name pair
+   */
+  public MostCommonPropertyValuesByLabel(int valueCount) {
+    this.valueCount = valueCount;
+  }
+
+  @Override
+  public DataSet<Tuple4<String, String, PropertyValue, Long>> execute(LogicalGraph graph) {
+    return extractValueCounts(graph)
+      .groupBy(0, 1)
+      .reduceGroup(new SelectMostCommonValues(valueCount));
+  }
+
+  /**
+   * Extracts (label, property name, property value, count) tuples from the given logical graph.
+   *
+   * @param graph input graph
+   * @return property values with label and property name
+   */
+  protected abstract DataSet<Tuple4<String, String, PropertyValue, Long>> extractValueCounts(
+    LogicalGraph graph);
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.EquiDepthHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.functions.BuildEquiDepthHistogram;
+
+/**
+ * Base class for statistic operators computing an {@link EquiDepthHistogram} of the property
+ * values of each label - property name pair.
+ *
+ * The result contains tuples of the form (label, property name, value count, bucket boundaries).
+ *
+ * @param <T> element type
+ */
+public abstract class PropertyHistogramsByLabel<T extends GraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple4<String, String, Long, PropertyValueList>>> {
+  /**
+   * Default maximum number of buckets per histogram
+   */
+  public static final int DEFAULT_BUCKET_COUNT = 100;
+  /**
+   * Maximum number of buckets per histogram
+   */
+  private final int bucketCount;
+
+  /**
+   * Creates a new operator using {@link #DEFAULT_BUCKET_COUNT} buckets.
+   */
+  public PropertyHistogramsByLabel() {
+    this(DEFAULT_BUCKET_COUNT);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param bucketCount maximum number of buckets per histogram
+   */
+  public PropertyHistogramsByLabel(int bucketCount) {
+    this.bucketCount = bucketCount;
+  }
+
+  @Override
+  public DataSet<Tuple4<String, String, Long, PropertyValueList>> execute(LogicalGraph graph) {
+    return extractValueCounts(graph)
+      .groupBy(0, 1)
+      .reduceGroup(new BuildEquiDepthHistogram(bucketCount));
+  }
+
+  /**
+   * Extracts (label, property name, property value, count) tuples from the given logical graph.
+   *
+   * @param graph input graph
+   * @return property values with label and property name
+   */
+  protected abstract DataSet<Tuple4<String, String, PropertyValue, Long>> extractValueCounts(
+    LogicalGraph graph);
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.EquiDepthHistogram;
+
+import java.util.Map;
+
+/**
+ * Builds an {@link EquiDepthHistogram} from the property values of a (label, property name)
+ * group.
+ *
+ * (label, property name, property value, count)* ->
+ * (label, property name, value count, bucket boundaries)
+ */
+public class BuildEquiDepthHistogram
+  extends CombinePropertyValueCounts<Tuple4<String, String, Long, PropertyValueList>> {
+
+  /**
+   * Maximum number of buckets
+   */
+  private final int bucketCount;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<String, String, PropertyValue, Long> groupKey;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<String, String, Long, PropertyValueList> reuseTuple;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param bucketCount maximum number of buckets
+   */
+  public BuildEquiDepthHistogram(int bucketCount) {
+    this.bucketCount = bucketCount;
+    this.groupKey = new Tuple4<>();
+    this.reuseTuple = new Tuple4<>();
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Collector<Tuple4<String, String, Long, PropertyValueList>> out) throws Exception {
+
+    Map<PropertyValue, Long> valueCounts = countValues(values, groupKey);
+    EquiDepthHistogram histogram = EquiDepthHistogram.create(valueCounts, bucketCount);
+
+    if (histogram != null) {
+      reuseTuple.f0 = groupKey.f0;
+      reuseTuple.f1 = groupKey.f1;
+      reuseTuple.f2 = histogram.getCount();
+      reuseTuple.f3 = PropertyValueList.fromPropertyValues(histogram.getBoundaries());
+      out.collect(reuseTuple);
+    }
+  }
+}
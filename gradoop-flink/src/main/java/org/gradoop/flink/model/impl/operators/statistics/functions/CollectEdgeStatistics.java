@@ -0,0 +1,56 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+
+/**
+ * Computes the partial edge statistics of a partition, i.e. the edge count, the edge count by
+ * label, sketches of the distinct source and target vertices (in total and by edge label) and
+ * sketches of the distinct property values by label and property name.
+ *
+ * @param <E> EPGM edge type
+ */
+public class CollectEdgeStatistics<E extends Edge> extends CollectElementStatistics<E> {
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param precision precision of the sketches used to estimate distinct values
+   */
+  public CollectEdgeStatistics(int precision) {
+    super(precision);
+  }
+
+  @Override
+  protected void collect(E edge) {
+    increment(GraphStatisticsReader.FILE_EDGE_COUNT, "");
+    increment(GraphStatisticsReader.FILE_EDGE_COUNT_BY_LABEL, edge.getLabel());
+
+    getSketch(GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT, "", null)
+      .add(edge.getSourceId());
+    getSketch(GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT, "", null)
+      .add(edge.getTargetId());
+    getSketch(GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT_BY_EDGE_LABEL,
+      edge.getLabel(), null).add(edge.getSourceId());
+    getSketch(GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT_BY_EDGE_LABEL,
+      edge.getLabel(), null).add(edge.getTargetId());
+
+    collectProperties(edge, GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES_BY_LABEL,
+      GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES);
+  }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class for UDFs that compute partial statistics of all graph elements in a partition in a
+ * single scan. Counts and {@link HyperLogLog} sketches are kept in partition-local maps and
+ * emitted once the partition is consumed.
+ *
+ * (element)* -> (statistic, key, count, sketch)*
+ *
+ * Counting statistics carry an empty sketch, distinct value statistics carry a count of zero.
+ *
+ * @param <T> graph element type
+ */
+public abstract class CollectElementStatistics<T extends GraphElement>
+  implements MapPartitionFunction<T, Tuple4<String, String, Long, HyperLogLog>> {
+
+  /**
+   * Sketch attached to counting statistics
+   */
+  private static final HyperLogLog EMPTY_SKETCH = new HyperLogLog(HyperLogLog.MIN_PRECISION);
+  /**
+   * Precision of the sketches used to estimate distinct values
+   */
+  private final int precision;
+  /**
+   * statistic -> first key -> second key -> count
+   */
+  private final Map<String, Map<String, Map<String, long[]>>> counts;
+  /**
+   * statistic -> first key -> second key -> sketch
+   */
+  private final Map<String, Map<String, Map<String, HyperLogLog>>> sketches;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<String, String, Long, HyperLogLog> reuseTuple;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param precision precision of the sketches used to estimate distinct values
+   */
+  protected CollectElementStatistics(int precision) {
+    this.precision = precision;
+    this.counts = new HashMap<>();
+    this.sketches = new HashMap<>();
+    this.reuseTuple = new Tuple4<>();
+  }
+
+  @Override
+  public void mapPartition(Iterable<T> elements,
+    Collector<Tuple4<String, String, Long, HyperLogLog>> out) throws Exception {
+
+    counts.clear();
+    sketches.clear();
+
+    for (T element : elements) {
+      collect(element);
+    }
+
+    reuseTuple.f3 = EMPTY_SKETCH;
+    for (Map.Entry<String, Map<String, Map<String, long[]>>> statistic : counts.entrySet()) {
+      reuseTuple.f0 = statistic.getKey();
+      for (Map.Entry<String, Map<String, long[]>> firstKey : statistic.getValue().entrySet()) {
+        for (Map.Entry<String, long[]> secondKey : firstKey.getValue().entrySet()) {
+          reuseTuple.f1 = toKey(firstKey.getKey(), secondKey.getKey());
+          reuseTuple.f2 = secondKey.getValue()[0];
+          out.collect(reuseTuple);
+        }
+      }
+    }
+
+    reuseTuple.f2 = 0L;
+    for (Map.Entry<String, Map<String, Map<String, HyperLogLog>>> statistic :
+      sketches.entrySet()) {
+      reuseTuple.f0 = statistic.getKey();
+      for (Map.Entry<String, Map<String, HyperLogLog>> firstKey :
+        statistic.getValue().entrySet()) {
+        for (Map.Entry<String, HyperLogLog> secondKey : firstKey.getValue().entrySet()) {
+          reuseTuple.f1 = toKey(firstKey.getKey(), secondKey.getKey());
+          reuseTuple.f3 = secondKey.getValue();
+          out.collect(reuseTuple);
+        }
+      }
+    }
+  }
+
+  /**
+   * Updates the partition-local statistics with the given element.
+   *
+   * @param element graph element
+   */
+  protected abstract void collect(T element);
+
+  /**
+   * Adds the properties of the given element to the distinct value sketches of its
+   * (label, property name) pairs and property names.
+   *
+   * @param element graph element
+   * @param byLabelStatistic name of the statistic by label and property name
+   * @param statistic name of the statistic by property name
+   */
+  protected void collectProperties(T element, String byLabelStatistic, String statistic) {
+    if (element.getProperties() != null) {
+      for (Property property : element.getProperties()) {
+        getSketch(byLabelStatistic, element.getLabel(), property.getKey())
+          .add(property.getValue());
+        getSketch(statistic, property.getKey(), null).add(property.getValue());
+      }
+    }
+  }
+
+  /**
+   * Increments the count of the given statistic and key.
+   *
+   * @param statistic name of the statistic
+   * @param firstKey first key token or {@code ""} for single value statistics
+   */
+  protected void increment(String statistic, String firstKey) {
+    counts
+      .computeIfAbsent(statistic, k -> new HashMap<>())
+      .computeIfAbsent(firstKey, k -> new HashMap<>())
+      .computeIfAbsent(null, k -> new long[1])[0]++;
+  }
+
+  /**
+   * Returns the distinct value sketch of the given statistic and key, the sketch is created if
+   * it does not exist.
+   *
+   * @param statistic name of the statistic
+   * @param firstKey first key token or {@code ""} for single value statistics
+   * @param secondKey second key token or {@code null}
+   * @return sketch
+   */
+  protected HyperLogLog getSketch(String statistic, String firstKey, String secondKey) {
+    return sketches
+      .computeIfAbsent(statistic, k -> new HashMap<>())
+      .computeIfAbsent(firstKey, k -> new HashMap<>())
+      .computeIfAbsent(secondKey, k -> new HyperLogLog(precision));
+  }
+
+  /**
+   * Joins the key tokens as used by the statistics files.
+   *
+   * @param firstKey first key token
+   * @param secondKey second key token or {@code null}
+   * @return key
+   */
+  private static String toKey(String firstKey, String secondKey) {
+    return secondKey == null ?
+      firstKey : firstKey + GraphStatisticsReader.TOKEN_SEPARATOR + secondKey;
+  }
+}
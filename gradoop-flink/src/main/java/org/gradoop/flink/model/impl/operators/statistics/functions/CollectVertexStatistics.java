@@ -0,0 +1,45 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+
+/**
+ * Computes the partial vertex statistics of a partition, i.e. the vertex count, the vertex count
+ * by label and sketches of the distinct property values by label and property name.
+ *
+ * @param <V> EPGM vertex type
+ */
+public class CollectVertexStatistics<V extends Vertex> extends CollectElementStatistics<V> {
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param precision precision of the sketches used to estimate distinct values
+   */
+  public CollectVertexStatistics(int precision) {
+    super(precision);
+  }
+
+  @Override
+  protected void collect(V vertex) {
+    increment(GraphStatisticsReader.FILE_VERTEX_COUNT, "");
+    increment(GraphStatisticsReader.FILE_VERTEX_COUNT_BY_LABEL, vertex.getLabel());
+    collectProperties(vertex, GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES_BY_LABEL,
+      GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES);
+  }
+}
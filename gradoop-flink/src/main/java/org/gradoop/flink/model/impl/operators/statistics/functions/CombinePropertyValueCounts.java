@@ -0,0 +1,79 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class for UDFs that compute a result from the frequencies of the property values of a
+ * (label, property name) group. Frequencies are pre-aggregated by the combiner.
+ *
+ * Combines (label, property name, property value, count)* -> (label, property name, property
+ * value, count)* with one tuple per distinct property value.
+ *
+ * @param <O> output type
+ */
+public abstract class CombinePropertyValueCounts<O> implements
+  GroupCombineFunction<Tuple4<String, String, PropertyValue, Long>,
+    Tuple4<String, String, PropertyValue, Long>>,
+  GroupReduceFunction<Tuple4<String, String, PropertyValue, Long>, O> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<String, String, PropertyValue, Long> reuseTuple = new Tuple4<>();
+
+  @Override
+  public void combine(Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Collector<Tuple4<String, String, PropertyValue, Long>> out) throws Exception {
+
+    Map<PropertyValue, Long> valueCounts = countValues(values, reuseTuple);
+    for (Map.Entry<PropertyValue, Long> valueCount : valueCounts.entrySet()) {
+      reuseTuple.f2 = valueCount.getKey();
+      reuseTuple.f3 = valueCount.getValue();
+      out.collect(reuseTuple);
+    }
+  }
+
+  /**
+   * Sums up the frequencies of each distinct property value. The label and property name of the
+   * group are stored in the first two fields of the given tuple.
+   *
+   * @param values (label, property name, property value, count) tuples of a single group
+   * @param groupKey tuple to store the label and property name of the group in
+   * @return frequency of each distinct property value
+   */
+  protected Map<PropertyValue, Long> countValues(
+    Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Tuple4<String, String, PropertyValue, Long> groupKey) {
+
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+    for (Tuple4<String, String, PropertyValue, Long> value : values) {
+      groupKey.f0 = value.f0;
+      groupKey.f1 = value.f1;
+      // the value instance may be reused by the runtime
+      valueCounts.merge(PropertyValue.fromRawBytes(value.f2.getRawBytes()), value.f3, Long::sum);
+    }
+    return valueCounts;
+  }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+
+/**
+ * Merges partial statistics of the same statistic and key by adding their counts and merging
+ * their sketches.
+ *
+ * (statistic, key, count1, sketch1), (statistic, key, count2, sketch2) ->
+ * (statistic, key, count1 + count2, sketch1 | sketch2)
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class CombineStatistics implements ReduceFunction<Tuple4<String, String, Long, HyperLogLog>> {
+
+  @Override
+  public Tuple4<String, String, Long, HyperLogLog> reduce(
+    Tuple4<String, String, Long, HyperLogLog> first,
+    Tuple4<String, String, Long, HyperLogLog> second) throws Exception {
+    first.f2 += second.f2;
+    first.f3.merge(second.f3);
+    return first;
+  }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.tuples.IdWithLabel;
+
+/**
+ * (id, vertexLabel), (id, edgeLabel, statistic) -> (statistic, "vertexLabel,edgeLabel", 1)
+ */
+@FunctionAnnotation.ForwardedFieldsSecond("f2->f0")
+public class EndpointLabelAndEdgeLabel implements
+  JoinFunction<IdWithLabel, Tuple3<GradoopId, String, String>, Tuple3<String, String, Long>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<String, String, Long> reuseTuple;
+
+  /**
+   * Creates a new join function.
+   */
+  public EndpointLabelAndEdgeLabel() {
+    this.reuseTuple = new Tuple3<>();
+    this.reuseTuple.f2 = 1L;
+  }
+
+  @Override
+  public Tuple3<String, String, Long> join(IdWithLabel vertex,
+    Tuple3<GradoopId, String, String> endpoint) throws Exception {
+    reuseTuple.f0 = endpoint.f2;
+    reuseTuple.f1 = vertex.getLabel() + GraphStatisticsReader.TOKEN_SEPARATOR + endpoint.f1;
+    return reuseTuple;
+  }
+}
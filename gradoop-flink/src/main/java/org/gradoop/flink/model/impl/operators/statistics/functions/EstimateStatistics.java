@@ -0,0 +1,47 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+
+/**
+ * Computes the final value of a statistic, i.e. the count for counting statistics and the
+ * estimated number of distinct values for statistics represented by a sketch.
+ *
+ * (statistic, key, count, sketch) -> (statistic, key, value)
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class EstimateStatistics implements
+  MapFunction<Tuple4<String, String, Long, HyperLogLog>, Tuple3<String, String, Long>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<String, String, Long> reuseTuple = new Tuple3<>();
+
+  @Override
+  public Tuple3<String, String, Long> map(Tuple4<String, String, Long, HyperLogLog> statistic)
+    throws Exception {
+    reuseTuple.f0 = statistic.f0;
+    reuseTuple.f1 = statistic.f1;
+    reuseTuple.f2 = statistic.f3.isEmpty() ? statistic.f2 : statistic.f3.estimate();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.Map;
+
+/**
+ * Selects the most frequent property values of a (label, property name) group. Values that
+ * occur only once are never selected.
+ *
+ * (label, property name, property value, count)* ->
+ * (label, property name, property value, count)*
+ */
+public class SelectMostCommonValues
+  extends CombinePropertyValueCounts<Tuple4<String, String, PropertyValue, Long>> {
+
+  /**
+   * Maximum number of values selected per group
+   */
+  private final int valueCount;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<String, String, PropertyValue, Long> reuseTuple;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param valueCount maximum number of values selected per group
+   */
+  public SelectMostCommonValues(int valueCount) {
+    this.valueCount = valueCount;
+    this.reuseTuple = new Tuple4<>();
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Collector<Tuple4<String, String, PropertyValue, Long>> out) throws Exception {
+
+    Map<PropertyValue, Long> valueCounts = countValues(values, reuseTuple);
+
+    valueCounts.entrySet().stream()
+      .filter(entry -> entry.getValue() > 1)
+      .sorted(Map.Entry.<PropertyValue, Long>comparingByValue().reversed())
+      .limit(valueCount)
+      .forEach(entry -> {
+          reuseTuple.f2 = entry.getKey();
+          reuseTuple.f3 = entry.getValue();
+          out.collect(reuseTuple);
+        });
+  }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+
+/**
+ * (edge) -> (sourceId, label, statistic), (targetId, label, statistic)
+ *
+ * The statistic names the edge count by source vertex and edge label and the edge count by
+ * target vertex and edge label, respectively.
+ *
+ * @param <E> EPGM edge type
+ */
+@FunctionAnnotation.ForwardedFields("label->f1")
+public class ToEndpointIdsWithLabel<E extends Edge>
+  implements FlatMapFunction<E, Tuple3<GradoopId, String, String>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<GradoopId, String, String> reuseTuple = new Tuple3<>();
+
+  @Override
+  public void flatMap(E edge, Collector<Tuple3<GradoopId, String, String>> out)
+    throws Exception {
+    reuseTuple.f1 = edge.getLabel();
+
+    reuseTuple.f0 = edge.getSourceId();
+    reuseTuple.f2 = GraphStatisticsReader.FILE_EDGE_COUNT_BY_SOURCE_VERTEX_AND_EDGE_LABEL;
+    out.collect(reuseTuple);
+
+    reuseTuple.f0 = edge.getTargetId();
+    reuseTuple.f2 = GraphStatisticsReader.FILE_EDGE_COUNT_BY_TARGET_VERTEX_AND_EDGE_LABEL;
+    out.collect(reuseTuple);
+  }
+}
@@ -0,0 +1,296 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Bloom filter to test whether an identifier is contained in a set.
+ *
+ * The filter consists of a bit array and a number of hash functions. A contained identifier is
+ * always reported as contained, while an identifier which has not been added is falsely reported
+ * with a probability that depends on the number of bits per added identifier. Filters with the
+ * same size and number of hash functions can be merged, the result is equal to the filter of the
+ * union of both inputs.
+ *
+ * B. H. Bloom "Space/Time Trade-offs in Hash Coding with Allowable Errors" (CACM 1970)
+ */
+public class BloomFilter implements Value {
+  /**
+   * Default probability of false positives
+   */
+  public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+  /**
+   * Maximum number of bits (64 MBit, i.e. 8 MB)
+   */
+  public static final int MAX_SIZE_IN_BITS = 1 << 26;
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Maximum number of hash functions
+   */
+  private static final int MAX_HASH_COUNT = 16;
+  /**
+   * Number of hash functions
+   */
+  private int hashCount;
+  /**
+   * Bit array
+   */
+  private long[] bits;
+  /**
+   * Reused to hash identifiers without instantiating byte arrays
+   */
+  private transient byte[] idBuffer;
+
+  /**
+   * Creates an empty filter with a single word and hash function. Used for deserialization.
+   */
+  public BloomFilter() {
+    this(Long.SIZE, 1);
+  }
+
+  /**
+   * Creates an empty filter.
+   *
+   * @param sizeInBits number of bits, rounded up to a multiple of 64
+   * @param hashCount number of hash functions
+   */
+  public BloomFilter(int sizeInBits, int hashCount) {
+    if (sizeInBits < 1 || sizeInBits > MAX_SIZE_IN_BITS) {
+      throw new IllegalArgumentException(String.format(
+        "Size must be in [1, %d]: %d", MAX_SIZE_IN_BITS, sizeInBits));
+    }
+    if (hashCount < 1 || hashCount > MAX_HASH_COUNT) {
+      throw new IllegalArgumentException(String.format(
+        "Number of hash functions must be in [1, %d]: %d", MAX_HASH_COUNT, hashCount));
+    }
+    this.bits = new long[(sizeInBits + Long.SIZE - 1) / Long.SIZE];
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * Creates an empty filter which is optimal for the given number of identifiers and false
+   * positive rate. The size is bounded by {@link #MAX_SIZE_IN_BITS}.
+   *
+   * @param expectedInsertions expected number of distinct identifiers
+   * @param falsePositiveRate probability of false positives
+   * @return empty filter
+   */
+  public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    int sizeInBits = getOptimalSizeInBits(expectedInsertions, falsePositiveRate);
+    return new BloomFilter(sizeInBits, getOptimalHashCount(expectedInsertions, sizeInBits));
+  }
+
+  /**
+   * Returns the number of bits which is optimal for the given number of identifiers and false
+   * positive rate. The result is bounded by {@link #MAX_SIZE_IN_BITS}.
+   *
+   * @param expectedInsertions expected number of distinct identifiers
+   * @param falsePositiveRate probability of false positives
+   * @return number of bits
+   */
+  public static int getOptimalSizeInBits(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0d || falsePositiveRate >= 1d) {
+      throw new IllegalArgumentException(
+        "False positive rate must be in (0, 1): " + falsePositiveRate);
+    }
+    long n = Math.max(1L, expectedInsertions);
+    double ln2 = Math.log(2);
+    double sizeInBits = Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+    return (int) Math.min(Math.max(sizeInBits, Long.SIZE), MAX_SIZE_IN_BITS);
+  }
+
+  /**
+   * Returns the number of hash functions which minimizes the false positive rate for the given
+   * number of identifiers and bits.
+   *
+   * @param expectedInsertions expected number of distinct identifiers
+   * @param sizeInBits number of bits
+   * @return number of hash functions
+   */
+  public static int getOptimalHashCount(long expectedInsertions, int sizeInBits) {
+    long n = Math.max(1L, expectedInsertions);
+    long hashCount = Math.round((double) sizeInBits / n * Math.log(2));
+    return (int) Math.min(Math.max(hashCount, 1), MAX_HASH_COUNT);
+  }
+
+  /**
+   * Returns the number of bits.
+   *
+   * @return number of bits
+   */
+  public int getSizeInBits() {
+    return bits.length * Long.SIZE;
+  }
+
+  /**
+   * Returns the number of hash functions.
+   *
+   * @return number of hash functions
+   */
+  public int getHashCount() {
+    return hashCount;
+  }
+
+  /**
+   * Adds the given identifier to the filter.
+   *
+   * @param id gradoop id
+   */
+  public void add(GradoopId id) {
+    addHash(hash(id));
+  }
+
+  /**
+   * Checks if the given identifier might have been added to the filter.
+   *
+   * @param id gradoop id
+   * @return false, if the identifier has definitely not been added
+   */
+  public boolean mightContain(GradoopId id) {
+    return mightContainHash(hash(id));
+  }
+
+  /**
+   * Adds a value represented by its (uniformly distributed) 64 bit hash to the filter.
+   *
+   * @param hash hash value
+   */
+  public void addHash(long hash) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> Integer.SIZE);
+    long size = getSizeInBits();
+    for (int i = 1; i <= hashCount; i++) {
+      long index = ((h1 + i * h2) & Integer.MAX_VALUE) % size;
+      bits[(int) (index >>> 6)] |= 1L << index;
+    }
+  }
+
+  /**
+   * Checks if a value represented by its 64 bit hash might have been added to the filter.
+   *
+   * @param hash hash value
+   * @return false, if the value has definitely not been added
+   */
+  public boolean mightContainHash(long hash) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> Integer.SIZE);
+    long size = getSizeInBits();
+    for (int i = 1; i <= hashCount; i++) {
+      long index = ((h1 + i * h2) & Integer.MAX_VALUE) % size;
+      if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Merges the given filter into this filter.
+   *
+   * @param other filter with the same size and number of hash functions
+   */
+  public void merge(BloomFilter other) {
+    if (other.bits.length != bits.length || other.hashCount != hashCount) {
+      throw new IllegalArgumentException(String.format(
+        "Cannot merge filters of size %d (%d hashes) and %d (%d hashes)",
+        getSizeInBits(), hashCount, other.getSizeInBits(), other.hashCount));
+    }
+    for (int i = 0; i < bits.length; i++) {
+      bits[i] |= other.bits[i];
+    }
+  }
+
+  /**
+   * Returns true, if no value has been added to the filter.
+   *
+   * @return true, if the filter is empty
+   */
+  public boolean isEmpty() {
+    for (long word : bits) {
+      if (word != 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the 64 bit hash of the given identifier.
+   *
+   * @param id gradoop id
+   * @return hash value
+   */
+  private long hash(GradoopId id) {
+    if (idBuffer == null) {
+      idBuffer = new byte[GradoopId.ID_SIZE];
+    }
+    id.toByteArray(idBuffer, 0);
+    return MurmurHash.hash64(idBuffer);
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeByte(hashCount);
+    out.writeInt(bits.length);
+    for (long word : bits) {
+      out.writeLong(word);
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    hashCount = in.readByte();
+    int length = in.readInt();
+    if (bits.length != length) {
+      bits = new long[length];
+    }
+    for (int i = 0; i < length; i++) {
+      bits[i] = in.readLong();
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BloomFilter that = (BloomFilter) o;
+    return hashCount == that.hashCount && Arrays.equals(bits, that.bits);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * hashCount + Arrays.hashCode(bits);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("BloomFilter{size=%d, hashes=%d}", getSizeInBits(), hashCount);
+  }
+}
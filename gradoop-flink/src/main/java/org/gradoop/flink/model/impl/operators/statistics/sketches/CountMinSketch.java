@@ -0,0 +1,221 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Count-Min sketch to estimate the frequencies of values in a multiset.
+ *
+ * The sketch consists of {@code depth} rows of {@code width} counters. Each value is mapped to
+ * one counter per row, the estimated frequency of a value is the minimum of its counters. Hence,
+ * the estimate is never smaller than the actual frequency and exceeds it by at most
+ * {@code e / width * N} (with {@code N} being the total count) with probability
+ * {@code 1 - e^-depth}. Sketches of the same dimensions can be merged.
+ *
+ * The counters are stored as big endian long values in a byte array. A sketch may be backed by a
+ * range of an existing array, which allows updating serialized sketches in place.
+ *
+ * G. Cormode and S. Muthukrishnan "An improved data stream summary: the count-min sketch and its
+ * applications" (J. Algorithms 55(1), 2005)
+ */
+public class CountMinSketch {
+  /**
+   * Number of rows
+   */
+  private final int depth;
+  /**
+   * Number of counters per row
+   */
+  private final int width;
+  /**
+   * Counters
+   */
+  private final ByteBuffer counters;
+  /**
+   * Index of the first counter in {@link #counters}
+   */
+  private final int offset;
+
+  /**
+   * Creates an empty sketch.
+   *
+   * @param depth number of rows
+   * @param width number of counters per row
+   */
+  public CountMinSketch(int depth, int width) {
+    this(new byte[getSizeInBytes(depth, width)], 0, depth, width);
+  }
+
+  /**
+   * Creates a sketch that is backed by a range of the given array. The array is not copied,
+   * i.e. updates of the sketch are written through to the array and vice versa.
+   *
+   * @param bytes array containing {@link #getSizeInBytes(int, int)} bytes at the given offset
+   * @param offset index of the first counter
+   * @param depth number of rows
+   * @param width number of counters per row
+   */
+  public CountMinSketch(byte[] bytes, int offset, int depth, int width) {
+    if (offset < 0 || offset + getSizeInBytes(depth, width) > bytes.length) {
+      throw new IllegalArgumentException("Array does not contain all counters");
+    }
+    this.depth = depth;
+    this.width = width;
+    this.counters = ByteBuffer.wrap(bytes);
+    this.offset = offset;
+  }
+
+  /**
+   * Returns the number of bytes needed to store the counters of a sketch.
+   *
+   * @param depth number of rows
+   * @param width number of counters per row
+   * @return size of the counters in bytes
+   */
+  public static int getSizeInBytes(int depth, int width) {
+    if (depth < 1 || width < 1) {
+      throw new IllegalArgumentException("Depth and width must be positive");
+    }
+    long size = (long) depth * width * Long.BYTES;
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Sketch too large");
+    }
+    return (int) size;
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return depth
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Returns the number of counters per row.
+   *
+   * @return width
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * Increments the frequency of the given property value by one.
+   *
+   * @param value property value
+   */
+  public void add(PropertyValue value) {
+    addHash(MurmurHash.hash64(value.getRawBytes()), 1L);
+  }
+
+  /**
+   * Increments the frequency of a value represented by its (uniformly distributed) 64 bit hash.
+   *
+   * @param hash hash value
+   * @param count frequency increment
+   */
+  public void addHash(long hash, long count) {
+    for (int row = 0; row < depth; row++) {
+      int index = getIndex(row, hash);
+      counters.putLong(index, counters.getLong(index) + count);
+    }
+  }
+
+  /**
+   * Estimates the frequency of the given property value.
+   *
+   * @param value property value
+   * @return estimated frequency
+   */
+  public long estimate(PropertyValue value) {
+    return estimateHash(MurmurHash.hash64(value.getRawBytes()));
+  }
+
+  /**
+   * Estimates the frequency of a value represented by its 64 bit hash.
+   *
+   * @param hash hash value
+   * @return estimated frequency
+   */
+  public long estimateHash(long hash) {
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.getLong(getIndex(row, hash)));
+    }
+    return estimate;
+  }
+
+  /**
+   * Returns the value of a single counter.
+   *
+   * @param row row of the counter
+   * @param column column of the counter
+   * @return counter value
+   */
+  public long getCounter(int row, int column) {
+    return counters.getLong(offset + (row * width + column) * Long.BYTES);
+  }
+
+  /**
+   * Sets the value of a single counter.
+   *
+   * @param row row of the counter
+   * @param column column of the counter
+   * @param value counter value
+   */
+  public void setCounter(int row, int column, long value) {
+    counters.putLong(offset + (row * width + column) * Long.BYTES, value);
+  }
+
+  /**
+   * Merges the given sketch into this sketch.
+   *
+   * @param other sketch with the same dimensions
+   */
+  public void merge(CountMinSketch other) {
+    if (other.depth != depth || other.width != width) {
+      throw new IllegalArgumentException(String.format(
+        "Cannot merge sketches of dimensions %dx%d and %dx%d",
+        depth, width, other.depth, other.width));
+    }
+    int size = depth * width * Long.BYTES;
+    for (int i = 0; i < size; i += Long.BYTES) {
+      counters.putLong(offset + i,
+        counters.getLong(offset + i) + other.counters.getLong(other.offset + i));
+    }
+  }
+
+  /**
+   * Returns the byte index of the counter of the given hash value in the given row. Row hashes
+   * are derived from the two halves of the 64 bit hash (Kirsch and Mitzenmacher).
+   *
+   * @param row row
+   * @param hash hash value
+   * @return index of the counter in the backing array
+   */
+  private int getIndex(int row, long hash) {
+    int combined = (int) hash + row * (int) (hash >>> Integer.SIZE);
+    if (combined < 0) {
+      combined = ~combined;
+    }
+    return offset + (row * width + combined % width) * Long.BYTES;
+  }
+}
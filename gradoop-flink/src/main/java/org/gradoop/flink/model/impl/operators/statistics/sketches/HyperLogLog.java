@@ -0,0 +1,366 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch to estimate the number of distinct values in a multiset.
+ *
+ * The sketch consists of {@code 2^precision} registers, each storing the maximum number of
+ * leading zeros observed in the hash values assigned to that register. Sketches with the same
+ * precision can be merged, the result is equal to the sketch of the union of both inputs. The
+ * relative standard error of the estimate is about {@code 1.04 / sqrt(2^precision)}.
+ *
+ * P. Flajolet et al. "HyperLogLog: the analysis of a near-optimal cardinality estimation
+ * algorithm" (AofA 2007)
+ */
+public class HyperLogLog implements Value {
+  /**
+   * Default precision (16384 registers, standard error ~0.8%)
+   */
+  public static final int DEFAULT_PRECISION = 14;
+  /**
+   * Minimum precision
+   */
+  public static final int MIN_PRECISION = 4;
+  /**
+   * Maximum precision
+   */
+  public static final int MAX_PRECISION = 18;
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Number of bytes needed to serialize a single register in sparse mode
+   */
+  private static final int SPARSE_ENTRY_SIZE = 5;
+  /**
+   * Number of index bits
+   */
+  private int precision;
+  /**
+   * Array containing the registers
+   */
+  private byte[] registers;
+  /**
+   * Reused to hash identifiers without instantiating byte arrays
+   */
+  private transient byte[] idBuffer;
+
+  /**
+   * Creates an empty sketch using {@link #DEFAULT_PRECISION}.
+   */
+  public HyperLogLog() {
+    this(DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates an empty sketch.
+   *
+   * @param precision number of index bits, between {@link #MIN_PRECISION} and
+   *                  {@link #MAX_PRECISION}
+   */
+  public HyperLogLog(int precision) {
+    checkPrecision(precision);
+    this.precision = precision;
+    this.registers = new byte[getSizeInBytes(precision)];
+  }
+
+  /**
+   * Creates a sketch from the registers stored in a range of the given array. The registers are
+   * copied, use {@link #writeTo(byte[], int)} to store updates of the sketch.
+   *
+   * @param bytes array containing {@link #getSizeInBytes(int)} registers at the given offset
+   * @param offset index of the first register
+   * @param precision number of index bits
+   */
+  public HyperLogLog(byte[] bytes, int offset, int precision) {
+    checkPrecision(precision);
+    if (offset < 0 || offset + getSizeInBytes(precision) > bytes.length) {
+      throw new IllegalArgumentException("Array does not contain all registers");
+    }
+    this.precision = precision;
+    this.registers = Arrays.copyOfRange(bytes, offset, offset + getSizeInBytes(precision));
+  }
+
+  /**
+   * Checks if the given precision is supported.
+   *
+   * @param precision number of index bits
+   */
+  private static void checkPrecision(int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException(String.format(
+        "Precision must be between %d and %d, was %d", MIN_PRECISION, MAX_PRECISION, precision));
+    }
+  }
+
+  /**
+   * Returns the number of bytes needed to store the registers of a sketch.
+   *
+   * @param precision number of index bits
+   * @return size of the registers in bytes
+   */
+  public static int getSizeInBytes(int precision) {
+    return 1 << precision;
+  }
+
+  /**
+   * Returns the number of index bits.
+   *
+   * @return precision
+   */
+  public int getPrecision() {
+    return precision;
+  }
+
+  /**
+   * Adds the given property value to the sketch.
+   *
+   * @param value property value
+   */
+  public void add(PropertyValue value) {
+    addHash(MurmurHash.hash64(value.getRawBytes()));
+  }
+
+  /**
+   * Adds the given identifier to the sketch.
+   *
+   * @param id gradoop id
+   */
+  public void add(GradoopId id) {
+    if (idBuffer == null) {
+      idBuffer = new byte[GradoopId.ID_SIZE];
+    }
+    id.toByteArray(idBuffer, 0);
+    addHash(MurmurHash.hash64(idBuffer));
+  }
+
+  /**
+   * Adds a value represented by its (uniformly distributed) 64 bit hash to the sketch.
+   *
+   * @param hash hash value
+   * @return true, if a register has been updated
+   */
+  public boolean addHash(long hash) {
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    // the appended one bit bounds the rank if all remaining bits are zero
+    long remainder = (hash << precision) | (1L << (precision - 1));
+    byte rank = (byte) (Long.numberOfLeadingZeros(remainder) + 1);
+    if (registers[index] < rank) {
+      registers[index] = rank;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Merges the given sketch into this sketch.
+   *
+   * @param other sketch with the same precision
+   */
+  public void merge(HyperLogLog other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException(String.format(
+        "Cannot merge sketches of precision %d and %d", precision, other.precision));
+    }
+    int m = getSizeInBytes(precision);
+    for (int i = 0; i < m; i++) {
+      if (registers[i] < other.registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  /**
+   * Copies the registers into the given array.
+   *
+   * @param target array to store {@link #getSizeInBytes(int)} registers at the given offset
+   * @param offset index of the first register in the target array
+   */
+  public void writeTo(byte[] target, int offset) {
+    System.arraycopy(registers, 0, target, offset, registers.length);
+  }
+
+  /**
+   * Returns true, if no value has been added to the sketch.
+   *
+   * @return true, if the sketch is empty
+   */
+  public boolean isEmpty() {
+    int m = getSizeInBytes(precision);
+    for (int i = 0; i < m; i++) {
+      if (registers[i] != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Estimates the number of distinct values added to the sketch.
+   *
+   * @return estimated number of distinct values
+   */
+  public long estimate() {
+    int m = getSizeInBytes(precision);
+    double sum = 0d;
+    int zeros = 0;
+    for (int i = 0; i < m; i++) {
+      byte register = registers[i];
+      sum += 1d / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+
+    double estimate = getAlpha(m) * m * m / sum;
+
+    // small range correction using linear counting
+    if (estimate <= 2.5 * m && zeros > 0) {
+      estimate = m * Math.log((double) m / zeros);
+    }
+
+    return Math.round(estimate);
+  }
+
+  /**
+   * Returns the bias correction constant for the given number of registers.
+   *
+   * @param m number of registers
+   * @return bias correction constant
+   */
+  private static double getAlpha(int m) {
+    switch (m) {
+    case 16:
+      return 0.673;
+    case 32:
+      return 0.697;
+    case 64:
+      return 0.709;
+    default:
+      return 0.7213 / (1d + 1.079 / m);
+    }
+  }
+
+  /**
+   * Sparse sketches only serialize their non-zero registers.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    int m = getSizeInBytes(precision);
+    int nonZero = 0;
+    for (int i = 0; i < m; i++) {
+      if (registers[i] != 0) {
+        nonZero++;
+      }
+    }
+
+    out.writeByte(precision);
+    out.writeInt(nonZero);
+
+    if (isSparse(nonZero, m)) {
+      for (int i = 0; i < m; i++) {
+        if (registers[i] != 0) {
+          out.writeInt(i);
+          out.writeByte(registers[i]);
+        }
+      }
+    } else {
+      out.write(registers);
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    int newPrecision = in.readByte();
+    int nonZero = in.readInt();
+
+    if (newPrecision != precision) {
+      precision = newPrecision;
+      registers = new byte[getSizeInBytes(precision)];
+    } else {
+      Arrays.fill(registers, (byte) 0);
+    }
+
+    if (isSparse(nonZero, getSizeInBytes(precision))) {
+      for (int i = 0; i < nonZero; i++) {
+        int index = in.readInt();
+        registers[index] = in.readByte();
+      }
+    } else {
+      in.readFully(registers);
+    }
+  }
+
+  /**
+   * Returns true, if the non-zero registers are serialized as (index, value) pairs.
+   *
+   * @param nonZero number of non-zero registers
+   * @param registerCount total number of registers
+   * @return true, if sparse serialization is smaller than dense serialization
+   */
+  private static boolean isSparse(int nonZero, int registerCount) {
+    return (long) nonZero * SPARSE_ENTRY_SIZE < registerCount;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    HyperLogLog that = (HyperLogLog) o;
+    if (precision != that.precision) {
+      return false;
+    }
+    int m = getSizeInBytes(precision);
+    for (int i = 0; i < m; i++) {
+      if (registers[i] != that.registers[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = precision;
+    int m = getSizeInBytes(precision);
+    for (int i = 0; i < m; i++) {
+      hashCode = 31 * hashCode + registers[i];
+    }
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("HyperLogLog{precision=%d, estimate=%d}", precision, estimate());
+  }
+}
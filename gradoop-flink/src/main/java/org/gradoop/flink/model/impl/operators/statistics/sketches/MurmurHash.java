@@ -0,0 +1,115 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+/**
+ * 64 bit variant of the MurmurHash2 function (MurmurHash64A) by Austin Appleby.
+ *
+ * The function is used to map arbitrary values to uniformly distributed hash values as required
+ * by probabilistic sketches. The original finalization does not sufficiently mix the tail bytes
+ * of short inputs, e.g. of gradoop ids which mostly differ in their trailing counter, and is
+ * therefore replaced by the finalization mix (fmix64) of MurmurHash3.
+ */
+public final class MurmurHash {
+  /**
+   * Multiplication constant
+   */
+  private static final long M = 0xc6a4a7935bd1e995L;
+  /**
+   * Shift constant
+   */
+  private static final int R = 47;
+  /**
+   * Shift constant of the finalization mix
+   */
+  private static final int FMIX_R = 33;
+  /**
+   * First multiplication constant of the finalization mix
+   */
+  private static final long FMIX_C1 = 0xff51afd7ed558ccdL;
+  /**
+   * Second multiplication constant of the finalization mix
+   */
+  private static final long FMIX_C2 = 0xc4ceb9fe1a85ec53L;
+  /**
+   * Default seed
+   */
+  private static final long DEFAULT_SEED = 0x9747b28cL;
+
+  /**
+   * No instances
+   */
+  private MurmurHash() {
+  }
+
+  /**
+   * Computes the 64 bit hash of the given bytes using the default seed.
+   *
+   * @param bytes input bytes
+   * @return 64 bit hash value
+   */
+  public static long hash64(byte[] bytes) {
+    return hash64(bytes, 0, bytes.length, DEFAULT_SEED);
+  }
+
+  /**
+   * Computes the 64 bit hash of the specified range of bytes.
+   *
+   * @param bytes input bytes
+   * @param offset index of the first byte to consider
+   * @param length number of bytes to consider
+   * @param seed hash seed
+   * @return 64 bit hash value
+   */
+  public static long hash64(byte[] bytes, int offset, int length, long seed) {
+    long h = seed ^ (length * M);
+
+    int blockEnd = offset + (length & ~7);
+    for (int i = offset; i < blockEnd; i += 8) {
+      long k = (bytes[i] & 0xffL) |
+        (bytes[i + 1] & 0xffL) << 8 |
+        (bytes[i + 2] & 0xffL) << 16 |
+        (bytes[i + 3] & 0xffL) << 24 |
+        (bytes[i + 4] & 0xffL) << 32 |
+        (bytes[i + 5] & 0xffL) << 40 |
+        (bytes[i + 6] & 0xffL) << 48 |
+        (bytes[i + 7] & 0xffL) << 56;
+
+      k *= M;
+      k ^= k >>> R;
+      k *= M;
+
+      h ^= k;
+      h *= M;
+    }
+
+    int remaining = length & 7;
+    if (remaining > 0) {
+      for (int i = remaining - 1; i >= 0; i--) {
+        h ^= (bytes[blockEnd + i] & 0xffL) << (8 * i);
+      }
+      h *= M;
+    }
+
+    h ^= h >>> FMIX_R;
+    h *= FMIX_C1;
+    h ^= h >>> FMIX_R;
+    h *= FMIX_C2;
+    h ^= h >>> FMIX_R;
+
+    return h;
+  }
+}
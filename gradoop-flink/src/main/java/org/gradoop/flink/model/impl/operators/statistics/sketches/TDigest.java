@@ -0,0 +1,447 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Merging t-digest to estimate quantiles of a distribution of numbers.
+ *
+ * The digest summarizes the distribution by weighted centroids. Centroids close to the tails of
+ * the distribution are kept small, which results in accurate estimates of extreme quantiles. The
+ * maximum size of a centroid is bounded by the scale function {@code k1} of the paper, such that
+ * the digest contains at most {@code compression + 1} centroids. Added values are buffered and
+ * merged into the centroids once the buffer is full. Digests of the same compression can be
+ * merged.
+ *
+ * The digest has a fixed size layout (header, centroids and buffer) and may be backed by a range
+ * of an existing array, which allows updating serialized digests in place.
+ *
+ * T. Dunning and O. Ertl "Computing extremely accurate quantiles using t-digests" (2019)
+ */
+public class TDigest {
+  /**
+   * Default compression
+   */
+  public static final int DEFAULT_COMPRESSION = 100;
+  /**
+   * Size of the header (centroid count, buffer count, minimum, maximum)
+   */
+  private static final int HEADER_SIZE = 2 * Integer.BYTES + 2 * Double.BYTES;
+  /**
+   * Size of a single centroid (mean, weight)
+   */
+  private static final int CENTROID_SIZE = 2 * Double.BYTES;
+  /**
+   * Position of the number of centroids
+   */
+  private static final int CENTROID_COUNT = 0;
+  /**
+   * Position of the number of buffered values
+   */
+  private static final int BUFFER_COUNT = Integer.BYTES;
+  /**
+   * Position of the minimum value
+   */
+  private static final int MIN = 2 * Integer.BYTES;
+  /**
+   * Position of the maximum value
+   */
+  private static final int MAX = MIN + Double.BYTES;
+  /**
+   * Compression parameter
+   */
+  private final int compression;
+  /**
+   * Data of the digest
+   */
+  private final ByteBuffer data;
+  /**
+   * Index of the header in {@link #data}
+   */
+  private final int offset;
+
+  /**
+   * Creates an empty digest.
+   *
+   * @param compression compression parameter, larger values result in more accurate estimates
+   */
+  public TDigest(int compression) {
+    this(new byte[getSizeInBytes(compression)], 0, compression);
+    clear();
+  }
+
+  /**
+   * Creates a digest that is backed by a range of the given array. The array is not copied,
+   * i.e. updates of the digest are written through to the array and vice versa. Use
+   * {@link #clear()} to initialize an empty digest.
+   *
+   * @param bytes array containing {@link #getSizeInBytes(int)} bytes at the given offset
+   * @param offset index of the first byte of the digest
+   * @param compression compression parameter
+   */
+  public TDigest(byte[] bytes, int offset, int compression) {
+    if (offset < 0 || offset + getSizeInBytes(compression) > bytes.length) {
+      throw new IllegalArgumentException("Array does not contain the digest");
+    }
+    this.compression = compression;
+    this.data = ByteBuffer.wrap(bytes);
+    this.offset = offset;
+  }
+
+  /**
+   * Returns the number of bytes needed to store a digest.
+   *
+   * @param compression compression parameter
+   * @return size of the digest in bytes
+   */
+  public static int getSizeInBytes(int compression) {
+    if (compression < 1) {
+      throw new IllegalArgumentException("Compression must be positive");
+    }
+    return HEADER_SIZE + getCentroidCapacity(compression) * CENTROID_SIZE +
+      getBufferCapacity(compression) * Double.BYTES;
+  }
+
+  /**
+   * Returns the compression parameter.
+   *
+   * @return compression
+   */
+  public int getCompression() {
+    return compression;
+  }
+
+  /**
+   * Removes all values from the digest.
+   */
+  public void clear() {
+    data.putInt(offset + CENTROID_COUNT, 0);
+    data.putInt(offset + BUFFER_COUNT, 0);
+    data.putDouble(offset + MIN, Double.POSITIVE_INFINITY);
+    data.putDouble(offset + MAX, Double.NEGATIVE_INFINITY);
+  }
+
+  /**
+   * Adds a value to the digest.
+   *
+   * @param value value
+   */
+  public void add(double value) {
+    if (Double.isNaN(value)) {
+      throw new IllegalArgumentException("Cannot add NaN");
+    }
+    data.putDouble(offset + MIN, Math.min(getMin(), value));
+    data.putDouble(offset + MAX, Math.max(getMax(), value));
+
+    int bufferCount = getBufferCount();
+    data.putDouble(getBufferPosition(bufferCount), value);
+    data.putInt(offset + BUFFER_COUNT, ++bufferCount);
+
+    if (bufferCount == getBufferCapacity(compression)) {
+      compress();
+    }
+  }
+
+  /**
+   * Merges the given digest into this digest.
+   *
+   * @param other digest with the same compression
+   */
+  public void merge(TDigest other) {
+    if (other.compression != compression) {
+      throw new IllegalArgumentException(String.format(
+        "Cannot merge digests of compression %d and %d", compression, other.compression));
+    }
+    int size = getCentroidCount() + getBufferCount() +
+      other.getCentroidCount() + other.getBufferCount();
+    double[] means = new double[size];
+    double[] weights = new double[size];
+    int count = other.copyTo(means, weights, copyTo(means, weights, 0));
+
+    data.putDouble(offset + MIN, Math.min(getMin(), other.getMin()));
+    data.putDouble(offset + MAX, Math.max(getMax(), other.getMax()));
+    data.putInt(offset + BUFFER_COUNT, 0);
+    mergeCentroids(means, weights, count);
+  }
+
+  /**
+   * Returns the total weight of the values added to the digest.
+   *
+   * @return number of added values
+   */
+  public long getCount() {
+    double count = getBufferCount();
+    for (int i = 0; i < getCentroidCount(); i++) {
+      count += data.getDouble(getCentroidPosition(i) + Double.BYTES);
+    }
+    return Math.round(count);
+  }
+
+  /**
+   * Returns the smallest value added to the digest.
+   *
+   * @return minimum or positive infinity if the digest is empty
+   */
+  public double getMin() {
+    return data.getDouble(offset + MIN);
+  }
+
+  /**
+   * Returns the largest value added to the digest.
+   *
+   * @return maximum or negative infinity if the digest is empty
+   */
+  public double getMax() {
+    return data.getDouble(offset + MAX);
+  }
+
+  /**
+   * Estimates the value at the given quantile by interpolating between adjacent centroids.
+   *
+   * @param quantile quantile in [0, 1]
+   * @return estimated value or NaN if the digest is empty
+   */
+  public double quantile(double quantile) {
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("Quantile must be in [0, 1], was " + quantile);
+    }
+    compress();
+
+    int centroidCount = getCentroidCount();
+    if (centroidCount == 0) {
+      return Double.NaN;
+    }
+
+    double totalWeight = 0d;
+    for (int i = 0; i < centroidCount; i++) {
+      totalWeight += getWeight(i);
+    }
+    double target = quantile * totalWeight;
+
+    // cumulative weight at the center of the current centroid
+    double center = getWeight(0) / 2;
+    if (target <= center) {
+      return interpolate(getMin(), getMean(0), target / center);
+    }
+    for (int i = 1; i < centroidCount; i++) {
+      double nextCenter = center + (getWeight(i - 1) + getWeight(i)) / 2;
+      if (target <= nextCenter) {
+        return interpolate(getMean(i - 1), getMean(i), (target - center) / (nextCenter - center));
+      }
+      center = nextCenter;
+    }
+    return interpolate(getMean(centroidCount - 1), getMax(),
+      (target - center) / (totalWeight - center));
+  }
+
+  /**
+   * Merges all buffered values into the centroids.
+   */
+  public void compress() {
+    int bufferCount = getBufferCount();
+    if (bufferCount == 0) {
+      return;
+    }
+    int size = getCentroidCount() + bufferCount;
+    double[] means = new double[size];
+    double[] weights = new double[size];
+    int count = copyTo(means, weights, 0);
+    data.putInt(offset + BUFFER_COUNT, 0);
+    mergeCentroids(means, weights, count);
+  }
+
+  /**
+   * Replaces the centroids by the result of merging the given centroids.
+   *
+   * @param means centroid means
+   * @param weights centroid weights
+   * @param count number of centroids
+   */
+  private void mergeCentroids(double[] means, double[] weights, int count) {
+    if (count == 0) {
+      data.putInt(offset + CENTROID_COUNT, 0);
+      return;
+    }
+
+    Integer[] order = new Integer[count];
+    double totalWeight = 0d;
+    for (int i = 0; i < count; i++) {
+      order[i] = i;
+      totalWeight += weights[i];
+    }
+    Arrays.sort(order, Comparator.comparingDouble(i -> means[i]));
+
+    int centroidCount = 0;
+    double mean = means[order[0]];
+    double weight = weights[order[0]];
+    double weightSoFar = 0d;
+    double lowerBound = scale(0d);
+
+    for (int i = 1; i < count; i++) {
+      double nextMean = means[order[i]];
+      double nextWeight = weights[order[i]];
+      if (scale((weightSoFar + weight + nextWeight) / totalWeight) - lowerBound <= 1d) {
+        weight += nextWeight;
+        mean += (nextMean - mean) * nextWeight / weight;
+      } else {
+        setCentroid(centroidCount++, mean, weight);
+        weightSoFar += weight;
+        lowerBound = scale(weightSoFar / totalWeight);
+        mean = nextMean;
+        weight = nextWeight;
+      }
+    }
+    setCentroid(centroidCount++, mean, weight);
+    data.putInt(offset + CENTROID_COUNT, centroidCount);
+  }
+
+  /**
+   * Scale function {@code k1}, which maps a quantile to the centroid index space.
+   *
+   * @param quantile quantile
+   * @return scaled quantile
+   */
+  private double scale(double quantile) {
+    return compression / (2 * Math.PI) * Math.asin(2 * quantile - 1);
+  }
+
+  /**
+   * Copies the centroids and buffered values (with weight one) into the given arrays.
+   *
+   * @param means target array of means
+   * @param weights target array of weights
+   * @param position first index to write to
+   * @return index after the last written entry
+   */
+  private int copyTo(double[] means, double[] weights, int position) {
+    for (int i = 0; i < getCentroidCount(); i++) {
+      means[position] = getMean(i);
+      weights[position++] = getWeight(i);
+    }
+    for (int i = 0; i < getBufferCount(); i++) {
+      means[position] = data.getDouble(getBufferPosition(i));
+      weights[position++] = 1d;
+    }
+    return position;
+  }
+
+  /**
+   * Linear interpolation between two values.
+   *
+   * @param from first value
+   * @param to second value
+   * @param fraction fraction of the distance between both values
+   * @return interpolated value
+   */
+  private static double interpolate(double from, double to, double fraction) {
+    return from + (to - from) * fraction;
+  }
+
+  /**
+   * Returns the number of centroids.
+   *
+   * @return number of centroids
+   */
+  private int getCentroidCount() {
+    return data.getInt(offset + CENTROID_COUNT);
+  }
+
+  /**
+   * Returns the number of buffered values.
+   *
+   * @return number of buffered values
+   */
+  private int getBufferCount() {
+    return data.getInt(offset + BUFFER_COUNT);
+  }
+
+  /**
+   * Returns the mean of the centroid at the given index.
+   *
+   * @param index centroid index
+   * @return mean
+   */
+  private double getMean(int index) {
+    return data.getDouble(getCentroidPosition(index));
+  }
+
+  /**
+   * Returns the weight of the centroid at the given index.
+   *
+   * @param index centroid index
+   * @return weight
+   */
+  private double getWeight(int index) {
+    return data.getDouble(getCentroidPosition(index) + Double.BYTES);
+  }
+
+  /**
+   * Stores a centroid at the given index.
+   *
+   * @param index centroid index
+   * @param mean mean
+   * @param weight weight
+   */
+  private void setCentroid(int index, double mean, double weight) {
+    data.putDouble(getCentroidPosition(index), mean);
+    data.putDouble(getCentroidPosition(index) + Double.BYTES, weight);
+  }
+
+  /**
+   * Returns the position of the centroid at the given index in the backing array.
+   *
+   * @param index centroid index
+   * @return position
+   */
+  private int getCentroidPosition(int index) {
+    return offset + HEADER_SIZE + index * CENTROID_SIZE;
+  }
+
+  /**
+   * Returns the position of the buffered value at the given index in the backing array.
+   *
+   * @param index buffer index
+   * @return position
+   */
+  private int getBufferPosition(int index) {
+    return offset + HEADER_SIZE + getCentroidCapacity(compression) * CENTROID_SIZE +
+      index * Double.BYTES;
+  }
+
+  /**
+   * Returns the maximum number of centroids. Merging bounds the number of centroids by
+   * {@code compression + 1}, the capacity leaves room for rounding.
+   *
+   * @param compression compression parameter
+   * @return maximum number of centroids
+   */
+  private static int getCentroidCapacity(int compression) {
+    return 2 * compression;
+  }
+
+  /**
+   * Returns the number of values buffered before they are merged into the centroids.
+   *
+   * @param compression compression parameter
+   * @return buffer capacity
+   */
+  private static int getBufferCapacity(int compression) {
+    return 5 * compression;
+  }
+}
@@ -20,6 +20,8 @@ import org.gradoop.common.config.GradoopConfig;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.typeutils.PropertyKeyDictionaryParameters;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
 import org.gradoop.flink.model.api.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.api.epgm.LogicalGraphFactory;
 import org.gradoop.flink.model.api.layouts.GraphCollectionLayoutFactory;
@@ -152,4 +154,19 @@ public class GradoopFlinkConfig extends GradoopConfig<GraphHead, Vertex, Edge> {
     factory.setGradoopFlinkConfig(this);
     graphCollectionFactory.setLayoutFactory(factory);
   }
+
+  /**
+   * Sets the dictionary used by the element serializers to encode property keys. Only jobs
+   * created after this call pick up the dictionary. Passing {@code null} restores the plain
+   * string encoding.
+   *
+   * @param dictionary property key dictionary or {@code null}
+   */
+  public void setPropertyKeyDictionary(PropertyKeyDictionary dictionary) {
+    if (dictionary == null) {
+      PropertyKeyDictionaryParameters.removeDictionary(executionEnvironment.getConfig());
+    } else {
+      PropertyKeyDictionaryParameters.setDictionary(executionEnvironment.getConfig(), dictionary);
+    }
+  }
 }
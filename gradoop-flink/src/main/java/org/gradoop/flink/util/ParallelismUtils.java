@@ -0,0 +1,52 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.util;
+
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.LocalEnvironment;
+import org.apache.flink.configuration.ConfigConstants;
+import org.apache.flink.configuration.CoreOptions;
+import org.apache.flink.configuration.GlobalConfiguration;
+
+/**
+ * Contains methods to determine the parallelism of a Flink program.
+ */
+public class ParallelismUtils {
+
+  /**
+   * Returns the parallelism operators of the given environment are executed with.
+   *
+   * If the parallelism is not set explicitly, the default parallelism of the environment is
+   * returned, i.e. the default local parallelism for local environments and the configured
+   * default parallelism of the cluster ({@link ConfigConstants#DEFAULT_PARALLELISM} if none is
+   * configured) otherwise.
+   *
+   * @param env execution environment
+   * @return parallelism of the operators
+   */
+  public static int getParallelism(ExecutionEnvironment env) {
+    int parallelism = env.getParallelism();
+    if (parallelism > 0) {
+      return parallelism;
+    }
+    if (env instanceof LocalEnvironment) {
+      return ExecutionEnvironment.getDefaultLocalParallelism();
+    }
+    parallelism =
+      GlobalConfiguration.loadConfiguration().getInteger(CoreOptions.DEFAULT_PARALLELISM_KEY);
+    return parallelism > 0 ? parallelism : ConfigConstants.DEFAULT_PARALLELISM;
+  }
+}
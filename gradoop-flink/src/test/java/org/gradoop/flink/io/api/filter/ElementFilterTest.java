@@ -0,0 +1,102 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.api.filter;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ElementFilterTest {
+
+  private Vertex createVertex(String label, Object... keyValues) {
+    Properties properties = Properties.create();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      properties.set((String) keyValues[i], keyValues[i + 1]);
+    }
+    return new VertexFactory().createVertex(label, properties);
+  }
+
+  @Test
+  public void testAll() {
+    ElementFilter filter = ElementFilter.all();
+
+    assertTrue(filter.acceptsAll());
+    assertTrue(filter.acceptsLabel("A"));
+    assertTrue(filter.isRequired("a"));
+    assertTrue(filter.test(createVertex("A", "a", 1)));
+  }
+
+  @Test
+  public void testLabels() {
+    ElementFilter filter = ElementFilter.all().withLabels("A", "B");
+
+    assertFalse(filter.acceptsAll());
+    assertTrue(filter.hasLabelRestriction());
+    assertTrue(filter.test(createVertex("A")));
+    assertTrue(filter.test(createVertex("B")));
+    assertFalse(filter.test(createVertex("C")));
+  }
+
+  @Test
+  public void testPropertyKeys() {
+    ElementFilter filter = ElementFilter.all()
+      .withPropertyKeys("a")
+      .where(PropertyPredicate.equalTo("b", "x"));
+
+    assertTrue(filter.isRequired("a"));
+    assertTrue(filter.isRequired("b"));
+    assertFalse(filter.isRequired("c"));
+
+    Vertex vertex = createVertex("A", "a", 1, "b", "x", "c", true);
+    assertTrue(filter.test(vertex));
+    filter.project(vertex);
+    assertEquals(1, vertex.getPropertyCount());
+    assertEquals(PropertyValue.create(1), vertex.getPropertyValue("a"));
+    assertNull(vertex.getPropertyValue("b"));
+  }
+
+  @Test
+  public void testPredicates() {
+    ElementFilter filter = ElementFilter.all()
+      .where(PropertyPredicate.greaterThan("a", 10))
+      .where(PropertyPredicate.lessThanOrEqualTo("a", 20));
+
+    assertFalse(filter.test(createVertex("A", "a", 10)));
+    assertTrue(filter.test(createVertex("A", "a", 11)));
+    assertTrue(filter.test(createVertex("A", "a", 20)));
+    assertFalse(filter.test(createVertex("A", "a", 21)));
+    // missing property
+    assertFalse(filter.test(createVertex("A")));
+    // different type
+    assertFalse(filter.test(createVertex("A", "a", 15L)));
+  }
+
+  @Test
+  public void testEquality() {
+    assertTrue(PropertyPredicate.equalTo("a", "foo").test(PropertyValue.create("foo")));
+    assertFalse(PropertyPredicate.equalTo("a", "foo").test(PropertyValue.create("bar")));
+    assertTrue(PropertyPredicate.notEqualTo("a", "foo").test(PropertyValue.create("bar")));
+    assertTrue(PropertyPredicate.notEqualTo("a", "foo").test(PropertyValue.create(42)));
+    assertFalse(PropertyPredicate.notEqualTo("a", "foo").test(null));
+  }
+}
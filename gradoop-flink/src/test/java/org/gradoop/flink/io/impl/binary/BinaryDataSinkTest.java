@@ -0,0 +1,135 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.binary;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+import org.gradoop.flink.io.api.filter.PropertyPredicate;
+import org.gradoop.flink.io.impl.csv.CSVDataSourceTest;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collection;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertEquals;
+
+public class BinaryDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWriteGraphCollection() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    // use a small block size to write multiple blocks per file
+    loader.getDatabase().writeTo(new BinaryDataSink(tmpPath, 2, getConfig()));
+
+    getExecutionEnvironment().execute();
+
+    GraphCollection collection = new BinaryDataSource(tmpPath, getConfig()).getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    Collection<Edge> loadedEdges = Lists.newArrayList();
+
+    collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+  }
+
+  @Test
+  public void testWriteLogicalGraph() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    DataSink binaryDataSink = new BinaryDataSink(tmpPath, getConfig());
+    binaryDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource binaryDataSource = new BinaryDataSource(tmpPath, getConfig());
+    LogicalGraph output = binaryDataSource.getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
+  @Test
+  public void testReadWithFilter() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    String gdlPath = CSVDataSourceTest.class
+      .getResource("/data/csv/expected/expected.gdl")
+      .getFile();
+
+    LogicalGraph input = getLoaderFromFile(gdlPath).getLogicalGraphByVariable("expected");
+    new BinaryDataSink(tmpPath, getConfig()).write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    FilterableDataSource dataSource = new BinaryDataSource(tmpPath, getConfig());
+    dataSource.applyVertexFilter(ElementFilter.all()
+      .withLabels("A")
+      .withPropertyKeys("a")
+      .where(PropertyPredicate.greaterThan("b", 20)));
+    dataSource.applyEdgeFilter(ElementFilter.all()
+      .withLabels("a")
+      .withPropertyKeys("b")
+      .where(PropertyPredicate.greaterThanOrEqualTo("a", 5000)));
+
+    LogicalGraph output = dataSource.getLogicalGraph();
+    LogicalGraph expected = getLoaderFromString("expected [" +
+      "(v0:A {a:\"foo\"})," +
+      "(v1:A {a:\"bar\"})-[e1:a {b:23.42f}]->(v0)" +
+      "]").getLogicalGraphByVariable("expected");
+
+    collectAndAssertTrue(output.equalsByElementData(expected));
+  }
+
+  @Test
+  public void testLabelFileNames() {
+    for (String label : new String[] {"", "Person", "hasInterest", "Größe", "a-b_c"}) {
+      assertEquals(label, BinaryConstants.getLabel(BinaryConstants.getFileName(label, 7)));
+    }
+  }
+}
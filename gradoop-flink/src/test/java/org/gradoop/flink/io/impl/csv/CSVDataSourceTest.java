@@ -16,6 +16,9 @@
 package org.gradoop.flink.io.impl.csv;
 
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+import org.gradoop.flink.io.api.filter.PropertyPredicate;
 import org.gradoop.flink.io.impl.edgelist.VertexLabeledEdgeListDataSourceTest;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
@@ -40,4 +43,29 @@ public class CSVDataSourceTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(input.equalsByElementData(expected));
   }
+
+  @Test
+  public void testReadWithFilter() throws Exception {
+    String csvPath = VertexLabeledEdgeListDataSourceTest.class
+      .getResource("/data/csv/input")
+      .getFile();
+
+    FilterableDataSource dataSource = new CSVDataSource(csvPath, getConfig());
+    dataSource.applyVertexFilter(ElementFilter.all()
+      .withLabels("A")
+      .withPropertyKeys("a")
+      .where(PropertyPredicate.greaterThan("b", 20)));
+    dataSource.applyEdgeFilter(ElementFilter.all()
+      .withLabels("a")
+      .withPropertyKeys("b")
+      .where(PropertyPredicate.greaterThanOrEqualTo("a", 5000)));
+
+    LogicalGraph input = dataSource.getLogicalGraph();
+    LogicalGraph expected = getLoaderFromString("expected [" +
+      "(v0:A {a:\"foo\"})," +
+      "(v1:A {a:\"bar\"})-[e1:a {b:23.42f}]->(v0)" +
+      "]").getLogicalGraphByVariable("expected");
+
+    collectAndAssertTrue(input.equalsByElementData(expected));
+  }
 }
@@ -30,6 +30,11 @@ import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxEdgeP
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.ApproxDistinctEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.ApproxDistinctVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.ApproxFrequencyProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.ApproxFrequencyVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.ApproxQuantileVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
@@ -231,6 +236,66 @@ public class AggregationTest extends GradoopFlinkTestBase {
     assertCounts(graphHead, 3L, 2L);
   }
 
+  @Test
+  public void testSingleGraphVertexAndEdgeApproxDistinct() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    ApproxDistinctVertexProperty distinctCity = new ApproxDistinctVertexProperty("city");
+    ApproxDistinctEdgeProperty distinctSince = new ApproxDistinctEdgeProperty("since");
+
+    graph = graph
+      .aggregate(distinctCity)
+      .aggregate(distinctSince);
+
+    EPGMGraphHead graphHead = graph.getGraphHead().collect().get(0);
+
+    // sketches are exact for small cardinalities
+    assertEquals(3L,
+      graphHead.getPropertyValue(distinctCity.getAggregatePropertyKey()).getLong());
+    assertEquals(3L,
+      graphHead.getPropertyValue(distinctSince.getAggregatePropertyKey()).getLong());
+  }
+
+  @Test
+  public void testSingleGraphVertexApproxFrequency() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    ApproxFrequencyVertexProperty cityFrequency = new ApproxFrequencyVertexProperty("city");
+
+    EPGMGraphHead graphHead = graph.aggregate(cityFrequency).getGraphHead().collect().get(0);
+    PropertyValue sketch = graphHead.getPropertyValue(cityFrequency.getAggregatePropertyKey());
+
+    assertEquals(3L,
+      ApproxFrequencyProperty.estimateFrequency(sketch, PropertyValue.create("Dresden")));
+    assertEquals(2L,
+      ApproxFrequencyProperty.estimateFrequency(sketch, PropertyValue.create("Leipzig")));
+    assertEquals(1L,
+      ApproxFrequencyProperty.estimateFrequency(sketch, PropertyValue.create("Berlin")));
+  }
+
+  @Test
+  public void testSingleGraphVertexApproxQuantile() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    ApproxQuantileVertexProperty minAge = new ApproxQuantileVertexProperty("age", 0d);
+    ApproxQuantileVertexProperty medianAge = new ApproxQuantileVertexProperty("age", 0.5d);
+    ApproxQuantileVertexProperty maxAge = new ApproxQuantileVertexProperty("age", 1d);
+
+    EPGMGraphHead graphHead = graph
+      .aggregate(minAge)
+      .aggregate(medianAge)
+      .aggregate(maxAge)
+      .getGraphHead().collect().get(0);
+
+    // ages: 20, 30, 30, 35, 35, 40
+    assertEquals(20d,
+      graphHead.getPropertyValue(minAge.getAggregatePropertyKey()).getDouble(), 0.00001d);
+    assertEquals(32.5d,
+      graphHead.getPropertyValue(medianAge.getAggregatePropertyKey()).getDouble(), 0.00001d);
+    assertEquals(40d,
+      graphHead.getPropertyValue(maxAge.getAggregatePropertyKey()).getDouble(), 0.00001d);
+  }
+
   void assertCounts(EPGMGraphHead graphHead, long expectedVertexCount, long expectedEdgeCount) {
 
     assertEquals("wrong vertex count", expectedVertexCount,
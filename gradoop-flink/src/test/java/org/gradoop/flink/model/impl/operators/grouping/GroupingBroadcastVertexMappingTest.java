@@ -0,0 +1,70 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GroupingBroadcastVertexMappingTest extends GroupingTestBase {
+
+  @Override
+  public GroupingStrategy getStrategy() {
+    return GroupingStrategy.GROUP_REDUCE;
+  }
+
+  @Override
+  public boolean broadcastVertexMapping() {
+    return true;
+  }
+
+  @Test
+  public void testBroadcastSelectionByStatistics() throws Exception {
+    // few vertices, many edges
+    assertTrue(getGrouping(new GraphStatistics(10L, 100_000L, 10L, 10L), null)
+      .broadcastVertexMapping());
+    // more vertices than edges
+    assertFalse(getGrouping(new GraphStatistics(100_000L, 10L, 10L, 10L), null)
+      .broadcastVertexMapping());
+    // mapping exceeds the maximum broadcast size
+    long vertexCount = Grouping.MAX_BROADCAST_VERTEX_COUNT + 1;
+    assertFalse(getGrouping(new GraphStatistics(vertexCount, 1000 * vertexCount, 10L, 10L), null)
+      .broadcastVertexMapping());
+  }
+
+  @Test
+  public void testExplicitBroadcastOverridesStatistics() throws Exception {
+    assertFalse(getGrouping(new GraphStatistics(10L, 100_000L, 10L, 10L), false)
+      .broadcastVertexMapping());
+    assertTrue(getGrouping(new GraphStatistics(100_000L, 10L, 10L, 10L), true)
+      .broadcastVertexMapping());
+  }
+
+  private Grouping getGrouping(GraphStatistics statistics, Boolean broadcastVertexMapping) {
+    Grouping.GroupingBuilder builder = new Grouping.GroupingBuilder()
+      .setStrategy(getStrategy())
+      .useVertexLabel(true)
+      .setGraphStatistics(statistics);
+    if (broadcastVertexMapping != null) {
+      builder.setBroadcastVertexMapping(broadcastVertexMapping);
+    }
+    Grouping grouping = builder.build();
+    grouping.config = getConfig();
+    return grouping;
+  }
+}
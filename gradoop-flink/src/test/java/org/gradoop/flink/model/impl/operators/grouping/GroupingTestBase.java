@@ -34,6 +34,10 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
 
   public abstract GroupingStrategy getStrategy();
 
+  public boolean broadcastVertexMapping() {
+    return false;
+  }
+
   @Test
   public void testAPIFunction() throws Exception {
     FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
@@ -87,6 +91,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -119,6 +124,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -158,6 +164,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -183,6 +190,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -211,6 +219,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -245,6 +254,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -297,6 +307,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(loader.getLogicalGraphByVariable("input"));
 
@@ -352,6 +363,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(loader.getLogicalGraphByVariable("input"));
 
@@ -380,6 +392,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new CountAggregator("count"))
         .addEdgeAggregator(new CountAggregator("count"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -408,6 +421,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -441,6 +455,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -479,6 +494,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -508,6 +524,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -540,6 +557,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -575,6 +593,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -603,6 +622,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .useVertexLabel(true)
       .useEdgeLabel(true)
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .build()
@@ -639,6 +659,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -680,6 +701,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -710,6 +732,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -745,6 +768,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -781,6 +805,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexAggregator(new CountAggregator("count"))
       .addEdgeAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -827,6 +852,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new CountAggregator("count"))
         .addEdgeAggregator(new CountAggregator("count"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -871,6 +897,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       new GroupingBuilder()
         .useVertexLabel(true)
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -913,6 +940,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new CountAggregator("count"))
         .addEdgeAggregator(new CountAggregator("count"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -955,6 +983,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new SumAggregator("a", "sumA"))
         .addEdgeAggregator(new SumAggregator("b", "sumB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -997,6 +1026,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new SumAggregator("a", "sumA"))
         .addEdgeAggregator(new SumAggregator("b", "sumB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -1039,6 +1069,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new SumAggregator("a", "sumA"))
         .addEdgeAggregator(new SumAggregator("b", "sumB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -1081,6 +1112,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new MinAggregator("a", "minA"))
         .addEdgeAggregator(new MinAggregator("b", "minB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -1123,6 +1155,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new MinAggregator("a", "minA"))
         .addEdgeAggregator(new MinAggregator("b", "minB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
     
@@ -1165,6 +1198,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new MinAggregator("a", "minA"))
         .addEdgeAggregator(new MinAggregator("b", "minB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -1207,6 +1241,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new MaxAggregator("a", "maxA"))
         .addEdgeAggregator(new MaxAggregator("b", "maxB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -1249,6 +1284,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new MaxAggregator("a", "maxA"))
         .addEdgeAggregator(new MaxAggregator("b", "maxB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -1291,6 +1327,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addVertexAggregator(new MaxAggregator("a", "maxA"))
         .addEdgeAggregator(new MaxAggregator("b", "maxB"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -1339,6 +1376,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         .addEdgeAggregator(new SumAggregator("b", "sumB"))
         .addEdgeAggregator(new CountAggregator("count"))
         .setStrategy(getStrategy())
+        .setBroadcastVertexMapping(broadcastVertexMapping())
         .build()
         .execute(input);
 
@@ -1374,6 +1412,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexGroupingKey("topic")
       .addVertexLabelGroup("User", Lists.newArrayList("gender"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1405,6 +1444,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexGroupingKey("topic")
       .addVertexLabelGroup("User", "UserGender", Lists.newArrayList("gender"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1435,6 +1475,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexGroupingKey("gender")
       .addVertexLabelGroup("Forum", Lists.newArrayList("topic"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1468,6 +1509,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexLabelGroup("User", Lists.newArrayList("gender"),
         Lists.newArrayList(new SumAggregator("age", "sum")))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1501,6 +1543,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexGroupingKey("topic")
       .addVertexLabelGroup("User", Lists.newArrayList("gender"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1545,6 +1588,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addVertexLabelGroup("User", Lists.newArrayList("gender"))
       .addVertexLabelGroup("User", Lists.newArrayList("age"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1592,6 +1636,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
         Lists.newArrayList(new CountAggregator("count"), new SumAggregator("age", "sum")))
       .addVertexAggregator(new CountAggregator("count"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1620,6 +1665,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addEdgeGroupingKey("until")
       .addEdgeLabelGroup("knows", Lists.newArrayList("since"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1648,6 +1694,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addEdgeGroupingKey("until")
       .addEdgeLabelGroup("knows", "knowsSince", Lists.newArrayList("since"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1675,6 +1722,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addEdgeGroupingKey("until")
       .addEdgeLabelGroup("knows", Lists.newArrayList("since"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1705,6 +1753,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addEdgeLabelGroup("knows", Lists.newArrayList("since"),
         Lists.newArrayList(new SumAggregator("since", "sum")))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1736,6 +1785,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addEdgeLabelGroup("knows", Lists.newArrayList("since"),
         Lists.newArrayList(new SumAggregator("since", "sum")))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1765,6 +1815,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addEdgeLabelGroup("knows", Lists.newArrayList())
       .addEdgeLabelGroup("member", Lists.newArrayList("until"))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
@@ -1797,6 +1848,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       .addEdgeLabelGroup("member", Lists.newArrayList("until"),
         Lists.newArrayList(new MinAggregator("until", "min")))
       .setStrategy(getStrategy())
+      .setBroadcastVertexMapping(broadcastVertexMapping())
       .build()
       .execute(input);
 
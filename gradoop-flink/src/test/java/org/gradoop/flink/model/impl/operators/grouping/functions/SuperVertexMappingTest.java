@@ -0,0 +1,101 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SuperVertexMappingTest {
+
+  @Test
+  public void testPutAndGet() {
+    List<GradoopId> superVertexIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      superVertexIds.add(GradoopId.get());
+    }
+    List<GradoopId> vertexIds = new ArrayList<>();
+    List<VertexWithSuperVertex> tuples = new ArrayList<>();
+
+    // enough vertices to grow the table multiple times
+    for (int i = 0; i < 10000; i++) {
+      GradoopId vertexId = GradoopId.get();
+      vertexIds.add(vertexId);
+      tuples.add(createTuple(vertexId, superVertexIds.get(i % superVertexIds.size())));
+    }
+    SuperVertexMapping mapping = new SuperVertexMapping(tuples);
+    assertEquals(vertexIds.size(), mapping.size());
+
+    byte[] key = new byte[GradoopId.ID_SIZE];
+    for (int i = 0; i < vertexIds.size(); i++) {
+      assertEquals(superVertexIds.get(i % superVertexIds.size()),
+        getSuperVertexIds(mapping, vertexIds.get(i), key).iterator().next());
+    }
+  }
+
+  @Test
+  public void testMultipleSuperVertices() {
+    GradoopId vertexId = GradoopId.get();
+    GradoopId first = GradoopId.get();
+    GradoopId second = GradoopId.get();
+
+    SuperVertexMapping mapping = new SuperVertexMapping(Arrays.asList(
+      createTuple(vertexId, first),
+      createTuple(GradoopId.get(), first),
+      createTuple(vertexId, second)));
+
+    Set<GradoopId> result = getSuperVertexIds(mapping, vertexId, new byte[GradoopId.ID_SIZE]);
+    assertEquals(2, result.size());
+    assertTrue(result.contains(first));
+    assertTrue(result.contains(second));
+  }
+
+  @Test
+  public void testMissingVertex() {
+    SuperVertexMapping mapping = new SuperVertexMapping(
+      Collections.singletonList(createTuple(GradoopId.get(), GradoopId.get())));
+
+    assertTrue(mapping.firstSlot(GradoopId.get(), new byte[GradoopId.ID_SIZE]) < 0);
+  }
+
+  private VertexWithSuperVertex createTuple(GradoopId vertexId, GradoopId superVertexId) {
+    VertexWithSuperVertex tuple = new VertexWithSuperVertex();
+    tuple.setVertexId(vertexId);
+    tuple.setSuperVertexId(superVertexId);
+    return tuple;
+  }
+
+  private Set<GradoopId> getSuperVertexIds(
+    SuperVertexMapping mapping, GradoopId vertexId, byte[] key) {
+    Set<GradoopId> result = new HashSet<>();
+    int slot = mapping.firstSlot(vertexId, key);
+    while (slot >= 0) {
+      result.add(mapping.getSuperVertexId(slot));
+      slot = mapping.nextSlot(slot, key);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class EquiDepthHistogramTest {
+
+  @Test
+  public void testCreate() throws Exception {
+    EquiDepthHistogram histogram = EquiDepthHistogram.create(getAgeCounts(), 100);
+
+    assertThat(histogram.getCount(), is(6L));
+    assertThat(histogram.getBucketCount(), is(3));
+    assertThat(histogram.getBoundaries(), is(asList(PropertyValue.create(20),
+      PropertyValue.create(30), PropertyValue.create(35), PropertyValue.create(40))));
+  }
+
+  @Test
+  public void testCreateWithSingleBucket() throws Exception {
+    EquiDepthHistogram histogram = EquiDepthHistogram.create(getAgeCounts(), 1);
+
+    assertThat(histogram.getBucketCount(), is(1));
+    assertThat(histogram.getBoundaries(),
+      is(asList(PropertyValue.create(20), PropertyValue.create(40))));
+  }
+
+  @Test
+  public void testCreateWithSingleValue() throws Exception {
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+    valueCounts.put(PropertyValue.create("Dresden"), 3L);
+
+    EquiDepthHistogram histogram = EquiDepthHistogram.create(valueCounts, 100);
+
+    assertThat(histogram.getCount(), is(3L));
+    assertThat(histogram.getBoundaries(), is(singletonList(PropertyValue.create("Dresden"))));
+  }
+
+  @Test
+  public void testCreateUsesMostFrequentType() throws Exception {
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+    valueCounts.put(PropertyValue.create(1), 4L);
+    valueCounts.put(PropertyValue.create(2L), 2L);
+    valueCounts.put(PropertyValue.create("a"), 5L);
+    valueCounts.put(PropertyValue.NULL_VALUE, 10L);
+
+    EquiDepthHistogram histogram = EquiDepthHistogram.create(valueCounts, 100);
+
+    // numeric types are combined, null values are ignored
+    assertThat(histogram.getCount(), is(6L));
+    assertThat(histogram.getBoundaries(),
+      is(asList(PropertyValue.create(1), PropertyValue.create(2L))));
+  }
+
+  @Test
+  public void testCreateWithoutComparableValues() throws Exception {
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+    valueCounts.put(PropertyValue.NULL_VALUE, 10L);
+
+    assertThat(EquiDepthHistogram.create(valueCounts, 100), is(nullValue()));
+  }
+
+  @Test
+  public void testGetFractionLessThan() throws Exception {
+    EquiDepthHistogram histogram = EquiDepthHistogram.create(getAgeCounts(), 100);
+
+    assertThat(histogram.getFractionLessThan(PropertyValue.create(10)), is(0d));
+    assertThat(histogram.getFractionLessThan(PropertyValue.create(20)), is(0d));
+    assertEquals(1d / 6, histogram.getFractionLessThan(PropertyValue.create(25)), 0.0001);
+    assertEquals(1d / 3, histogram.getFractionLessThan(PropertyValue.create(30)), 0.0001);
+    assertEquals(2.5 / 3, histogram.getFractionLessThan(PropertyValue.create(37.5)), 0.0001);
+    assertThat(histogram.getFractionLessThan(PropertyValue.create(50L)), is(1d));
+  }
+
+  @Test
+  public void testIsOutOfRange() throws Exception {
+    EquiDepthHistogram histogram = EquiDepthHistogram.create(getAgeCounts(), 100);
+
+    assertThat(histogram.isOutOfRange(PropertyValue.create(19)), is(true));
+    assertThat(histogram.isOutOfRange(PropertyValue.create(20)), is(false));
+    assertThat(histogram.isOutOfRange(PropertyValue.create(40)), is(false));
+    assertThat(histogram.isOutOfRange(PropertyValue.create(41)), is(true));
+  }
+
+  @Test
+  public void testIsComparable() throws Exception {
+    EquiDepthHistogram histogram = EquiDepthHistogram.create(getAgeCounts(), 100);
+
+    assertThat(histogram.isComparable(PropertyValue.create(1.5f)), is(true));
+    assertThat(histogram.isComparable(PropertyValue.create("30")), is(false));
+  }
+
+  /**
+   * Returns the frequencies of the ages of the persons in the social network graph.
+   *
+   * @return value frequencies
+   */
+  private Map<PropertyValue, Long> getAgeCounts() {
+    Map<PropertyValue, Long> valueCounts = new HashMap<>();
+    valueCounts.put(PropertyValue.create(20), 1L);
+    valueCounts.put(PropertyValue.create(30), 2L);
+    valueCounts.put(PropertyValue.create(35), 2L);
+    valueCounts.put(PropertyValue.create(40), 1L);
+    return valueCounts;
+  }
+}
@@ -15,9 +15,14 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.junit.Test;
 
+import java.util.Map;
+
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 
 public abstract class GraphStatisticsTest {
@@ -199,4 +204,48 @@ public abstract class GraphStatisticsTest {
       is(0L));
   }
 
+  @Test
+  public void testVertexPropertyHistogram() throws Exception {
+    EquiDepthHistogram histogram = TEST_STATISTICS.getVertexPropertyHistogram("Person", "age");
+    assertThat(histogram.getCount(), is(6L));
+    assertThat(histogram.getBoundaries(), is(asList(PropertyValue.create(20),
+      PropertyValue.create(30), PropertyValue.create(35), PropertyValue.create(40))));
+    // nonexistent property
+    assertThat(TEST_STATISTICS.getVertexPropertyHistogram("Person", "foo"), is(nullValue()));
+    // nonexistent vertex label
+    assertThat(TEST_STATISTICS.getVertexPropertyHistogram("Foo", "age"), is(nullValue()));
+  }
+
+  @Test
+  public void testEdgePropertyHistogram() throws Exception {
+    EquiDepthHistogram histogram = TEST_STATISTICS.getEdgePropertyHistogram("knows", "since");
+    assertThat(histogram.getCount(), is(10L));
+    assertThat(histogram.getBoundaries(), is(asList(PropertyValue.create(2013),
+      PropertyValue.create(2014), PropertyValue.create(2015))));
+    // nonexistent edge label
+    assertThat(TEST_STATISTICS.getEdgePropertyHistogram("foo", "since"), is(nullValue()));
+  }
+
+  @Test
+  public void testMostCommonVertexProperties() throws Exception {
+    Map<PropertyValue, Long> values =
+      TEST_STATISTICS.getMostCommonVertexProperties("Person", "city");
+    assertThat(values.size(), is(2));
+    assertThat(values.get(PropertyValue.create("Dresden")), is(3L));
+    assertThat(values.get(PropertyValue.create("Leipzig")), is(2L));
+    // nonexistent property
+    assertThat(TEST_STATISTICS.getMostCommonVertexProperties("Person", "foo").isEmpty(), is(true));
+  }
+
+  @Test
+  public void testMostCommonEdgeProperties() throws Exception {
+    Map<PropertyValue, Long> values =
+      TEST_STATISTICS.getMostCommonEdgeProperties("knows", "since");
+    assertThat(values.size(), is(3));
+    assertThat(values.get(PropertyValue.create(2013)), is(3L));
+    assertThat(values.get(PropertyValue.create(2014)), is(4L));
+    assertThat(values.get(PropertyValue.create(2015)), is(3L));
+    // nonexistent edge label
+    assertThat(TEST_STATISTICS.getMostCommonEdgeProperties("foo", "since").isEmpty(), is(true));
+  }
 }
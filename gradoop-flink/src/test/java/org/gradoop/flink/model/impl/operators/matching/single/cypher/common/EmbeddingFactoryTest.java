@@ -91,4 +91,18 @@ public class EmbeddingFactoryTest {
     assertEquals(PropertyValue.create(1), embedding.getProperty(0));
     assertEquals(PropertyValue.create("42"), embedding.getProperty(1));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void convertEdgeWithoutProperties() throws Exception {
+    Edge edge = new EdgeFactory().createEdge("TestEdge", GradoopId.get(), GradoopId.get());
+
+    Embedding embedding =
+      EmbeddingFactory.fromEdge(edge, Lists.newArrayList(), false);
+
+    assertEquals(3, embedding.size());
+    assertTrue(embedding.isIdOnly());
+    assertEquals(edge.getSourceId(), embedding.getId(0));
+    assertEquals(edge.getId(), embedding.getId(1));
+    assertEquals(edge.getTargetId(), embedding.getId(2));
+  }
+}
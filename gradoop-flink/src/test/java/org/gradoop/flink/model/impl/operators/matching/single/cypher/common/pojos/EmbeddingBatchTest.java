@@ -0,0 +1,134 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingBatch;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class EmbeddingBatchTest {
+
+  @Test
+  public void testAddAndConvert() {
+    Embedding first = createEmbedding(2, "a", 1);
+    first.add(GradoopId.get());
+    Embedding second = createEmbedding(2, "bb", 2);
+    second.add(GradoopId.get(), GradoopId.get());
+
+    EmbeddingBatch batch = new EmbeddingBatch(2);
+    batch.add(first);
+    assertFalse(batch.isFull());
+    batch.add(second);
+    assertTrue(batch.isFull());
+
+    assertThat(batch.size(), is(2));
+    assertThat(batch.getIdColumns(), is(3));
+    assertThat(batch.getPropertyColumns(), is(2));
+    assertEquals(first.getId(1), batch.getId(0, 1));
+    assertEquals(PropertyValue.create("bb"), batch.getProperty(1, 0));
+    assertEquals(first, batch.getEmbedding(0));
+    assertEquals(second, batch.getEmbedding(1));
+  }
+
+  @Test
+  public void testRawAccess() {
+    Embedding first = createEmbedding(2, "a", 1);
+    first.add(GradoopId.get());
+    Embedding second = createEmbedding(2, "bb", 2);
+    second.add(GradoopId.get(), GradoopId.get());
+
+    EmbeddingBatch batch = new EmbeddingBatch();
+    batch.add(first);
+    batch.add(second);
+
+    byte[] entry = new byte[Embedding.ID_ENTRY_SIZE];
+    batch.copyIdEntry(1, 1, entry, 0);
+    assertArrayEquals(second.getRawIdEntry(1), entry);
+    assertFalse(batch.isIdList(1, 1));
+    assertTrue(batch.isIdList(1, 2));
+
+    byte[] propertyData = new byte[batch.getPropertyDataLength(1)];
+    assertThat(batch.copyPropertyData(1, propertyData, 0), is(propertyData.length));
+    assertArrayEquals(second.getPropertyData(), propertyData);
+
+    byte[] idListData = new byte[batch.getIdListDataLength(1)];
+    assertThat(batch.copyIdListData(1, idListData, 0), is(idListData.length));
+    assertArrayEquals(second.getIdListData(), idListData);
+    assertThat(batch.getIdListDataLength(0), is(0));
+  }
+
+  @Test
+  public void testClear() {
+    EmbeddingBatch batch = new EmbeddingBatch(1);
+    batch.add(createEmbedding(1, "a", 1));
+    batch.clear();
+
+    Embedding embedding = createEmbedding(0);
+    batch.add(embedding);
+    assertThat(batch.size(), is(1));
+    assertEquals(embedding, batch.getEmbedding(0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddDifferentSchema() {
+    EmbeddingBatch batch = new EmbeddingBatch();
+    batch.add(createEmbedding(1, "a"));
+    batch.add(createEmbedding(1, "a", "b"));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAddToFullBatch() {
+    EmbeddingBatch batch = new EmbeddingBatch(1);
+    batch.add(createEmbedding(1));
+    batch.add(createEmbedding(1));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetMissingRow() {
+    EmbeddingBatch batch = new EmbeddingBatch();
+    batch.add(createEmbedding(1));
+    batch.getEmbedding(1);
+  }
+
+  /**
+   * Creates an embedding with the given number of id entries and property values.
+   *
+   * @param ids number of id entries
+   * @param properties property values
+   * @return embedding
+   */
+  private Embedding createEmbedding(int ids, Object... properties) {
+    Embedding embedding = new Embedding();
+    for (int i = 0; i < ids; i++) {
+      embedding.add(GradoopId.get());
+    }
+    PropertyValue[] values = new PropertyValue[properties.length];
+    for (int i = 0; i < properties.length; i++) {
+      values[i] = PropertyValue.create(properties[i]);
+    }
+    embedding.addPropertyValues(values);
+    return embedding;
+  }
+}
@@ -37,6 +37,24 @@ public class EmbeddingTest {
     assertEquals(id, embedding.getId(0));
   }
 
+  @Test
+  public void testFromIds() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+
+    Embedding embedding = Embedding.fromIds(a, b);
+    Embedding expected = new Embedding();
+    expected.addAll(a, b);
+
+    assertEquals(expected, embedding);
+    assertEquals(2 * Embedding.ID_ENTRY_SIZE, embedding.getIdData().length);
+    assertTrue(embedding.isIdOnly());
+    assertEquals(b, embedding.getId(1));
+
+    embedding.addPropertyValues(PropertyValue.create(42));
+    assertFalse(embedding.isIdOnly());
+  }
+
   @Test
   public void testAppendIdToExistingEmbedding() {
     GradoopId id = GradoopId.get();
@@ -0,0 +1,157 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEveryEmbedding;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MultiwayJoinEmbeddingsTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId v3 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+  private static GradoopId e3 = GradoopId.get();
+  private static GradoopId e4 = GradoopId.get();
+
+  /**
+   * Joins (a)-[e1]->(b), (b)-[e2]->(c) and (a)-[e3]->(c) on a, b and c
+   */
+  @Test
+  public void testTriangle() throws Exception {
+    DataSet<Embedding> ab = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v0, e3, v3)
+    );
+    DataSet<Embedding> bc = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v0, e3, v3)
+    );
+    DataSet<Embedding> ac = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e2, v2),
+      createEmbedding(v1, e4, v3)
+    );
+
+    PhysicalOperator join = new MultiwayJoinEmbeddings(asList(ab, bc, ac),
+      asList(asList(0, 2, -1), asList(-1, 0, 2), asList(0, -1, 2)),
+      asList(asList(0, 1, 2), asList(1, 2), asList(1)),
+      emptyList(), emptyList());
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1, v2, e2);
+  }
+
+  @Test
+  public void testMorphismCheck() throws Exception {
+    DataSet<Embedding> ab = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v0),
+      createEmbedding(v2, e2, v2)
+    );
+    DataSet<Embedding> ba = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v0),
+      createEmbedding(v1, e0, v0),
+      createEmbedding(v2, e3, v2)
+    );
+
+    List<List<Integer>> joinColumns = asList(asList(0, 2), asList(2, 0));
+    List<List<Integer>> appendColumns = asList(asList(0, 1, 2), asList(1));
+
+    // Vertex-Homomorphism + Edge-Homomorphism
+    DataSet<Embedding> result = new MultiwayJoinEmbeddings(asList(ab, ba),
+      joinColumns, appendColumns, emptyList(), emptyList()).evaluate();
+    assertEquals(4, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e0);
+    assertEmbeddingExists(result, v2, e2, v2, e3);
+
+    // Vertex-Homomorphism + Edge-Isomorphism
+    result = new MultiwayJoinEmbeddings(asList(ab, ba),
+      joinColumns, appendColumns, emptyList(), asList(1, 3)).evaluate();
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1);
+    assertEmbeddingExists(result, v1, e1, v0, e0);
+    assertEmbeddingExists(result, v2, e2, v2, e3);
+
+    // Vertex-Isomorphism + Edge-Isomorphism
+    result = new MultiwayJoinEmbeddings(asList(ab, ba),
+      joinColumns, appendColumns, asList(0, 2), asList(1, 3)).evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1);
+    assertEmbeddingExists(result, v1, e1, v0, e0);
+  }
+
+  @Test
+  public void testPropertiesAreMerged() throws Exception {
+    Embedding l = new Embedding();
+    l.add(v0, PropertyValue.create("Alice"));
+    l.add(e0, PropertyValue.create(2014));
+    l.add(v1);
+    Embedding r = new Embedding();
+    r.add(v1, PropertyValue.create("Bob"));
+    Embedding s = new Embedding();
+    s.add(v0);
+    s.add(e1, PropertyValue.create(2015));
+    s.add(v1);
+
+    PhysicalOperator join = new MultiwayJoinEmbeddings(asList(
+      getExecutionEnvironment().fromElements(l),
+      getExecutionEnvironment().fromElements(r),
+      getExecutionEnvironment().fromElements(s)),
+      asList(asList(0, 2), asList(-1, 0), asList(0, 2)),
+      asList(asList(0, 1, 2), emptyList(), asList(1)),
+      emptyList(), emptyList());
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1);
+    assertEveryEmbedding(result, embedding -> {
+      assertEquals(PropertyValue.create("Alice"), embedding.getProperty(0));
+      assertEquals(PropertyValue.create(2014), embedding.getProperty(1));
+      assertEquals(PropertyValue.create("Bob"), embedding.getProperty(2));
+      assertEquals(PropertyValue.create(2015), embedding.getProperty(3));
+    });
+  }
+
+  @Test
+  public void testComputeShares() {
+    assertArrayEquals(new int[] {1, 1, 1}, MultiwayJoinEmbeddings.computeShares(3, 1));
+    assertArrayEquals(new int[] {2, 2, 1}, MultiwayJoinEmbeddings.computeShares(3, 4));
+    assertArrayEquals(new int[] {2, 2, 2}, MultiwayJoinEmbeddings.computeShares(3, 8));
+    assertArrayEquals(new int[] {3, 3, 2}, MultiwayJoinEmbeddings.computeShares(3, 20));
+    assertArrayEquals(new int[] {4}, MultiwayJoinEmbeddings.computeShares(1, 4));
+  }
+}
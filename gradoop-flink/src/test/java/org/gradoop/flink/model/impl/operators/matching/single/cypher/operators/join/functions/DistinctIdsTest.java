@@ -0,0 +1,103 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DistinctIdsTest {
+
+  @Test
+  public void testDistinctColumns() {
+    Embedding embedding = createEmbedding(GradoopId.get(), GradoopId.get(), GradoopId.get());
+
+    DistinctIds distinctIds = new DistinctIds();
+    assertTrue(distinctIds.addAll(embedding, new int[] {0, 1, 2}));
+  }
+
+  @Test
+  public void testDuplicateColumns() {
+    GradoopId v0 = GradoopId.get();
+    Embedding embedding = createEmbedding(v0, GradoopId.get(), v0);
+
+    DistinctIds distinctIds = new DistinctIds();
+    assertTrue(distinctIds.addAll(embedding, new int[] {0, 1}));
+    assertFalse(distinctIds.add(embedding, 2));
+  }
+
+  @Test
+  public void testDuplicatesAcrossEmbeddings() {
+    GradoopId v0 = GradoopId.get();
+    Embedding left = createEmbedding(v0, GradoopId.get());
+    Embedding right = createEmbedding(GradoopId.get(), v0);
+
+    DistinctIds distinctIds = new DistinctIds();
+    assertTrue(distinctIds.addAll(left, new int[] {0, 1}));
+    assertTrue(distinctIds.addAll(right, new int[] {0}));
+    assertFalse(distinctIds.addAll(right, new int[] {1}));
+  }
+
+  @Test
+  public void testClear() {
+    Embedding embedding = createEmbedding(GradoopId.get(), GradoopId.get());
+
+    DistinctIds distinctIds = new DistinctIds();
+    assertTrue(distinctIds.addAll(embedding, new int[] {0, 1}));
+    distinctIds.clear();
+    assertTrue(distinctIds.addAll(embedding, new int[] {0, 1}));
+  }
+
+  @Test
+  public void testIdList() {
+    GradoopId v0 = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+
+    Embedding embedding = new Embedding();
+    embedding.add(v0);
+    embedding.add(new GradoopId[] {e0, e1});
+    embedding.add(e1);
+
+    DistinctIds distinctIds = new DistinctIds();
+    assertTrue(distinctIds.addAll(embedding, new int[] {0, 1}));
+    assertFalse(distinctIds.add(embedding, 1));
+
+    distinctIds.clear();
+    assertTrue(distinctIds.addAll(embedding, new int[] {2, 1}));
+  }
+
+  @Test
+  public void testManyIds() {
+    GradoopId[] ids = new GradoopId[100];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = GradoopId.get();
+    }
+    Embedding embedding = createEmbedding(ids);
+
+    DistinctIds distinctIds = new DistinctIds();
+    for (int column = 0; column < ids.length; column++) {
+      assertTrue(distinctIds.add(embedding, column));
+    }
+    for (int column = 0; column < ids.length; column++) {
+      assertFalse(distinctIds.add(embedding, column));
+    }
+  }
+}
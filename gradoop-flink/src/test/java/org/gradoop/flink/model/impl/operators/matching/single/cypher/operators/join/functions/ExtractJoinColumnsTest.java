@@ -15,7 +15,6 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
@@ -38,7 +37,7 @@ public class ExtractJoinColumnsTest extends PhysicalOperatorTest {
 
     ExtractJoinColumns udf = new ExtractJoinColumns(Collections.singletonList(0));
 
-    Assert.assertEquals(ArrayUtils.toString(v0.toByteArray()), udf.getKey(embedding));
+    Assert.assertEquals(toKey(v0), udf.getKey(embedding));
   }
 
   @Test
@@ -50,10 +49,7 @@ public class ExtractJoinColumnsTest extends PhysicalOperatorTest {
 
     ExtractJoinColumns udf = new ExtractJoinColumns(Arrays.asList(0, 1));
 
-    Assert.assertEquals(
-      ArrayUtils.toString(v0.toByteArray()) + ArrayUtils.toString(v1.toByteArray()),
-      udf.getKey(embedding)
-    );
+    Assert.assertEquals(toKey(v0) + toKey(v1), udf.getKey(embedding));
   }
 
   @Test
@@ -68,4 +64,33 @@ public class ExtractJoinColumnsTest extends PhysicalOperatorTest {
 
     Assert.assertNotEquals(udf1.getKey(embedding), udf2.getKey(embedding));
   }
+
+  @Test
+  public void testIdOnlyEmbedding() throws Exception {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+
+    ExtractJoinColumns udf = new ExtractJoinColumns(Collections.singletonList(1));
+
+    Assert.assertEquals(
+      udf.getKey(createEmbedding(v0, v1)),
+      udf.getKey(Embedding.fromIds(v0, v1))
+    );
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testIdListColumn() throws Exception {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get(), GradoopId.get());
+
+    new ExtractJoinColumns(Collections.singletonList(0)).getKey(embedding);
+  }
+
+  private static String toKey(GradoopId id) {
+    StringBuilder sb = new StringBuilder();
+    for (byte b : id.toByteArray()) {
+      sb.append((char) (b & 0xFF));
+    }
+    return sb.toString();
+  }
 }
@@ -0,0 +1,108 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingBatch;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.embeddingToIdList;
+import static org.junit.Assert.assertEquals;
+
+public class GenericJoinTest {
+
+  /**
+   * Joins (a)-[e]->(b) with (a)-[e]->(c) on a while the input iterator reuses a single embedding
+   * instance for all values.
+   */
+  @Test
+  public void testObjectReuse() throws Exception {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+    GradoopId v2 = GradoopId.get();
+    GradoopId v3 = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+
+    List<Tuple3<Integer, Integer, Embedding>> values = asList(
+      Tuple3.of(0, 0, createEmbedding(v0, e0, v1)),
+      Tuple3.of(0, 0, createEmbedding(v0, e1, v2)),
+      Tuple3.of(0, 1, createEmbedding(v0, e2, v3))
+    );
+    Tuple3<Integer, Integer, Embedding> reuse = Tuple3.of(0, 0, new Embedding());
+    Iterable<Tuple3<Integer, Integer, Embedding>> reusingValues = () -> values.stream()
+      .map(value -> {
+        reuse.f0 = value.f0;
+        reuse.f1 = value.f1;
+        value.f2.copyTo(reuse.f2);
+        return reuse;
+      }).iterator();
+
+    GenericJoin udf = new GenericJoin(asList(asList(0), asList(0)),
+      asList(asList(0, 1, 2), asList(1, 2)), emptyList(), emptyList());
+
+    List<Embedding> result = new ArrayList<>();
+    udf.reduce(reusingValues, new ListCollector<>(result));
+
+    assertEquals(2, result.size());
+    assertEmbeddingExists(result, embedding ->
+      embeddingToIdList(embedding).equals(asList(v0, e0, v1, e2, v3)));
+    assertEmbeddingExists(result, embedding ->
+      embeddingToIdList(embedding).equals(asList(v0, e1, v2, e2, v3)));
+  }
+
+  /**
+   * Joins (a)-[e]->(b) with (a) on a for two cells. The first cell spans several embedding
+   * batches, the second cell reuses them.
+   */
+  @Test
+  public void testMultipleBatches() throws Exception {
+    GenericJoin udf = new GenericJoin(asList(asList(0), asList(0)),
+      asList(asList(0, 1, 2), emptyList()), emptyList(), emptyList());
+
+    for (int edgeCount : new int[] {2 * EmbeddingBatch.DEFAULT_CAPACITY + 1, 3}) {
+      GradoopId v0 = GradoopId.get();
+      List<Tuple3<Integer, Integer, Embedding>> values = new ArrayList<>();
+      List<List<GradoopId>> expected = new ArrayList<>();
+      for (int i = 0; i < edgeCount; i++) {
+        GradoopId e = GradoopId.get();
+        GradoopId v = GradoopId.get();
+        values.add(Tuple3.of(0, 0, createEmbedding(v0, e, v)));
+        expected.add(asList(v0, e, v));
+      }
+      values.add(Tuple3.of(0, 1, createEmbedding(v0)));
+
+      List<Embedding> result = new ArrayList<>();
+      udf.reduce(values, new ListCollector<>(result));
+
+      assertEquals(expected,
+        result.stream().map(EmbeddingTestUtils::embeddingToIdList).collect(Collectors.toList()));
+    }
+  }
+}
@@ -23,6 +23,8 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class FilterEstimatorTest extends EstimatorTestBase {
 
@@ -87,4 +89,108 @@ public class FilterEstimatorTest extends EstimatorTestBase {
     assertThat(elementEstimator.getCardinality(), is(10L));
     assertThat(elementEstimator.getSelectivity(), is(1d));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testVertexWithRangePredicate() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age > 30";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(6L));
+    assertEquals(1d / 3, elementEstimator.getSelectivity(), 0.0001);
+  }
+
+  @Test
+  public void testVertexWithOutOfRangePredicate() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age < 20";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getSelectivity(), is(0d));
+  }
+
+  @Test
+  public void testVertexWithDisjunction() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age = 30 OR n.age = 35";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    // 1 - (1 - 2/6) * (1 - 2/6)
+    assertEquals(5d / 9, elementEstimator.getSelectivity(), 0.0001);
+  }
+
+  @Test
+  public void testEdgeWithEqualityPredicate() throws Exception {
+    String query = "MATCH (n)-[e:knows]->(m) WHERE e.since = 2014";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(10L));
+    assertEquals(0.4, elementEstimator.getSelectivity(), 0.0001);
+  }
+
+  @Test
+  public void testPropertyWithoutStatistics() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.name = \"Alice\"";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getSelectivity(), is(1d));
+  }
+
+  @Test
+  public void testAnonymousVertexWithLabel() throws Exception {
+    String query = "MATCH (:Tag)";
+    QueryHandler queryHandler = new QueryHandler(query);
+    String variable = queryHandler.getVertices().iterator().next().getVariable();
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      variable, queryHandler.getPredicates().getSubCNF(variable), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(3L));
+    assertThat(elementEstimator.getSelectivity(), is(1d));
+  }
+
+  @Test
+  public void testIncomparableLiteral() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age = \"thirty\"";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertTrue(elementEstimator.getSelectivity() > 0d);
+  }
+}
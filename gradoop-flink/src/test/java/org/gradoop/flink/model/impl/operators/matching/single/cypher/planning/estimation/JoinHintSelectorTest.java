@@ -0,0 +1,92 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.configuration.ConfigConstants;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class JoinHintSelectorTest {
+
+  @Test
+  public void testBroadcastFirst() throws Exception {
+    JoinHintSelector selector = new JoinHintSelector(4, 100L);
+
+    assertThat(selector.select(50L, 500_000_000L), is(JoinHint.BROADCAST_HASH_FIRST));
+    assertThat(selector.select(25L, 100L), is(JoinHint.BROADCAST_HASH_FIRST));
+  }
+
+  @Test
+  public void testBroadcastSecond() throws Exception {
+    JoinHintSelector selector = new JoinHintSelector(4, 100L);
+
+    assertThat(selector.select(500_000_000L, 50L), is(JoinHint.BROADCAST_HASH_SECOND));
+    assertThat(selector.select(100L, 25L), is(JoinHint.BROADCAST_HASH_SECOND));
+  }
+
+  @Test
+  public void testRepartition() throws Exception {
+    JoinHintSelector selector = new JoinHintSelector(4, 100L);
+
+    // broadcasting is more expensive than repartitioning
+    assertThat(selector.select(30L, 100L), is(JoinHint.REPARTITION_SORT_MERGE));
+    assertThat(selector.select(100L, 30L), is(JoinHint.REPARTITION_SORT_MERGE));
+    // smaller side exceeds the broadcast threshold
+    assertThat(selector.select(101L, 500_000_000L), is(JoinHint.REPARTITION_SORT_MERGE));
+    assertThat(selector.select(500_000_000L, 101L), is(JoinHint.REPARTITION_SORT_MERGE));
+  }
+
+  @Test
+  public void testParallelismFromEnvironment() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+    env.setParallelism(3);
+    assertThat(new JoinHintSelector(env).getParallelism(), is(3));
+
+    // unset parallelism falls back to the cluster default parallelism
+    env.setParallelism(ExecutionConfig.PARALLELISM_DEFAULT);
+    assertThat(new JoinHintSelector(env).getParallelism(), is(ConfigConstants.DEFAULT_PARALLELISM));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidParallelism() throws Exception {
+    new JoinHintSelector(0, 100L);
+  }
+
+  private ExecutionEnvironment getExecutionEnvironment() {
+    return new ExecutionEnvironment() {
+      @Override
+      public JobExecutionResult execute(String jobName) throws Exception {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public String getExecutionPlan() throws Exception {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void startNewSession() throws Exception {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.MultiwayJoinNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class DynamicProgrammingPlannerTest extends GradoopFlinkTestBase {
+
+  private LogicalGraph socialNetwork;
+
+  private GraphStatistics socialNetworkStatistics;
+
+  @Before
+  public void setUp() throws Exception {
+    socialNetwork = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+    String path = DynamicProgrammingPlannerTest.class
+      .getResource("/data/json/sna/statistics").getFile();
+    socialNetworkStatistics = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testMatchVertex() throws Exception {
+    assertSameResult("MATCH (n:Person)");
+  }
+
+  @Test
+  public void testMatchTwoHops() throws Exception {
+    assertSameResult("MATCH (:Tag)<--()-->(:Person)");
+  }
+
+  @Test
+  public void testMatchTriangle() throws Exception {
+    assertSameResult("MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person)<-[:knows]-(a)");
+  }
+
+  @Test
+  public void testMatchTriangleWithMultiwayJoin() throws Exception {
+    String query = "MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person)<-[:knows]-(a)";
+    assertThat(planDynamic(query, DynamicProgrammingPlanner.DEFAULT_MAX_QUERY_SIZE)
+      .getQueryPlan().toString().contains(MultiwayJoinNode.class.getSimpleName()), is(true));
+  }
+
+  @Test
+  public void testMatchSquare() throws Exception {
+    assertSameResult("MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person)" +
+      "<-[:knows]-(d:Person)<-[:knows]-(a)");
+  }
+
+  @Test
+  public void testMatchWithPredicates() throws Exception {
+    assertSameResult("MATCH (a:Person)-[e1:knows]->(b:Person)-[e2:knows]->(a) " +
+      "WHERE a.city = b.city AND e1.since < e2.since");
+  }
+
+  @Test
+  public void testMatchVariableLengthPath() throws Exception {
+    assertSameResult("MATCH (a:Person)-[:knows*1..3]->(b:Person)-[:knows]->(a)");
+  }
+
+  @Test
+  public void testMatchVariableLengthLoop() throws Exception {
+    assertSameResult("MATCH (a:Person)-[:knows*1..2]->(a)");
+  }
+
+  @Test
+  public void testFallbackForDisconnectedQuery() throws Exception {
+    String query = "MATCH (a:Person), (b:Person) WHERE a.city = b.city";
+    assertThat(planDynamic(query, DynamicProgrammingPlanner.DEFAULT_MAX_QUERY_SIZE)
+      .getQueryPlan().toString(), is(planGreedy(query).getQueryPlan().toString()));
+    assertSameResult(query);
+  }
+
+  @Test
+  public void testFallbackForLargeQuery() throws Exception {
+    String query = "MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person)<-[:knows]-(a)";
+    assertThat(planDynamic(query, 5).getQueryPlan().toString(),
+      is(planGreedy(query).getQueryPlan().toString()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxQuerySize() throws Exception {
+    planDynamic("MATCH (n)", Integer.SIZE);
+  }
+
+  /**
+   * Checks if the plans of the dynamic programming and the greedy planner compute the same
+   * number of embeddings and have the same estimated cardinality.
+   *
+   * @param query cypher query
+   * @throws Exception
+   */
+  private void assertSameResult(String query) throws Exception {
+    PlanTableEntry dynamicEntry =
+      planDynamic(query, DynamicProgrammingPlanner.DEFAULT_MAX_QUERY_SIZE);
+    PlanTableEntry greedyEntry = planGreedy(query);
+
+    assertThat(dynamicEntry.getEstimatedCardinality(), is(greedyEntry.getEstimatedCardinality()));
+    assertThat(dynamicEntry.getQueryPlan().execute().count(),
+      is(greedyEntry.getQueryPlan().execute().count()));
+  }
+
+  private PlanTableEntry planDynamic(String query, int maxQuerySize) {
+    return new DynamicProgrammingPlanner(socialNetwork, new QueryHandler(query),
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, maxQuerySize)
+      .plan();
+  }
+
+  private PlanTableEntry planGreedy(String query) {
+    return new GreedyPlanner(socialNetwork, new QueryHandler(query), socialNetworkStatistics,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+  }
+}
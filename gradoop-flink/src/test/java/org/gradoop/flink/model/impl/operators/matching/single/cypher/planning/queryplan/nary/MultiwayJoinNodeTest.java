@@ -0,0 +1,158 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.gradoop.common.GradoopTestUtils.call;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MultiwayJoinNodeTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testMetaDataInitialization() throws Exception {
+    MultiwayJoinNode node = createTriangleNode(null, null, null,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    EmbeddingMetaData outputMetaData = node.getEmbeddingMetaData();
+
+    assertThat(outputMetaData.getEntryCount(), is(6));
+    assertThat(outputMetaData.getEntryColumn("a"), is(0));
+    assertThat(outputMetaData.getEntryColumn("e1"), is(1));
+    assertThat(outputMetaData.getEntryColumn("b"), is(2));
+    assertThat(outputMetaData.getEntryColumn("e2"), is(3));
+    assertThat(outputMetaData.getEntryColumn("c"), is(4));
+    assertThat(outputMetaData.getEntryColumn("e3"), is(5));
+
+    assertThat(outputMetaData.getPropertyCount(), is(3));
+    assertThat(outputMetaData.getPropertyColumn("a", "age"), is(0));
+    assertThat(outputMetaData.getPropertyColumn("e2", "since"), is(1));
+    assertThat(outputMetaData.getPropertyColumn("c", "age"), is(2));
+  }
+
+  @Test
+  public void testGetJoinColumns() throws Exception {
+    MultiwayJoinNode node = createTriangleNode(null, null, null,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    assertThat(node.getJoinVariables(), is(asList("a", "b", "c")));
+    assertThat(call(MultiwayJoinNode.class, node, "getJoinColumns"),
+      is(asList(asList(0, 2, -1), asList(-1, 0, 2), asList(2, -1, 0))));
+    assertThat(call(MultiwayJoinNode.class, node, "getAppendColumns"),
+      is(asList(asList(0, 1, 2), asList(1, 2), asList(1))));
+  }
+
+  @Test
+  public void testGetDistinctColumnsIsomorphism() throws Exception {
+    MultiwayJoinNode node = createTriangleNode(null, null, null,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    assertThat(call(MultiwayJoinNode.class, node, "getDistinctVertexColumns"),
+      is(asList(0, 2, 4)));
+    assertThat(call(MultiwayJoinNode.class, node, "getDistinctEdgeColumns"),
+      is(asList(1, 3, 5)));
+  }
+
+  @Test
+  public void testGetDistinctColumnsHomomorphism() throws Exception {
+    MultiwayJoinNode node = createTriangleNode(null, null, null,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.HOMOMORPHISM);
+
+    assertThat(call(MultiwayJoinNode.class, node, "getDistinctVertexColumns"), is(emptyList()));
+    assertThat(call(MultiwayJoinNode.class, node, "getDistinctEdgeColumns"), is(emptyList()));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+    GradoopId v2 = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+    GradoopId e3 = GradoopId.get();
+
+    DataSet<Embedding> ab = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e3, v2));
+    DataSet<Embedding> bc = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v2));
+    DataSet<Embedding> ca = getExecutionEnvironment().fromElements(
+      createEmbedding(v2, e2, v0));
+
+    MultiwayJoinNode node = createTriangleNode(ab, bc, ca,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Embedding> result = node.execute().collect();
+
+    assertThat(result.size(), is(1));
+    assertThat(result.get(0).getIdsAsList(asList(0, 1, 2, 3, 4, 5)),
+      is(asList(v0, e0, v1, e1, v2, e2)));
+  }
+
+  /**
+   * Creates a node that joins the triangle (a)-[e1]->(b)-[e2]->(c)-[e3]->(a).
+   *
+   * @param ab embeddings of (a)-[e1]->(b)
+   * @param bc embeddings of (b)-[e2]->(c)
+   * @param ca embeddings of (c)-[e3]->(a)
+   * @param vertexStrategy vertex morphism
+   * @param edgeStrategy edge morphism
+   * @return multiway join node
+   */
+  private MultiwayJoinNode createTriangleNode(DataSet<Embedding> ab, DataSet<Embedding> bc,
+    DataSet<Embedding> ca, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    EmbeddingMetaData abMetaData = new EmbeddingMetaData();
+    abMetaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    abMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    abMetaData.setEntryColumn("b", EntryType.VERTEX, 2);
+    abMetaData.setPropertyColumn("a", "age", 0);
+
+    EmbeddingMetaData bcMetaData = new EmbeddingMetaData();
+    bcMetaData.setEntryColumn("b", EntryType.VERTEX, 0);
+    bcMetaData.setEntryColumn("e2", EntryType.EDGE, 1);
+    bcMetaData.setEntryColumn("c", EntryType.VERTEX, 2);
+    bcMetaData.setPropertyColumn("e2", "since", 0);
+    bcMetaData.setPropertyColumn("c", "age", 1);
+
+    EmbeddingMetaData caMetaData = new EmbeddingMetaData();
+    caMetaData.setEntryColumn("c", EntryType.VERTEX, 0);
+    caMetaData.setEntryColumn("e3", EntryType.EDGE, 1);
+    caMetaData.setEntryColumn("a", EntryType.VERTEX, 2);
+
+    List<PlanNode> children = asList(
+      new MockPlanNode(ab, abMetaData),
+      new MockPlanNode(bc, bcMetaData),
+      new MockPlanNode(ca, caMetaData));
+
+    return new MultiwayJoinNode(children, vertexStrategy, edgeStrategy);
+  }
+}
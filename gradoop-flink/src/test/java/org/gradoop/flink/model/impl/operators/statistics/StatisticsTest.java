@@ -17,16 +17,23 @@ package org.gradoop.flink.model.impl.operators.statistics;
 
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsDataSetReader;
 import org.gradoop.flink.model.impl.tuples.WithCount;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
@@ -408,4 +415,94 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("locIP"), is(1L));
     assertThat(cache.get("title"), is(2L));
   }
+
+  @Test
+  public void testVertexPropertyHistogramsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    List<Tuple4<String, String, Long, PropertyValueList>> result =
+      new VertexPropertyHistogramsByLabel()
+        .execute(db)
+        .collect();
+
+    Map<Tuple, Tuple2<Long, List<PropertyValue>>> cache = new HashMap<>();
+    for (Tuple4<String, String, Long, PropertyValueList> histogram : result) {
+      List<PropertyValue> boundaries = new ArrayList<>();
+      histogram.f3.forEach(boundaries::add);
+      cache.put(Tuple2.of(histogram.f0, histogram.f1), Tuple2.of(histogram.f2, boundaries));
+    }
+
+    assertThat(result.size(), is(8));
+    assertThat(cache.get(Tuple2.of("Person", "age")), is(Tuple2.of(6L, asList(
+      PropertyValue.create(20), PropertyValue.create(30),
+      PropertyValue.create(35), PropertyValue.create(40)))));
+    assertThat(cache.get(Tuple2.of("Person", "city")), is(Tuple2.of(6L, asList(
+      PropertyValue.create("Berlin"), PropertyValue.create("Dresden"),
+      PropertyValue.create("Leipzig")))));
+    assertThat(cache.get(Tuple2.of("Person", "speaks")), is(Tuple2.of(1L, asList(
+      PropertyValue.create("English")))));
+  }
+
+  @Test
+  public void testMostCommonEdgePropertyValuesByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    List<Tuple4<String, String, PropertyValue, Long>> result =
+      new MostCommonEdgePropertyValuesByLabel(2)
+        .execute(db)
+        .collect();
+
+    Map<PropertyValue, Long> cache = new HashMap<>();
+    result.forEach(e -> cache.put(e.f2, e.f3));
+
+    // values of hasModerator.since occur only once
+    assertThat(result.size(), is(2));
+    assertThat(cache.get(PropertyValue.create(2014)), is(4L));
+    assertThat(result.get(0).f0, is("knows"));
+    assertThat(result.get(0).f1, is("since"));
+  }
+
+  @Test
+  public void testMostCommonVertexPropertyValuesByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    List<Tuple4<String, String, PropertyValue, Long>> result =
+      new MostCommonVertexPropertyValuesByLabel()
+        .execute(db)
+        .collect();
+
+    Map<Tuple, Long> cache = new HashMap<>();
+    result.forEach(e -> cache.put(Tuple2.of(e.f1, e.f2), e.f3));
+
+    assertThat(result.size(), is(6));
+    assertThat(cache.get(Tuple2.of("age", PropertyValue.create(30))), is(2L));
+    assertThat(cache.get(Tuple2.of("age", PropertyValue.create(35))), is(2L));
+    assertThat(cache.get(Tuple2.of("city", PropertyValue.create("Dresden"))), is(3L));
+    assertThat(cache.get(Tuple2.of("city", PropertyValue.create("Leipzig"))), is(2L));
+    assertThat(cache.get(Tuple2.of("gender", PropertyValue.create("f"))), is(3L));
+    assertThat(cache.get(Tuple2.of("gender", PropertyValue.create("m"))), is(3L));
+  }
+
+  @Test
+  public void testGraphStatisticsCollector() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    GraphStatistics statistics =
+      GraphStatisticsDataSetReader.read(new GraphStatisticsCollector().execute(db));
+
+    assertThat(statistics.getVertexCount(), is(11L));
+    assertThat(statistics.getEdgeCount(), is(24L));
+    assertThat(statistics.getVertexCount("Person"), is(6L));
+    assertThat(statistics.getEdgeCount("knows"), is(10L));
+    assertThat(statistics.getEdgeCountBySource("Forum", "hasMember"), is(4L));
+    assertThat(statistics.getEdgeCountByTarget("Tag", "hasInterest"), is(4L));
+    // sketches are exact for small cardinalities
+    assertThat(statistics.getDistinctSourceVertexCount(), is(8L));
+    assertThat(statistics.getDistinctSourceVertexCount("knows"), is(6L));
+    assertThat(statistics.getDistinctTargetVertexCount("hasMember"), is(4L));
+    assertThat(statistics.getDistinctVertexProperties("Person", "city"), is(3L));
+    assertThat(statistics.getDistinctVertexProperties("name"), is(9L));
+    assertThat(statistics.getDistinctEdgeProperties("hasModerator", "since"), is(1L));
+    assertThat(statistics.getDistinctEdgeProperties("since"), is(3L));
+  }
 }
@@ -0,0 +1,106 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BloomFilterTest {
+
+  @Test
+  public void testNoFalseNegatives() {
+    BloomFilter filter = BloomFilter.create(1000, 0.01);
+    List<GradoopId> ids = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      GradoopId id = GradoopId.get();
+      ids.add(id);
+      filter.add(id);
+    }
+    for (GradoopId id : ids) {
+      assertTrue(filter.mightContain(id));
+    }
+  }
+
+  @Test
+  public void testFalsePositiveRate() {
+    int count = 10000;
+    BloomFilter filter = BloomFilter.create(count, 0.01);
+    for (int i = 0; i < count; i++) {
+      filter.add(GradoopId.get());
+    }
+    int falsePositives = 0;
+    for (int i = 0; i < count; i++) {
+      if (filter.mightContain(GradoopId.get())) {
+        falsePositives++;
+      }
+    }
+    // allow three times the configured rate
+    assertTrue(falsePositives < count * 0.03);
+  }
+
+  @Test
+  public void testEmpty() {
+    BloomFilter filter = BloomFilter.create(100, 0.01);
+    assertTrue(filter.isEmpty());
+    assertFalse(filter.mightContain(GradoopId.get()));
+  }
+
+  @Test
+  public void testMerge() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    BloomFilter first = BloomFilter.create(100, 0.01);
+    BloomFilter second = BloomFilter.create(100, 0.01);
+    first.add(a);
+    second.add(b);
+
+    first.merge(second);
+
+    assertTrue(first.mightContain(a));
+    assertTrue(first.mightContain(b));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentSize() {
+    BloomFilter.create(100, 0.01).merge(BloomFilter.create(10000, 0.01));
+  }
+
+  @Test
+  public void testOptimalParameters() {
+    // ~9.6 bits and 7 hash functions per element for 1% false positives
+    int sizeInBits = BloomFilter.getOptimalSizeInBits(1000, 0.01);
+    assertThat(sizeInBits, is(9586));
+    assertThat(BloomFilter.getOptimalHashCount(1000, sizeInBits), is(7));
+    assertThat(BloomFilter.getOptimalSizeInBits(Long.MAX_VALUE, 0.01),
+      is(BloomFilter.MAX_SIZE_IN_BITS));
+  }
+
+  @Test
+  public void testWriteAndReadFields() throws Exception {
+    BloomFilter filter = BloomFilter.create(100, 0.01);
+    filter.add(GradoopId.get());
+    assertThat(GradoopTestUtils.writeAndReadFields(BloomFilter.class, filter), is(filter));
+  }
+}
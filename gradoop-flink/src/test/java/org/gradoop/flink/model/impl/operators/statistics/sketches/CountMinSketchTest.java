@@ -0,0 +1,71 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class CountMinSketchTest {
+
+  @Test
+  public void testEstimate() {
+    CountMinSketch sketch = new CountMinSketch(4, 512);
+    for (int i = 0; i < 100; i++) {
+      for (int j = 0; j <= i % 10; j++) {
+        sketch.add(PropertyValue.create(i));
+      }
+    }
+    // estimates never underestimate and are exact without collisions
+    assertThat(sketch.estimate(PropertyValue.create(9)), is(10L));
+    assertThat(sketch.estimate(PropertyValue.create(10)), is(1L));
+    assertThat(sketch.estimate(PropertyValue.create(1000)), is(0L));
+  }
+
+  @Test
+  public void testMerge() {
+    CountMinSketch first = new CountMinSketch(4, 64);
+    CountMinSketch second = new CountMinSketch(4, 64);
+    for (int i = 0; i < 1000; i++) {
+      first.add(PropertyValue.create(i % 7));
+      second.add(PropertyValue.create(i % 5));
+    }
+    first.merge(second);
+
+    long estimate = first.estimate(PropertyValue.create(0));
+    // 143 + 200 occurrences
+    assertTrue(estimate >= 343L);
+    assertTrue(estimate <= 343L + 2000L * 3 / 64);
+  }
+
+  @Test
+  public void testBackingArray() {
+    byte[] bytes = new byte[3 + CountMinSketch.getSizeInBytes(2, 8)];
+    CountMinSketch sketch = new CountMinSketch(bytes, 3, 2, 8);
+    sketch.add(PropertyValue.create("Alice"));
+
+    CountMinSketch view = new CountMinSketch(bytes, 3, 2, 8);
+    assertThat(view.estimate(PropertyValue.create("Alice")), is(1L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentDimensions() {
+    new CountMinSketch(2, 8).merge(new CountMinSketch(2, 16));
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HyperLogLogTest {
+
+  @Test
+  public void testEmpty() {
+    HyperLogLog sketch = new HyperLogLog();
+    assertTrue(sketch.isEmpty());
+    assertThat(sketch.estimate(), is(0L));
+  }
+
+  @Test
+  public void testSmallCardinality() {
+    HyperLogLog sketch = new HyperLogLog();
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 10; j++) {
+        sketch.add(PropertyValue.create(j));
+      }
+    }
+    assertThat(sketch.estimate(), is(10L));
+  }
+
+  @Test
+  public void testLargeCardinality() {
+    HyperLogLog sketch = new HyperLogLog();
+    int count = 100000;
+    for (int i = 0; i < count; i++) {
+      sketch.add(GradoopId.get());
+    }
+    // allow four times the standard error of ~0.8%
+    assertTrue(Math.abs(sketch.estimate() - count) < count * 0.033);
+  }
+
+  @Test
+  public void testMerge() {
+    HyperLogLog first = new HyperLogLog();
+    HyperLogLog second = new HyperLogLog();
+    HyperLogLog union = new HyperLogLog();
+    for (long i = 0; i < 20000; i++) {
+      PropertyValue value = PropertyValue.create(i);
+      if (i % 2 == 0) {
+        first.add(value);
+      } else {
+        second.add(value);
+      }
+      union.add(value);
+    }
+    first.merge(second);
+    assertThat(first, is(union));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentPrecision() {
+    new HyperLogLog(10).merge(new HyperLogLog(12));
+  }
+
+  @Test
+  public void testReadFromAndWriteToArray() {
+    int precision = HyperLogLog.MIN_PRECISION;
+    byte[] bytes = new byte[1 + HyperLogLog.getSizeInBytes(precision)];
+    HyperLogLog sketch = new HyperLogLog(bytes, 1, precision);
+    for (int i = 0; i < 100; i++) {
+      sketch.add(PropertyValue.create(i));
+    }
+    // the sketch does not write through to the array
+    assertThat(new HyperLogLog(bytes, 1, precision).isEmpty(), is(true));
+
+    sketch.writeTo(bytes, 1);
+    assertThat(new HyperLogLog(bytes, 1, precision), is(sketch));
+  }
+
+  @Test
+  public void testWriteAndReadFields() throws Exception {
+    HyperLogLog sparse = new HyperLogLog();
+    sparse.add(PropertyValue.create("Alice"));
+    sparse.add(PropertyValue.create("Bob"));
+    assertThat(GradoopTestUtils.writeAndReadFields(HyperLogLog.class, sparse), is(sparse));
+
+    HyperLogLog dense = new HyperLogLog(HyperLogLog.MIN_PRECISION);
+    for (int i = 0; i < 1000; i++) {
+      dense.add(PropertyValue.create(i));
+    }
+    assertThat(GradoopTestUtils.writeAndReadFields(HyperLogLog.class, dense), is(dense));
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class TDigestTest {
+
+  @Test
+  public void testEmpty() {
+    TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+    assertThat(digest.getCount(), is(0L));
+    assertTrue(Double.isNaN(digest.quantile(0.5)));
+  }
+
+  @Test
+  public void testQuantiles() {
+    TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+    Random random = new Random(42L);
+    for (int i = 0; i < 100000; i++) {
+      digest.add(random.nextDouble());
+    }
+
+    assertThat(digest.getCount(), is(100000L));
+    assertEquals(0.5, digest.quantile(0.5), 0.01);
+    assertEquals(0.99, digest.quantile(0.99), 0.002);
+    assertEquals(0.01, digest.quantile(0.01), 0.002);
+    assertEquals(digest.getMin(), digest.quantile(0d), 0d);
+    assertEquals(digest.getMax(), digest.quantile(1d), 0d);
+  }
+
+  @Test
+  public void testMerge() {
+    TDigest first = new TDigest(TDigest.DEFAULT_COMPRESSION);
+    TDigest second = new TDigest(TDigest.DEFAULT_COMPRESSION);
+    for (int i = 0; i < 10000; i++) {
+      first.add(i);
+      second.add(10000 + i);
+    }
+    first.merge(second);
+
+    assertThat(first.getCount(), is(20000L));
+    assertThat(first.getMin(), is(0d));
+    assertThat(first.getMax(), is(19999d));
+    assertEquals(10000d, first.quantile(0.5), 100d);
+  }
+
+  @Test
+  public void testBackingArray() {
+    byte[] bytes = new byte[1 + TDigest.getSizeInBytes(10)];
+    TDigest digest = new TDigest(bytes, 1, 10);
+    digest.clear();
+    for (int i = 1; i <= 100; i++) {
+      digest.add(i);
+    }
+
+    TDigest view = new TDigest(bytes, 1, 10);
+    assertThat(view.getCount(), is(100L));
+    assertThat(view.getMax(), is(100d));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentCompression() {
+    new TDigest(10).merge(new TDigest(20));
+  }
+}
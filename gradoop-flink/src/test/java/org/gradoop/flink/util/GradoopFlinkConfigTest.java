@@ -0,0 +1,80 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.util;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.typeutils.ElementSerializer;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class GradoopFlinkConfigTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testSetPropertyKeyDictionary() {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromKeys("name", "city");
+    LogicalGraph graph = getConfig().getLogicalGraphFactory().createEmptyGraph();
+
+    getConfig().setPropertyKeyDictionary(dictionary);
+    assertEquals(dictionary, getDictionary(graph));
+
+    getConfig().setPropertyKeyDictionary(null);
+    assertNull(getDictionary(graph));
+  }
+
+  @Test
+  public void testGroupingWithPropertyKeyDictionary() throws Exception {
+    getConfig().setPropertyKeyDictionary(PropertyKeyDictionary.fromKeys("city", "count"));
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("g2");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(leipzig {city : \"Leipzig\", count : 2L})" +
+      "(dresden {city : \"Dresden\", count : 2L})" +
+      "(leipzig)-[{count : 2L}]->(leipzig)" +
+      "(leipzig)-[{count : 1L}]->(dresden)" +
+      "(dresden)-[{count : 2L}]->(dresden)" +
+      "(dresden)-[{count : 1L}]->(leipzig)" +
+      "]");
+
+    LogicalGraph output = new Grouping.GroupingBuilder()
+      .addVertexGroupingKey("city")
+      .addVertexAggregator(new CountAggregator("count"))
+      .addEdgeAggregator(new CountAggregator("count"))
+      .setStrategy(GroupingStrategy.GROUP_REDUCE)
+      .build()
+      .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  private PropertyKeyDictionary getDictionary(LogicalGraph graph) {
+    TypeSerializer<Vertex> serializer = graph.getVertices().getType()
+      .createSerializer(getExecutionEnvironment().getConfig());
+    return ((ElementSerializer<Vertex>) serializer).getDictionary();
+  }
+}
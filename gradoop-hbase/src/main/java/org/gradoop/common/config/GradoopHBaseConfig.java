@@ -150,12 +150,29 @@ public class GradoopHBaseConfig
    */
   public static GradoopHBaseConfig<GraphHead, Vertex, Edge>
     getDefaultConfig(ExecutionEnvironment env) {
+    return getDefaultConfig(env, 0);
+  }
+
+  /**
+   * Creates a default Configuration using POJO handlers for vertices, edges
+   * and graph heads and default table names. Row keys are prefixed by one
+   * of the given number of salt buckets and new tables are pre-split into
+   * one region per bucket, which spreads writes of consecutive element ids
+   * over all region servers. A store must always be opened with the number
+   * of salt buckets it was created with.
+   *
+   * @param env         apache flink execution environment
+   * @param saltBuckets number of salt buckets, zero disables salting
+   * @return Default Gradoop HBase configuration.
+   */
+  public static GradoopHBaseConfig<GraphHead, Vertex, Edge>
+    getDefaultConfig(ExecutionEnvironment env, int saltBuckets) {
     GraphHeadHandler<GraphHead> graphHeadHandler =
-      new HBaseGraphHeadHandler<>(new GraphHeadFactory());
+      new HBaseGraphHeadHandler<>(new GraphHeadFactory(), saltBuckets);
     VertexHandler<Vertex, Edge> vertexHandler =
-      new HBaseVertexHandler<>(new VertexFactory());
+      new HBaseVertexHandler<>(new VertexFactory(), saltBuckets);
     EdgeHandler<Edge, Vertex> edgeHandler =
-      new HBaseEdgeHandler<>(new EdgeFactory());
+      new HBaseEdgeHandler<>(new EdgeFactory(), saltBuckets);
 
     return new GradoopHBaseConfig<>(
       graphHeadHandler,
@@ -50,6 +50,13 @@ public interface ElementHandler extends Serializable {
    */
   GradoopId getId(final byte[] rowKey) throws IOException;
 
+  /**
+   * Returns the row keys at which the table is split into regions when it is created.
+   *
+   * @return split keys in ascending order, empty if the table is not pre-split
+   */
+  byte[][] getSplitKeys();
+
   /**
    * Adds the labels to the given {@link Put} and returns it.
    *
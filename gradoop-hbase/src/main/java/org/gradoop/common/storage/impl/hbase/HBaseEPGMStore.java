@@ -16,6 +16,7 @@
 package org.gradoop.common.storage.impl.hbase;
 
 import com.google.common.base.Preconditions;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.HTable;
 import org.apache.hadoop.hbase.client.Put;
@@ -135,6 +136,15 @@ public class HBaseEPGMStore
     return graphHeadTable.getName().getNameAsString();
   }
 
+  /**
+   * Returns the HBase configuration the store tables were opened with.
+   *
+   * @return HBase configuration
+   */
+  public Configuration getHBaseConfiguration() {
+    return vertexTable.getConfiguration();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -197,7 +207,8 @@ public class HBaseEPGMStore
     G graphData = null;
     try {
       GraphHeadHandler<G> graphHeadHandler = config.getGraphHeadHandler();
-      Result res = graphHeadTable.get(new Get(graphId.toByteArray()));
+      byte[] rowKey = graphHeadHandler.getRowKey(graphId);
+      Result res = graphHeadTable.get(new Get(rowKey));
       if (!res.isEmpty()) {
         graphData = graphHeadHandler.readGraphHead(res);
       }
@@ -169,7 +169,8 @@ public class HBaseEPGMStoreFactory {
   }
 
   /**
-   * Creates the tables used by the graph store.
+   * Creates the tables used by the graph store. Each table is pre-split at the
+   * split keys of its handler.
    *
    * @param config              Hadoop configuration
    * @param vertexHandler   vertex storage handler
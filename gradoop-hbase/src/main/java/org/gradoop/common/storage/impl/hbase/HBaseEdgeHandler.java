@@ -77,6 +77,17 @@ public class HBaseEdgeHandler<E extends EPGMEdge, V extends EPGMVertex>
    * @param edgeFactory edge data factory
    */
   public HBaseEdgeHandler(EPGMEdgeFactory<E> edgeFactory) {
+    this(edgeFactory, 0);
+  }
+
+  /**
+   * Creates an edge handler which distributes the rows over the given number of salt buckets.
+   *
+   * @param edgeFactory edge data factory
+   * @param saltBuckets number of salt buckets, zero disables salting
+   */
+  public HBaseEdgeHandler(EPGMEdgeFactory<E> edgeFactory, int saltBuckets) {
+    super(saltBuckets);
     this.edgeFactory = edgeFactory;
   }
 
@@ -88,7 +99,7 @@ public class HBaseEdgeHandler<E extends EPGMEdge, V extends EPGMVertex>
     throws IOException {
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_META));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTIES));
-    admin.createTable(tableDescriptor);
+    createSplitTable(admin, tableDescriptor);
   }
 
   /**
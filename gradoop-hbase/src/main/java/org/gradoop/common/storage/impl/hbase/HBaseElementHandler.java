@@ -16,6 +16,8 @@
 package org.gradoop.common.storage.impl.hbase;
 
 import com.google.common.collect.Sets;
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.client.HBaseAdmin;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -32,6 +34,8 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * Handler is used to write label and properties into HBase tables. This is
  * used by graphs and vertices.
@@ -52,12 +56,46 @@ public abstract class HBaseElementHandler implements ElementHandler {
    */
   static final byte[] CF_PROPERTIES_BYTES = Bytes.toBytes(HBaseConstants.CF_PROPERTIES);
 
+  /**
+   * Number of salt buckets the rows are distributed over. If greater than zero, each row key is
+   * prefixed by a single byte bucket which is derived from the element id.
+   */
+  private final int saltBuckets;
+
+  /**
+   * Creates a handler which uses the element ids as row keys.
+   */
+  protected HBaseElementHandler() {
+    this(0);
+  }
+
+  /**
+   * Creates a handler which distributes the rows over the given number of salt buckets.
+   *
+   * @param saltBuckets number of salt buckets, zero disables salting
+   */
+  protected HBaseElementHandler(int saltBuckets) {
+    checkArgument(saltBuckets >= 0 && saltBuckets <= HBaseConstants.MAX_SALT_BUCKETS,
+      "Number of salt buckets must be between 0 and " + HBaseConstants.MAX_SALT_BUCKETS);
+    this.saltBuckets = saltBuckets;
+  }
+
+  public int getSaltBuckets() {
+    return saltBuckets;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public byte[] getRowKey(final GradoopId elementId) throws IOException {
-    return elementId.toByteArray();
+    if (saltBuckets == 0) {
+      return elementId.toByteArray();
+    }
+    byte[] rowKey = new byte[GradoopId.ID_SIZE + 1];
+    rowKey[0] = (byte) Math.floorMod(elementId.hashCode(), saltBuckets);
+    System.arraycopy(elementId.toByteArray(), 0, rowKey, 1, GradoopId.ID_SIZE);
+    return rowKey;
   }
 
   /**
@@ -68,7 +106,20 @@ public abstract class HBaseElementHandler implements ElementHandler {
     if (rowKey == null) {
       throw new IllegalArgumentException("rowKey must not be null");
     }
-    return GradoopId.fromByteArray(rowKey);
+    return GradoopId.fromByteArray(rowKey, getIdOffset());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[][] getSplitKeys() {
+    // one region per salt bucket, the first region starts with the empty key
+    byte[][] splitKeys = new byte[Math.max(saltBuckets - 1, 0)][];
+    for (int i = 0; i < splitKeys.length; i++) {
+      splitKeys[i] = new byte[] {(byte) (i + 1)};
+    }
+    return splitKeys;
   }
 
   /**
@@ -176,6 +227,32 @@ public abstract class HBaseElementHandler implements ElementHandler {
    * @throws IOException
    */
   protected GradoopId readId(Result res) throws IOException {
-    return GradoopId.fromByteArray(res.getRow());
+    return GradoopId.fromByteArray(res.getRow(), getIdOffset());
+  }
+
+  /**
+   * Creates the given table and pre-splits it at the salt bucket boundaries.
+   *
+   * @param admin           HBase admin
+   * @param tableDescriptor table description including column families
+   * @throws IOException
+   */
+  protected void createSplitTable(final HBaseAdmin admin, final HTableDescriptor tableDescriptor)
+    throws IOException {
+    byte[][] splitKeys = getSplitKeys();
+    if (splitKeys.length > 0) {
+      admin.createTable(tableDescriptor, splitKeys);
+    } else {
+      admin.createTable(tableDescriptor);
+    }
+  }
+
+  /**
+   * Returns the position of the element id inside the row key.
+   *
+   * @return offset of the element id
+   */
+  private int getIdOffset() {
+    return saltBuckets == 0 ? 0 : 1;
   }
 }
@@ -37,6 +37,15 @@ public abstract class HBaseGraphElementHandler extends
   private static final byte[] COL_GRAPHS_BYTES =
     Bytes.toBytes(HBaseConstants.COL_GRAPHS);
 
+  /**
+   * Creates a handler which distributes the rows over the given number of salt buckets.
+   *
+   * @param saltBuckets number of salt buckets, zero disables salting
+   */
+  protected HBaseGraphElementHandler(int saltBuckets) {
+    super(saltBuckets);
+  }
+
   /**
    * {@inheritDoc}
    */
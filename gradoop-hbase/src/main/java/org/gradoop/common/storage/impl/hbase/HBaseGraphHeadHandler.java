@@ -76,6 +76,17 @@ public class HBaseGraphHeadHandler<G extends EPGMGraphHead>
    * @param graphHeadFactory used to create runtime graph data objects
    */
   public HBaseGraphHeadHandler(EPGMGraphHeadFactory<G> graphHeadFactory) {
+    this(graphHeadFactory, 0);
+  }
+
+  /**
+   * Creates a graph head handler which distributes the rows over the given number of salt buckets.
+   *
+   * @param graphHeadFactory used to create runtime graph data objects
+   * @param saltBuckets      number of salt buckets, zero disables salting
+   */
+  public HBaseGraphHeadHandler(EPGMGraphHeadFactory<G> graphHeadFactory, int saltBuckets) {
+    super(saltBuckets);
     this.graphHeadFactory = graphHeadFactory;
   }
 
@@ -89,7 +100,7 @@ public class HBaseGraphHeadHandler<G extends EPGMGraphHead>
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTIES));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_VERTICES));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_EDGES));
-    admin.createTable(tableDescriptor);
+    createSplitTable(admin, tableDescriptor);
   }
 
   /**
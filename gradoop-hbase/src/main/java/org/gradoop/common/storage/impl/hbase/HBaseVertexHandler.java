@@ -76,6 +76,17 @@ public class HBaseVertexHandler<V extends EPGMVertex, E extends EPGMEdge>
    * @param vertexFactory used to create runtime vertex data objects
    */
   public HBaseVertexHandler(EPGMVertexFactory<V> vertexFactory) {
+    this(vertexFactory, 0);
+  }
+
+  /**
+   * Creates a vertex handler which distributes the rows over the given number of salt buckets.
+   *
+   * @param vertexFactory used to create runtime vertex data objects
+   * @param saltBuckets   number of salt buckets, zero disables salting
+   */
+  public HBaseVertexHandler(EPGMVertexFactory<V> vertexFactory, int saltBuckets) {
+    super(saltBuckets);
     this.vertexFactory = vertexFactory;
   }
 
@@ -89,7 +100,7 @@ public class HBaseVertexHandler<V extends EPGMVertex, E extends EPGMEdge>
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTIES));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_OUT_EDGES));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_IN_EDGES));
-    admin.createTable(tableDescriptor);
+    createSplitTable(admin, tableDescriptor);
   }
 
   /**
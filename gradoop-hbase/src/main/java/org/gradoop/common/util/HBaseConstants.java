@@ -95,6 +95,10 @@ public final class HBaseConstants {
    * Default cache size for scans in HBase.
    */
   public static final int HBASE_DEFAULT_SCAN_CACHE_SIZE = 500;
+  /**
+   * Maximum number of salt buckets, i.e. values of the single byte row key prefix.
+   */
+  public static final int MAX_SALT_BUCKETS = 256;
   /**
    * Default label of an EPGM database graph.
    */
@@ -15,10 +15,20 @@
  */
 package org.gradoop.flink.io.impl.hbase;
 
+import org.apache.flink.api.common.operators.Order;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.mapreduce.HFileOutputFormat2;
 import org.apache.hadoop.hbase.mapreduce.TableOutputFormat;
 import org.apache.hadoop.mapreduce.Job;
 import org.gradoop.common.model.impl.id.GradoopId;
@@ -34,6 +44,8 @@ import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.impl.hbase.functions.BuildGraphHeadMutation;
 import org.gradoop.flink.io.impl.hbase.functions.BuildGraphTransactions;
+import org.gradoop.flink.io.impl.hbase.functions.BuildHFileCells;
+import org.gradoop.flink.io.impl.hbase.functions.BuildHFileRow;
 import org.gradoop.flink.io.impl.hbase.functions.BuildPersistentEdge;
 import org.gradoop.flink.io.impl.hbase.functions.BuildPersistentGraphHead;
 import org.gradoop.flink.io.impl.hbase.functions.BuildPersistentVertex;
@@ -42,6 +54,8 @@ import org.gradoop.flink.io.impl.hbase.functions.BuildVertexMutation;
 import org.gradoop.flink.io.impl.hbase.functions.EdgeSetBySourceId;
 import org.gradoop.flink.io.impl.hbase.functions.EdgeSetByTargetId;
 import org.gradoop.flink.io.impl.hbase.functions.BuildEdgeMutation;
+import org.gradoop.flink.io.impl.hbase.functions.RegionPartitioner;
+import org.gradoop.flink.io.impl.hbase.outputformats.HFileBulkLoadOutputFormat;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
@@ -56,10 +70,19 @@ import java.util.Set;
 /**
  * Converts runtime representation of EPGM elements into persistent
  * representations and writes them to HBase.
+ *
+ * By default, elements are written as puts. In bulk load mode, the rows are partitioned by
+ * region and sorted by row key, written to HFiles and handed to the region servers after the
+ * job has finished.
  */
 public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
   implements DataSink {
 
+  /**
+   * Directory to write HFiles to or {@code null} if elements are written as puts.
+   */
+  private final String hFileDirectory;
+
   /**
    * Creates a new HBase data sink.
    *
@@ -68,7 +91,22 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
    */
   public HBaseDataSink(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
       GradoopFlinkConfig config) {
+    this(epgmStore, config, null);
+  }
+
+  /**
+   * Creates a new HBase data sink which bulk loads the elements. The HFiles of each table are
+   * written to a sub directory of the given directory, which needs to be located on the file
+   * system of the HBase cluster.
+   *
+   * @param epgmStore      store implementation
+   * @param config         Gradoop Flink configuration
+   * @param hFileDirectory directory to write HFiles to
+   */
+  public HBaseDataSink(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
+      GradoopFlinkConfig config, String hFileDirectory) {
     super(epgmStore, config);
+    this.hFileDirectory = hFileDirectory;
   }
 
   @Override
@@ -136,15 +174,11 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
       .with(new BuildPersistentGraphHead<>(getHBaseConfig().getPersistentGraphHeadFactory()));
 
     // write (persistent-graph-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration().set(
-      TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getGraphTableName());
-
-    persistentGraphDataSet
     // FIXME remove forced cast...
+    writeMutations(persistentGraphDataSet
       .map(new BuildGraphHeadMutation((GraphHeadHandler<PersistentGraphHead>)
-((Object) getHBaseConfig().getGraphHeadHandler())))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+        ((Object) getHBaseConfig().getGraphHeadHandler()))),
+      getHBaseConfig().getGraphTableName());
   }
 
   /**
@@ -181,13 +215,9 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
       .with(new BuildPersistentVertex<>(getHBaseConfig().getPersistentVertexFactory()));
 
     // write (persistent-vertex-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getVertexTableName());
-
-    persistentVertexDataSet
-      .map(new BuildVertexMutation<>(getHBaseConfig().getVertexHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeMutations(persistentVertexDataSet
+      .map(new BuildVertexMutation<>(getHBaseConfig().getVertexHandler())),
+      getHBaseConfig().getVertexTableName());
   }
 
   /**
@@ -213,11 +243,65 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
       .with(new BuildPersistentEdge<>(getHBaseConfig().getPersistentEdgeFactory()));
 
     // write (persistent-edge-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getEdgeTableName());
+    writeMutations(persistentEdgeDataSet
+      .map(new BuildEdgeMutation<>(getHBaseConfig().getEdgeHandler())),
+      getHBaseConfig().getEdgeTableName());
+  }
+
+  /**
+   * Writes the given mutations to a HBase table, either as puts or via bulk load.
+   *
+   * @param mutations (element-id, mutation) tuples
+   * @param tableName HBase table to write to
+   * @throws IOException
+   */
+  private void writeMutations(DataSet<Tuple2<GradoopId, Mutation>> mutations,
+    String tableName) throws IOException {
+    if (hFileDirectory == null) {
+      Job job = Job.getInstance();
+      job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, tableName);
+
+      mutations.output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    } else {
+      bulkLoadMutations(mutations, tableName);
+    }
+  }
+
+  /**
+   * Writes the given mutations to HFiles, which are loaded into the table once the job has
+   * finished. Rows are partitioned by the regions of the table, so that each HFile covers as few
+   * regions as possible, and sorted by row key within each partition.
+   *
+   * @param mutations (element-id, mutation) tuples
+   * @param tableName HBase table to load into
+   * @throws IOException
+   */
+  private void bulkLoadMutations(DataSet<Tuple2<GradoopId, Mutation>> mutations,
+    String tableName) throws IOException {
+    Job job = Job.getInstance(getStore().getHBaseConfiguration());
+
+    byte[][] startKeys;
+    try (Connection connection = ConnectionFactory.createConnection(job.getConfiguration());
+      Table table = connection.getTable(TableName.valueOf(tableName));
+      RegionLocator regionLocator = connection.getRegionLocator(table.getName())) {
+      // family settings (compression, bloom filter, block size) of the target table
+      HFileOutputFormat2.configureIncrementalLoadMap(job, table);
+      startKeys = regionLocator.getStartKeys();
+    }
+
+    // (salt, element-id, row-key, sorted-cells)
+    DataSet<Tuple4<Integer, GradoopId, byte[], byte[]>> rows = mutations.map(new BuildHFileRow());
+
+    rows = startKeys.length > 1 ?
+      rows.partitionCustom(new RegionPartitioner(startKeys), 2) :
+      rows.partitionByRange(0, 1);
 
-    persistentEdgeDataSet
-      .map(new BuildEdgeMutation<>(getHBaseConfig().getEdgeHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    // sorting by salt and element id equals sorting by row key
+    rows
+      .sortPartition(0, Order.ASCENDING)
+      .sortPartition(1, Order.ASCENDING)
+      .flatMap(new BuildHFileCells())
+      .output(new HFileBulkLoadOutputFormat(job, tableName,
+        new Path(hFileDirectory, tableName).toString()));
   }
 }
@@ -25,21 +25,35 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
-import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.FilterableDataSource;
+import org.gradoop.flink.io.api.filter.ElementFilter;
 import org.gradoop.flink.io.impl.hbase.inputformats.EdgeTableInputFormat;
 import org.gradoop.flink.io.impl.hbase.inputformats.GraphHeadTableInputFormat;
 import org.gradoop.flink.io.impl.hbase.inputformats.VertexTableInputFormat;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ApplyElementFilter;
 import org.gradoop.flink.model.impl.functions.tuple.ValueOf1;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.util.Objects;
+
 /**
- * Creates an EPGM instance from HBase.
+ * Creates an EPGM instance from HBase. Labels and equality predicates of the vertex and edge
+ * filters are evaluated by the region servers and only required property columns are scanned.
+ * Projection and range predicates are applied directly after the rows are read.
  */
 public class HBaseDataSource extends HBaseBase<GraphHead, Vertex, Edge>
-  implements DataSource {
+  implements FilterableDataSource {
+  /**
+   * Restricts the loaded vertices.
+   */
+  private ElementFilter vertexFilter = ElementFilter.all();
+  /**
+   * Restricts the loaded edges.
+   */
+  private ElementFilter edgeFilter = ElementFilter.all();
 
   /**
    * Creates a new HBase data source.
@@ -81,15 +95,33 @@ public class HBaseDataSource extends HBaseBase<GraphHead, Vertex, Edge>
 
     DataSet<Tuple1<Vertex>> vertices = config.getExecutionEnvironment()
       .createInput(new VertexTableInputFormat<>(config.getVertexHandler(),
-          store.getVertexTableName()), vertexTypeInfo);
+          store.getVertexTableName(), vertexFilter), vertexTypeInfo);
 
     DataSet<Tuple1<Edge>> edges = config.getExecutionEnvironment().createInput(
       new EdgeTableInputFormat<>(config.getEdgeHandler(),
-        store.getEdgeTableName()), edgeTypeInfo);
+        store.getEdgeTableName(), edgeFilter), edgeTypeInfo);
+
+    DataSet<Vertex> filteredVertices = vertices.map(new ValueOf1<>());
+    if (!vertexFilter.acceptsAll()) {
+      filteredVertices = filteredVertices.flatMap(new ApplyElementFilter<>(vertexFilter));
+    }
+
+    DataSet<Edge> filteredEdges = edges.map(new ValueOf1<>());
+    if (!edgeFilter.acceptsAll()) {
+      filteredEdges = filteredEdges.flatMap(new ApplyElementFilter<>(edgeFilter));
+    }
 
     return config.getGraphCollectionFactory().fromDataSets(
-      graphHeads.map(new ValueOf1<>()),
-      vertices.map(new ValueOf1<>()),
-      edges.map(new ValueOf1<>()));
+      graphHeads.map(new ValueOf1<>()), filteredVertices, filteredEdges);
+  }
+
+  @Override
+  public void applyVertexFilter(ElementFilter vertexFilter) {
+    this.vertexFilter = Objects.requireNonNull(vertexFilter);
+  }
+
+  @Override
+  public void applyEdgeFilter(ElementFilter edgeFilter) {
+    this.edgeFilter = Objects.requireNonNull(edgeFilter);
   }
 }
@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+
+/**
+ * Emits the cells serialized by {@link BuildHFileRow} in their original order.
+ *
+ * (salt, element-id, row-key, sorted-cells) => (row-key, cell)*
+ */
+public class BuildHFileCells implements FlatMapFunction
+  <Tuple4<Integer, GradoopId, byte[], byte[]>, Tuple2<ImmutableBytesWritable, Cell>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flatMap(Tuple4<Integer, GradoopId, byte[], byte[]> row,
+    Collector<Tuple2<ImmutableBytesWritable, Cell>> out) throws Exception {
+    ImmutableBytesWritable rowKey = new ImmutableBytesWritable(row.f2);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(row.f3));
+    while (in.available() > 0) {
+      out.collect(new Tuple2<>(rowKey, KeyValue.create(in)));
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializes the cells of a HBase {@link Mutation} in HFile order, so rows can be partitioned and
+ * sorted by Flink before they are written to HFiles.
+ *
+ * The row key consists of an optional single byte salt followed by the element id. Sorting by
+ * salt and element id thus equals sorting by row key.
+ *
+ * (element-id, mutation) => (salt, element-id, row-key, sorted-cells)
+ */
+public class BuildHFileRow implements
+  MapFunction<Tuple2<GradoopId, Mutation>, Tuple4<Integer, GradoopId, byte[], byte[]>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple4<Integer, GradoopId, byte[], byte[]> reuseTuple = new Tuple4<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Tuple4<Integer, GradoopId, byte[], byte[]> map(Tuple2<GradoopId, Mutation> mutation)
+    throws Exception {
+    List<Cell> cells = new ArrayList<>();
+    for (List<Cell> familyCells : mutation.f1.getFamilyCellMap().values()) {
+      cells.addAll(familyCells);
+    }
+    // HFiles require cells sorted by family and qualifier within each row
+    cells.sort(KeyValue.COMPARATOR);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    for (Cell cell : cells) {
+      KeyValue.write(KeyValueUtil.ensureKeyValue(cell), out);
+    }
+    out.flush();
+
+    byte[] rowKey = mutation.f1.getRow();
+    reuseTuple.f0 = rowKey.length > GradoopId.ID_SIZE ? rowKey[0] & 0xff : 0;
+    reuseTuple.f1 = mutation.f0;
+    reuseTuple.f2 = rowKey;
+    reuseTuple.f3 = bytes.toByteArray();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.Partitioner;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.Arrays;
+
+/**
+ * Assigns row keys to partitions according to the regions of a HBase table. Consecutive regions
+ * are mapped to the same partition, so each partition covers a contiguous key range.
+ */
+public class RegionPartitioner implements Partitioner<byte[]> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Start keys of the table regions in ascending order. The first key is empty.
+   */
+  private final byte[][] startKeys;
+
+  /**
+   * Creates a new partitioner.
+   *
+   * @param startKeys start keys of the table regions in ascending order
+   */
+  public RegionPartitioner(byte[][] startKeys) {
+    this.startKeys = startKeys.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int partition(byte[] rowKey, int numPartitions) {
+    if (startKeys.length <= 1) {
+      return 0;
+    }
+    int index = Arrays.binarySearch(startKeys, rowKey, Bytes.BYTES_COMPARATOR);
+    // a missing key belongs to the region in front of its insertion point
+    int region = index >= 0 ? index : -(index + 1) - 1;
+    return (int) ((long) Math.max(region, 0) * numPartitions / startKeys.length);
+  }
+}
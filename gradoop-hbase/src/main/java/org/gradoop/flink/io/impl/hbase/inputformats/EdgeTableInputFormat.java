@@ -22,7 +22,7 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.storage.api.EdgeHandler;
-import org.gradoop.common.util.HBaseConstants;
+import org.gradoop.flink.io.api.filter.ElementFilter;
 
 /**
  * Reads edge data from HBase.
@@ -43,6 +43,11 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
    */
   private final String edgeTableName;
 
+  /**
+   * Restricts the rows and columns read from the table.
+   */
+  private final ElementFilter filter;
+
   /**
    * Creates an edge table input format.
    *
@@ -51,8 +56,22 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
    */
   public EdgeTableInputFormat(EdgeHandler<E, V> edgeHandler,
     String edgeTableName) {
+    this(edgeHandler, edgeTableName, ElementFilter.all());
+  }
+
+  /**
+   * Creates an edge table input format which only reads the elements accepted by the
+   * given filter.
+   *
+   * @param edgeHandler   edge data handler
+   * @param edgeTableName edge data table name
+   * @param filter        edge filter
+   */
+  public EdgeTableInputFormat(EdgeHandler<E, V> edgeHandler,
+    String edgeTableName, ElementFilter filter) {
     this.edgeHandler = edgeHandler;
     this.edgeTableName = edgeTableName;
+    this.filter = filter;
   }
 
   /**
@@ -60,9 +79,7 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
    */
   @Override
   protected Scan getScanner() {
-    Scan scan = new Scan();
-    scan.setCaching(HBaseConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
-    return scan;
+    return ElementScanFactory.createScan(filter);
   }
 
   /**
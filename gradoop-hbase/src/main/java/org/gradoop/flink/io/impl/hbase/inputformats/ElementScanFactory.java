@@ -0,0 +1,158 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.inputformats;
+
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.CompareFilter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Writables;
+import org.gradoop.common.storage.impl.hbase.HBasePropertyValueWrapper;
+import org.gradoop.common.util.HBaseConstants;
+import org.gradoop.flink.io.api.filter.ElementFilter;
+import org.gradoop.flink.io.api.filter.PropertyPredicate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Translates an {@link ElementFilter} into a {@link Scan} on a vertex or edge table.
+ *
+ * Labels and equality predicates are evaluated by the region servers. Range predicates stay on
+ * the client, because the stored property values are not order-preserving. Only the meta family
+ * and the required property columns are transferred.
+ */
+public final class ElementScanFactory {
+  /**
+   * Byte representation of the meta column family.
+   */
+  private static final byte[] CF_META_BYTES = Bytes.toBytes(HBaseConstants.CF_META);
+  /**
+   * Byte representation of the label column identifier.
+   */
+  private static final byte[] COL_LABEL_BYTES = Bytes.toBytes(HBaseConstants.COL_LABEL);
+  /**
+   * Byte representation of the properties column family.
+   */
+  private static final byte[] CF_PROPERTIES_BYTES = Bytes.toBytes(HBaseConstants.CF_PROPERTIES);
+
+  /**
+   * No instances.
+   */
+  private ElementScanFactory() {
+  }
+
+  /**
+   * Creates a scan which only returns rows and columns needed by the given filter.
+   *
+   * @param filter element filter
+   * @return scan
+   */
+  public static Scan createScan(ElementFilter filter) {
+    Scan scan = new Scan();
+    scan.setCaching(HBaseConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
+
+    scan.addFamily(CF_META_BYTES);
+    if (filter.hasPropertyRestriction()) {
+      for (String key : getRequiredKeys(filter)) {
+        scan.addColumn(CF_PROPERTIES_BYTES, Bytes.toBytes(key));
+      }
+    } else {
+      scan.addFamily(CF_PROPERTIES_BYTES);
+    }
+
+    FilterList filters = new FilterList(FilterList.Operator.MUST_PASS_ALL);
+
+    if (filter.hasLabelRestriction() && !filter.getLabels().isEmpty()) {
+      FilterList labels = new FilterList(FilterList.Operator.MUST_PASS_ONE);
+      for (String label : filter.getLabels()) {
+        labels.addFilter(createColumnFilter(CF_META_BYTES, COL_LABEL_BYTES,
+          CompareFilter.CompareOp.EQUAL, Bytes.toBytes(label)));
+      }
+      filters.addFilter(labels);
+    }
+
+    for (PropertyPredicate predicate : filter.getPredicates()) {
+      CompareFilter.CompareOp op;
+      switch (predicate.getComparison()) {
+      case EQ:
+        op = CompareFilter.CompareOp.EQUAL;
+        break;
+      case NEQ:
+        op = CompareFilter.CompareOp.NOT_EQUAL;
+        break;
+      default:
+        // evaluated on the client
+        continue;
+      }
+      filters.addFilter(createColumnFilter(CF_PROPERTIES_BYTES,
+        Bytes.toBytes(predicate.getKey()), op, encode(predicate)));
+    }
+
+    if (!filters.getFilters().isEmpty()) {
+      scan.setFilter(filters);
+    }
+    return scan;
+  }
+
+  /**
+   * Returns the property keys which are projected or referenced by a predicate.
+   *
+   * @param filter element filter
+   * @return required property keys
+   */
+  private static Set<String> getRequiredKeys(ElementFilter filter) {
+    Set<String> keys = new TreeSet<>(filter.getPropertyKeys());
+    for (PropertyPredicate predicate : filter.getPredicates()) {
+      keys.add(predicate.getKey());
+    }
+    return keys;
+  }
+
+  /**
+   * Creates a filter on a single column, dropping rows which do not contain the column.
+   *
+   * @param family    column family
+   * @param qualifier column qualifier
+   * @param op        comparison
+   * @param value     value to compare with
+   * @return column filter
+   */
+  private static SingleColumnValueFilter createColumnFilter(byte[] family, byte[] qualifier,
+    CompareFilter.CompareOp op, byte[] value) {
+    SingleColumnValueFilter columnFilter =
+      new SingleColumnValueFilter(family, qualifier, op, value);
+    columnFilter.setFilterIfMissing(true);
+    return columnFilter;
+  }
+
+  /**
+   * Encodes the predicate value the same way property values are stored.
+   *
+   * @param predicate property predicate
+   * @return stored representation of the predicate value
+   */
+  private static byte[] encode(PropertyPredicate predicate) {
+    try {
+      return Writables.getBytes(new HBasePropertyValueWrapper(predicate.getValue()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
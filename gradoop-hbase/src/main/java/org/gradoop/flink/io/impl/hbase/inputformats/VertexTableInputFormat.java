@@ -22,7 +22,7 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.storage.api.VertexHandler;
-import org.gradoop.common.util.HBaseConstants;
+import org.gradoop.flink.io.api.filter.ElementFilter;
 
 /**
  * Reads vertex data from HBase.
@@ -43,6 +43,11 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
    */
   private final String vertexTableName;
 
+  /**
+   * Restricts the rows and columns read from the table.
+   */
+  private final ElementFilter filter;
+
   /**
    * Creates an vertex table input format.
    *
@@ -51,8 +56,22 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
    */
   public VertexTableInputFormat(VertexHandler<V, E> vertexHandler,
     String vertexTableName) {
+    this(vertexHandler, vertexTableName, ElementFilter.all());
+  }
+
+  /**
+   * Creates a vertex table input format which only reads the elements accepted by the
+   * given filter.
+   *
+   * @param vertexHandler   vertex data handler
+   * @param vertexTableName vertex data table name
+   * @param filter          vertex filter
+   */
+  public VertexTableInputFormat(VertexHandler<V, E> vertexHandler,
+    String vertexTableName, ElementFilter filter) {
     this.vertexHandler = vertexHandler;
     this.vertexTableName = vertexTableName;
+    this.filter = filter;
   }
 
   /**
@@ -60,9 +79,7 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
    */
   @Override
   protected Scan getScanner() {
-    Scan scan = new Scan();
-    scan.setCaching(HBaseConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
-    return scan;
+    return ElementScanFactory.createScan(filter);
   }
 
   /**
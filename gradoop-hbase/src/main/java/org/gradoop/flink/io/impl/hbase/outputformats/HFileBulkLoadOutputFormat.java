@@ -0,0 +1,123 @@
+/**
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.outputformats;
+
+import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.mapreduce.HFileOutputFormat2;
+import org.apache.hadoop.hbase.mapreduce.LoadIncrementalHFiles;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+
+import java.io.IOException;
+
+/**
+ * Writes sorted cells into HFiles and hands them to the region servers once all parallel
+ * instances have finished.
+ *
+ * The cells of each parallel instance need to be sorted by row key, family and qualifier.
+ */
+public class HFileBulkLoadOutputFormat extends HadoopOutputFormat<ImmutableBytesWritable, Cell> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Table to load the HFiles into.
+   */
+  private final String tableName;
+
+  /**
+   * Directory the HFiles are written to.
+   */
+  private final String hFileDirectory;
+
+  /**
+   * Creates a new output format. The job needs to be configured for the target table, e.g. via
+   * {@link HFileOutputFormat2#configureIncrementalLoadMap}.
+   *
+   * @param job            Hadoop job containing the HBase configuration
+   * @param tableName      table to load the HFiles into
+   * @param hFileDirectory directory the HFiles are written to
+   */
+  public HFileBulkLoadOutputFormat(Job job, String tableName, String hFileDirectory) {
+    super(new HFileOutputFormat2(), setOutputPath(job, hFileDirectory));
+    this.tableName = tableName;
+    this.hFileDirectory = hFileDirectory;
+  }
+
+  /**
+   * Sets the output directory of the given job.
+   *
+   * @param job            Hadoop job
+   * @param hFileDirectory directory the HFiles are written to
+   * @return the given job
+   */
+  private static Job setOutputPath(Job job, String hFileDirectory) {
+    FileOutputFormat.setOutputPath(job, new Path(hFileDirectory));
+    return job;
+  }
+
+  /**
+   * Commits the written HFiles and moves them into the regions of the table.
+   *
+   * @param parallelism number of parallel instances
+   * @throws IOException if committing or loading the HFiles fails
+   */
+  @Override
+  public void finalizeGlobal(int parallelism) throws IOException {
+    super.finalizeGlobal(parallelism);
+
+    Configuration config = getConfiguration();
+    TableName table = TableName.valueOf(tableName);
+
+    LoadIncrementalHFiles loader = createLoader(config);
+
+    try (Connection connection = ConnectionFactory.createConnection(config);
+      Admin admin = connection.getAdmin();
+      Table hTable = connection.getTable(table);
+      RegionLocator regionLocator = connection.getRegionLocator(table)) {
+      loader.doBulkLoad(new Path(hFileDirectory), admin, hTable, regionLocator);
+    }
+  }
+
+  /**
+   * Creates the bulk loader. Its constructor declares a plain {@link Exception}.
+   *
+   * @param config HBase configuration
+   * @return bulk loader
+   * @throws IOException if the loader cannot be created
+   */
+  @SuppressWarnings("checkstyle:illegalcatch")
+  private LoadIncrementalHFiles createLoader(Configuration config) throws IOException {
+    try {
+      return new LoadIncrementalHFiles(config);
+    } catch (Exception e) {
+      throw new IOException("Unable to create bulk loader for table " + tableName, e);
+    }
+  }
+}
@@ -26,6 +26,8 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStoreFactory;
 
+import java.io.IOException;
+
 /**
  * Used for tests that need a HBase cluster to run.
  */
@@ -64,6 +66,17 @@ public class GradoopHBaseTestBase {
     }
   }
 
+  /**
+   * Returns a directory on the file system of the test cluster.
+   *
+   * @param name directory name
+   * @return fully qualified directory path
+   * @throws IOException
+   */
+  public static String getTestDirectory(String name) throws IOException {
+    return utility.getDataTestDirOnTestFS(name).toString();
+  }
+
   //----------------------------------------------------------------------------
   // Store handling methods
   //----------------------------------------------------------------------------
@@ -81,6 +94,21 @@ public class GradoopHBaseTestBase {
       GradoopHBaseConfig.getDefaultConfig(env));
   }
 
+  /**
+   * Initializes and returns an empty graph store whose row keys are salted.
+   *
+   * @param saltBuckets number of salt buckets
+   * @return empty HBase graph store
+   */
+  public static HBaseEPGMStore<GraphHead, Vertex, Edge> createEmptyEPGMStore(
+    ExecutionEnvironment env, int saltBuckets) {
+    Configuration config = utility.getConfiguration();
+
+    HBaseEPGMStoreFactory.deleteEPGMStore(config);
+    return HBaseEPGMStoreFactory.createOrOpenEPGMStore(config,
+      GradoopHBaseConfig.getDefaultConfig(env, saltBuckets));
+  }
+
   /**
    * Open existing EPGMStore for test purposes. If the store does not exist, a
    * new one will be initialized and returned.
@@ -131,6 +131,58 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     List<PersistentGraphHead> graphHeads =
       Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentGraphHeads());
 
+    writeAndIterate(graphStore, graphHeads, vertices, edges);
+
+    graphStore.close();
+  }
+
+  /**
+   * Stores social network data in tables with salted row keys, scans and looks up the elements
+   * and checks for element data equality.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void saltedIteratorTest() throws IOException {
+    HBaseEPGMStore<GraphHead, Vertex, Edge> graphStore =
+      createEmptyEPGMStore(getExecutionEnvironment(), 4);
+
+    List<PersistentVertex<Edge>> vertices =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentVertices());
+    List<PersistentEdge<Vertex>> edges =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentEdges());
+    List<PersistentGraphHead> graphHeads =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentGraphHeads());
+
+    writeAndIterate(graphStore, graphHeads, vertices, edges);
+
+    // point lookups use the salted row keys
+    for (PersistentGraphHead g : graphHeads) {
+      validateEPGMElements(g, graphStore.readGraph(g.getId()));
+    }
+    for (PersistentVertex<Edge> v : vertices) {
+      validateEPGMElements(v, graphStore.readVertex(v.getId()));
+    }
+    for (PersistentEdge<Vertex> e : edges) {
+      validateEPGMElements(e, graphStore.readEdge(e.getId()));
+    }
+    graphStore.close();
+  }
+
+  /**
+   * Stores social network data, scans the graph, vertex and edge tables and checks for element
+   * data equality.
+   *
+   * @param graphStore empty store
+   * @param graphHeads graph heads to store
+   * @param vertices vertices to store
+   * @param edges edges to store
+   * @throws IOException
+   */
+  private void writeAndIterate(HBaseEPGMStore<GraphHead, Vertex, Edge> graphStore,
+    List<PersistentGraphHead> graphHeads, List<PersistentVertex<Edge>> vertices,
+    List<PersistentEdge<Vertex>> edges) throws IOException {
+
     // store some data
     for (PersistentGraphHead g : graphHeads) {
       graphStore.writeGraphHead(g);
@@ -167,8 +219,6 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
       edges,
       Lists.newArrayList(graphStore.getEdgeSpace())
     );
-
-    graphStore.close();
   }
 
   /**
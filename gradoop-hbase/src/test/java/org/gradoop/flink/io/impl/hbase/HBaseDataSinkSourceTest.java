@@ -16,7 +16,12 @@
 package org.gradoop.flink.io.impl.hbase;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.gradoop.common.GradoopTestUtils;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -25,6 +30,7 @@ import org.gradoop.common.storage.api.PersistentEdge;
 import org.gradoop.common.storage.api.PersistentGraphHead;
 import org.gradoop.common.storage.api.PersistentVertex;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.flink.io.api.filter.ElementFilter;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.EPGMDatabase;
@@ -35,11 +41,17 @@ import org.junit.Test;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static org.gradoop.GradoopHBaseTestBase.createEmptyEPGMStore;
+import static org.gradoop.GradoopHBaseTestBase.getTestDirectory;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
 import static org.gradoop.common.storage.impl.hbase.GradoopHBaseTestUtils.*;
+import static org.gradoop.flink.io.api.filter.PropertyPredicate.equalTo;
+import static org.gradoop.flink.io.api.filter.PropertyPredicate.greaterThan;
+import static org.junit.Assert.assertEquals;
 
 public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
 
@@ -88,6 +100,61 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
     epgmStore.close();
   }
 
+  @Test
+  public void testReadWithFilter() throws Exception {
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore =
+      createEmptyEPGMStore(getExecutionEnvironment());
+
+    for (PersistentGraphHead g : getSocialPersistentGraphHeads()) {
+      epgmStore.writeGraphHead(g);
+    }
+    for (PersistentVertex<Edge> v : getSocialPersistentVertices()) {
+      epgmStore.writeVertex(v);
+    }
+    for (PersistentEdge<Vertex> e : getSocialPersistentEdges()) {
+      epgmStore.writeEdge(e);
+    }
+
+    epgmStore.flush();
+
+    HBaseDataSource dataSource = new HBaseDataSource(epgmStore, config);
+    dataSource.applyVertexFilter(ElementFilter.all()
+      .withLabels("Person")
+      .withPropertyKeys("name")
+      .where(equalTo("city", "Leipzig")));
+    dataSource.applyEdgeFilter(ElementFilter.all()
+      .withLabels("knows")
+      .where(greaterThan("since", 2014)));
+
+    GraphCollection collection = dataSource.getGraphCollection();
+
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    Collection<Edge>   loadedEdges    = Lists.newArrayList();
+
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    assertEquals(2, loadedVertices.size());
+    Set<String> names = new TreeSet<>();
+    for (Vertex vertex : loadedVertices) {
+      assertEquals("Person", vertex.getLabel());
+      assertEquals(1, vertex.getPropertyCount());
+      names.add(vertex.getPropertyValue("name").getString());
+    }
+    assertEquals(Sets.newTreeSet(Lists.newArrayList("Alice", "Bob")), names);
+
+    assertEquals(3, loadedEdges.size());
+    for (Edge edge : loadedEdges) {
+      assertEquals("knows", edge.getLabel());
+      assertEquals(2015, edge.getPropertyValue("since").getInt());
+    }
+
+    epgmStore.close();
+  }
+
   @Test
   public void testWrite() throws Exception {
     GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
@@ -138,4 +205,109 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
 
     epgmStore.close();
   }
+
+  @Test
+  public void testWriteWithBulkLoad() throws Exception {
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    // create empty EPGM store
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = createEmptyEPGMStore(getExecutionEnvironment());
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(config);
+
+    InputStream inputStream = getClass()
+      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE);
+
+    loader.initDatabaseFromStream(inputStream);
+
+    EPGMDatabase epgmDB = loader.getDatabase();
+
+    // bulk load social graph into HBase via EPGM database
+    epgmDB.writeTo(new HBaseDataSink(epgmStore, config, getTestDirectory("hfiles")));
+
+    getExecutionEnvironment().execute();
+
+    epgmStore.flush();
+
+    // read social network from HBase
+
+    // graph heads
+    validateEPGMElementCollections(
+      loader.getGraphHeads(),
+      Lists.newArrayList(epgmStore.getGraphSpace())
+    );
+    // vertices
+    validateEPGMElementCollections(
+      loader.getVertices(),
+      Lists.newArrayList(epgmStore.getVertexSpace())
+    );
+    validateEPGMGraphElementCollections(
+      loader.getVertices(),
+      Lists.newArrayList(epgmStore.getVertexSpace())
+    );
+    // edges
+    validateEPGMElementCollections(
+      loader.getEdges(),
+      Lists.newArrayList(epgmStore.getEdgeSpace())
+    );
+    validateEPGMGraphElementCollections(
+      loader.getEdges(),
+      Lists.newArrayList(epgmStore.getEdgeSpace())
+    );
+
+    epgmStore.close();
+  }
+
+  @Test
+  public void testWriteAndReadWithSaltBuckets() throws Exception {
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore =
+      createEmptyEPGMStore(getExecutionEnvironment(), 4);
+
+    // tables are pre-split into one region per salt bucket
+    try (Connection connection =
+      ConnectionFactory.createConnection(epgmStore.getHBaseConfiguration());
+      RegionLocator regionLocator =
+        connection.getRegionLocator(TableName.valueOf(epgmStore.getVertexTableName()))) {
+      assertEquals(4, regionLocator.getStartKeys().length);
+    }
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(config);
+
+    InputStream inputStream = getClass()
+      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE);
+
+    loader.initDatabaseFromStream(inputStream);
+
+    // bulk load social graph into the salted tables
+    loader.getDatabase()
+      .writeTo(new HBaseDataSink(epgmStore, config, getTestDirectory("salted-hfiles")));
+
+    getExecutionEnvironment().execute();
+
+    // read social graph via data source
+    GraphCollection collection = new HBaseDataSource(epgmStore, config).getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    Collection<Vertex>    loadedVertices   = Lists.newArrayList();
+    Collection<Edge>      loadedEdges      = Lists.newArrayList();
+
+    collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+
+    // point lookups use the salted row keys
+    for (Vertex vertex : loader.getVertices()) {
+      assertEquals(vertex.getId(), epgmStore.readVertex(vertex.getId()).getId());
+    }
+
+    epgmStore.close();
+  }
 }